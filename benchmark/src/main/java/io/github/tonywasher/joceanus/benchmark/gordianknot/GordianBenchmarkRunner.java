@@ -0,0 +1,427 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.gordianknot;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the GordianKnot algorithm throughput benchmarks for every supported spec of each factory type.
+ * <p>
+ * The results are written as JSON, with the throughput of each spec also expressed relative to the fastest spec
+ * of the same benchmark, factory and data length, so that the figures can be used to weight algorithm selection.
+ * If a baseline results file is given, each result is compared against it and the run fails if any spec has
+ * regressed by more than the tolerance.
+ * <p>
+ * Options are:
+ * <ul>
+ *     <li>--output &lt;file&gt; the JSON results file (default gordian-benchmarks.json)</li>
+ *     <li>--baseline &lt;file&gt; a previous JSON results file to compare against</li>
+ *     <li>--tolerance &lt;percent&gt; the allowed regression against the baseline (default 10)</li>
+ *     <li>--lengths &lt;n,n...&gt; the data lengths to benchmark (default 16384)</li>
+ *     <li>--include &lt;regex&gt; only benchmark specs whose name matches the expression</li>
+ *     <li>--quick short in-process runs, for smoke-testing only</li>
+ * </ul>
+ */
+public final class GordianBenchmarkRunner {
+    /**
+     * The output option.
+     */
+    private static final String OPT_OUTPUT = "--output";
+
+    /**
+     * The baseline option.
+     */
+    private static final String OPT_BASELINE = "--baseline";
+
+    /**
+     * The tolerance option.
+     */
+    private static final String OPT_TOLERANCE = "--tolerance";
+
+    /**
+     * The lengths option.
+     */
+    private static final String OPT_LENGTHS = "--lengths";
+
+    /**
+     * The include option.
+     */
+    private static final String OPT_INCLUDE = "--include";
+
+    /**
+     * The quick option.
+     */
+    private static final String OPT_QUICK = "--quick";
+
+    /**
+     * The factory type parameter.
+     */
+    private static final String PARAM_FACTORY = "theFactoryType";
+
+    /**
+     * The spec parameter.
+     */
+    private static final String PARAM_SPEC = "theSpec";
+
+    /**
+     * The data length parameter.
+     */
+    private static final String PARAM_LENGTH = "theDataLength";
+
+    /**
+     * The benchmark field.
+     */
+    private static final String FIELD_BENCHMARK = "benchmark";
+
+    /**
+     * The factory field.
+     */
+    private static final String FIELD_FACTORY = "factory";
+
+    /**
+     * The spec field.
+     */
+    private static final String FIELD_SPEC = "spec";
+
+    /**
+     * The data length field.
+     */
+    private static final String FIELD_LENGTH = "dataLength";
+
+    /**
+     * The score field.
+     */
+    private static final String FIELD_SCORE = "score";
+
+    /**
+     * The baseline field.
+     */
+    private static final String FIELD_BASELINE = "baseline";
+
+    /**
+     * The results field.
+     */
+    private static final String FIELD_RESULTS = "results";
+
+    /**
+     * The default tolerance percentage.
+     */
+    private static final double DEFAULT_TOLERANCE = 10;
+
+    /**
+     * The percentage divisor.
+     */
+    private static final double PERCENT = 100;
+
+    /**
+     * The JSON indent.
+     */
+    private static final int INDENT = 2;
+
+    /**
+     * The quick iteration time.
+     */
+    private static final TimeValue QUICK_TIME = TimeValue.milliseconds(200);
+
+    /**
+     * The output file.
+     */
+    private Path theOutput = Path.of("gordian-benchmarks.json");
+
+    /**
+     * The baseline file.
+     */
+    private Path theBaseline;
+
+    /**
+     * The tolerance percentage.
+     */
+    private double theTolerance = DEFAULT_TOLERANCE;
+
+    /**
+     * The data lengths.
+     */
+    private String[] theLengths = {"16384"};
+
+    /**
+     * The include pattern.
+     */
+    private Pattern theInclude;
+
+    /**
+     * Are we running quick benchmarks?
+     */
+    private boolean isQuick;
+
+    /**
+     * Constructor.
+     *
+     * @param pArgs the program arguments
+     */
+    private GordianBenchmarkRunner(final String[] pArgs) {
+        /* Loop through the arguments */
+        int i = 0;
+        while (i < pArgs.length) {
+            final String myOpt = pArgs[i++];
+            if (OPT_QUICK.equals(myOpt)) {
+                isQuick = true;
+                continue;
+            }
+
+            /* Remaining options require a value */
+            if (i == pArgs.length) {
+                throw new IllegalArgumentException("Missing value for " + myOpt);
+            }
+            final String myValue = pArgs[i++];
+            switch (myOpt) {
+                case OPT_OUTPUT -> theOutput = Path.of(myValue);
+                case OPT_BASELINE -> theBaseline = Path.of(myValue);
+                case OPT_TOLERANCE -> theTolerance = Double.parseDouble(myValue);
+                case OPT_LENGTHS -> theLengths = myValue.split(",");
+                case OPT_INCLUDE -> theInclude = Pattern.compile(myValue);
+                default -> throw new IllegalArgumentException("Unknown option " + myOpt);
+            }
+        }
+    }
+
+    /**
+     * main.
+     *
+     * @param pArgs the program arguments
+     * @throws GordianException on error
+     * @throws RunnerException on error
+     * @throws IOException on error
+     */
+    public static void main(final String[] pArgs) throws GordianException, RunnerException, IOException {
+        /* Run the benchmarks and fail on regression */
+        if (!new GordianBenchmarkRunner(pArgs).run()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Locate a spec by name.
+     *
+     * @param <T>    the spec type
+     * @param pSpecs the list of supported specs
+     * @param pName  the spec name
+     * @return the spec
+     * @throws GordianException on error
+     */
+    static <T> T findSpec(final List<T> pSpecs,
+                          final String pName) throws GordianException {
+        for (T mySpec : pSpecs) {
+            if (pName.equals(mySpec.toString())) {
+                return mySpec;
+            }
+        }
+        throw new GordianDataException("Unsupported spec: " + pName);
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @return true/false did the run pass the baseline comparison?
+     * @throws GordianException on error
+     * @throws RunnerException on error
+     * @throws IOException on error
+     */
+    private boolean run() throws GordianException, RunnerException, IOException {
+        /* Loop through the factory types */
+        final JSONArray myResults = new JSONArray();
+        for (GordianFactoryType myType : GordianFactoryType.values()) {
+            /* Run the benchmarks for all supported specs */
+            final GordianFactory myFactory = GordianGenerator.createRandomFactory(myType);
+            runBenchmark(GordianSymCipherBenchmark.class, myType,
+                    GordianSymCipherBenchmark.listSpecs(myFactory.getCipherFactory()), myResults);
+            runBenchmark(GordianStreamCipherBenchmark.class, myType,
+                    GordianStreamCipherBenchmark.listSpecs(myFactory.getCipherFactory()), myResults);
+            runBenchmark(GordianDigestBenchmark.class, myType,
+                    GordianDigestBenchmark.listSpecs(myFactory.getDigestFactory()), myResults);
+        }
+        setRelativeScores(myResults);
+
+        /* Compare against the baseline */
+        final boolean isPassed = theBaseline == null || compareBaseline(myResults);
+
+        /* Write the results */
+        final JSONObject myRoot = new JSONObject();
+        myRoot.put("jdk", System.getProperty("java.version"));
+        myRoot.put(FIELD_RESULTS, myResults);
+        Files.writeString(theOutput, myRoot.toString(INDENT), StandardCharsets.UTF_8);
+        System.out.println("Results written to " + theOutput.toAbsolutePath());
+        return isPassed;
+    }
+
+    /**
+     * Run a benchmark for the list of specs.
+     *
+     * @param pBenchmark the benchmark class
+     * @param pType      the factory type
+     * @param pSpecs     the specs
+     * @param pResults   the results to add to
+     * @throws RunnerException on error
+     */
+    private void runBenchmark(final Class<?> pBenchmark,
+                              final GordianFactoryType pType,
+                              final List<?> pSpecs,
+                              final JSONArray pResults) throws RunnerException {
+        /* Build the list of spec names */
+        final List<String> myNames = new ArrayList<>();
+        for (Object mySpec : pSpecs) {
+            final String myName = mySpec.toString();
+            if (theInclude == null || theInclude.matcher(myName).find()) {
+                myNames.add(myName);
+            }
+        }
+        if (myNames.isEmpty()) {
+            return;
+        }
+
+        /* Build the options */
+        final ChainedOptionsBuilder myBuilder = new OptionsBuilder()
+                .include("^" + Pattern.quote(pBenchmark.getName()) + "\\.")
+                .param(PARAM_FACTORY, pType.name())
+                .param(PARAM_SPEC, myNames.toArray(new String[0]))
+                .param(PARAM_LENGTH, theLengths);
+        if (isQuick) {
+            myBuilder.forks(0)
+                    .warmupIterations(1)
+                    .warmupTime(QUICK_TIME)
+                    .measurementIterations(1)
+                    .measurementTime(QUICK_TIME);
+        }
+
+        /* Run the benchmarks and record the results */
+        for (RunResult myRun : new Runner(myBuilder.build()).run()) {
+            final BenchmarkParams myParams = myRun.getParams();
+            final Result<?> myResult = myRun.getPrimaryResult();
+            final String myName = myParams.getBenchmark();
+            final JSONObject myEntry = new JSONObject();
+            myEntry.put(FIELD_BENCHMARK, pBenchmark.getSimpleName() + myName.substring(myName.lastIndexOf('.')));
+            myEntry.put(FIELD_FACTORY, pType.name());
+            myEntry.put(FIELD_SPEC, myParams.getParam(PARAM_SPEC));
+            myEntry.put(FIELD_LENGTH, Integer.parseInt(myParams.getParam(PARAM_LENGTH)));
+            myEntry.put(FIELD_SCORE, myResult.getScore());
+            myEntry.put("error", Double.isNaN(myResult.getScoreError()) ? 0 : myResult.getScoreError());
+            myEntry.put("unit", myResult.getScoreUnit());
+            pResults.put(myEntry);
+        }
+    }
+
+    /**
+     * Build the key that identifies a result.
+     *
+     * @param pEntry the result
+     * @param pWithSpec include the spec in the key?
+     * @return the key
+     */
+    private static String resultKey(final JSONObject pEntry,
+                                    final boolean pWithSpec) {
+        return pEntry.getString(FIELD_BENCHMARK)
+                + '/' + pEntry.getString(FIELD_FACTORY)
+                + '/' + pEntry.getInt(FIELD_LENGTH)
+                + (pWithSpec ? '/' + pEntry.getString(FIELD_SPEC) : "");
+    }
+
+    /**
+     * Express each score relative to the fastest spec of the same benchmark, factory and data length.
+     *
+     * @param pResults the results
+     */
+    private static void setRelativeScores(final JSONArray pResults) {
+        /* Determine the fastest score for each group */
+        final Map<String, Double> myBest = new HashMap<>();
+        for (Object myObject : pResults) {
+            final JSONObject myEntry = (JSONObject) myObject;
+            myBest.merge(resultKey(myEntry, false), myEntry.getDouble(FIELD_SCORE), Math::max);
+        }
+
+        /* Record the relative score */
+        for (Object myObject : pResults) {
+            final JSONObject myEntry = (JSONObject) myObject;
+            myEntry.put("relative", myEntry.getDouble(FIELD_SCORE) / myBest.get(resultKey(myEntry, false)));
+        }
+    }
+
+    /**
+     * Compare the results against the baseline.
+     *
+     * @param pResults the results
+     * @return true/false are all results within tolerance of the baseline?
+     * @throws IOException on error
+     */
+    private boolean compareBaseline(final JSONArray pResults) throws IOException {
+        /* Load the baseline scores */
+        final JSONObject myRoot = new JSONObject(Files.readString(theBaseline, StandardCharsets.UTF_8));
+        final Map<String, Double> myScores = new HashMap<>();
+        for (Object myObject : myRoot.getJSONArray(FIELD_RESULTS)) {
+            final JSONObject myEntry = (JSONObject) myObject;
+            myScores.put(resultKey(myEntry, true), myEntry.getDouble(FIELD_SCORE));
+        }
+
+        /* Loop through the results */
+        final double myLimit = 1 - theTolerance / PERCENT;
+        int myRegressions = 0;
+        for (Object myObject : pResults) {
+            /* Skip results that are not in the baseline */
+            final JSONObject myEntry = (JSONObject) myObject;
+            final String myKey = resultKey(myEntry, true);
+            final Double myBaseline = myScores.get(myKey);
+            if (myBaseline == null || myBaseline == 0) {
+                continue;
+            }
+
+            /* Record the comparison and report any regression */
+            final double myRatio = myEntry.getDouble(FIELD_SCORE) / myBaseline;
+            myEntry.put(FIELD_BASELINE, myBaseline);
+            myEntry.put("ratio", myRatio);
+            if (myRatio < myLimit) {
+                System.out.printf("Regression: %s at %.1f%% of baseline%n", myKey, myRatio * PERCENT);
+                myRegressions++;
+            }
+        }
+
+        /* Report the outcome */
+        System.out.println(myRegressions + " regression(s) against " + theBaseline);
+        return myRegressions == 0;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.gordianknot;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.digest.GordianDigest;
+import io.github.tonywasher.joceanus.gordianknot.api.digest.GordianDigestFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.digest.spec.GordianDigestSpec;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.digest.GordianCoreDigestType;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Digest throughput benchmarks.
+ * <p>
+ * Only digestSpecs that support large amounts of data are benchmarked. The default specs cover the digests that are candidates for keySet selection;
+ * {@link GordianBenchmarkRunner} runs every supported digestSpec of each factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GordianDigestBenchmark {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_60D1_A4L;
+
+    /**
+     * The factory type.
+     */
+    @Param({"BC", "JCA"})
+    private GordianFactoryType theFactoryType;
+
+    /**
+     * The digestSpec name.
+     */
+    @Param({"SHA2-512", "SHA3-512", "Skein-512-512", "Blake2b-512", "Kupyna-512", "Streebog-512"})
+    private String theSpec;
+
+    /**
+     * The data length.
+     */
+    @Param({"16384"})
+    private int theDataLength;
+
+    /**
+     * The digest.
+     */
+    private GordianDigest theDigest;
+
+    /**
+     * The data.
+     */
+    private byte[] theData;
+
+    /**
+     * The output buffer.
+     */
+    private byte[] theOutput;
+
+    /**
+     * Create the digest and data.
+     *
+     * @throws GordianException on error
+     */
+    @Setup
+    public void setUp() throws GordianException {
+        /* Create the digest */
+        final GordianFactory myFactory = GordianGenerator.createRandomFactory(theFactoryType);
+        final GordianDigestFactory myDigests = myFactory.getDigestFactory();
+        final GordianDigestSpec mySpec = GordianBenchmarkRunner.findSpec(listSpecs(myDigests), theSpec);
+        theDigest = myDigests.createDigest(mySpec);
+
+        /* Create the data */
+        theData = new byte[theDataLength];
+        new Random(SEED).nextBytes(theData);
+        theOutput = new byte[theDigest.getDigestSize()];
+    }
+
+    /**
+     * List the supported digestSpecs for a factory.
+     *
+     * @param pDigests the digest factory
+     * @return the list of digestSpecs
+     */
+    static List<GordianDigestSpec> listSpecs(final GordianDigestFactory pDigests) {
+        /* Only keep digestSpecs that support large data */
+        final List<GordianDigestSpec> mySpecs = new ArrayList<>(pDigests.listAllSupportedSpecs());
+        mySpecs.removeIf(s -> !GordianCoreDigestType.supportsLargeData(s.getDigestType()));
+        return mySpecs;
+    }
+
+    /**
+     * Digest the data.
+     *
+     * @return the output buffer
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public byte[] digest() throws GordianException {
+        theDigest.update(theData, 0, theDataLength);
+        theDigest.finish(theOutput, 0);
+        return theOutput;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.gordianknot;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.api.keyset.GordianKeySet;
+import io.github.tonywasher.joceanus.gordianknot.api.keyset.GordianKeySetFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.keyset.spec.GordianKeySetSpec;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KeySet encrypt/decrypt benchmarks.
+ * <p>
+ * The keySet is generated once per trial, so each benchmark measures the cost of a single encryption or
+ * decryption, including cipher initialisation, for the given data length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GordianKeySetBenchmark {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_60D1_A4L;
+
+    /**
+     * The factory type.
+     */
+    @Param({"BC", "JCA"})
+    private GordianFactoryType theFactoryType;
+
+    /**
+     * The data length.
+     */
+    @Param({"1024", "65536", "1048576"})
+    private int theDataLength;
+
+    /**
+     * The keySet.
+     */
+    private GordianKeySet theKeySet;
+
+    /**
+     * The plain data.
+     */
+    private byte[] thePlainText;
+
+    /**
+     * The encrypted data.
+     */
+    private byte[] theCipherText;
+
+    /**
+     * Create the keySet and data.
+     *
+     * @throws GordianException on error
+     */
+    @Setup
+    public void setUp() throws GordianException {
+        /* Create the keySet */
+        final GordianFactory myFactory = GordianGenerator.createRandomFactory(theFactoryType);
+        final GordianKeySetFactory myKeySets = myFactory.getKeySetFactory();
+        final GordianKeySetSpec mySpec = myKeySets.newKeySetSpecBuilder().keySet();
+        theKeySet = myKeySets.generateKeySet(mySpec);
+
+        /* Create the data */
+        thePlainText = new byte[theDataLength];
+        new Random(SEED).nextBytes(thePlainText);
+        theCipherText = theKeySet.encryptBytes(thePlainText);
+    }
+
+    /**
+     * Encrypt the data.
+     *
+     * @return the encrypted data
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public byte[] encrypt() throws GordianException {
+        return theKeySet.encryptBytes(thePlainText);
+    }
+
+    /**
+     * Decrypt the data.
+     *
+     * @return the decrypted data
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public byte[] decrypt() throws GordianException {
+        return theKeySet.decryptBytes(theCipherText);
+    }
+
+    /**
+     * Encrypt the data with associated data protection.
+     *
+     * @return the encrypted data
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public byte[] encryptAAD() throws GordianException {
+        return theKeySet.encryptAADBytes(thePlainText);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.gordianknot;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.api.lock.GordianKeySetLock;
+import io.github.tonywasher.joceanus.gordianknot.api.lock.GordianLockFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.lock.spec.GordianPasswordLockSpec;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password lock benchmarks.
+ * <p>
+ * The lock is created once per trial, so each benchmark measures the cost of resolving it with the correct
+ * password, which is dominated by the MAC iterations. The lanes run in parallel when there is a processor for
+ * each lane, so the serial and parallel paths are compared by running with restricted and unrestricted CPUs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GordianPasswordLockBenchmark {
+    /**
+     * The password.
+     */
+    private static final char[] PASSWORD = "BenchmarkPassword".toCharArray();
+
+    /**
+     * The power of the iterations (2<sup>x</sup>K).
+     */
+    @Param({"1", "6"})
+    private int thePower;
+
+    /**
+     * The lockFactory.
+     */
+    private GordianLockFactory theLocks;
+
+    /**
+     * The lockBytes.
+     */
+    private byte[] theLockBytes;
+
+    /**
+     * Create the lock.
+     *
+     * @throws GordianException on error
+     */
+    @Setup
+    public void setUp() throws GordianException {
+        /* Create the lock */
+        final GordianFactory myFactory = GordianGenerator.createRandomFactory(GordianFactoryType.BC);
+        theLocks = myFactory.getLockFactory();
+        final GordianPasswordLockSpec mySpec = theLocks.newPasswordLockSpecBuilder().passwordLock(thePower);
+        final GordianKeySetLock myLock = theLocks.newKeySetLock(mySpec, PASSWORD.clone());
+        theLockBytes = myLock.getLockBytes();
+    }
+
+    /**
+     * Resolve the lock.
+     *
+     * @return the resolved lock
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public GordianKeySetLock resolve() throws GordianException {
+        return theLocks.resolveKeySetLock(theLockBytes, PASSWORD.clone());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.gordianknot;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianLength;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.GordianCipherFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.GordianStreamCipher;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianStreamCipherSpec;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianStreamKeySpec;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianStreamKeyType;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.api.key.GordianKey;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.cipher.GordianCoreStreamKeyType;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream cipher throughput benchmarks.
+ * <p>
+ * The cipher is re-initialised with a fresh random nonce for each operation, as it would be when used to encrypt
+ * a value. Only keySpecs that support large amounts of data are benchmarked. The default specs cover the stream ciphers that are candidates for keySet selection;
+ * {@link GordianBenchmarkRunner} runs every supported keySpec of each factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GordianStreamCipherBenchmark {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_60D1_A4L;
+
+    /**
+     * The factory type.
+     */
+    @Param({"BC", "JCA"})
+    private GordianFactoryType theFactoryType;
+
+    /**
+     * The keySpec name.
+     */
+    @Param({"ChaCha20-256", "XChaCha20-256", "Salsa20-256", "HC-256", "ZUC-256"})
+    private String theSpec;
+
+    /**
+     * The data length.
+     */
+    @Param({"16384"})
+    private int theDataLength;
+
+    /**
+     * The cipher factory.
+     */
+    private GordianCipherFactory theCiphers;
+
+    /**
+     * The key.
+     */
+    private GordianKey<GordianStreamKeySpec> theKey;
+
+    /**
+     * The cipher.
+     */
+    private GordianStreamCipher theCipher;
+
+    /**
+     * The plain data.
+     */
+    private byte[] thePlainText;
+
+    /**
+     * The output buffer.
+     */
+    private byte[] theOutput;
+
+    /**
+     * Create the cipher and data.
+     *
+     * @throws GordianException on error
+     */
+    @Setup
+    public void setUp() throws GordianException {
+        /* Locate the keySpec */
+        final GordianFactory myFactory = GordianGenerator.createRandomFactory(theFactoryType);
+        theCiphers = myFactory.getCipherFactory();
+        final GordianStreamKeySpec myKeySpec = GordianBenchmarkRunner.findSpec(listSpecs(theCiphers), theSpec);
+
+        /* Create the cipher */
+        final GordianStreamCipherSpec myCipherSpec = theCiphers.newStreamCipherSpecBuilder().streamCipher(myKeySpec);
+        theKey = theCiphers.getKeyGenerator(myKeySpec).generateKey();
+        theCipher = theCiphers.createStreamKeyCipher(myCipherSpec);
+        theCipher.initForEncrypt(theCiphers.newCipherParamsBuilder().keyWithRandomNonce(theKey));
+
+        /* Create the data */
+        thePlainText = new byte[theDataLength];
+        new Random(SEED).nextBytes(thePlainText);
+        theOutput = new byte[theCipher.getOutputLength(theDataLength)];
+    }
+
+    /**
+     * List the supported keySpecs for a factory.
+     *
+     * @param pCiphers the cipher factory
+     * @return the list of keySpecs
+     */
+    static List<GordianStreamKeySpec> listSpecs(final GordianCipherFactory pCiphers) {
+        /* Prefer 256-bit keySpecs */
+        final List<GordianStreamKeySpec> mySpecs = new ArrayList<>(pCiphers.listAllSupportedStreamKeySpecs(GordianLength.LEN_256));
+        final Set<GordianStreamKeyType> myTypes = EnumSet.noneOf(GordianStreamKeyType.class);
+        mySpecs.forEach(s -> myTypes.add(s.getStreamKeyType()));
+
+        /* Add the 128-bit keySpecs for types that have no 256-bit keySpec */
+        for (GordianStreamKeySpec mySpec : pCiphers.listAllSupportedStreamKeySpecs(GordianLength.LEN_128)) {
+            if (!myTypes.contains(mySpec.getStreamKeyType())) {
+                mySpecs.add(mySpec);
+            }
+        }
+
+        /* Only keep keySpecs that support large data with a plain stream cipher */
+        mySpecs.removeIf(s -> !GordianCoreStreamKeyType.supportsLargeData(s.getStreamKeyType())
+                || !pCiphers.supportedStreamCipherSpecs().test(pCiphers.newStreamCipherSpecBuilder().streamCipher(s)));
+        return mySpecs;
+    }
+
+    /**
+     * Encrypt the data.
+     *
+     * @return the output buffer
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public byte[] encrypt() throws GordianException {
+        theCipher.initForEncrypt(theCiphers.newCipherParamsBuilder().keyWithRandomNonce(theKey));
+        theCipher.finish(thePlainText, 0, theDataLength, theOutput, 0);
+        return theOutput;
+    }
+}
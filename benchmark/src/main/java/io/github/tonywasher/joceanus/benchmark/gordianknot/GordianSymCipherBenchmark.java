@@ -0,0 +1,166 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.gordianknot;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianLength;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.GordianCipherFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.GordianCipherParams;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.GordianSymCipher;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianPadding;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianSymCipherSpec;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianSymKeySpec;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.spec.GordianSymKeyType;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.api.key.GordianKey;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Symmetric block cipher throughput benchmarks.
+ * <p>
+ * Each keySpec is run in ECB mode without padding, so that the benchmark measures the raw block transform that
+ * the keySet layers its own modes on top of. The default specs cover the block ciphers that are candidates for
+ * keySet selection; {@link GordianBenchmarkRunner} runs every supported keySpec of each factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GordianSymCipherBenchmark {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_60D1_A4L;
+
+    /**
+     * The factory type.
+     */
+    @Param({"BC", "JCA"})
+    private GordianFactoryType theFactoryType;
+
+    /**
+     * The keySpec name.
+     */
+    @Param({"AES-256", "TwoFish-256", "Serpent-256", "Camellia-256", "LEA-256"})
+    private String theSpec;
+
+    /**
+     * The data length.
+     */
+    @Param({"16384"})
+    private int theDataLength;
+
+    /**
+     * The cipher.
+     */
+    private GordianSymCipher theCipher;
+
+    /**
+     * The cipher parameters.
+     */
+    private GordianCipherParams theParams;
+
+    /**
+     * The plain data.
+     */
+    private byte[] thePlainText;
+
+    /**
+     * The output buffer.
+     */
+    private byte[] theOutput;
+
+    /**
+     * Create the cipher and data.
+     *
+     * @throws GordianException on error
+     */
+    @Setup
+    public void setUp() throws GordianException {
+        /* Locate the keySpec */
+        final GordianFactory myFactory = GordianGenerator.createRandomFactory(theFactoryType);
+        final GordianCipherFactory myCiphers = myFactory.getCipherFactory();
+        final GordianSymKeySpec myKeySpec = GordianBenchmarkRunner.findSpec(listSpecs(myCiphers), theSpec);
+
+        /* Create the cipher */
+        final GordianSymCipherSpec myCipherSpec = myCiphers.newSymCipherSpecBuilder().ecb(myKeySpec, GordianPadding.NONE);
+        final GordianKey<GordianSymKeySpec> myKey = myCiphers.getKeyGenerator(myKeySpec).generateKey();
+        theCipher = myCiphers.createSymKeyCipher(myCipherSpec);
+        theParams = myCiphers.newCipherParamsBuilder().key(myKey);
+        theCipher.initForEncrypt(theParams);
+
+        /* Create the data */
+        thePlainText = new byte[theDataLength];
+        new Random(SEED).nextBytes(thePlainText);
+        theOutput = new byte[theCipher.getOutputLength(theDataLength)];
+    }
+
+    /**
+     * List the supported keySpecs for a factory.
+     *
+     * @param pCiphers the cipher factory
+     * @return the list of keySpecs
+     */
+    static List<GordianSymKeySpec> listSpecs(final GordianCipherFactory pCiphers) {
+        /* Prefer 256-bit keySpecs */
+        final List<GordianSymKeySpec> mySpecs = new ArrayList<>(pCiphers.listAllSupportedSymKeySpecs(GordianLength.LEN_256));
+        final Set<GordianSymKeyType> myTypes = EnumSet.noneOf(GordianSymKeyType.class);
+        mySpecs.forEach(s -> myTypes.add(s.getSymKeyType()));
+
+        /* Add the 128-bit keySpecs for types that have no 256-bit keySpec */
+        for (GordianSymKeySpec mySpec : pCiphers.listAllSupportedSymKeySpecs(GordianLength.LEN_128)) {
+            if (!myTypes.contains(mySpec.getSymKeyType())) {
+                mySpecs.add(mySpec);
+            }
+        }
+        return mySpecs;
+    }
+
+    /**
+     * Encrypt the data.
+     *
+     * @return the output buffer
+     * @throws GordianException on error
+     */
+    @Benchmark
+    public byte[] encrypt() throws GordianException {
+        theCipher.initForEncrypt(theParams);
+        theCipher.finish(thePlainText, 0, theDataLength, theOutput, 0);
+        return theOutput;
+    }
+}
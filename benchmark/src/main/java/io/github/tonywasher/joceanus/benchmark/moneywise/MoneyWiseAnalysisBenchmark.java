@@ -0,0 +1,85 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.moneywise;
+
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction analysis benchmarks.
+ * <p>
+ * Measures a full analysis of a synthetic dataSet, as performed whenever the data is loaded or edits are applied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class MoneyWiseAnalysisBenchmark {
+    /**
+     * The number of transactions.
+     */
+    @Param({"1000", "10000"})
+    private int theNumTrans;
+
+    /**
+     * The view.
+     */
+    private MoneyWiseView theView;
+
+    /**
+     * Build the dataSet.
+     *
+     * @throws OceanusException on error
+     */
+    @Setup
+    public void setUp() throws OceanusException {
+        theView = new MoneyWiseBenchmarkData(theNumTrans).getView();
+    }
+
+    /**
+     * Analyse the transactions.
+     *
+     * @return the analysis
+     * @throws OceanusException on error
+     */
+    @Benchmark
+    public MoneyWiseAnalysis analyseTransactions() throws OceanusException {
+        final PrometheusEditSet myEditSet = new PrometheusEditSet(theView);
+        final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(theView.getNewProfile("Analyse"),
+                myEditSet, theView.getPreferenceManager());
+        myAnalyser.postProcessAnalysis();
+        return myAnalyser.getAnalysis();
+    }
+}
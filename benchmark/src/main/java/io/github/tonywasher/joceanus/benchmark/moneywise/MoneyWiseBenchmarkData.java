@@ -0,0 +1,278 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.moneywise;
+
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.data.builder.MoneyWiseTransactionBuilder;
+import io.github.tonywasher.joceanus.moneywise.data.validate.MoneyWiseValidatorFactory;
+import io.github.tonywasher.joceanus.moneywise.tax.uk.MoneyWiseUKTaxYearCache;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestSecurity;
+import io.github.tonywasher.joceanus.moneywise.test.data.trans.MoneyWiseDataTestAccounts;
+import io.github.tonywasher.joceanus.moneywise.test.data.trans.MoneyWiseDataTestExpense;
+import io.github.tonywasher.joceanus.moneywise.test.data.trans.MoneyWiseDataTestPayeeIncome;
+import io.github.tonywasher.joceanus.moneywise.test.data.trans.MoneyWiseDataTestTransfers;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.prometheus.toolkit.PrometheusToolkit;
+import io.github.tonywasher.joceanus.tethys.helper.TethysUIHelperFactory;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Synthetic MoneyWise dataSet for benchmarks.
+ * <p>
+ * The accounts, categories and exchange rates are those created by the MoneyWise transaction test cases. A
+ * repeatable sequence of transactions of the requested size is then generated against them, one per day, cycling
+ * through salary, gift, expense, refund and (multi-currency) transfer transactions. Only transactions that are
+ * supported by the legacy analysis are generated.
+ */
+public final class MoneyWiseBenchmarkData {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_30AE_7815L;
+
+    /**
+     * The start date.
+     */
+    private static final String START_DATE = "06-Apr-1986";
+
+    /**
+     * The current account.
+     */
+    private static final String ACCOUNT_CURRENT = "BarclaysCurrent";
+
+    /**
+     * The savings account.
+     */
+    private static final String ACCOUNT_SAVINGS = "NatWideFlexDirect";
+
+    /**
+     * The euro account.
+     */
+    private static final String ACCOUNT_EURO = "StarlingEuro";
+
+    /**
+     * The employer.
+     */
+    private static final String PAYEE_EMPLOYER = "IBM";
+
+    /**
+     * The parents.
+     */
+    private static final String PAYEE_PARENTS = "Parents";
+
+    /**
+     * The shop.
+     */
+    private static final String PAYEE_SHOP = "ASDA";
+
+    /**
+     * The salary category.
+     */
+    private static final String CATEGORY_SALARY = "Income:Salary";
+
+    /**
+     * The gifts category.
+     */
+    private static final String CATEGORY_GIFTS = "Income:Gifts";
+
+    /**
+     * The food category.
+     */
+    private static final String CATEGORY_FOOD = "Shopping:Food";
+
+    /**
+     * The transfer category.
+     */
+    private static final String CATEGORY_TRANSFER = "Transfer";
+
+    /**
+     * The number of transaction kinds.
+     */
+    private static final int NUM_KINDS = 8;
+
+    /**
+     * The maximum amount in pence.
+     */
+    private static final int MAX_PENCE = 100_000;
+
+    /**
+     * The number of pence in a pound.
+     */
+    private static final int PENCE = 100;
+
+    /**
+     * The tax credit percentage.
+     */
+    private static final int TAX_PERCENT = 20;
+
+    /**
+     * The euro conversion percentage.
+     */
+    private static final int EURO_PERCENT = 110;
+
+    /**
+     * The view.
+     */
+    private final MoneyWiseView theView;
+
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * The transaction builder.
+     */
+    private final MoneyWiseTransactionBuilder theTransBuilder;
+
+    /**
+     * The random generator.
+     */
+    private final Random theRandom;
+
+    /**
+     * Constructor.
+     *
+     * @param pNumTrans the number of transactions to generate
+     * @throws OceanusException on error
+     */
+    public MoneyWiseBenchmarkData(final int pNumTrans) throws OceanusException {
+        /* Force the local locale to be UK */
+        Locale.setDefault(Locale.UK);
+
+        /* Create the view */
+        final TethysUIHelperFactory myFactory = new TethysUIHelperFactory();
+        final PrometheusToolkit myToolkit = new PrometheusToolkit(myFactory);
+        theView = new MoneyWiseView(myToolkit, new MoneyWiseUKTaxYearCache());
+        theView.setValidatorFactory(new MoneyWiseValidatorFactory(true));
+
+        /* Create the dataSet */
+        theDataSet = theView.getNewData();
+        theDataSet.doNewValidityChecks();
+        theTransBuilder = new MoneyWiseTransactionBuilder(theDataSet);
+        theRandom = new Random(SEED);
+
+        /* Create the accounts and rates from the standard test cases */
+        final MoneyWiseDataTestAccounts myAccounts = new MoneyWiseDataTestAccounts(theDataSet);
+        new MoneyWiseDataTestPayeeIncome(myAccounts).setUpAccounts();
+        new MoneyWiseDataTestExpense(myAccounts).setUpAccounts();
+        final MoneyWiseDataTestTransfers myTransfers = new MoneyWiseDataTestTransfers(myAccounts);
+        myTransfers.setUpAccounts();
+        myTransfers.defineRates();
+
+        /* Generate the transactions */
+        final OceanusDate myDate = new OceanusDate(START_DATE);
+        for (int i = 0; i < pNumTrans; i++) {
+            buildTransaction(i % NUM_KINDS, new OceanusDate(myDate));
+            myDate.adjustDay(1);
+        }
+
+        /* Resolve the transactions and initialise the security */
+        theDataSet.getTransactions().resolveDataSetLinks();
+        new MoneyWiseDataTestSecurity(theDataSet).initSecurity(theView);
+
+        /* Register the data with the view */
+        theDataSet.updateMaps();
+        theView.getNewProfile("LoadData");
+        theView.setData(theDataSet);
+    }
+
+    /**
+     * Obtain the view.
+     *
+     * @return the view
+     */
+    public MoneyWiseView getView() {
+        return theView;
+    }
+
+    /**
+     * Obtain the dataSet.
+     *
+     * @return the dataSet
+     */
+    public MoneyWiseDataSet getDataSet() {
+        return theDataSet;
+    }
+
+    /**
+     * Build a transaction.
+     *
+     * @param pKind the kind of transaction
+     * @param pDate the date
+     * @throws OceanusException on error
+     */
+    private void buildTransaction(final int pKind,
+                                  final OceanusDate pDate) throws OceanusException {
+        /* Generate the amount */
+        final int myPence = 1 + theRandom.nextInt(MAX_PENCE);
+        final String myAmount = formatPence(myPence);
+        theTransBuilder.date(pDate);
+
+        /* Build the transaction */
+        switch (pKind) {
+            case 0:
+                theTransBuilder.category(CATEGORY_SALARY).account(ACCOUNT_CURRENT).amount(myAmount)
+                        .from().partner(PAYEE_EMPLOYER).taxCredit(formatPence(myPence * TAX_PERCENT / PENCE));
+                break;
+            case 1:
+                theTransBuilder.category(CATEGORY_FOOD).account(ACCOUNT_CURRENT).amount(myAmount)
+                        .to().partner(PAYEE_SHOP);
+                break;
+            case 2:
+                theTransBuilder.category(CATEGORY_TRANSFER).account(ACCOUNT_CURRENT).amount(myAmount)
+                        .to().partner(ACCOUNT_SAVINGS);
+                break;
+            case 3:
+                theTransBuilder.category(CATEGORY_GIFTS).account(ACCOUNT_SAVINGS).amount(myAmount)
+                        .from().partner(PAYEE_PARENTS);
+                break;
+            case 4:
+                theTransBuilder.category(CATEGORY_TRANSFER).account(ACCOUNT_CURRENT).amount(myAmount)
+                        .to().partner(ACCOUNT_EURO).partnerAmount(formatPence(myPence * EURO_PERCENT / PENCE));
+                break;
+            case 5:
+                theTransBuilder.category(CATEGORY_TRANSFER).account(ACCOUNT_EURO).amount(formatPence(myPence / 2))
+                        .to().partner(ACCOUNT_CURRENT).partnerAmount(formatPence(myPence * PENCE / EURO_PERCENT / 2));
+                break;
+            case 6:
+                theTransBuilder.category(CATEGORY_FOOD).account(ACCOUNT_CURRENT).amount(formatPence(myPence / 2))
+                        .from().partner(PAYEE_SHOP);
+                break;
+            default:
+                theTransBuilder.category(CATEGORY_TRANSFER).account(ACCOUNT_SAVINGS).amount(formatPence(myPence / 2))
+                        .to().partner(ACCOUNT_CURRENT);
+                break;
+        }
+        theTransBuilder.build();
+    }
+
+    /**
+     * Format a number of pence as a decimal string.
+     *
+     * @param pPence the number of pence
+     * @return the formatted string
+     */
+    private static String formatPence(final int pPence) {
+        final int myPence = Math.max(1, pPence);
+        return String.format(Locale.UK, "%d.%02d", myPence / PENCE, myPence % PENCE);
+    }
+}
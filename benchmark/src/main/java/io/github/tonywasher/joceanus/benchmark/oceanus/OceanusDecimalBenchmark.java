@@ -0,0 +1,225 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.oceanus;
+
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalAccumulator;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusMoney;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusPrice;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusRate;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusUnits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Currency;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decimal arithmetic benchmarks.
+ * <p>
+ * Each benchmark processes an array of values, so that the cost of the arithmetic dominates the cost of the
+ * harness. The accumulator benchmarks perform the same calculations as their immutable counterparts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OceanusDecimalBenchmark {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_0CEA_4E55L;
+
+    /**
+     * The money scale.
+     */
+    private static final int MONEY_SCALE = 2;
+
+    /**
+     * The units/price scale.
+     */
+    private static final int UNITS_SCALE = 4;
+
+    /**
+     * The rate scale.
+     */
+    private static final int RATE_SCALE = 4;
+
+    /**
+     * The maximum unscaled money value.
+     */
+    private static final int MAX_MONEY = 10_000_000;
+
+    /**
+     * The maximum unscaled units/price value.
+     */
+    private static final int MAX_UNITS = 100_000_000;
+
+    /**
+     * The number of values.
+     */
+    @Param({"1000"})
+    private int theCount;
+
+    /**
+     * The currency.
+     */
+    private Currency theCurrency;
+
+    /**
+     * The money values.
+     */
+    private OceanusMoney[] theMoney;
+
+    /**
+     * The units values.
+     */
+    private OceanusUnits[] theUnits;
+
+    /**
+     * The price values.
+     */
+    private OceanusPrice[] thePrices;
+
+    /**
+     * The rate.
+     */
+    private OceanusRate theRate;
+
+    /**
+     * Build the values.
+     */
+    @Setup
+    public void setUp() {
+        /* Create the arrays */
+        final Random myRandom = new Random(SEED);
+        theCurrency = Currency.getInstance("GBP");
+        theMoney = new OceanusMoney[theCount];
+        theUnits = new OceanusUnits[theCount];
+        thePrices = new OceanusPrice[theCount];
+        theRate = new OceanusRate(myRandom.nextInt(MAX_UNITS / 10), RATE_SCALE);
+
+        /* Populate the values, mixing positive and negative money */
+        for (int i = 0; i < theCount; i++) {
+            final long myMoney = myRandom.nextInt(MAX_MONEY) - MAX_MONEY / 2;
+            theMoney[i] = new OceanusMoney(myMoney, MONEY_SCALE, theCurrency);
+            theUnits[i] = new OceanusUnits(myRandom.nextInt(MAX_UNITS), UNITS_SCALE);
+            thePrices[i] = new OceanusPrice(myRandom.nextInt(MAX_UNITS), UNITS_SCALE, theCurrency);
+        }
+    }
+
+    /**
+     * Sum the money values.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public OceanusMoney addMoney() {
+        final OceanusMoney myTotal = new OceanusMoney(theCurrency);
+        for (OceanusMoney myMoney : theMoney) {
+            myTotal.addAmount(myMoney);
+        }
+        return myTotal;
+    }
+
+    /**
+     * Sum the money values in an accumulator.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public OceanusMoney addMoneyAccumulator() {
+        final OceanusMoney myTotal = new OceanusMoney(theCurrency);
+        final OceanusDecimalAccumulator myAccumulator = new OceanusDecimalAccumulator(myTotal.scale());
+        for (OceanusMoney myMoney : theMoney) {
+            myAccumulator.addValue(myMoney);
+        }
+        myAccumulator.storeInto(myTotal);
+        return myTotal;
+    }
+
+    /**
+     * Sum the value of the money values at the rate.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public OceanusMoney valueAtRate() {
+        final OceanusMoney myTotal = new OceanusMoney(theCurrency);
+        for (OceanusMoney myMoney : theMoney) {
+            myTotal.addAmount(myMoney.valueAtRate(theRate));
+        }
+        return myTotal;
+    }
+
+    /**
+     * Sum the value of the money values at the rate in an accumulator.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public OceanusMoney valueAtRateAccumulator() {
+        final OceanusMoney myTotal = new OceanusMoney(theCurrency);
+        final OceanusDecimalAccumulator myAccumulator = new OceanusDecimalAccumulator(myTotal.scale());
+        for (OceanusMoney myMoney : theMoney) {
+            myAccumulator.addProduct(myMoney, theRate);
+        }
+        myAccumulator.storeInto(myTotal);
+        return myTotal;
+    }
+
+    /**
+     * Sum the value of the units at their prices.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public OceanusMoney unitsAtPrice() {
+        final OceanusMoney myTotal = new OceanusMoney(theCurrency);
+        for (int i = 0; i < theCount; i++) {
+            myTotal.addAmount(thePrices[i].unitsAtPrice(theUnits[i]));
+        }
+        return myTotal;
+    }
+
+    /**
+     * Sum the value of the units at their prices in an accumulator.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public OceanusMoney unitsAtPriceAccumulator() {
+        final OceanusMoney myTotal = new OceanusMoney(theCurrency);
+        final OceanusDecimalAccumulator myAccumulator = new OceanusDecimalAccumulator(myTotal.scale());
+        for (int i = 0; i < theCount; i++) {
+            myAccumulator.addProduct(thePrices[i], theUnits[i]);
+        }
+        myAccumulator.storeInto(myTotal);
+        return myTotal;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.oceanus;
+
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalFormatter;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalParser;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusMoney;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusUnits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decimal parser and formatter benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OceanusDecimalParserBenchmark {
+    /**
+     * The random seed.
+     */
+    private static final long SEED = 0x5EED_0CEA_4E55L;
+
+    /**
+     * The maximum whole value.
+     */
+    private static final int MAX_WHOLE = 1_000_000;
+
+    /**
+     * The fractional money range.
+     */
+    private static final int MONEY_FRACTION = 100;
+
+    /**
+     * The fractional units range.
+     */
+    private static final int UNITS_FRACTION = 10_000;
+
+    /**
+     * The number of values.
+     */
+    @Param({"1000"})
+    private int theCount;
+
+    /**
+     * The parser.
+     */
+    private OceanusDecimalParser theParser;
+
+    /**
+     * The formatter.
+     */
+    private OceanusDecimalFormatter theFormatter;
+
+    /**
+     * The money strings.
+     */
+    private String[] theMoneyStrings;
+
+    /**
+     * The units strings.
+     */
+    private String[] theUnitsStrings;
+
+    /**
+     * The money values.
+     */
+    private OceanusMoney[] theMoney;
+
+    /**
+     * The units values.
+     */
+    private OceanusUnits[] theUnits;
+
+    /**
+     * Build the values.
+     */
+    @Setup
+    public void setUp() {
+        /* Create the parser and formatter */
+        theParser = new OceanusDecimalParser(Locale.UK);
+        theFormatter = new OceanusDecimalFormatter(Locale.UK);
+
+        /* Create the arrays */
+        final Random myRandom = new Random(SEED);
+        theMoneyStrings = new String[theCount];
+        theUnitsStrings = new String[theCount];
+        theMoney = new OceanusMoney[theCount];
+        theUnits = new OceanusUnits[theCount];
+
+        /* Build the strings and the parsed values */
+        for (int i = 0; i < theCount; i++) {
+            final int myWhole = myRandom.nextInt(MAX_WHOLE);
+            final String mySign = myRandom.nextBoolean() ? "" : "-";
+            theMoneyStrings[i] = String.format("%s%d.%02d", mySign, myWhole, myRandom.nextInt(MONEY_FRACTION));
+            theUnitsStrings[i] = String.format("%d.%04d", myWhole, myRandom.nextInt(UNITS_FRACTION));
+            theMoney[i] = theParser.parseMoneyValue(theMoneyStrings[i]);
+            theUnits[i] = theParser.parseUnitsValue(theUnitsStrings[i]);
+        }
+    }
+
+    /**
+     * Parse the money strings.
+     *
+     * @param pHole the blackHole
+     */
+    @Benchmark
+    public void parseMoney(final Blackhole pHole) {
+        for (String myString : theMoneyStrings) {
+            pHole.consume(theParser.parseMoneyValue(myString));
+        }
+    }
+
+    /**
+     * Parse the units strings.
+     *
+     * @param pHole the blackHole
+     */
+    @Benchmark
+    public void parseUnits(final Blackhole pHole) {
+        for (String myString : theUnitsStrings) {
+            pHole.consume(theParser.parseUnitsValue(myString));
+        }
+    }
+
+    /**
+     * Format the money values.
+     *
+     * @param pHole the blackHole
+     */
+    @Benchmark
+    public void formatMoney(final Blackhole pHole) {
+        for (OceanusMoney myMoney : theMoney) {
+            pHole.consume(theFormatter.formatMoney(myMoney));
+        }
+    }
+
+    /**
+     * Format the units values.
+     *
+     * @param pHole the blackHole
+     */
+    @Benchmark
+    public void formatUnits(final Blackhole pHole) {
+        for (OceanusUnits myUnits : theUnits) {
+            pHole.consume(theFormatter.formatUnits(myUnits));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * jOceanus: Java Benchmarks
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.benchmark.prometheus;
+
+import io.github.tonywasher.joceanus.benchmark.moneywise.MoneyWiseBenchmarkData;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseNullThreadMgr;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataValuesFormatter;
+import io.github.tonywasher.joceanus.prometheus.security.PrometheusSecurityPasswordManager;
+import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataValues backup/restore benchmarks.
+ * <p>
+ * The backup is written to and restored from memory, so that the figures reflect the cost of serialisation,
+ * compression and encryption rather than that of the file system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PrometheusDataValuesBenchmark {
+    /**
+     * The number of transactions.
+     */
+    @Param({"1000", "10000"})
+    private int theNumTrans;
+
+    /**
+     * The thread manager.
+     */
+    private TethysUIThreadManager theManager;
+
+    /**
+     * The view.
+     */
+    private MoneyWiseView theView;
+
+    /**
+     * The dataSet.
+     */
+    private MoneyWiseDataSet theDataSet;
+
+    /**
+     * The formatter.
+     */
+    private PrometheusDataValuesFormatter theFormatter;
+
+    /**
+     * The backup.
+     */
+    private byte[] theBackup;
+
+    /**
+     * Build the dataSet and its backup.
+     *
+     * @throws OceanusException on error
+     */
+    @Setup
+    public void setUp() throws OceanusException {
+        /* Create the data */
+        final MoneyWiseBenchmarkData myData = new MoneyWiseBenchmarkData(theNumTrans);
+        theView = myData.getView();
+        theDataSet = myData.getDataSet();
+
+        /* Create the formatter and the initial backup */
+        final PrometheusSecurityPasswordManager myPasswordMgr = theDataSet.getPasswordMgr();
+        theManager = new MoneyWiseNullThreadMgr();
+        theFormatter = new PrometheusDataValuesFormatter(theManager, myPasswordMgr);
+        theBackup = backupData();
+    }
+
+    /**
+     * Backup the dataSet.
+     *
+     * @return the backup
+     * @throws OceanusException on error
+     */
+    @Benchmark
+    public byte[] backupData() throws OceanusException {
+        final ByteArrayOutputStream myStream = new ByteArrayOutputStream();
+        theManager.setNewProfile("Backup");
+        theFormatter.createBackup(theDataSet, myStream);
+        return myStream.toByteArray();
+    }
+
+    /**
+     * Restore the dataSet.
+     *
+     * @return the restored dataSet
+     * @throws OceanusException on error
+     */
+    @Benchmark
+    public MoneyWiseDataSet restoreData() throws OceanusException {
+        final MoneyWiseDataSet myData = theView.getNewData();
+        myData.doNewValidityChecks();
+        theManager.setNewProfile("Restore");
+        theFormatter.loadZipFile(myData, new ByteArrayInputStream(theBackup), "Benchmark");
+        return myData;
+    }
+}
@@ -16,6 +16,9 @@
  */
 package io.github.tonywasher.joceanus.gordianknot.api.base;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
  * GordianKnot interface for Consumers such as Message Digests, Macs and Signatures.
  */
@@ -47,6 +50,36 @@ public interface GordianConsumer {
         update(pBytes, 0, pBytes == null ? 0 : pBytes.length);
     }
 
+    /**
+     * Update the consumer with the remaining bytes of a buffer.
+     * <p>
+     * A heap buffer is consumed directly from its backing array, whereas a direct buffer is staged through a
+     * bounded work array. On return the position of the buffer will have been advanced to its limit.
+     *
+     * @param pBuffer the buffer to update with.
+     */
+    default void update(final ByteBuffer pBuffer) {
+        /* Handle heap buffer directly */
+        final int myLength = pBuffer.remaining();
+        if (pBuffer.hasArray()) {
+            update(pBuffer.array(), pBuffer.arrayOffset() + pBuffer.position(), myLength);
+            pBuffer.position(pBuffer.limit());
+            return;
+        }
+
+        /* Stage the direct buffer in chunks */
+        final byte[] myStage = new byte[Math.min(myLength, GordianLength.LEN_8192.getByteLength())];
+        try {
+            while (pBuffer.hasRemaining()) {
+                final int myChunk = Math.min(pBuffer.remaining(), myStage.length);
+                pBuffer.get(myStage, 0, myChunk);
+                update(myStage, 0, myChunk);
+            }
+        } finally {
+            Arrays.fill(myStage, (byte) 0);
+        }
+    }
+
     /**
      * Reset the Consumer.
      */
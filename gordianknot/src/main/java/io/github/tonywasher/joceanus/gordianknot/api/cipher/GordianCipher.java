@@ -17,7 +17,10 @@
 package io.github.tonywasher.joceanus.gordianknot.api.cipher;
 
 import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianLength;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -224,4 +227,161 @@ public interface GordianCipher {
      */
     int finish(byte[] pOutput,
                int pOutOffset) throws GordianException;
+
+    /**
+     * Process the remaining bytes of the input buffer and write intermediate results to the output buffer.
+     * <p>
+     * When both buffers are heap buffers the data is processed directly between the backing arrays. Otherwise
+     * the direct buffer(s) are staged through bounded work arrays. On return the position of the input buffer
+     * will have been advanced to its limit, and that of the output buffer past the processed data.
+     * The buffers must not share content.
+     *
+     * @param pInput  the input buffer
+     * @param pOutput the output buffer to receive processed data
+     * @return the number of bytes transferred to the output buffer
+     * @throws GordianException on error
+     * @throws BufferOverflowException if the output buffer has insufficient space
+     */
+    default int update(final ByteBuffer pInput,
+                       final ByteBuffer pOutput) throws GordianException {
+        /* Check that there is sufficient space */
+        final int myLength = pInput.remaining();
+        if (pOutput.remaining() < getOutputLength(myLength)) {
+            throw new BufferOverflowException();
+        }
+
+        /* Handle heap buffers directly */
+        if (pInput.hasArray() && pOutput.hasArray()) {
+            final int myOut = update(pInput.array(), pInput.arrayOffset() + pInput.position(), myLength,
+                    pOutput.array(), pOutput.arrayOffset() + pOutput.position());
+            pInput.position(pInput.limit());
+            pOutput.position(pOutput.position() + myOut);
+            return myOut;
+        }
+
+        /* Stage the buffers in chunks */
+        return stageBuffers(pInput, pOutput);
+    }
+
+    /**
+     * Process the remaining bytes of the input buffer and write final results to the output buffer.
+     *
+     * @param pInput  the input buffer
+     * @param pOutput the output buffer to receive processed data
+     * @return the number of bytes transferred to the output buffer
+     * @throws GordianException on error
+     * @throws BufferOverflowException if the output buffer has insufficient space
+     * @see #update(ByteBuffer, ByteBuffer)
+     */
+    default int finish(final ByteBuffer pInput,
+                       final ByteBuffer pOutput) throws GordianException {
+        /* Check that there is sufficient space */
+        if (pOutput.remaining() < getOutputLength(pInput.remaining())) {
+            throw new BufferOverflowException();
+        }
+
+        /* Update the data and complete the operation */
+        final int myLen = update(pInput, pOutput);
+        return myLen + finish(pOutput);
+    }
+
+    /**
+     * Complete the Cipher operation and write final results to the output buffer.
+     *
+     * @param pOutput the output buffer to receive processed data
+     * @return the number of bytes transferred to the output buffer
+     * @throws GordianException on error
+     * @throws BufferOverflowException if the output buffer has insufficient space
+     */
+    default int finish(final ByteBuffer pOutput) throws GordianException {
+        /* Check that there is sufficient space */
+        final int myLength = getOutputLength(0);
+        if (pOutput.remaining() < myLength) {
+            throw new BufferOverflowException();
+        }
+
+        /* Handle heap buffer directly */
+        if (pOutput.hasArray()) {
+            final int myOut = finish(pOutput.array(), pOutput.arrayOffset() + pOutput.position());
+            pOutput.position(pOutput.position() + myOut);
+            return myOut;
+        }
+
+        /* Stage the result for a direct buffer */
+        final byte[] myStage = new byte[myLength];
+        try {
+            final int myOut = finish(myStage, 0);
+            pOutput.put(myStage, 0, myOut);
+            return myOut;
+        } finally {
+            Arrays.fill(myStage, (byte) 0);
+        }
+    }
+
+    /**
+     * Process the input buffer in chunks, staging direct buffers through work arrays.
+     *
+     * @param pInput  the input buffer
+     * @param pOutput the output buffer to receive processed data
+     * @return the number of bytes transferred to the output buffer
+     * @throws GordianException on error
+     */
+    private int stageBuffers(final ByteBuffer pInput,
+                             final ByteBuffer pOutput) throws GordianException {
+        /* Allocate the staging arrays */
+        final int myChunkSize = Math.min(pInput.remaining(), GordianLength.LEN_8192.getByteLength());
+        final byte[] myInStage = pInput.hasArray() ? null : new byte[myChunkSize];
+        byte[] myOutStage = null;
+
+        /* Protect against exceptions */
+        try {
+            /* Loop through the chunks */
+            int myProcessed = 0;
+            do {
+                /* Access the next chunk of input */
+                final int myChunk = Math.min(pInput.remaining(), myChunkSize);
+                final byte[] myInput;
+                final int myInOffset;
+                if (myInStage == null) {
+                    myInput = pInput.array();
+                    myInOffset = pInput.arrayOffset() + pInput.position();
+                    pInput.position(pInput.position() + myChunk);
+                } else {
+                    pInput.get(myInStage, 0, myChunk);
+                    myInput = myInStage;
+                    myInOffset = 0;
+                }
+
+                /* Process the chunk */
+                final int myOut;
+                if (pOutput.hasArray()) {
+                    myOut = update(myInput, myInOffset, myChunk, pOutput.array(), pOutput.arrayOffset() + pOutput.position());
+                    pOutput.position(pOutput.position() + myOut);
+                } else {
+                    final int myOutLength = getOutputLength(myChunk);
+                    if (myOutStage == null || myOutStage.length < myOutLength) {
+                        if (myOutStage != null) {
+                            Arrays.fill(myOutStage, (byte) 0);
+                        }
+                        myOutStage = new byte[myOutLength];
+                    }
+                    myOut = update(myInput, myInOffset, myChunk, myOutStage, 0);
+                    pOutput.put(myOutStage, 0, myOut);
+                }
+                myProcessed += myOut;
+            } while (pInput.hasRemaining());
+
+            /* Return the number of bytes processed */
+            return myProcessed;
+
+            /* Clear the staging arrays */
+        } finally {
+            if (myInStage != null) {
+                Arrays.fill(myInStage, (byte) 0);
+            }
+            if (myOutStage != null) {
+                Arrays.fill(myOutStage, (byte) 0);
+            }
+        }
+    }
 }
@@ -28,6 +28,9 @@ import io.github.tonywasher.joceanus.gordianknot.api.mac.GordianMacFactory;
 import io.github.tonywasher.joceanus.gordianknot.api.random.GordianRandomFactory;
 import io.github.tonywasher.joceanus.gordianknot.api.zip.GordianZipFactory;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
 /**
  * Factory API.
  */
@@ -114,6 +117,16 @@ public interface GordianFactory {
      */
     GordianKeySet getEmbeddedKeySet();
 
+    /**
+     * Submit an independent task to the factory thread pool.
+     * <p>The task runs on the caller if no pool thread is free.
+     *
+     * @param <T>   the result type
+     * @param pTask the task
+     * @return the future result
+     */
+    <T> Future<T> submitTask(Callable<T> pTask);
+
     /**
      * Create a new factoryLock.
      *
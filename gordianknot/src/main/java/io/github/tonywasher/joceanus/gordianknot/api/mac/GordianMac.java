@@ -21,6 +21,10 @@ import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
 import io.github.tonywasher.joceanus.gordianknot.api.key.GordianKey;
 import io.github.tonywasher.joceanus.gordianknot.api.mac.spec.GordianMacSpec;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
  * GordianKnot interface for Message Authentication Codes.
  */
@@ -89,6 +93,42 @@ public interface GordianMac
     int finish(byte[] pBuffer,
                int pOffset) throws GordianException;
 
+    /**
+     * Calculate the MAC, and return it at the current position of the buffer provided.
+     * <p>
+     * A heap buffer receives the MAC directly into its backing array, whereas a direct buffer receives it via
+     * a work array. On return the position of the buffer will have been advanced past the MAC.
+     *
+     * @param pBuffer the buffer to return the MAC in.
+     * @return the number of bytes placed into buffer
+     * @throws GordianException on error
+     * @throws BufferOverflowException if the buffer has insufficient space
+     */
+    default int finish(final ByteBuffer pBuffer) throws GordianException {
+        /* Check that there is sufficient space */
+        final int myLength = getMacSize();
+        if (pBuffer.remaining() < myLength) {
+            throw new BufferOverflowException();
+        }
+
+        /* Handle heap buffer directly */
+        if (pBuffer.hasArray()) {
+            final int myOut = finish(pBuffer.array(), pBuffer.arrayOffset() + pBuffer.position());
+            pBuffer.position(pBuffer.position() + myOut);
+            return myOut;
+        }
+
+        /* Stage the result for a direct buffer */
+        final byte[] myStage = new byte[myLength];
+        try {
+            final int myOut = finish(myStage, 0);
+            pBuffer.put(myStage, 0, myOut);
+            return myOut;
+        } finally {
+            Arrays.fill(myStage, (byte) 0);
+        }
+    }
+
     /**
      * Update the MAC, calculate and reset it.
      *
@@ -39,6 +39,20 @@ public interface GordianZipWriteFile extends AutoCloseable {
     OutputStream createOutputStream(File pFile,
                                     boolean pCompress) throws GordianException;
 
+    /**
+     * Obtain an output stream for an entry in the zip file, optionally compressing in parallel blocks.
+     * <p>Entries compressed in blocks cannot be read by releases that predate block compression.
+     *
+     * @param pFile     the file details for the new zip entry
+     * @param pCompress should we compress this file?
+     * @param pBlocks   should we compress in parallel blocks?
+     * @return the output stream
+     * @throws GordianException on error
+     */
+    OutputStream createOutputStream(File pFile,
+                                    boolean pCompress,
+                                    boolean pBlocks) throws GordianException;
+
     /**
      * Write an XML Document as a compressed in the Zip file.
      *
@@ -18,8 +18,11 @@ package io.github.tonywasher.joceanus.gordianknot.impl.bc.digest;
 
 import io.github.tonywasher.joceanus.gordianknot.impl.core.digest.GordianCoreDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.digest.GordianCoreDigestSpec;
+import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianParallelDigest;
 import org.bouncycastle.crypto.Digest;
 
+import java.nio.ByteBuffer;
+
 /**
  * BouncyCastle Digest.
  */
@@ -65,6 +68,16 @@ public class BouncyDigest
         theDigest.update(pBytes, pOffset, pLength);
     }
 
+    @Override
+    public void update(final ByteBuffer pBuffer) {
+        /* Pass buffers directly to digests that can hash them in parallel */
+        if (theDigest instanceof GordianParallelDigest myDigest) {
+            myDigest.update(pBuffer);
+        } else {
+            super.update(pBuffer);
+        }
+    }
+
     @Override
     public void update(final byte pByte) {
         theDigest.update(pByte);
@@ -35,6 +35,7 @@ import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianBlake3D
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianCubeHashDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianGroestlDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianJHDigest;
+import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianParallelDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianKangarooDigest.GordianKangarooBase;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianKangarooDigest.GordianKangarooTwelve;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianKangarooDigest.GordianMarsupilamiFourteen;
@@ -96,8 +97,11 @@ public class BouncyDigestFactory
         checkDigestSpec(pDigestSpec);
         final GordianCoreDigestSpec mySpec = (GordianCoreDigestSpec) pDigestSpec;
 
-        /* Create digest */
+        /* Create digest, allowing parallel digests to hash on the factory thread pool */
         final Digest myBCDigest = getBCDigest(mySpec);
+        if (myBCDigest instanceof GordianParallelDigest myParallel) {
+            myParallel.setThreadPool(getFactory().getThreadPool());
+        }
         return myBCDigest instanceof Xof myXof
                 ? new BouncyDigestXof(mySpec, myXof)
                 : new BouncyDigest(mySpec, myBCDigest);
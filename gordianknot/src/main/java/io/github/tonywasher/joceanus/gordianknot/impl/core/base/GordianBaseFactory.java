@@ -69,6 +69,20 @@ public interface GordianBaseFactory
      */
     GordianParameters getParameters();
 
+    /**
+     * Obtain the engine pool.
+     *
+     * @return the engine pool
+     */
+    GordianEnginePool getEnginePool();
+
+    /**
+     * Obtain the thread pool.
+     *
+     * @return the thread pool
+     */
+    GordianThreadPool getThreadPool();
+
     /**
      * Obtain Identifier for keySpec.
      *
@@ -0,0 +1,271 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.base;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.digest.GordianDigest;
+import io.github.tonywasher.joceanus.gordianknot.api.digest.spec.GordianDigestSpec;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of reusable engines.
+ * <p>
+ * Engines are held in lock-free queues, either keyed by spec within the pool (digests) or owned by
+ * the object whose keys they hold (keySet ciphers). An engine is borrowed for the duration of an
+ * operation and released afterwards, so that it is reset and reused rather than rebuilt. Engines
+ * that are not released (e.g. following a failure) are simply discarded.
+ */
+public final class GordianEnginePool {
+    /**
+     * The maximum number of idle engines retained per key.
+     */
+    private static final int MAX_IDLE = Math.max(Runtime.getRuntime().availableProcessors() << 1, 4);
+
+    /**
+     * The factory.
+     */
+    private final GordianFactory theFactory;
+
+    /**
+     * The digest caches.
+     */
+    private final Map<GordianDigestSpec, GordianEngineCache<GordianDigest>> theDigests;
+
+    /**
+     * The number of requests.
+     */
+    private final LongAdder theRequests;
+
+    /**
+     * The number of requests satisfied from the pool.
+     */
+    private final LongAdder theHits;
+
+    /**
+     * The number of engines released back to the pool.
+     */
+    private final LongAdder theReleases;
+
+    /**
+     * The number of engines discarded on release or purge.
+     */
+    private final LongAdder theDiscards;
+
+    /**
+     * Constructor.
+     *
+     * @param pFactory the factory
+     */
+    public GordianEnginePool(final GordianFactory pFactory) {
+        theFactory = pFactory;
+        theDigests = new ConcurrentHashMap<>();
+        theRequests = new LongAdder();
+        theHits = new LongAdder();
+        theReleases = new LongAdder();
+        theDiscards = new LongAdder();
+    }
+
+    /**
+     * Create a new engine cache that reports to this pool.
+     *
+     * @param <T> the engine type
+     * @return the cache
+     */
+    public <T> GordianEngineCache<T> newCache() {
+        return new GordianEngineCache<>(this);
+    }
+
+    /**
+     * Borrow a digest.
+     *
+     * @param pSpec the digestSpec
+     * @return the digest
+     * @throws GordianException on error
+     */
+    public GordianDigest borrowDigest(final GordianDigestSpec pSpec) throws GordianException {
+        final GordianEngineCache<GordianDigest> myCache = theDigests.computeIfAbsent(pSpec, s -> newCache());
+        return myCache.borrow(() -> theFactory.getDigestFactory().createDigest(pSpec));
+    }
+
+    /**
+     * Release a digest back to the pool.
+     *
+     * @param pDigest the digest
+     */
+    public void releaseDigest(final GordianDigest pDigest) {
+        pDigest.reset();
+        final GordianEngineCache<GordianDigest> myCache = theDigests.computeIfAbsent(pDigest.getDigestSpec(), s -> newCache());
+        myCache.release(pDigest);
+    }
+
+    /**
+     * Obtain the current statistics.
+     *
+     * @return the statistics
+     */
+    public GordianEnginePoolStatistics getStatistics() {
+        return new GordianEnginePoolStatistics(theRequests.sum(), theHits.sum(),
+                theReleases.sum(), theDiscards.sum());
+    }
+
+    /**
+     * Engine creator.
+     *
+     * @param <T> the engine type
+     */
+    @FunctionalInterface
+    public interface GordianEngineCreator<T> {
+        /**
+         * Create a new engine.
+         *
+         * @return the engine
+         * @throws GordianException on error
+         */
+        T create() throws GordianException;
+    }
+
+    /**
+     * Engine pool statistics.
+     *
+     * @param requests the number of borrow requests
+     * @param hits     the number of requests satisfied by an idle engine
+     * @param releases the number of engines released for reuse
+     * @param discards the number of engines discarded rather than retained
+     */
+    public record GordianEnginePoolStatistics(long requests,
+                                              long hits,
+                                              long releases,
+                                              long discards) {
+        /**
+         * Obtain the number of engines that had to be built.
+         *
+         * @return the number of misses
+         */
+        public long misses() {
+            return requests - hits;
+        }
+
+        /**
+         * Obtain the hit rate.
+         *
+         * @return the hit rate (0.0 - 1.0)
+         */
+        public double hitRate() {
+            return requests == 0
+                    ? 0.0
+                    : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "requests=" + requests
+                    + ", hits=" + hits
+                    + ", releases=" + releases
+                    + ", discards=" + discards
+                    + String.format(", hitRate=%.1f%%", hitRate() * 100);
+        }
+    }
+
+    /**
+     * Lock-free cache of idle engines.
+     *
+     * @param <T> the engine type
+     */
+    public static final class GordianEngineCache<T> {
+        /**
+         * The owning pool.
+         */
+        private final GordianEnginePool thePool;
+
+        /**
+         * The idle engines.
+         */
+        private final Queue<T> theIdle;
+
+        /**
+         * The number of idle engines.
+         */
+        private final AtomicInteger theNumIdle;
+
+        /**
+         * Constructor.
+         *
+         * @param pPool the owning pool
+         */
+        private GordianEngineCache(final GordianEnginePool pPool) {
+            thePool = pPool;
+            theIdle = new ConcurrentLinkedQueue<>();
+            theNumIdle = new AtomicInteger();
+        }
+
+        /**
+         * Borrow an engine, creating a new one if none is idle.
+         *
+         * @param pCreator the engine creator
+         * @return the engine
+         * @throws GordianException on error
+         */
+        public T borrow(final GordianEngineCreator<T> pCreator) throws GordianException {
+            /* Look for an idle engine */
+            thePool.theRequests.increment();
+            final T myEngine = theIdle.poll();
+            if (myEngine != null) {
+                theNumIdle.decrementAndGet();
+                thePool.theHits.increment();
+                return myEngine;
+            }
+
+            /* Build a new engine */
+            return pCreator.create();
+        }
+
+        /**
+         * Release an engine for reuse.
+         *
+         * @param pEngine the engine
+         */
+        public void release(final T pEngine) {
+            /* Discard the engine if we already hold enough idle engines */
+            if (theNumIdle.incrementAndGet() > MAX_IDLE) {
+                theNumIdle.decrementAndGet();
+                thePool.theDiscards.increment();
+                return;
+            }
+
+            /* Hold the engine for reuse */
+            theIdle.offer(pEngine);
+            thePool.theReleases.increment();
+        }
+
+        /**
+         * Discard all idle engines.
+         */
+        public void purge() {
+            while (theIdle.poll() != null) {
+                theNumIdle.decrementAndGet();
+                thePool.theDiscards.increment();
+            }
+        }
+    }
+}
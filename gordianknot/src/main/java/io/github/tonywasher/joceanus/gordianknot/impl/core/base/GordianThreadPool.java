@@ -0,0 +1,225 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Bounded pool of platform threads owned by a factory.
+ * <p>
+ * Work whose tasks wait on each other (such as the stages of a pipeline) must reserve all of its threads
+ * before submitting any tasks, so that it can never wait for a thread that is held by other waiting work.
+ * If the threads cannot be reserved the caller processes the work serially instead. Independent tasks can
+ * instead be submitted one at a time, each running on the caller when no thread is free. The executor is created
+ * on first use, its threads are daemons and idle threads time out, so an unused pool holds no threads.
+ */
+public final class GordianThreadPool {
+    /**
+     * The number of seconds that an idle thread is retained.
+     */
+    private static final long KEEP_ALIVE = 30;
+
+    /**
+     * The thread number.
+     */
+    private static final AtomicInteger THREAD_NO = new AtomicInteger();
+
+    /**
+     * The number of threads.
+     */
+    private final int theSize;
+
+    /**
+     * The unreserved threads.
+     */
+    private final Semaphore theThreads;
+
+    /**
+     * The executor.
+     */
+    private ThreadPoolExecutor theExecutor;
+
+    /**
+     * Constructor.
+     */
+    public GordianThreadPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pSize the number of threads
+     */
+    public GordianThreadPool(final int pSize) {
+        theSize = pSize;
+        theThreads = new Semaphore(pSize);
+    }
+
+    /**
+     * Obtain the number of threads in the pool.
+     *
+     * @return the number of threads
+     */
+    public int getSize() {
+        return theSize;
+    }
+
+    /**
+     * Attempt to reserve threads without waiting.
+     *
+     * @param pCount the number of threads
+     * @return true/false were the threads reserved?
+     */
+    public boolean tryReserve(final int pCount) {
+        return theThreads.tryAcquire(pCount);
+    }
+
+    /**
+     * Release reserved threads once their tasks have completed.
+     *
+     * @param pCount the number of threads
+     */
+    public void release(final int pCount) {
+        theThreads.release(pCount);
+    }
+
+    /**
+     * Submit an independent task.
+     * <p>
+     * The task runs on a newly reserved thread, which is released when the task completes or is cancelled.
+     * If no thread is free the task is run on the caller before returning.
+     *
+     * @param <T>   the result type
+     * @param pTask the task
+     * @return the future result
+     */
+    public <T> Future<T> submit(final Callable<T> pTask) {
+        /* Run the task on the caller if no thread is free */
+        if (!tryReserve(1)) {
+            final FutureTask<T> myTask = new FutureTask<>(pTask);
+            myTask.run();
+            return myTask;
+        }
+
+        /* Execute the task, releasing the thread once it is done */
+        final FutureTask<T> myTask = new FutureTask<>(pTask) {
+            @Override
+            protected void done() {
+                release(1);
+            }
+        };
+        execute(myTask);
+        return myTask;
+    }
+
+    /**
+     * Run a number of independent tasks and wait for them all to complete.
+     * <p>
+     * The first task runs on the caller, and each of the others is submitted as an independent task, so that
+     * the tasks run serially on the caller if no thread is free. An interrupt received while waiting is
+     * deferred until the tasks have completed.
+     *
+     * @param pCount the number of tasks
+     * @param pTask  the task, which is passed the index of each task in turn
+     */
+    public void invokeAll(final int pCount,
+                          final IntConsumer pTask) {
+        /* Submit all but the first task */
+        final List<Future<Object>> myTasks = new ArrayList<>();
+        for (int i = 1; i < pCount; i++) {
+            final int myIndex = i;
+            myTasks.add(submit(Executors.callable(() -> pTask.accept(myIndex))));
+        }
+
+        /* Run the first task on the caller */
+        if (pCount > 0) {
+            pTask.accept(0);
+        }
+
+        /* Wait for the remaining tasks */
+        boolean isInterrupted = false;
+        int myNext = 0;
+        while (myNext < myTasks.size()) {
+            try {
+                myTasks.get(myNext).get();
+                myNext++;
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException myCause) {
+                    throw myCause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /* Restore the interrupt */
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Execute a task on a reserved thread.
+     *
+     * @param pTask the task
+     */
+    public void execute(final Runnable pTask) {
+        getExecutor().execute(pTask);
+    }
+
+    /**
+     * Obtain the executor, creating it if necessary.
+     *
+     * @return the executor
+     */
+    private synchronized ThreadPoolExecutor getExecutor() {
+        if (theExecutor == null) {
+            theExecutor = new ThreadPoolExecutor(theSize, theSize, KEEP_ALIVE, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), newThreadFactory());
+            theExecutor.allowCoreThreadTimeOut(true);
+        }
+        return theExecutor;
+    }
+
+    /**
+     * Create the thread factory.
+     *
+     * @return the thread factory
+     */
+    private static ThreadFactory newThreadFactory() {
+        return r -> {
+            final Thread myThread = new Thread(r, "GordianWorker-" + THREAD_NO.incrementAndGet());
+            myThread.setDaemon(true);
+            return myThread;
+        };
+    }
+}
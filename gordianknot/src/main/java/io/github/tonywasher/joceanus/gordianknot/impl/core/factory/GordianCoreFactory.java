@@ -33,12 +33,14 @@ import io.github.tonywasher.joceanus.gordianknot.api.random.GordianRandomFactory
 import io.github.tonywasher.joceanus.gordianknot.api.zip.GordianZipFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianBaseFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianCoreKnuthObfuscater;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianEnginePool;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianFactoryGenerator;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianIdManager;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianParameters;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianPersonalisation;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianRandomSource;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianSeededRandom;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianValidator;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.key.GordianCoreKeyAlgId;
@@ -50,6 +52,8 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.zip.GordianCoreZipFac
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 
 import java.security.SecureRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * Core factory.
@@ -136,6 +140,16 @@ public abstract class GordianCoreFactory
      */
     private final GordianValidator theValidator;
 
+    /**
+     * The engine pool.
+     */
+    private final GordianEnginePool theEnginePool;
+
+    /**
+     * The thread pool.
+     */
+    private final GordianThreadPool theThreadPool;
+
     /**
      * The Key AlgIds.
      */
@@ -176,6 +190,8 @@ public abstract class GordianCoreFactory
         theKeySetFactory = new GordianCoreKeySetFactory(this);
         theLockFactory = new GordianCoreLockFactory(this);
         theZipFactory = new GordianCoreZipFactory(this);
+        theEnginePool = new GordianEnginePool(this);
+        theThreadPool = new GordianThreadPool();
 
         /* Declare personalisation */
         thePersonalisation = new GordianPersonalisation(this);
@@ -207,6 +223,21 @@ public abstract class GordianCoreFactory
         return theParameters;
     }
 
+    @Override
+    public GordianEnginePool getEnginePool() {
+        return theEnginePool;
+    }
+
+    @Override
+    public GordianThreadPool getThreadPool() {
+        return theThreadPool;
+    }
+
+    @Override
+    public <T> Future<T> submitTask(final Callable<T> pTask) {
+        return theThreadPool.submit(pTask);
+    }
+
     @Override
     public GordianFactoryType getFactoryType() {
         return theParameters.getFactoryType();
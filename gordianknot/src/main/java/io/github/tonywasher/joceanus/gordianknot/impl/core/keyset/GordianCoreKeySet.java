@@ -35,6 +35,8 @@ import io.github.tonywasher.joceanus.gordianknot.api.keyset.GordianKeySetAADCiph
 import io.github.tonywasher.joceanus.gordianknot.api.keyset.GordianKeySetCipher;
 import io.github.tonywasher.joceanus.gordianknot.api.keyset.spec.GordianKeySetSpec;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianBaseFactory;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianEnginePool;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianEnginePool.GordianEngineCache;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianParameters;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianPersonalisation.GordianPersonalId;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianValidator;
@@ -78,9 +80,14 @@ public final class GordianCoreKeySet
     private final Map<GordianSymKeySpec, GordianKey<GordianSymKeySpec>> theSymKeyMap;
 
     /**
-     * The underlying Cipher.
+     * The cache of underlying Ciphers.
      */
-    private final GordianMultiCipher theCipher;
+    private final GordianEngineCache<GordianMultiCipher> theCiphers;
+
+    /**
+     * The cache of AAD Ciphers.
+     */
+    private final GordianEngineCache<GordianCoreKeySetAADCipher> theAADCiphers;
 
     /**
      * Is the keySet destroyed?
@@ -103,8 +110,10 @@ public final class GordianCoreKeySet
         /* Create maps */
         theSymKeyMap = new HashMap<>();
 
-        /* Create the cipher */
-        theCipher = new GordianMultiCipher(this);
+        /* Create the cipher caches */
+        final GordianEnginePool myPool = pFactory.getEnginePool();
+        theCiphers = myPool.newCache();
+        theAADCiphers = myPool.newCache();
     }
 
     /**
@@ -124,8 +133,10 @@ public final class GordianCoreKeySet
         /* Copy the symKeyMap */
         theSymKeyMap = new HashMap<>(pSource.getSymKeyMap());
 
-        /* Create the cipher */
-        theCipher = new GordianMultiCipher(this);
+        /* Create the cipher caches */
+        final GordianEnginePool myPool = theFactory.getEnginePool();
+        theCiphers = myPool.newCache();
+        theAADCiphers = myPool.newCache();
     }
 
     /**
@@ -158,6 +169,7 @@ public final class GordianCoreKeySet
             myKey.destroy();
         }
         isDestroyed = true;
+        purgeCiphers();
     }
 
     @Override
@@ -255,6 +267,34 @@ public final class GordianCoreKeySet
         return new GordianCoreKeySetAADCipher(this);
     }
 
+    /**
+     * Borrow a multiCipher from the cache.
+     *
+     * @return the cipher
+     * @throws GordianException on error
+     */
+    private GordianMultiCipher borrowCipher() throws GordianException {
+        return theCiphers.borrow(() -> new GordianMultiCipher(this));
+    }
+
+    /**
+     * Borrow an AAD cipher from the cache.
+     *
+     * @return the cipher
+     * @throws GordianException on error
+     */
+    private GordianCoreKeySetAADCipher borrowAADCipher() throws GordianException {
+        return theAADCiphers.borrow(() -> new GordianCoreKeySetAADCipher(this));
+    }
+
+    /**
+     * Discard any cached ciphers, since they no longer reflect the keys.
+     */
+    private void purgeCiphers() {
+        theCiphers.purge();
+        theAADCiphers.purge();
+    }
+
     @Override
     public byte[] encryptBytes(final byte[] pBytes) throws GordianException {
         /* Check for destroyed keySet */
@@ -265,13 +305,15 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* Initialise the ciphers */
-        theCipher.initCiphers(myParams, true);
-        final int myOutLen = GordianKeySetRecipe.HDRLEN + theCipher.getOutputLength(pBytes.length);
+        final GordianMultiCipher myCipher = borrowCipher();
+        myCipher.initCiphers(myParams, true);
+        final int myOutLen = GordianKeySetRecipe.HDRLEN + myCipher.getOutputLength(pBytes.length);
         final byte[] myOutput = new byte[myOutLen];
 
         /* build the output */
         myRecipe.buildHeader(myOutput);
-        theCipher.finish(pBytes, 0, pBytes.length, myOutput, GordianKeySetRecipe.HDRLEN);
+        myCipher.finish(pBytes, 0, pBytes.length, myOutput, GordianKeySetRecipe.HDRLEN);
+        theCiphers.release(myCipher);
         return myOutput;
     }
 
@@ -285,13 +327,15 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* Initialise the ciphers */
-        theCipher.initCiphers(myParams, false);
-        final int myOutLen = theCipher.getOutputLength(pBytes.length - GordianKeySetRecipe.HDRLEN);
+        final GordianMultiCipher myCipher = borrowCipher();
+        myCipher.initCiphers(myParams, false);
+        final int myOutLen = myCipher.getOutputLength(pBytes.length - GordianKeySetRecipe.HDRLEN);
         final byte[] myOutput = new byte[myOutLen];
 
         /* Build output */
-        final int myLen = theCipher.finish(pBytes, GordianKeySetRecipe.HDRLEN,
+        final int myLen = myCipher.finish(pBytes, GordianKeySetRecipe.HDRLEN,
                 pBytes.length - GordianKeySetRecipe.HDRLEN, myOutput, 0);
+        theCiphers.release(myCipher);
         return myLen == myOutLen
                 ? myOutput
                 : Arrays.copyOf(myOutput, myLen);
@@ -300,8 +344,8 @@ public final class GordianCoreKeySet
     @Override
     public byte[] encryptAADBytes(final byte[] pBytes,
                                   final byte[] pAAD) throws GordianException {
-        /* Create cipher and initialise to encrypt */
-        final GordianKeySetAADCipher myCipher = createAADCipher();
+        /* Obtain cipher and initialise to encrypt */
+        final GordianCoreKeySetAADCipher myCipher = borrowAADCipher();
         myCipher.initForEncrypt(pAAD);
 
         /* Build the output buffer */
@@ -310,6 +354,7 @@ public final class GordianCoreKeySet
 
         /* build the output */
         final int myLen = myCipher.finish(pBytes, 0, pBytes.length, myOutput, 0);
+        theAADCiphers.release(myCipher);
         return myLen == myOutLen
                 ? myOutput
                 : Arrays.copyOf(myOutput, myLen);
@@ -318,8 +363,8 @@ public final class GordianCoreKeySet
     @Override
     public byte[] decryptAADBytes(final byte[] pBytes,
                                   final byte[] pAAD) throws GordianException {
-        /* Create cipher and initialise to encrypt */
-        final GordianKeySetAADCipher myCipher = createAADCipher();
+        /* Obtain cipher and initialise to decrypt */
+        final GordianCoreKeySetAADCipher myCipher = borrowAADCipher();
         myCipher.initForDecrypt(pAAD);
 
         /* Build the output buffer */
@@ -328,6 +373,7 @@ public final class GordianCoreKeySet
 
         /* build the output */
         final int myLen = myCipher.finish(pBytes, 0, pBytes.length, myOutput, 0);
+        theAADCiphers.release(myCipher);
         return myLen == myOutLen
                 ? myOutput
                 : Arrays.copyOf(myOutput, myLen);
@@ -343,7 +389,9 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* secure the key */
-        final byte[] myBytes = theCipher.secureKey(myParams, pKeyToSecure);
+        final GordianMultiCipher myCipher = borrowCipher();
+        final byte[] myBytes = myCipher.secureKey(myParams, pKeyToSecure);
+        theCiphers.release(myCipher);
 
         /* Package and return the encrypted bytes */
         return buildExternal(myRecipe, myBytes);
@@ -357,7 +405,10 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* Unwrap the key and return it */
-        return theCipher.deriveKey(myParams, pSecuredKey, GordianKeySetRecipe.HDRLEN, pKeyType);
+        final GordianMultiCipher myCipher = borrowCipher();
+        final GordianKey<T> myKey = myCipher.deriveKey(myParams, pSecuredKey, GordianKeySetRecipe.HDRLEN, pKeyType);
+        theCiphers.release(myCipher);
+        return myKey;
     }
 
     @Override
@@ -367,7 +418,9 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* secure the key */
-        final byte[] myBytes = theCipher.secureBytes(myParams, pBytesToSecure);
+        final GordianMultiCipher myCipher = borrowCipher();
+        final byte[] myBytes = myCipher.secureBytes(myParams, pBytesToSecure);
+        theCiphers.release(myCipher);
 
         /* Package and return the encrypted bytes */
         return buildExternal(myRecipe, myBytes);
@@ -380,7 +433,10 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* Unwrap the bytes and return them */
-        return theCipher.deriveBytes(myParams, pSecuredBytes, GordianKeySetRecipe.HDRLEN);
+        final GordianMultiCipher myCipher = borrowCipher();
+        final byte[] myBytes = myCipher.deriveBytes(myParams, pSecuredBytes, GordianKeySetRecipe.HDRLEN);
+        theCiphers.release(myCipher);
+        return myBytes;
     }
 
     @Override
@@ -390,7 +446,9 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* Wrap the key */
-        final byte[] myBytes = theCipher.securePrivateKey(myParams, pKeyPair);
+        final GordianMultiCipher myCipher = borrowCipher();
+        final byte[] myBytes = myCipher.securePrivateKey(myParams, pKeyPair);
+        theCiphers.release(myCipher);
 
         /* Package and return the encrypted bytes */
         return buildExternal(myRecipe, myBytes);
@@ -427,7 +485,10 @@ public final class GordianCoreKeySet
         final GordianKeySetParameters myParams = myRecipe.getParameters();
 
         /* Unwrap the key and return it */
-        return theCipher.derivePrivateKeySpec(myParams, pSecuredPrivateKey, GordianKeySetRecipe.HDRLEN);
+        final GordianMultiCipher myCipher = borrowCipher();
+        final PKCS8EncodedKeySpec mySpec = myCipher.derivePrivateKeySpec(myParams, pSecuredPrivateKey, GordianKeySetRecipe.HDRLEN);
+        theCiphers.release(myCipher);
+        return mySpec;
     }
 
     @Override
@@ -549,7 +610,7 @@ public final class GordianCoreKeySet
         } else {
             /* Store into map and cipher */
             theSymKeyMap.put(myKeyType, pKey);
-            theCipher.declareSymKey(pKey);
+            purgeCiphers();
         }
     }
 
@@ -575,9 +636,9 @@ public final class GordianCoreKeySet
 
                 /* Add to map and cipher */
                 theSymKeyMap.put(mySpec, myKey);
-                theCipher.declareSymKey(myKey);
             }
         }
+        purgeCiphers();
     }
 
     /**
@@ -605,9 +666,9 @@ public final class GordianCoreKeySet
                 final GordianSymKeySpec mySpec = myBuilder.symKey(myType, myKeyLen);
                 final GordianKey<GordianSymKeySpec> myKey = generateKey(mySpec, pSecret, mySeededRandom);
                 theSymKeyMap.put(mySpec, myKey);
-                theCipher.declareSymKey(myKey);
             }
         }
+        purgeCiphers();
     }
 
     /**
@@ -25,6 +25,9 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataExcept
 import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianLogicException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianKeySetRecipe.GordianKeySetParameters;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * Core keySetCipher.
  */
@@ -195,6 +198,11 @@ public class GordianCoreKeySetCipher
                     : GordianKeySetData.getEncryptionLength(pLength);
         }
 
+        /* Allow for data buffered within the ciphers once the header has been processed */
+        if (hdrProcessed) {
+            return theCipher.getOutputLength(pLength);
+        }
+
         /* Allow for cacheSpace */
         final int cacheSpace = GordianKeySetRecipe.HDRLEN - hdrBytes;
         return pLength < cacheSpace ? 0 : pLength - cacheSpace;
@@ -224,6 +232,28 @@ public class GordianCoreKeySetCipher
                 : updateDecryption(myInput, myOffset, pLength, pOutput, pOutOffset);
     }
 
+    @Override
+    public int update(final ByteBuffer pInput,
+                      final ByteBuffer pOutput) throws GordianException {
+        /* Heap buffers and AEAD ciphers are processed via their backing arrays */
+        if (aead || (pInput.hasArray() && pOutput.hasArray())) {
+            return GordianKeySetCipher.super.update(pInput, pOutput);
+        }
+
+        /* Check status */
+        checkStatus();
+
+        /* Check that there is sufficient space */
+        if (pOutput.remaining() < getOutputLength(pInput.remaining())) {
+            throw new BufferOverflowException();
+        }
+
+        /* process the buffers */
+        return encrypting
+                ? updateEncryption(pInput, pOutput)
+                : updateDecryption(pInput, pOutput);
+    }
+
     /**
      * Obtain buffer length (allowing for null).
      *
@@ -284,17 +314,8 @@ public class GordianCoreKeySetCipher
                                    final int pLength,
                                    final byte[] pOutput,
                                    final int pOutOffset) throws GordianException {
-        /* If we have not initialised the ciphers yet */
-        if (hdrBytes == 0) {
-            /* Generate a new KeySetRecipe */
-            final GordianKeySetRecipe myRecipe = GordianKeySetRecipe.newRecipe(theFactory, theSpec, aead);
-            final GordianKeySetParameters myParams = myRecipe.getParameters();
-            myRecipe.buildHeader(theHeader);
-            hdrBytes = GordianKeySetRecipe.HDRLEN;
-
-            /* Initialise the ciphers */
-            initCiphers(myParams);
-        }
+        /* Make sure that the ciphers are initialised */
+        prepareEncryption();
 
         /* If we have not processed the header yet */
         int bytesWritten = 0;
@@ -313,6 +334,54 @@ public class GordianCoreKeySetCipher
         return bytesWritten;
     }
 
+    /**
+     * Update buffers for encryption.
+     *
+     * @param pInput  the input buffer
+     * @param pOutput the output buffer
+     * @return the length of data written out
+     * @throws GordianException on error
+     */
+    private int updateEncryption(final ByteBuffer pInput,
+                                 final ByteBuffer pOutput) throws GordianException {
+        /* Make sure that the ciphers are initialised */
+        prepareEncryption();
+
+        /* If we have not processed the header yet */
+        int bytesWritten = 0;
+        if (!hdrProcessed) {
+            /* Process the header */
+            pOutput.put(theHeader, 0, hdrBytes);
+            hdrProcessed = true;
+            bytesWritten = hdrBytes;
+        }
+
+        /* Process the bytes */
+        bytesWritten += theCipher.update(pInput, pOutput);
+
+        /* Return the number of bytes processed */
+        return bytesWritten;
+    }
+
+    /**
+     * Prepare for encryption, generating a new recipe and initialising the ciphers if not yet done.
+     *
+     * @throws GordianException on error
+     */
+    private void prepareEncryption() throws GordianException {
+        /* If we have not initialised the ciphers yet */
+        if (hdrBytes == 0) {
+            /* Generate a new KeySetRecipe */
+            final GordianKeySetRecipe myRecipe = GordianKeySetRecipe.newRecipe(theFactory, theSpec, aead);
+            final GordianKeySetParameters myParams = myRecipe.getParameters();
+            myRecipe.buildHeader(theHeader);
+            hdrBytes = GordianKeySetRecipe.HDRLEN;
+
+            /* Initialise the ciphers */
+            initCiphers(myParams);
+        }
+    }
+
 
     /**
      * Process decryption bytes.
@@ -338,25 +407,63 @@ public class GordianCoreKeySetCipher
             numRead = Math.min(cacheSpace, pLength);
 
             /* Copy to the header */
-            System.arraycopy(pBytes, 0, theHeader, hdrBytes, numRead);
+            System.arraycopy(pBytes, pOffset, theHeader, hdrBytes, numRead);
             hdrBytes += numRead;
 
-            /* If we have a complete header */
-            if (hdrBytes == GordianKeySetRecipe.HDRLEN) {
-                /* Process the recipe */
-                final GordianKeySetRecipe myRecipe = GordianKeySetRecipe.parseRecipe(theFactory, theSpec, theHeader, aead);
-                final GordianKeySetParameters myParams = myRecipe.getParameters();
-
-                /* Initialise the ciphers */
-                initCiphers(myParams);
-                hdrProcessed = true;
-            }
+            /* Process the header if it is complete */
+            checkForCompleteHeader();
         }
 
         /* Process the bytes */
         return theCipher.update(pBytes, pOffset + numRead, pLength - numRead, pOutput, pOutOffset);
     }
 
+    /**
+     * Process decryption buffers.
+     *
+     * @param pInput  the input buffer
+     * @param pOutput the output buffer
+     * @return the length of data written out
+     * @throws GordianException on error
+     */
+    private int updateDecryption(final ByteBuffer pInput,
+                                 final ByteBuffer pOutput) throws GordianException {
+        /* If we have not yet processed the header*/
+        if (!hdrProcessed) {
+            /* Copy as much as possible to the header */
+            final int cacheSpace = GordianKeySetRecipe.HDRLEN - hdrBytes;
+            final int numRead = Math.min(cacheSpace, pInput.remaining());
+            pInput.get(theHeader, hdrBytes, numRead);
+            hdrBytes += numRead;
+
+            /* Process the header if it is complete */
+            checkForCompleteHeader();
+        }
+
+        /* Process the bytes */
+        return hdrProcessed
+                ? theCipher.update(pInput, pOutput)
+                : 0;
+    }
+
+    /**
+     * Parse the recipe and initialise the ciphers if the decryption header is complete.
+     *
+     * @throws GordianException on error
+     */
+    private void checkForCompleteHeader() throws GordianException {
+        /* If we have a complete header */
+        if (hdrBytes == GordianKeySetRecipe.HDRLEN) {
+            /* Process the recipe */
+            final GordianKeySetRecipe myRecipe = GordianKeySetRecipe.parseRecipe(theFactory, theSpec, theHeader, aead);
+            final GordianKeySetParameters myParams = myRecipe.getParameters();
+
+            /* Initialise the ciphers */
+            initCiphers(myParams);
+            hdrProcessed = true;
+        }
+    }
+
     @Override
     public int finish(final byte[] pOutput,
                       final int pOutOffset) throws GordianException {
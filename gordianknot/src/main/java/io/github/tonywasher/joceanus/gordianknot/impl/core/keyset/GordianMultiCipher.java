@@ -33,6 +33,7 @@ import io.github.tonywasher.joceanus.gordianknot.api.mac.GordianMacFactory;
 import io.github.tonywasher.joceanus.gordianknot.api.mac.spec.GordianMacSpec;
 import io.github.tonywasher.joceanus.gordianknot.api.mac.spec.GordianMacSpecBuilder;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianBaseFactory;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.cipher.GordianCoreCipherParamsBuilder;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.key.GordianCoreKey;
@@ -40,6 +41,8 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.key.GordianCoreKeyGen
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianKeySetRecipe.GordianKeySetParameters;
 import org.bouncycastle.util.Arrays;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.EnumMap;
 import java.util.Map;
@@ -54,6 +57,16 @@ public final class GordianMultiCipher
      */
     private static final int BUFSIZE = GordianLength.LEN_128.getByteLength();
 
+    /**
+     * The segment size for large updates.
+     */
+    private static final int SEGSIZE = BUFSIZE << 12;
+
+    /**
+     * The minimum update length for which the cipher steps are pipelined across threads.
+     */
+    private static final int PIPELINE_THRESHOLD = SEGSIZE << 2;
+
     /**
      * The factory.
      */
@@ -124,6 +137,20 @@ public final class GordianMultiCipher
         /* Check the keySet */
         theKeySet.checkForDestroyedKeySet();
 
+        /* Pipeline large updates across threads if possible */
+        if (isPipelined(pBytes, pLength, pOutput)) {
+            /* Reserve a pooled thread for each leading stage, else process serially */
+            final GordianThreadPool myPool = theFactory.getThreadPool();
+            final int myThreads = theCiphers.length - 1;
+            if (myPool.tryReserve(myThreads)) {
+                try {
+                    return new GordianMultiCipherPipeline(theCiphers, SEGSIZE, myPool).process(pBytes, pOffset, pLength, pOutput, pOutOffset);
+                } finally {
+                    myPool.release(myThreads);
+                }
+            }
+        }
+
         /* Protect against exceptions */
         try {
             /* Initialise counters */
@@ -135,7 +162,7 @@ public final class GordianMultiCipher
             /* While we have more data to process */
             while (myRemaining > 0) {
                 /* Determine how many bytes to process */
-                final int myInputLen = Math.min(myRemaining, BUFSIZE);
+                final int myInputLen = Math.min(myRemaining, SEGSIZE);
 
                 /* update the next block */
                 final int myDataLen = processBlock(pBytes, myOffset, myInputLen, pOutput, myOutOffset);
@@ -152,8 +179,115 @@ public final class GordianMultiCipher
 
         } finally {
             /* Clear the work buffers */
-            Arrays.fill(theBuffers[0], (byte) 0);
-            Arrays.fill(theBuffers[1], (byte) 0);
+            clearBuffers();
+        }
+    }
+
+    @Override
+    public int update(final ByteBuffer pInput,
+                      final ByteBuffer pOutput) throws GordianException {
+        /* Check that there is sufficient space */
+        if (pOutput.remaining() < getOutputLength(pInput.remaining())) {
+            throw new BufferOverflowException();
+        }
+
+        /* Check the keySet */
+        theKeySet.checkForDestroyedKeySet();
+
+        /* Allocate staging buffers for direct buffers */
+        final byte[] myInStage = pInput.hasArray() ? null : new byte[Math.min(pInput.remaining(), SEGSIZE)];
+        byte[] myOutStage = null;
+
+        /* Protect against exceptions */
+        try {
+            /* While we have more data to process */
+            int myProcessed = 0;
+            while (pInput.hasRemaining()) {
+                /* Determine how many bytes to process */
+                final int myInputLen = Math.min(pInput.remaining(), SEGSIZE);
+
+                /* Access the input block */
+                final byte[] mySource;
+                final int myOffset;
+                if (myInStage == null) {
+                    mySource = pInput.array();
+                    myOffset = pInput.arrayOffset() + pInput.position();
+                    pInput.position(pInput.position() + myInputLen);
+                } else {
+                    pInput.get(myInStage, 0, myInputLen);
+                    mySource = myInStage;
+                    myOffset = 0;
+                }
+
+                /* update the next block directly to a heap buffer */
+                final int myDataLen;
+                if (pOutput.hasArray()) {
+                    myDataLen = processBlock(mySource, myOffset, myInputLen,
+                            pOutput.array(), pOutput.arrayOffset() + pOutput.position());
+                    pOutput.position(pOutput.position() + myDataLen);
+
+                    /* else stage the output for a direct buffer */
+                } else {
+                    final int myOutLen = getOutputLength(myInputLen);
+                    if (myOutStage == null || myOutStage.length < myOutLen) {
+                        if (myOutStage != null) {
+                            Arrays.fill(myOutStage, (byte) 0);
+                        }
+                        myOutStage = new byte[myOutLen];
+                    }
+                    myDataLen = processBlock(mySource, myOffset, myInputLen, myOutStage, 0);
+                    pOutput.put(myOutStage, 0, myDataLen);
+                }
+
+                /* Update counters */
+                myProcessed += myDataLen;
+            }
+
+            /* Return the number of bytes that were output */
+            return myProcessed;
+
+        } finally {
+            /* Clear the work buffers */
+            clearBuffers();
+            if (myInStage != null) {
+                Arrays.fill(myInStage, (byte) 0);
+            }
+            if (myOutStage != null) {
+                Arrays.fill(myOutStage, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Determine whether an update should be pipelined across threads.
+     * <p>
+     * Pipelining is only worthwhile for large updates when there are spare cores, and is not used when the input
+     * and output buffers are the same, since the output of the final cipher could then overwrite input that has
+     * not yet been read by the first cipher.
+     *
+     * @param pBytes  the input buffer
+     * @param pLength length of data to update with
+     * @param pOutput the output buffer
+     * @return true/false
+     */
+    private boolean isPipelined(final byte[] pBytes,
+                                final int pLength,
+                                final byte[] pOutput) {
+        return pLength >= PIPELINE_THRESHOLD
+                && pBytes != pOutput
+                && theCiphers.length > 1
+                && Runtime.getRuntime().availableProcessors() > 1;
+    }
+
+    /**
+     * Clear the work buffers, releasing any that have been expanded for large blocks.
+     */
+    private void clearBuffers() {
+        for (int i = 0; i < theBuffers.length; i++) {
+            Arrays.fill(theBuffers[i], (byte) 0);
+            if (theBuffers[i].length > BUFSIZE << 1) {
+                theBuffers[i] = new byte[BUFSIZE << 1];
+            }
         }
     }
 
@@ -180,11 +314,14 @@ public final class GordianMultiCipher
         int myOffset = pOffset;
         int myDataLen = pLength;
 
-        /* Loop through the ciphers */
-        for (final GordianSymCipher myCipher : theCiphers) {
-            /* If we have no data to update, we have finished */
-            if (myDataLen == 0) {
-                break;
+        /* Loop through the ciphers while we have data to update */
+        final int myLast = theCiphers.length - 1;
+        for (int i = 0; i <= myLast && myDataLen > 0; i++) {
+            final GordianSymCipher myCipher = theCiphers[i];
+
+            /* The final cipher writes directly to the output buffer */
+            if (i == myLast) {
+                return myCipher.update(mySource, myOffset, myDataLen, pOutput, pOutOffset);
             }
 
             /* Determine length of next output */
@@ -208,14 +345,8 @@ public final class GordianMultiCipher
             myOutput = theBuffers[myBufIndex];
         }
 
-        /* If we have data */
-        if (myDataLen > 0) {
-            /* Copy data to final buffer */
-            System.arraycopy(mySource, 0, pOutput, pOutOffset, myDataLen);
-        }
-
-        /* Return the number of bytes that were output */
-        return myDataLen;
+        /* No data was output */
+        return 0;
     }
 
     @Override
@@ -233,7 +364,10 @@ public final class GordianMultiCipher
         /* Protect against exceptions */
         try {
             /* Loop through the ciphers */
-            for (final GordianSymCipher myCipher : theCiphers) {
+            final int myLast = theCiphers.length - 1;
+            for (int i = 0; i <= myLast; i++) {
+                final GordianSymCipher myCipher = theCiphers[i];
+
                 /* Determine length of next output */
                 final int myNextLen = myCipher.getOutputLength(myDataLen);
 
@@ -243,6 +377,11 @@ public final class GordianMultiCipher
                     continue;
                 }
 
+                /* The final cipher writes directly to the output buffer */
+                if (i == myLast) {
+                    return myCipher.finish(mySource, 0, myDataLen, pOutput, pOutOffset);
+                }
+
                 /* Expand buffer if required */
                 if (myNextLen > myOutput.length) {
                     myOutput = new byte[myNextLen];
@@ -258,19 +397,12 @@ public final class GordianMultiCipher
                 myOutput = theBuffers[myBufIndex];
             }
 
-            /* If we have data  */
-            if (myDataLen > 0) {
-                /* Copy data to final buffer */
-                System.arraycopy(mySource, 0, pOutput, pOutOffset, myDataLen);
-            }
-
-            /* Return the number of bytes that were output */
-            return myDataLen;
+            /* No data was output */
+            return 0;
 
         } finally {
             /* Clear the work buffers */
-            Arrays.fill(theBuffers[0], (byte) 0);
-            Arrays.fill(theBuffers[1], (byte) 0);
+            clearBuffers();
         }
     }
 
@@ -0,0 +1,419 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.keyset;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.cipher.GordianSymCipher;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
+import org.bouncycastle.util.Arrays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pipeline that processes a single update through a chain of ciphers with each cipher running on its own thread.
+ * <p>
+ * The leading ciphers run on threads of the factory thread pool, which must have been reserved by the caller.
+ * <p>
+ * The input is split into segments which are handed from cipher to cipher via bounded queues. Each cipher is
+ * only ever accessed by a single stage and sees exactly the same stream of bytes as it would when processed
+ * sequentially, so the output is identical. The final cipher runs on the calling thread and writes directly to
+ * the output buffer. A zero-length segment marks the end of the data, and any intermediate segments are cleared
+ * once they have been consumed.
+ */
+final class GordianMultiCipherPipeline {
+    /**
+     * The depth of the hand-off queues.
+     */
+    private static final int QUEUE_DEPTH = 2;
+
+    /**
+     * The end of data marker.
+     */
+    private static final byte[] END_OF_DATA = new byte[0];
+
+    /**
+     * The array of ciphers (in invocation order).
+     */
+    private final GordianSymCipher[] theCiphers;
+
+    /**
+     * The segment length.
+     */
+    private final int theSegmentLen;
+
+    /**
+     * The hand-off queues.
+     */
+    private final List<ArrayBlockingQueue<byte[]>> theQueues;
+
+    /**
+     * The first failure.
+     */
+    private final AtomicReference<Exception> theFailure;
+
+    /**
+     * The thread pool.
+     */
+    private final GordianThreadPool thePool;
+
+    /**
+     * Constructor.
+     *
+     * @param pCiphers    the ciphers
+     * @param pSegmentLen the segment length
+     * @param pPool       the thread pool (with a thread reserved for each leading cipher)
+     */
+    GordianMultiCipherPipeline(final GordianSymCipher[] pCiphers,
+                               final int pSegmentLen,
+                               final GordianThreadPool pPool) {
+        /* Store parameters */
+        theCiphers = pCiphers;
+        theSegmentLen = pSegmentLen;
+        thePool = pPool;
+        theFailure = new AtomicReference<>();
+
+        /* Create a queue between each pair of ciphers */
+        theQueues = new ArrayList<>();
+        for (int i = 1; i < theCiphers.length; i++) {
+            theQueues.add(new ArrayBlockingQueue<>(QUEUE_DEPTH));
+        }
+    }
+
+    /**
+     * Process data through the pipeline.
+     *
+     * @param pBytes     Bytes to update cipher with
+     * @param pOffset    offset within pBytes to read bytes from
+     * @param pLength    length of data to update with
+     * @param pOutput    the output buffer to receive processed data
+     * @param pOutOffset offset within pOutput to write bytes to
+     * @return the number of bytes transferred to the output buffer
+     * @throws GordianException on error
+     */
+    int process(final byte[] pBytes,
+                final int pOffset,
+                final int pLength,
+                final byte[] pOutput,
+                final int pOutOffset) throws GordianException {
+        /* Run the leading stages in the background, and the final stage on this thread */
+        final int myLast = theCiphers.length - 1;
+        final CountDownLatch myDone = new CountDownLatch(myLast);
+        thePool.execute(() -> runTask(myDone, () -> runSource(pBytes, pOffset, pLength)));
+        for (int i = 1; i < myLast; i++) {
+            final int myIndex = i;
+            thePool.execute(() -> runTask(myDone, () -> runStage(myIndex)));
+        }
+        final int myProcessed = runSink(pOutput, pOutOffset);
+
+        /* Wait for the leading stages to complete */
+        awaitStages(myDone);
+
+        /* Rethrow any failure */
+        final Exception myFailure = theFailure.get();
+        if (myFailure instanceof GordianException myException) {
+            throw myException;
+        }
+        if (myFailure instanceof RuntimeException myException) {
+            throw myException;
+        }
+
+        /* Return the number of bytes that were output */
+        return myProcessed;
+    }
+
+    /**
+     * Run a stage, signalling when it completes.
+     *
+     * @param pDone  the completion latch
+     * @param pStage the stage
+     */
+    private static void runTask(final CountDownLatch pDone,
+                                final Runnable pStage) {
+        try {
+            pStage.run();
+        } finally {
+            pDone.countDown();
+        }
+    }
+
+    /**
+     * Wait for the leading stages to complete.
+     * <p>
+     * The stages always run to the end of the data once the final stage has consumed it, so this waits as
+     * long as necessary, restoring the interrupt status afterwards.
+     *
+     * @param pDone the completion latch
+     */
+    private static void awaitStages(final CountDownLatch pDone) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                pDone.await();
+                break;
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+
+        /* Restore the interrupt status */
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Run the first cipher over the input data.
+     *
+     * @param pBytes  Bytes to update cipher with
+     * @param pOffset offset within pBytes to read bytes from
+     * @param pLength length of data to update with
+     */
+    private void runSource(final byte[] pBytes,
+                           final int pOffset,
+                           final int pLength) {
+        /* Access the cipher and output queue */
+        final GordianSymCipher myCipher = theCiphers[0];
+        final ArrayBlockingQueue<byte[]> myOutput = theQueues.get(0);
+
+        /* Protect against exceptions */
+        try {
+            /* Loop through the segments while there is no failure */
+            int myOffset = pOffset;
+            int myRemaining = pLength;
+            while (myRemaining > 0 && theFailure.get() == null) {
+                /* Process the next segment */
+                final int myLen = Math.min(myRemaining, theSegmentLen);
+                putSegment(myOutput, processSegment(myCipher, pBytes, myOffset, myLen));
+                myOffset += myLen;
+                myRemaining -= myLen;
+            }
+
+        } catch (GordianException
+                 | RuntimeException e) {
+            /* Record the failure */
+            recordFailure(e);
+
+        } finally {
+            /* Mark the end of the data */
+            endOfData(myOutput);
+        }
+    }
+
+    /**
+     * Run an intermediate cipher.
+     *
+     * @param pIndex the index of the cipher
+     */
+    private void runStage(final int pIndex) {
+        /* Access the cipher and queues */
+        final GordianSymCipher myCipher = theCiphers[pIndex];
+        final ArrayBlockingQueue<byte[]> myInput = theQueues.get(pIndex - 1);
+        final ArrayBlockingQueue<byte[]> myOutput = theQueues.get(pIndex);
+
+        /* Protect against exceptions */
+        try {
+            /* Loop through the segments, discarding them once there is a failure */
+            byte[] mySegment = takeSegment(myInput);
+            while (mySegment.length > 0) {
+                if (theFailure.get() == null) {
+                    putSegment(myOutput, processSegment(myCipher, mySegment, 0, mySegment.length));
+                }
+                Arrays.fill(mySegment, (byte) 0);
+                mySegment = takeSegment(myInput);
+            }
+
+        } catch (GordianException
+                 | RuntimeException e) {
+            /* Record the failure and release the preceding stage */
+            recordFailure(e);
+            drainQueue(myInput);
+
+        } finally {
+            /* Mark the end of the data */
+            endOfData(myOutput);
+        }
+    }
+
+    /**
+     * Run the final cipher into the output buffer.
+     *
+     * @param pOutput    the output buffer to receive processed data
+     * @param pOutOffset offset within pOutput to write bytes to
+     * @return the number of bytes transferred to the output buffer
+     */
+    private int runSink(final byte[] pOutput,
+                        final int pOutOffset) {
+        /* Access the cipher and input queue */
+        final GordianSymCipher myCipher = theCiphers[theCiphers.length - 1];
+        final ArrayBlockingQueue<byte[]> myInput = theQueues.get(theQueues.size() - 1);
+
+        /* Protect against exceptions */
+        int myProcessed = 0;
+        try {
+            /* Loop through the segments, discarding them once there is a failure */
+            byte[] mySegment = takeSegment(myInput);
+            while (mySegment.length > 0) {
+                if (theFailure.get() == null) {
+                    myProcessed += myCipher.update(mySegment, 0, mySegment.length, pOutput, pOutOffset + myProcessed);
+                }
+                Arrays.fill(mySegment, (byte) 0);
+                mySegment = takeSegment(myInput);
+            }
+
+        } catch (GordianException
+                 | RuntimeException e) {
+            /* Record the failure and release the preceding stage */
+            recordFailure(e);
+            drainQueue(myInput);
+        }
+
+        /* Return the number of bytes that were output */
+        return myProcessed;
+    }
+
+    /**
+     * Process a segment through a cipher.
+     *
+     * @param pCipher the cipher
+     * @param pBytes  Bytes to update cipher with
+     * @param pOffset offset within pBytes to read bytes from
+     * @param pLength length of data to update with
+     * @return the processed segment (may be empty)
+     * @throws GordianException on error
+     */
+    private static byte[] processSegment(final GordianSymCipher pCipher,
+                                         final byte[] pBytes,
+                                         final int pOffset,
+                                         final int pLength) throws GordianException {
+        /* Process the data */
+        final byte[] myOutput = new byte[pCipher.getOutputLength(pLength)];
+        final int myLen = pCipher.update(pBytes, pOffset, pLength, myOutput, 0);
+
+        /* Return the full buffer if possible */
+        if (myLen == myOutput.length) {
+            return myOutput;
+        }
+
+        /* Cut down the buffer */
+        final byte[] myResult = Arrays.copyOf(myOutput, myLen);
+        Arrays.fill(myOutput, (byte) 0);
+        return myResult;
+    }
+
+    /**
+     * Hand a segment to the next stage.
+     *
+     * @param pQueue   the queue
+     * @param pSegment the segment
+     * @throws GordianException on error
+     */
+    private static void putSegment(final ArrayBlockingQueue<byte[]> pQueue,
+                                   final byte[] pSegment) throws GordianException {
+        /* Ignore empty segments, which would otherwise signal the end of the data */
+        if (pSegment.length == 0) {
+            return;
+        }
+
+        /* Write the segment to the queue */
+        try {
+            pQueue.put(pSegment);
+        } catch (InterruptedException e) {
+            Arrays.fill(pSegment, (byte) 0);
+            Thread.currentThread().interrupt();
+            throw new GordianDataException("Interrupted while processing data", e);
+        }
+    }
+
+    /**
+     * Obtain the next segment from the preceding stage.
+     *
+     * @param pQueue the queue
+     * @return the segment
+     * @throws GordianException on error
+     */
+    private static byte[] takeSegment(final ArrayBlockingQueue<byte[]> pQueue) throws GordianException {
+        try {
+            return pQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GordianDataException("Interrupted while processing data", e);
+        }
+    }
+
+    /**
+     * Mark the end of the data for the next stage.
+     *
+     * @param pQueue the queue
+     */
+    private static void endOfData(final ArrayBlockingQueue<byte[]> pQueue) {
+        /* The next stage always consumes up to the end of the data, so wait as long as necessary */
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                pQueue.put(END_OF_DATA);
+                break;
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+
+        /* Restore the interrupt status */
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Discard the remaining segments from the preceding stage up to the end of the data.
+     *
+     * @param pQueue the queue
+     */
+    private static void drainQueue(final ArrayBlockingQueue<byte[]> pQueue) {
+        /* The preceding stage always marks the end of the data, so wait as long as necessary */
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                final byte[] mySegment = pQueue.take();
+                if (mySegment.length == 0) {
+                    break;
+                }
+                Arrays.fill(mySegment, (byte) 0);
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+
+        /* Restore the interrupt status */
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Record a failure, retaining only the first.
+     *
+     * @param pFailure the failure
+     */
+    private void recordFailure(final Exception pFailure) {
+        theFailure.compareAndSet(null, pFailure);
+    }
+}
@@ -19,7 +19,6 @@ package io.github.tonywasher.joceanus.gordianknot.impl.core.lock;
 import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
 import io.github.tonywasher.joceanus.gordianknot.api.base.GordianLength;
 import io.github.tonywasher.joceanus.gordianknot.api.digest.GordianDigest;
-import io.github.tonywasher.joceanus.gordianknot.api.digest.GordianDigestFactory;
 import io.github.tonywasher.joceanus.gordianknot.api.digest.spec.GordianDigestSpec;
 import io.github.tonywasher.joceanus.gordianknot.api.digest.spec.GordianDigestSpecBuilder;
 import io.github.tonywasher.joceanus.gordianknot.api.digest.spec.GordianDigestType;
@@ -31,9 +30,12 @@ import io.github.tonywasher.joceanus.gordianknot.api.mac.spec.GordianMacSpec;
 import io.github.tonywasher.joceanus.gordianknot.api.mac.spec.GordianMacSpecBuilder;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianBaseFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianDataConverter;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianEnginePool;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianIdManager;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianPersonalisation;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianPersonalisation.GordianPersonalId;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianCoreKeySet;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianCoreKeySetFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.digest.GordianCoreDigestSpecBuilder;
@@ -41,6 +43,9 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.digest.GordianCo
 import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Class for assembling/disassembling PasswordLocks.
@@ -51,6 +56,31 @@ public final class GordianPasswordLockRecipe {
      */
     private static final int HASH_MARGIN = 4;
 
+    /**
+     * The number of MAC lanes.
+     */
+    private static final int NUM_LANES = 4;
+
+    /**
+     * The prime lane.
+     */
+    private static final int LANE_PRIME = 0;
+
+    /**
+     * The secondary lane.
+     */
+    private static final int LANE_SECONDARY = 1;
+
+    /**
+     * The tertiary lane.
+     */
+    private static final int LANE_TERTIARY = 2;
+
+    /**
+     * The secret lane.
+     */
+    private static final int LANE_SECRET = 3;
+
     /**
      * The PasswordLockSpec.
      */
@@ -220,7 +250,6 @@ public final class GordianPasswordLockRecipe {
         final byte[] myLoops = GordianDataConverter.integerToByteArray(iFinal);
 
         /* Access factories */
-        final GordianDigestFactory myDigests = pFactory.getDigestFactory();
         final GordianMacFactory myMacs = pFactory.getMacFactory();
 
         /* Create the primeMac */
@@ -245,83 +274,45 @@ public final class GordianPasswordLockRecipe {
         final GordianMac mySecretMac = myMacs.createMac(myMacSpec);
         mySecretMac.initKeyBytes(pPassword);
 
-        /* Initialise hash bytes and counter */
-        final byte[] myPrimeBytes = new byte[myPrimeMac.getMacSize()];
-        final byte[] mySecondaryBytes = new byte[mySecondaryMac.getMacSize()];
-        final byte[] myTertiaryBytes = new byte[myTertiaryMac.getMacSize()];
-        final byte[] mySecretBytes = new byte[mySecretMac.getMacSize()];
-        final byte[] myPrimeHash = new byte[myPrimeMac.getMacSize()];
-        final byte[] mySecondaryHash = new byte[mySecondaryMac.getMacSize()];
-        final byte[] myTertiaryHash = new byte[myTertiaryMac.getMacSize()];
-        final byte[] mySecretHash = new byte[mySecretMac.getMacSize()];
-
         /* Access final digest */
         final GordianDigestSpec myDigestSpec = myBuilder.digest(theParams.getExternalDigest(), GordianLength.LEN_512);
-        final GordianDigest myDigest = myDigests.createDigest(myDigestSpec);
+        final GordianEnginePool myPool = pFactory.getEnginePool();
+        final GordianDigest myDigest = myPool.borrowDigest(myDigestSpec);
 
-        /* Initialise the hash input values as the salt bytes */
-        final byte[] mySaltBytes = theInitVector;
-        byte[] myPrimeInput = mySaltBytes;
-        byte[] mySecondaryInput = mySaltBytes;
-        byte[] myTertiaryInput = mySaltBytes;
-        byte[] mySecretInput = mySaltBytes;
+        /* Create the lanes, with the hash input values initialised as the salt bytes */
+        final GordianPasswordLockLane[] myLanes = new GordianPasswordLockLane[NUM_LANES];
+        myLanes[LANE_PRIME] = new GordianPasswordLockLane(myPrimeMac, theInitVector, LANE_SECONDARY, LANE_TERTIARY);
+        myLanes[LANE_SECONDARY] = new GordianPasswordLockLane(mySecondaryMac, theInitVector, LANE_PRIME, LANE_TERTIARY);
+        myLanes[LANE_TERTIARY] = new GordianPasswordLockLane(myTertiaryMac, theInitVector, LANE_PRIME, LANE_SECONDARY);
+        myLanes[LANE_SECRET] = new GordianPasswordLockLane(mySecretMac, theInitVector, LANE_SECRET, LANE_PRIME, LANE_SECONDARY, LANE_TERTIARY);
 
         /* Protect from exceptions */
         try {
-            /* Update each Hash with the personalisation */
-            myPersonal.updateMac(myPrimeMac);
-            myPersonal.updateMac(mySecondaryMac);
-            myPersonal.updateMac(myTertiaryMac);
-            myPersonal.updateMac(mySecretMac);
-
-            /* Update each Hash with the loops */
-            myPrimeMac.update(myLoops);
-            mySecondaryMac.update(myLoops);
-            myTertiaryMac.update(myLoops);
-            mySecretMac.update(myLoops);
-
-            /* Loop through the iterations */
-            for (int iPass = 0; iPass < iFinal; iPass++) {
-                /* Update the prime Mac */
-                myPrimeMac.update(mySecondaryInput);
-                myPrimeMac.update(myTertiaryInput);
-
-                /* Update the secondary Mac */
-                mySecondaryMac.update(myPrimeInput);
-                mySecondaryMac.update(myTertiaryInput);
-
-                /* Update the tertiary Mac */
-                myTertiaryMac.update(myPrimeInput);
-                myTertiaryMac.update(mySecondaryInput);
-
-                /* Update the secret Mac */
-                mySecretMac.update(mySecretInput);
-                mySecretMac.update(myPrimeInput);
-                mySecretMac.update(mySecondaryInput);
-                mySecretMac.update(myTertiaryInput);
-
-                /* Update inputs */
-                myPrimeInput = myPrimeHash;
-                mySecondaryInput = mySecondaryHash;
-                myTertiaryInput = myTertiaryHash;
-                mySecretInput = mySecretHash;
-
-                /* Recalculate hashes and combine them */
-                myPrimeMac.finish(myPrimeHash, 0);
-                GordianPersonalisation.buildHashResult(myPrimeBytes, myPrimeHash);
-                mySecondaryMac.finish(mySecondaryHash, 0);
-                GordianPersonalisation.buildHashResult(mySecondaryBytes, mySecondaryHash);
-                myTertiaryMac.finish(myTertiaryHash, 0);
-                GordianPersonalisation.buildHashResult(myTertiaryBytes, myTertiaryHash);
-                mySecretMac.finish(mySecretHash, 0);
-                GordianPersonalisation.buildHashResult(mySecretBytes, mySecretHash);
+            /* Update each Hash with the personalisation and the loops */
+            for (GordianPasswordLockLane myLane : myLanes) {
+                myLane.initialise(myPersonal, myLoops);
+            }
+
+            /* Run the iterations in parallel if there is a processor for each lane and a thread can be reserved for each background lane */
+            final GordianThreadPool myThreads = pFactory.getThreadPool();
+            final int myBackground = NUM_LANES - 1;
+            if (Runtime.getRuntime().availableProcessors() >= NUM_LANES
+                    && myThreads.tryReserve(myBackground)) {
+                try {
+                    processLanesInParallel(myThreads, myLanes, iFinal);
+                } finally {
+                    myThreads.release(myBackground);
+                }
+            } else {
+                processLanes(myLanes, iFinal);
             }
 
             /* Combine the Primary, Secondary and Tertiary bytes to form the external hash */
-            myDigest.update(myPrimeBytes);
-            myDigest.update(mySecondaryBytes);
-            myDigest.update(myTertiaryBytes);
+            myDigest.update(myLanes[LANE_PRIME].getResult());
+            myDigest.update(myLanes[LANE_SECONDARY].getResult());
+            myDigest.update(myLanes[LANE_TERTIARY].getResult());
             final byte[] myHashBytes = myDigest.finish();
+            myPool.releaseDigest(myDigest);
 
             /* If we are resolving the lock, check the hash */
             if (theHashBytes != null
@@ -333,21 +324,260 @@ public final class GordianPasswordLockRecipe {
 
             /* Create the Key Set */
             final GordianCoreKeySet myKeySet = ((GordianCoreKeySetFactory) pFactory.getKeySetFactory()).createKeySet(theLockSpec.getKeySetSpec());
-            myKeySet.buildFromSecret(mySecretBytes);
+            myKeySet.buildFromSecret(myLanes[LANE_SECRET].getResult());
 
             /* Return to caller */
             return myKeySet;
 
             /* Clear intermediate arrays */
         } finally {
-            Arrays.fill(myPrimeHash, (byte) 0);
-            Arrays.fill(myPrimeBytes, (byte) 0);
-            Arrays.fill(mySecondaryHash, (byte) 0);
-            Arrays.fill(mySecondaryBytes, (byte) 0);
-            Arrays.fill(myTertiaryHash, (byte) 0);
-            Arrays.fill(myTertiaryBytes, (byte) 0);
-            Arrays.fill(mySecretHash, (byte) 0);
-            Arrays.fill(mySecretBytes, (byte) 0);
+            for (GordianPasswordLockLane myLane : myLanes) {
+                myLane.clear();
+            }
+        }
+    }
+
+    /**
+     * Process the iterations for all lanes on the calling thread.
+     *
+     * @param pLanes      the lanes
+     * @param pIterations the number of iterations
+     * @throws GordianException on error
+     */
+    private static void processLanes(final GordianPasswordLockLane[] pLanes,
+                                     final int pIterations) throws GordianException {
+        /* Loop through the iterations */
+        for (int iPass = 0; iPass < pIterations; iPass++) {
+            /* Process each lane in turn */
+            for (GordianPasswordLockLane myLane : pLanes) {
+                myLane.processPass(pLanes, iPass);
+            }
+        }
+    }
+
+    /**
+     * Process the iterations with each lane running on its own thread.
+     * <p>Each lane only reads the hashes of the previous pass, so the lanes are independent within a pass,
+     * and a single barrier at the end of each pass is sufficient. The first lane runs on the calling thread,
+     * and the remaining lanes run on threads of the pool, which must have been reserved by the caller.
+     *
+     * @param pThreads    the thread pool
+     * @param pLanes      the lanes
+     * @param pIterations the number of iterations
+     * @throws GordianException on error
+     */
+    private static void processLanesInParallel(final GordianThreadPool pThreads,
+                                               final GordianPasswordLockLane[] pLanes,
+                                               final int pIterations) throws GordianException {
+        /* Create the barrier, failure record and completion latch */
+        final Phaser myBarrier = new Phaser(pLanes.length);
+        final AtomicReference<GordianException> myFailure = new AtomicReference<>();
+        final CountDownLatch myDone = new CountDownLatch(pLanes.length - 1);
+
+        /* Run the remaining lanes in the background, and the first lane on this thread */
+        for (int i = 1; i < pLanes.length; i++) {
+            final GordianPasswordLockLane myLane = pLanes[i];
+            pThreads.execute(() -> {
+                try {
+                    runLane(pLanes, myLane, pIterations, myBarrier, myFailure);
+                } finally {
+                    myDone.countDown();
+                }
+            });
+        }
+        runLane(pLanes, pLanes[0], pIterations, myBarrier, myFailure);
+
+        /* Wait for the background lanes, which stop at the next pass if the barrier is terminated */
+        awaitLanes(myDone);
+
+        /* Rethrow any failure */
+        final GordianException myException = myFailure.get();
+        if (myException != null) {
+            throw myException;
+        }
+    }
+
+    /**
+     * Run the iterations for a lane, waiting for the other lanes at the end of each pass.
+     *
+     * @param pLanes      the lanes
+     * @param pLane       the lane to run
+     * @param pIterations the number of iterations
+     * @param pBarrier    the barrier
+     * @param pFailure    the failure record
+     */
+    private static void runLane(final GordianPasswordLockLane[] pLanes,
+                                final GordianPasswordLockLane pLane,
+                                final int pIterations,
+                                final Phaser pBarrier,
+                                final AtomicReference<GordianException> pFailure) {
+        /* Protect against exceptions */
+        try {
+            /* Loop through the iterations, stopping if the barrier is terminated */
+            for (int iPass = 0; iPass < pIterations; iPass++) {
+                pLane.processPass(pLanes, iPass);
+                if (pBarrier.awaitAdvanceInterruptibly(pBarrier.arrive()) < 0) {
+                    return;
+                }
+            }
+
+        } catch (GordianException e) {
+            /* Record the failure and release the other lanes */
+            pFailure.compareAndSet(null, e);
+            pBarrier.forceTermination();
+
+        } catch (InterruptedException e) {
+            /* Record the interrupt and release the other lanes */
+            Thread.currentThread().interrupt();
+            pFailure.compareAndSet(null, new GordianDataException("Interrupted while processing lanes", e));
+            pBarrier.forceTermination();
+
+        } catch (RuntimeException e) {
+            /* Record the failure and release the other lanes */
+            pFailure.compareAndSet(null, new GordianDataException("Failed to process lane", e));
+            pBarrier.forceTermination();
+        }
+    }
+
+    /**
+     * Wait for the background lanes to complete.
+     * <p>The lanes always stop once the barrier has advanced past the final pass or been terminated, so this
+     * waits as long as necessary, restoring the interrupt status afterwards.
+     *
+     * @param pDone the completion latch
+     */
+    private static void awaitLanes(final CountDownLatch pDone) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                pDone.await();
+                break;
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+
+        /* Restore the interrupt status */
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A MAC lane of the password hash.
+     * <p>The hashes of each pass are written to alternate buffers, so that the hashes of the previous pass
+     * remain available to the other lanes while the current pass is being calculated.
+     */
+    private static final class GordianPasswordLockLane {
+        /**
+         * The number of hash buffers.
+         */
+        private static final int NUM_BUFFERS = 2;
+
+        /**
+         * The MAC.
+         */
+        private final GordianMac theMac;
+
+        /**
+         * The salt.
+         */
+        private final byte[] theSalt;
+
+        /**
+         * The indices of the lanes whose hashes are input to this lane.
+         */
+        private final int[] theInputs;
+
+        /**
+         * The hash buffers.
+         */
+        private final byte[][] theHashes;
+
+        /**
+         * The combined result.
+         */
+        private final byte[] theResult;
+
+        /**
+         * Constructor.
+         *
+         * @param pMac    the MAC
+         * @param pSalt   the salt
+         * @param pInputs the indices of the input lanes
+         */
+        GordianPasswordLockLane(final GordianMac pMac,
+                                final byte[] pSalt,
+                                final int... pInputs) {
+            theMac = pMac;
+            theSalt = pSalt;
+            theInputs = pInputs;
+            final int myLen = theMac.getMacSize();
+            theHashes = new byte[NUM_BUFFERS][myLen];
+            theResult = new byte[myLen];
+        }
+
+        /**
+         * Initialise the lane.
+         *
+         * @param pPersonal the personalisation
+         * @param pLoops    the loops
+         */
+        void initialise(final GordianPersonalisation pPersonal,
+                        final byte[] pLoops) {
+            pPersonal.updateMac(theMac);
+            theMac.update(pLoops);
+        }
+
+        /**
+         * Obtain the input for a pass.
+         *
+         * @param pPass the pass
+         * @return the input
+         */
+        byte[] getInput(final int pPass) {
+            return pPass == 0
+                    ? theSalt
+                    : theHashes[(pPass - 1) % NUM_BUFFERS];
+        }
+
+        /**
+         * Process a pass.
+         *
+         * @param pLanes the lanes
+         * @param pPass  the pass
+         * @throws GordianException on error
+         */
+        void processPass(final GordianPasswordLockLane[] pLanes,
+                         final int pPass) throws GordianException {
+            /* Update the MAC with the inputs */
+            for (int myInput : theInputs) {
+                theMac.update(pLanes[myInput].getInput(pPass));
+            }
+
+            /* Recalculate the hash and combine it */
+            final byte[] myHash = theHashes[pPass % NUM_BUFFERS];
+            theMac.finish(myHash, 0);
+            GordianPersonalisation.buildHashResult(theResult, myHash);
+        }
+
+        /**
+         * Obtain the combined result.
+         *
+         * @return the result
+         */
+        byte[] getResult() {
+            return theResult;
+        }
+
+        /**
+         * Clear the intermediate arrays.
+         */
+        void clear() {
+            for (byte[] myHash : theHashes) {
+                Arrays.fill(myHash, (byte) 0);
+            }
+            Arrays.fill(theResult, (byte) 0);
         }
     }
 
@@ -0,0 +1,280 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.stream;
+
+import SevenZip.Compression.LZMA.Decoder;
+import SevenZip.Compression.LZMA.Encoder;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Provides a block-parallel LZMA decompression InputStream. The compressed blocks written by
+ * {@link GordianLZMABlockOutputStream} are read from the input stream according to the recorded block
+ * boundaries, and decompressed on threads from the factory pool ahead of the reader, or on the caller when
+ * no pool thread is free. The decompressed blocks are returned to the caller in order.
+ */
+final class GordianLZMABlockInputStream
+        extends InputStream {
+    /**
+     * The error text for a closed stream.
+     */
+    private static final String ERROR_CLOSED = "Stream is closed";
+
+    /**
+     * The source stream.
+     */
+    private final InputStream theInput;
+
+    /**
+     * The uncompressed block length.
+     */
+    private final int theBlockLen;
+
+    /**
+     * The compressed block lengths.
+     */
+    private final int[] theBoundaries;
+
+    /**
+     * The thread pool.
+     */
+    private final GordianThreadPool theThreads;
+
+    /**
+     * The blocks that are being decompressed (in order).
+     */
+    private final Deque<Future<byte[]>> thePending;
+
+    /**
+     * The maximum number of pending blocks.
+     */
+    private final int theMaxPending;
+
+    /**
+     * The index of the next block to submit.
+     */
+    private int theNextBlock;
+
+    /**
+     * The single byte buffer.
+     */
+    private final byte[] theByte;
+
+    /**
+     * The current decompressed block.
+     */
+    private byte[] theBlock;
+
+    /**
+     * The position within the current block.
+     */
+    private int thePosition;
+
+    /**
+     * has this stream been closed.
+     */
+    private boolean isClosed;
+
+    /**
+     * Constructor.
+     *
+     * @param pInput      the input stream to wrap
+     * @param pBlockLen   the uncompressed block length
+     * @param pBoundaries the block boundaries
+     * @param pThreads    the thread pool
+     * @throws IOException on error
+     */
+    GordianLZMABlockInputStream(final InputStream pInput,
+                                final int pBlockLen,
+                                final byte[] pBoundaries,
+                                final GordianThreadPool pThreads) throws IOException {
+        /* Store the parameters */
+        theInput = pInput;
+        theBlockLen = pBlockLen;
+        theThreads = pThreads;
+
+        /* Parse the boundaries */
+        if (pBlockLen <= 0
+                || pBoundaries.length % GordianLZMABlockOutputStream.BOUNDARY_LEN != 0) {
+            throw new IOException("Invalid LZMA block definition");
+        }
+        final ByteBuffer myBuffer = ByteBuffer.wrap(pBoundaries);
+        theBoundaries = new int[pBoundaries.length / GordianLZMABlockOutputStream.BOUNDARY_LEN];
+        for (int i = 0; i < theBoundaries.length; i++) {
+            theBoundaries[i] = myBuffer.getInt();
+        }
+
+        /* Allow for a block per pool thread plus one being read */
+        thePending = new ArrayDeque<>();
+        theMaxPending = pThreads.getSize() + 1;
+        theByte = new byte[1];
+        theBlock = new byte[0];
+    }
+
+    @Override
+    public int read() throws IOException {
+        /* Read a single byte */
+        final int myResult = read(theByte, 0, 1);
+        return myResult == -1
+                ? -1
+                : theByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] pBytes) throws IOException {
+        return read(pBytes, 0, pBytes.length);
+    }
+
+    @Override
+    public int read(final byte[] pBuffer,
+                    final int pOffset,
+                    final int pLength) throws IOException {
+        /* If we are already closed throw IO Exception */
+        if (isClosed) {
+            throw new IOException(ERROR_CLOSED);
+        }
+
+        /* Handle zero-length read */
+        if (pLength == 0) {
+            return 0;
+        }
+
+        /* If we have finished with the current block, move to the next and handle EOF */
+        if (thePosition == theBlock.length
+                && !nextBlock()) {
+            return -1;
+        }
+
+        /* Copy as much data as is available from the current block */
+        final int myLen = Math.min(pLength, theBlock.length - thePosition);
+        System.arraycopy(theBlock, thePosition, pBuffer, pOffset, myLen);
+        thePosition += myLen;
+        return myLen;
+    }
+
+    @Override
+    public void close() throws IOException {
+        /* Null operation if we are already closed */
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        /* Abandon any outstanding blocks and close the input */
+        thePending.forEach(f -> f.cancel(true));
+        thePending.clear();
+        theInput.close();
+    }
+
+    /**
+     * Move to the next block.
+     *
+     * @return true/false is there a next block?
+     * @throws IOException on error
+     */
+    private boolean nextBlock() throws IOException {
+        /* Top up the pending blocks */
+        while (thePending.size() < theMaxPending
+                && theNextBlock < theBoundaries.length) {
+            submitBlock(theBoundaries[theNextBlock++]);
+        }
+
+        /* Handle end of data */
+        if (thePending.isEmpty()) {
+            /* Make sure that the underlying stream has been fully consumed */
+            if (theInput.read() != -1) {
+                throw new IOException("Unexpected data after final LZMA block");
+            }
+            return false;
+        }
+
+        /* Wait for the next block to be decompressed */
+        try {
+            theBlock = thePending.removeFirst().get();
+            thePosition = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            final Throwable myCause = e.getCause();
+            throw myCause instanceof IOException myIO ? myIO : new IOException(myCause);
+        }
+
+        /* Skip over any empty block */
+        return theBlock.length > 0 || nextBlock();
+    }
+
+    /**
+     * Read a compressed block and submit it for decompression.
+     *
+     * @param pLength the compressed length of the block
+     * @throws IOException on error
+     */
+    private void submitBlock(final int pLength) throws IOException {
+        /* Read the compressed block */
+        final byte[] myCompressed = theInput.readNBytes(pLength);
+        if (myCompressed.length != pLength) {
+            throw new IOException("input stream too short");
+        }
+
+        /* Submit the block */
+        thePending.addLast(theThreads.submit(() -> decompressBlock(myCompressed, theBlockLen)));
+    }
+
+    /**
+     * Decompress a block.
+     *
+     * @param pCompressed the compressed block
+     * @param pBlockLen   the uncompressed block length
+     * @return the decompressed block
+     * @throws IOException on error
+     */
+    private static byte[] decompressBlock(final byte[] pCompressed,
+                                          final int pBlockLen) throws IOException {
+        /* Check the length */
+        if (pCompressed.length < Encoder.kPropSize) {
+            throw new IOException("input stream too short");
+        }
+
+        /* Set the decoder properties */
+        final Decoder myDecoder = new Decoder();
+        final byte[] myProperties = Arrays.copyOf(pCompressed, Encoder.kPropSize);
+        if (!myDecoder.SetDecoderProperties(myProperties)) {
+            throw new IOException("Invalid LZMA properties");
+        }
+
+        /* Decode the block */
+        final ByteArrayInputStream myInput = new ByteArrayInputStream(pCompressed, Encoder.kPropSize,
+                pCompressed.length - Encoder.kPropSize);
+        final ByteArrayOutputStream myOutput = new ByteArrayOutputStream(pBlockLen);
+        if (!myDecoder.Code(myInput, myOutput, -1)
+                || myOutput.size() > pBlockLen) {
+            throw new IOException("Invalid LZMA block");
+        }
+        return myOutput.toByteArray();
+    }
+}
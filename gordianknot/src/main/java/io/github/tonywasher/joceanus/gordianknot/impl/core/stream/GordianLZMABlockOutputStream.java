@@ -0,0 +1,287 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.stream;
+
+import SevenZip.Compression.LZMA.Encoder;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Provides a block-parallel LZMA compression OutputStream. The data is split into fixed-length blocks,
+ * each of which is compressed independently on a thread from the factory pool, so that compression scales
+ * with the number of available cores. A block is compressed on the caller when no pool thread is free, and
+ * at most one block per pool thread is pending, so the number of live encoders is bounded by the pool. The
+ * compressed blocks are written to the target stream in order, and the compressed length of each block is
+ * recorded so that the blocks can be decompressed in parallel.
+ */
+final class GordianLZMABlockOutputStream
+        extends OutputStream {
+    /**
+     * The uncompressed block length.
+     */
+    static final int BLOCK_LEN = 1 << 20;
+
+    /**
+     * The number of bytes used to record each block length.
+     */
+    static final int BOUNDARY_LEN = Integer.BYTES;
+
+    /**
+     * The error text for a closed stream.
+     */
+    private static final String ERROR_CLOSED = "Stream is closed";
+
+    /**
+     * The target stream.
+     */
+    private final OutputStream theTarget;
+
+    /**
+     * The thread pool.
+     */
+    private final GordianThreadPool theThreads;
+
+    /**
+     * The blocks that are being compressed (in order).
+     */
+    private final Deque<Future<byte[]>> thePending;
+
+    /**
+     * The compressed block lengths.
+     */
+    private final List<Integer> theBoundaries;
+
+    /**
+     * The maximum number of pending blocks.
+     */
+    private final int theMaxPending;
+
+    /**
+     * The single byte buffer.
+     */
+    private final byte[] theByte;
+
+    /**
+     * The current block.
+     */
+    private byte[] theBlock;
+
+    /**
+     * The number of bytes in the current block.
+     */
+    private int theBlockLen;
+
+    /**
+     * has this stream been closed.
+     */
+    private boolean isClosed;
+
+    /**
+     * Constructor.
+     *
+     * @param pOutput  the output stream to wrap
+     * @param pThreads the thread pool
+     */
+    GordianLZMABlockOutputStream(final OutputStream pOutput,
+                                 final GordianThreadPool pThreads) {
+        /* Store the target and thread pool */
+        theTarget = pOutput;
+        theThreads = pThreads;
+
+        /* Allow for a block per pool thread plus one being written */
+        thePending = new ArrayDeque<>();
+        theBoundaries = new ArrayList<>();
+        theMaxPending = pThreads.getSize() + 1;
+        theByte = new byte[1];
+
+        /* Allocate the first block */
+        theBlock = new byte[BLOCK_LEN];
+    }
+
+    /**
+     * Obtain the next stream.
+     *
+     * @return the stream
+     */
+    OutputStream getNextStream() {
+        return theTarget;
+    }
+
+    /**
+     * Obtain the block boundaries.
+     * <p>This is the compressed length of each block in turn, encoded as a sequence of big-endian integers.
+     *
+     * @return the boundaries
+     */
+    byte[] getBoundaries() {
+        final ByteBuffer myBuffer = ByteBuffer.allocate(theBoundaries.size() * BOUNDARY_LEN);
+        for (Integer myLength : theBoundaries) {
+            myBuffer.putInt(myLength);
+        }
+        return myBuffer.array();
+    }
+
+    @Override
+    public void write(final byte[] pBytes,
+                      final int pOffset,
+                      final int pLength) throws IOException {
+        /* If we are already closed throw IO Exception */
+        if (isClosed) {
+            throw new IOException(ERROR_CLOSED);
+        }
+
+        /* Loop through the data */
+        int myOffset = pOffset;
+        int myRemaining = pLength;
+        while (myRemaining > 0) {
+            /* Copy as much data as will fit into the current block */
+            final int myLen = Math.min(myRemaining, BLOCK_LEN - theBlockLen);
+            System.arraycopy(pBytes, myOffset, theBlock, theBlockLen, myLen);
+            theBlockLen += myLen;
+            myOffset += myLen;
+            myRemaining -= myLen;
+
+            /* Submit the block once it is full */
+            if (theBlockLen == BLOCK_LEN) {
+                submitBlock();
+            }
+        }
+    }
+
+    @Override
+    public void write(final byte[] pBytes) throws IOException {
+        write(pBytes, 0, pBytes.length);
+    }
+
+    @Override
+    public void write(final int pByte) throws IOException {
+        theByte[0] = (byte) pByte;
+        write(theByte, 0, 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        /* Null operation if we are already closed */
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        /* Protect against exceptions */
+        try {
+            /* Submit any partial block */
+            if (theBlockLen > 0) {
+                submitBlock();
+            }
+
+            /* Write the remaining blocks and close the target */
+            while (!thePending.isEmpty()) {
+                writeBlock();
+            }
+            theTarget.close();
+
+        } finally {
+            /* Abandon any outstanding blocks and clear the current block */
+            thePending.forEach(f -> f.cancel(true));
+            thePending.clear();
+            Arrays.fill(theBlock, (byte) 0);
+        }
+    }
+
+    /**
+     * Submit the current block for compression.
+     *
+     * @throws IOException on error
+     */
+    private void submitBlock() throws IOException {
+        /* Wait for the earliest block if too many are pending */
+        if (thePending.size() == theMaxPending) {
+            writeBlock();
+        }
+
+        /* Submit the block and start a new one */
+        final byte[] myBlock = theBlock;
+        final int myLen = theBlockLen;
+        thePending.addLast(theThreads.submit(() -> compressBlock(myBlock, myLen)));
+        theBlock = new byte[BLOCK_LEN];
+        theBlockLen = 0;
+    }
+
+    /**
+     * Write the earliest pending block to the target.
+     *
+     * @throws IOException on error
+     */
+    private void writeBlock() throws IOException {
+        /* Wait for the block to be compressed */
+        final byte[] myCompressed;
+        try {
+            myCompressed = thePending.removeFirst().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            final Throwable myCause = e.getCause();
+            throw myCause instanceof IOException myIO ? myIO : new IOException(myCause);
+        }
+
+        /* Write the block and record its length */
+        theTarget.write(myCompressed);
+        theBoundaries.add(myCompressed.length);
+    }
+
+    /**
+     * Compress a block.
+     *
+     * @param pBlock  the block
+     * @param pLength the length of data in the block
+     * @return the compressed block
+     * @throws IOException on error
+     */
+    private static byte[] compressBlock(final byte[] pBlock,
+                                        final int pLength) throws IOException {
+        /* Protect against exceptions */
+        try {
+            /* Create the encoder with a dictionary that just covers the data */
+            final Encoder myEncoder = new Encoder();
+            myEncoder.SetDictionarySize(Math.max(pLength, 1));
+            myEncoder.SetEndMarkerMode(true);
+
+            /* Compress the block */
+            final ByteArrayOutputStream myOutput = new ByteArrayOutputStream();
+            myEncoder.WriteCoderProperties(myOutput);
+            myEncoder.Code(new ByteArrayInputStream(pBlock, 0, pLength), myOutput, -1, -1, null);
+            return myOutput.toByteArray();
+
+        } finally {
+            /* Clear the uncompressed data */
+            Arrays.fill(pBlock, 0, pLength, (byte) 0);
+        }
+    }
+}
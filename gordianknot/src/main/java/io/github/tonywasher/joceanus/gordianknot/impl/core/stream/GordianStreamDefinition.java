@@ -38,10 +38,12 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.cipher.GordianCoreCip
 import io.github.tonywasher.joceanus.gordianknot.impl.core.cipher.GordianCoreCipherParamsBuilder;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.digest.GordianCoreDigestFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianIOException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianCoreKeySet;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.mac.GordianCoreMacFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.mac.GordianCoreMacParamsBuilder;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 
@@ -198,6 +200,21 @@ public final class GordianStreamDefinition {
         theLength = null;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param pStream the LZMABlockOutputStream
+     */
+    GordianStreamDefinition(final GordianLZMABlockOutputStream pStream) {
+        /* The typeId records the block length and the value records the block boundaries */
+        theType = GordianStreamType.LZMA;
+        theTypeId = GordianLZMABlockOutputStream.BLOCK_LEN;
+        theTypeDefinition = null;
+        theInitVector = null;
+        theValue = pStream.getBoundaries();
+        theLength = null;
+    }
+
     /**
      * Obtain Encoded stream type.
      *
@@ -285,7 +302,7 @@ public final class GordianStreamDefinition {
             case MAC -> buildMacInputStream(pKeySet, pCurrent);
             case SYMMETRIC -> buildSymKeyInputStream(pKeySet, pCurrent);
             case STREAM -> buildStreamKeyInputStream(pKeySet, pCurrent);
-            default -> buildLZMAInputStream(pCurrent);
+            default -> buildLZMAInputStream(pKeySet, pCurrent);
         };
     }
 
@@ -405,12 +422,27 @@ public final class GordianStreamDefinition {
     /**
      * Build LZMA input Stream.
      *
+     * @param pKeySet  the keySet
      * @param pCurrent the current stream
      * @return the new input stream
+     * @throws GordianException on error
      */
-    private static InputStream buildLZMAInputStream(final InputStream pCurrent) {
-        /* Create the stream */
-        return new GordianLZMAInputStream(pCurrent);
+    private InputStream buildLZMAInputStream(final GordianCoreKeySet pKeySet,
+                                             final InputStream pCurrent) throws GordianException {
+        /* Handle a single LZMA stream */
+        if (theTypeId == 0) {
+            return new GordianLZMAInputStream(pCurrent);
+        }
+
+        /* Create the block stream */
+        try {
+            final byte[] myBoundaries = theValue == null
+                    ? new byte[0]
+                    : theValue;
+            return new GordianLZMABlockInputStream(pCurrent, theTypeId, myBoundaries, pKeySet.getFactory().getThreadPool());
+        } catch (IOException e) {
+            throw new GordianIOException("Failed to parse LZMA blocks", e);
+        }
     }
 
     /**
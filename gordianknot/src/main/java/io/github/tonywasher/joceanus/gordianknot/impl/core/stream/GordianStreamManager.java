@@ -95,6 +95,10 @@ public final class GordianStreamManager {
                     myStreams.addFirst(new GordianStreamDefinition(theKeySet, myMac));
                     myStream = myMac.getNextStream();
                 }
+                case GordianLZMABlockOutputStream myLZMA -> {
+                    myStreams.addFirst(new GordianStreamDefinition(myLZMA));
+                    myStream = myLZMA.getNextStream();
+                }
                 case GordianLZMAOutputStream myLZMA -> {
                     myStreams.addFirst(new GordianStreamDefinition(GordianStreamType.LZMA));
                     myStream = myLZMA.getNextStream();
@@ -145,6 +149,25 @@ public final class GordianStreamManager {
      */
     public OutputStream buildOutputStream(final OutputStream pBaseStream,
                                           final boolean pCompress) throws GordianException {
+        return buildOutputStream(pBaseStream, pCompress, false);
+    }
+
+    /**
+     * Build an output stream.
+     * <p>
+     * Block compression splits the data into independently compressed LZMA blocks that are compressed and
+     * decompressed in parallel. The compression mode is recorded in the LZMA stream definition, so the
+     * reader needs no option, but only releases that understand blocks can read such an entry.
+     *
+     * @param pBaseStream the base output stream
+     * @param pCompress   should we compress this file?
+     * @param pBlocks     should we compress in parallel blocks?
+     * @return the new output stream
+     * @throws GordianException on error
+     */
+    public OutputStream buildOutputStream(final OutputStream pBaseStream,
+                                          final boolean pCompress,
+                                          final boolean pBlocks) throws GordianException {
         /* Loop through the stream definitions */
         OutputStream myCurrent = pBaseStream;
 
@@ -209,8 +232,13 @@ public final class GordianStreamManager {
         myStreamCipher.initForEncrypt(myCipherBuilder.keyWithRandomNonce(myStreamKey));
         myCurrent = new GordianCipherOutputStream<>(myStreamCipher, myCurrent);
 
-        /* If we are compressing */
-        if (pCompress) {
+        /* If we are compressing in blocks */
+        if (pCompress && pBlocks) {
+            /* Attach a block-parallel LZMA output stream onto the output */
+            myCurrent = new GordianLZMABlockOutputStream(myCurrent, theKeySet.getFactory().getThreadPool());
+
+            /* else if we are compressing */
+        } else if (pCompress) {
             /* Attach an LZMA output stream onto the output */
             myCurrent = new GordianLZMAOutputStream(myCurrent);
         }
@@ -35,7 +35,6 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianLogicExcep
 import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.lock.GordianCorePasswordLockSpecBuilder;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -154,15 +153,11 @@ public class GordianCoreZipFactory
 
     @Override
     public GordianZipReadFile openZipFile(final File pFile) throws GordianException {
-        try {
-            return openZipFile(new FileInputStream(pFile));
-        } catch (IOException e) {
-            throw new GordianIOException("Failed to access ZipFile", e);
-        }
+        return new GordianCoreZipFileReadFile(theFactory, pFile);
     }
 
     @Override
     public GordianZipReadFile openZipFile(final InputStream pInputStream) throws GordianException {
-        return new GordianCoreZipReadFile(theFactory, pInputStream);
+        return new GordianCoreZipStreamReadFile(theFactory, pInputStream);
     }
 }
@@ -0,0 +1,549 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.zip;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianIOException;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Zip ReadFile that is read from a file by random access.
+ * <p>Only the central directory is read when the file is opened. Each entry is then located directly via the
+ * central directory and streamed from the file when required, so that memory use does not depend on the size
+ * of the zip file.
+ * <p>The central directory is parsed directly rather than via {@link java.util.zip.ZipFile}, since the header
+ * entry of files written by earlier versions holds the encoded lock as raw extra data, which ZipFile rejects as
+ * malformed.
+ */
+public class GordianCoreZipFileReadFile
+        extends GordianCoreZipReadFile {
+    /**
+     * End of central directory signature.
+     */
+    private static final int SIG_END = 0x06054b50;
+
+    /**
+     * Zip64 end of central directory locator signature.
+     */
+    private static final int SIG_END64LOC = 0x07064b50;
+
+    /**
+     * Zip64 end of central directory signature.
+     */
+    private static final int SIG_END64 = 0x06064b50;
+
+    /**
+     * Central directory entry signature.
+     */
+    private static final int SIG_CENTRAL = 0x02014b50;
+
+    /**
+     * Local header signature.
+     */
+    private static final int SIG_LOCAL = 0x04034b50;
+
+    /**
+     * End of central directory length.
+     */
+    private static final int LEN_END = 22;
+
+    /**
+     * Zip64 end of central directory locator length.
+     */
+    private static final int LEN_END64LOC = 20;
+
+    /**
+     * Zip64 end of central directory length.
+     */
+    private static final int LEN_END64 = 56;
+
+    /**
+     * Central directory entry length.
+     */
+    private static final int LEN_CENTRAL = 46;
+
+    /**
+     * Local header length.
+     */
+    private static final int LEN_LOCAL = 30;
+
+    /**
+     * Maximum comment length.
+     */
+    private static final int MAX_COMMENT = 0xFFFF;
+
+    /**
+     * Zip64 extra data tag.
+     */
+    private static final int TAG_ZIP64 = 0x0001;
+
+    /**
+     * Zip64 marker for 16-bit values.
+     */
+    private static final int ZIP64_SHORT = 0xFFFF;
+
+    /**
+     * Zip64 marker for 32-bit values.
+     */
+    private static final long ZIP64_INT = 0xFFFFFFFFL;
+
+    /**
+     * Unsigned short mask.
+     */
+    private static final int SHORT_MASK = 0xFFFF;
+
+    /**
+     * Inflater buffer size.
+     */
+    private static final int BUFFER_LEN = 8192;
+
+    /**
+     * The zip file.
+     */
+    private final File theFile;
+
+    /**
+     * The map of entry name to location.
+     */
+    private final Map<String, GordianZipEntryLocation> theLocations;
+
+    /**
+     * Constructor.
+     *
+     * @param pFactory the factory
+     * @param pFile    the file to read
+     * @throws GordianException on error
+     */
+    GordianCoreZipFileReadFile(final GordianFactory pFactory,
+                               final File pFile) throws GordianException {
+        /* Initialise underlying class */
+        super(pFactory);
+        theFile = pFile;
+        theLocations = new HashMap<>();
+
+        /* Protect against exceptions */
+        try (FileChannel myChannel = FileChannel.open(theFile.toPath(), StandardOpenOption.READ)) {
+            /* Read the central directory */
+            final ByteBuffer myDirectory = readCentralDirectory(myChannel);
+
+            /* Loop through the Zip file entries, noting the header record */
+            ZipEntry myEntry = null;
+            while (myDirectory.hasRemaining()) {
+                final ZipEntry myNext = parseEntry(myDirectory);
+                if (declareEntry(myNext) && myEntry == null) {
+                    myEntry = myNext;
+                }
+            }
+
+            /* If we have a header */
+            if (myEntry != null) {
+                try (InputStream myHdrStream = openEntry(myEntry.getName())) {
+                    declareHeader(myEntry, myHdrStream);
+                }
+            }
+
+            /* Catch exceptions */
+        } catch (IOException e) {
+            throw new GordianIOException("Exception accessing Zip file", e);
+        }
+    }
+
+    @Override
+    InputStream openEntry(final String pName) throws IOException {
+        /* Handle entry not found */
+        final GordianZipEntryLocation myLocation = theLocations.get(pName);
+        if (myLocation == null) {
+            return null;
+        }
+
+        /* Open the file for reading */
+        final FileChannel myChannel = FileChannel.open(theFile.toPath(), StandardOpenOption.READ);
+        try {
+            /* Read the local header and skip past the name and extra data */
+            final ByteBuffer myLocal = readBuffer(myChannel, myLocation.offset(), LEN_LOCAL);
+            checkSignature(myLocal, SIG_LOCAL);
+            final long myStart = myLocation.offset() + LEN_LOCAL
+                    + getShort(myLocal, 26) + getShort(myLocal, 28);
+
+            /* Create the raw stream */
+            final InputStream myStream = new GordianZipChannelInputStream(myChannel, myStart, myLocation.compressedSize());
+
+            /* Return the stream, inflating it if required */
+            return myLocation.method() == ZipEntry.DEFLATED
+                    ? new GordianZipInflaterInputStream(myStream)
+                    : myStream;
+
+        } catch (IOException e) {
+            myChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read the central directory.
+     *
+     * @param pChannel the file channel
+     * @return the central directory
+     * @throws IOException on error
+     */
+    private static ByteBuffer readCentralDirectory(final FileChannel pChannel) throws IOException {
+        /* Read the tail of the file that must contain the end of central directory record */
+        final long mySize = pChannel.size();
+        final int myTailLen = (int) Math.min(mySize, LEN_END + MAX_COMMENT);
+        final long myTailPos = mySize - myTailLen;
+        final ByteBuffer myTail = readBuffer(pChannel, myTailPos, myTailLen);
+
+        /* Search backwards for the end of central directory record */
+        int myEnd = myTailLen - LEN_END;
+        while (myEnd >= 0 && myTail.getInt(myEnd) != SIG_END) {
+            myEnd--;
+        }
+        if (myEnd < 0) {
+            throw new ZipException("End of central directory not found");
+        }
+
+        /* Access the central directory details */
+        final int myCount = getShort(myTail, myEnd + 10);
+        long myLength = getInt(myTail, myEnd + 12);
+        long myOffset = getInt(myTail, myEnd + 16);
+
+        /* Handle Zip64 */
+        if (myCount == ZIP64_SHORT || myLength == ZIP64_INT || myOffset == ZIP64_INT) {
+            /* Locate the Zip64 end of central directory record */
+            final long myLocPos = myTailPos + myEnd - LEN_END64LOC;
+            final ByteBuffer myLocator = readBuffer(pChannel, myLocPos, LEN_END64LOC);
+            checkSignature(myLocator, SIG_END64LOC);
+            final ByteBuffer myEnd64 = readBuffer(pChannel, myLocator.getLong(8), LEN_END64);
+            checkSignature(myEnd64, SIG_END64);
+            myLength = myEnd64.getLong(40);
+            myOffset = myEnd64.getLong(48);
+        }
+
+        /* Read the central directory */
+        if (myLength > Integer.MAX_VALUE) {
+            throw new ZipException("Central directory too large");
+        }
+        return readBuffer(pChannel, myOffset, (int) myLength);
+    }
+
+    /**
+     * Parse the next central directory entry and record its location.
+     *
+     * @param pDirectory the central directory
+     * @return the entry
+     * @throws IOException on error
+     */
+    private ZipEntry parseEntry(final ByteBuffer pDirectory) throws IOException {
+        /* Access the fixed fields */
+        final int myPos = pDirectory.position();
+        if (pDirectory.remaining() < LEN_CENTRAL
+                || pDirectory.getInt(myPos) != SIG_CENTRAL) {
+            throw new ZipException("Invalid central directory entry");
+        }
+        final int myMethod = getShort(pDirectory, myPos + 10);
+        long myCompressed = getInt(pDirectory, myPos + 20);
+        long mySize = getInt(pDirectory, myPos + 24);
+        final int myNameLen = getShort(pDirectory, myPos + 28);
+        final int myExtraLen = getShort(pDirectory, myPos + 30);
+        final int myCommentLen = getShort(pDirectory, myPos + 32);
+        long myOffset = getInt(pDirectory, myPos + 42);
+
+        /* Access the name and extra data */
+        final int myNamePos = myPos + LEN_CENTRAL;
+        final int myExtraPos = myNamePos + myNameLen;
+        final int myNextPos = myExtraPos + myExtraLen + myCommentLen;
+        if (myNextPos > pDirectory.limit()) {
+            throw new ZipException("Invalid central directory entry");
+        }
+        final byte[] myName = new byte[myNameLen];
+        pDirectory.get(myNamePos, myName);
+        final byte[] myExtra = myExtraLen == 0
+                ? null
+                : new byte[myExtraLen];
+        if (myExtra != null) {
+            pDirectory.get(myExtraPos, myExtra);
+        }
+        pDirectory.position(myNextPos);
+
+        /* Pick up any Zip64 values */
+        if (myExtra != null
+                && (myCompressed == ZIP64_INT || mySize == ZIP64_INT || myOffset == ZIP64_INT)) {
+            final ByteBuffer myZip64 = findZip64Extra(myExtra);
+            if (mySize == ZIP64_INT) {
+                mySize = myZip64.getLong();
+            }
+            if (myCompressed == ZIP64_INT) {
+                myCompressed = myZip64.getLong();
+            }
+            if (myOffset == ZIP64_INT) {
+                myOffset = myZip64.getLong();
+            }
+        }
+
+        /* Build the entry */
+        final ZipEntry myEntry = new ZipEntry(new String(myName, StandardCharsets.UTF_8));
+        myEntry.setMethod(myMethod);
+        myEntry.setSize(mySize);
+        myEntry.setCompressedSize(myCompressed);
+        if (myExtra != null) {
+            myEntry.setExtra(myExtra);
+        }
+
+        /* Record the location and return the entry */
+        theLocations.put(myEntry.getName(), new GordianZipEntryLocation(myMethod, myOffset, myCompressed));
+        return myEntry;
+    }
+
+    /**
+     * Locate the Zip64 extra data.
+     *
+     * @param pExtra the extra data
+     * @return the Zip64 data
+     * @throws IOException on error
+     */
+    private static ByteBuffer findZip64Extra(final byte[] pExtra) throws IOException {
+        /* Loop through the extra data records */
+        final ByteBuffer myBuffer = ByteBuffer.wrap(pExtra).order(ByteOrder.LITTLE_ENDIAN);
+        while (myBuffer.remaining() >= Integer.BYTES) {
+            final int myTag = myBuffer.getShort() & SHORT_MASK;
+            final int myLen = myBuffer.getShort() & SHORT_MASK;
+            if (myLen > myBuffer.remaining()) {
+                break;
+            }
+            if (myTag == TAG_ZIP64) {
+                return myBuffer.slice(myBuffer.position(), myLen).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            myBuffer.position(myBuffer.position() + myLen);
+        }
+        throw new ZipException("Missing Zip64 extra data");
+    }
+
+    /**
+     * Read a buffer from the file.
+     *
+     * @param pChannel the file channel
+     * @param pOffset  the offset within the file
+     * @param pLength  the length to read
+     * @return the buffer
+     * @throws IOException on error
+     */
+    private static ByteBuffer readBuffer(final FileChannel pChannel,
+                                         final long pOffset,
+                                         final int pLength) throws IOException {
+        /* Read the data */
+        final ByteBuffer myBuffer = ByteBuffer.allocate(pLength).order(ByteOrder.LITTLE_ENDIAN);
+        long myPos = pOffset;
+        while (myBuffer.hasRemaining()) {
+            final int myRead = pChannel.read(myBuffer, myPos);
+            if (myRead < 0) {
+                throw new EOFException("Unexpected end of Zip file");
+            }
+            myPos += myRead;
+        }
+
+        /* Return the buffer */
+        return myBuffer.flip();
+    }
+
+    /**
+     * Check a record signature.
+     *
+     * @param pBuffer    the buffer
+     * @param pSignature the expected signature
+     * @throws IOException on error
+     */
+    private static void checkSignature(final ByteBuffer pBuffer,
+                                       final int pSignature) throws IOException {
+        if (pBuffer.getInt(0) != pSignature) {
+            throw new ZipException("Invalid Zip record signature");
+        }
+    }
+
+    /**
+     * Obtain an unsigned short.
+     *
+     * @param pBuffer the buffer
+     * @param pOffset the offset
+     * @return the value
+     */
+    private static int getShort(final ByteBuffer pBuffer,
+                                final int pOffset) {
+        return pBuffer.getShort(pOffset) & SHORT_MASK;
+    }
+
+    /**
+     * Obtain an unsigned int.
+     *
+     * @param pBuffer the buffer
+     * @param pOffset the offset
+     * @return the value
+     */
+    private static long getInt(final ByteBuffer pBuffer,
+                               final int pOffset) {
+        return pBuffer.getInt(pOffset) & ZIP64_INT;
+    }
+
+    /**
+     * The location of an entry within the file.
+     *
+     * @param method         the compression method
+     * @param offset         the offset of the local header
+     * @param compressedSize the compressed size
+     */
+    private record GordianZipEntryLocation(int method,
+                                           long offset,
+                                           long compressedSize) {
+    }
+
+    /**
+     * Input stream that reads a region of a file channel, and closes the channel when it is closed.
+     */
+    private static final class GordianZipChannelInputStream
+            extends InputStream {
+        /**
+         * The file channel.
+         */
+        private final FileChannel theChannel;
+
+        /**
+         * The current position.
+         */
+        private long thePosition;
+
+        /**
+         * The remaining length.
+         */
+        private long theRemaining;
+
+        /**
+         * Constructor.
+         *
+         * @param pChannel the file channel
+         * @param pOffset  the offset of the region
+         * @param pLength  the length of the region
+         */
+        GordianZipChannelInputStream(final FileChannel pChannel,
+                                     final long pOffset,
+                                     final long pLength) {
+            theChannel = pChannel;
+            thePosition = pOffset;
+            theRemaining = pLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] myByte = new byte[1];
+            final int myResult = read(myByte, 0, 1);
+            return myResult == -1
+                    ? -1
+                    : myByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] pBuffer,
+                        final int pOffset,
+                        final int pLength) throws IOException {
+            /* Handle zero-length read and end of region */
+            if (pLength == 0) {
+                return 0;
+            }
+            if (theRemaining == 0) {
+                return -1;
+            }
+
+            /* Read the next part of the region */
+            final int myLen = (int) Math.min(pLength, theRemaining);
+            final int myRead = theChannel.read(ByteBuffer.wrap(pBuffer, pOffset, myLen), thePosition);
+            if (myRead < 0) {
+                throw new EOFException("Unexpected end of Zip file");
+            }
+            thePosition += myRead;
+            theRemaining -= myRead;
+            return myRead;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(theRemaining, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            theChannel.close();
+        }
+    }
+
+    /**
+     * Inflater input stream for raw deflated entries, which releases its inflater when it is closed.
+     */
+    private static final class GordianZipInflaterInputStream
+            extends InflaterInputStream {
+        /**
+         * Has the dummy trailing byte been supplied?
+         */
+        private boolean eofSeen;
+
+        /**
+         * Constructor.
+         *
+         * @param pStream the raw stream
+         */
+        GordianZipInflaterInputStream(final InputStream pStream) {
+            super(pStream, new Inflater(true), BUFFER_LEN);
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            /* A raw inflater may need a dummy byte after the end of the data */
+            if (eofSeen) {
+                throw new EOFException("Unexpected end of Zip entry");
+            }
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                buf[0] = 0;
+                len = 1;
+                eofSeen = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
+            }
+        }
+    }
+}
@@ -52,6 +52,21 @@ public class GordianCoreZipLock
         void notifyUnlock() throws GordianException;
     }
 
+    /**
+     * The Zip64 extra data tag.
+     */
+    private static final int TAG_ZIP64 = 0x0001;
+
+    /**
+     * The length of an extra data record header.
+     */
+    private static final int EXTRA_HDRLEN = 4;
+
+    /**
+     * Byte mask.
+     */
+    private static final int BYTE_MASK = 0xFF;
+
     /**
      * The lock factory.
      */
@@ -377,6 +392,57 @@ public class GordianCoreZipLock
         }
     }
 
+    /**
+     * Extract the lock bytes from the extra data of an entry.
+     * <p>The lock is held as raw lock bytes, but Zip64 records may have been placed ahead of it in the central
+     * directory, so these are skipped. Entries with no other extra data are not header entries.
+     *
+     * @param pExtra the extra data (or null)
+     * @return the lock bytes, or null if this is not the header entry
+     */
+    static byte[] extractLockBytes(final byte[] pExtra) {
+        /* Handle no extra data */
+        if (pExtra == null) {
+            return null;
+        }
+
+        /* Loop through the extra data records */
+        int myPos = 0;
+        while (myPos + EXTRA_HDRLEN <= pExtra.length) {
+            /* Access the tag and length, and stop if this is not a well-formed record */
+            final int myTag = getShort(pExtra, myPos);
+            final int myLen = getShort(pExtra, myPos + 2);
+            final int myStart = myPos + EXTRA_HDRLEN;
+            if (myStart + myLen > pExtra.length) {
+                break;
+            }
+
+            /* Stop at anything other than a Zip64 record */
+            if (myTag != TAG_ZIP64) {
+                break;
+            }
+            myPos = myStart + myLen;
+        }
+
+        /* Any remaining data is the raw lock bytes */
+        return myPos < pExtra.length
+                ? Arrays.copyOfRange(pExtra, myPos, pExtra.length)
+                : null;
+    }
+
+    /**
+     * Obtain an unsigned little-endian short.
+     *
+     * @param pBuffer the buffer
+     * @param pOffset the offset
+     * @return the value
+     */
+    private static int getShort(final byte[] pBuffer,
+                                final int pOffset) {
+        return (pBuffer[pOffset] & BYTE_MASK)
+                | ((pBuffer[pOffset + 1] & BYTE_MASK) << Byte.SIZE);
+    }
+
     @Override
     public boolean equals(final Object pThat) {
         /* Handle trivial cases */
@@ -35,19 +35,17 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 /**
  * Class used to extract from a ZipFile.
+ * <p>The concrete subclasses determine how the zip file is accessed, either held in memory or read from a file
+ * by random access.
  */
-public class GordianCoreZipReadFile
+public abstract class GordianCoreZipReadFile
         implements GordianZipReadFile, GordianUnlockNotify {
     /**
      * The extension size for the buffer.
@@ -55,19 +53,19 @@ public class GordianCoreZipReadFile
     private static final int BUFFERSIZE = 1024;
 
     /**
-     * Lock for this zip file.
+     * The factory.
      */
-    private final GordianCoreZipLock theLock;
+    private final GordianFactory theFactory;
 
     /**
-     * The contents of this zip file.
+     * Lock for this zip file.
      */
-    private GordianCoreZipFileContents theContents;
+    private GordianCoreZipLock theLock;
 
     /**
-     * The zip file contents.
+     * The contents of this zip file.
      */
-    private final byte[] theZipFile;
+    private GordianCoreZipFileContents theContents;
 
     /**
      * KeySet for this zip file.
@@ -77,68 +75,60 @@ public class GordianCoreZipReadFile
     /**
      * The header bytes.
      */
-    private final byte[] theHeader;
+    private byte[] theHeader;
 
     /**
      * Constructor.
      *
-     * @param pFactory     the factory
-     * @param pInputStream the input stream to read
-     * @throws GordianException on error
+     * @param pFactory the factory
      */
-    GordianCoreZipReadFile(final GordianFactory pFactory,
-                           final InputStream pInputStream) throws GordianException {
-        /* Protect against exceptions */
-        try (BufferedInputStream myInBuffer = new BufferedInputStream(pInputStream);
-             ByteArrayOutputStream myOutBuffer = new ByteArrayOutputStream()) {
-            /* Read the Zip file into memory */
-            myInBuffer.transferTo(myOutBuffer);
-            theZipFile = myOutBuffer.toByteArray();
+    GordianCoreZipReadFile(final GordianFactory pFactory) {
+        theFactory = pFactory;
+        theContents = new GordianCoreZipFileContents();
+    }
 
-            /* Handle exceptions */
-        } catch (IOException e) {
-            throw new GordianIOException("Exception accessing Zip file", e);
+    /**
+     * Declare the next entry of the zip file.
+     * <p>The header entry is identified by the lock held in its extra data. Zip64 extra data is ignored.
+     *
+     * @param pEntry the entry
+     * @return is this the header entry? true/false
+     */
+    boolean declareEntry(final ZipEntry pEntry) {
+        /* Reject header record */
+        if (GordianCoreZipLock.extractLockBytes(pEntry.getExtra()) != null) {
+            return true;
         }
 
-        /* Protect against exceptions */
-        try (ByteArrayInputStream myInBuffer = new ByteArrayInputStream(theZipFile);
-             ZipInputStream myHdrStream = new ZipInputStream(myInBuffer)) {
-            /* Create the file contents */
-            theContents = new GordianCoreZipFileContents();
-
-            /* Loop through the Zip file entries */
-            ZipEntry myEntry;
-            while (true) {
-                /* Read next entry */
-                myEntry = myHdrStream.getNextEntry();
-
-                /* If this is EOF or a header record break the loop */
-                if (myEntry == null
-                        || myEntry.getExtra() != null) {
-                    break;
-                }
-
-                /* Add to list of contents */
-                theContents.addZipFileEntry(myEntry);
-            }
-
-            /* If we have a header */
-            if (myEntry != null) {
-                /* Pick up security lock */
-                theLock = new GordianCoreZipLock(pFactory, this, myEntry.getExtra());
-                theHeader = readHeader(myHdrStream);
-            } else {
-                /* Record no security */
-                theLock = null;
-                theHeader = null;
-            }
+        /* Add to list of contents */
+        theContents.addZipFileEntry(pEntry);
+        return false;
+    }
 
-            /* Catch exceptions */
-        } catch (IOException e) {
-            throw new GordianIOException("Exception accessing Zip file", e);
-        }
+    /**
+     * Declare the header entry of the zip file.
+     *
+     * @param pEntry     the header entry
+     * @param pHdrStream the header stream
+     * @throws GordianException on error
+     * @throws IOException      on error
+     */
+    void declareHeader(final ZipEntry pEntry,
+                       final InputStream pHdrStream) throws GordianException, IOException {
+        /* Pick up security lock */
+        theLock = new GordianCoreZipLock(theFactory, this, GordianCoreZipLock.extractLockBytes(pEntry.getExtra()));
+        theHeader = readHeader(pHdrStream);
     }
 
+    /**
+     * Open the raw input stream for a named entry of the zip file.
+     *
+     * @param pName the name of the entry
+     * @return the input stream, or null if the entry is not found
+     * @throws IOException on error
+     */
+    abstract InputStream openEntry(String pName) throws IOException;
+
     @Override
     public boolean isEncrypted() {
         return theLock != null;
@@ -244,32 +234,17 @@ public class GordianCoreZipReadFile
         }
 
         /* Declare control variables */
-        ZipInputStream myZipFile = null;
+        InputStream myZipFile = null;
         InputStream myResult = null;
 
         /* Protect against exceptions */
         final GordianCoreZipFileEntry myFile = (GordianCoreZipFileEntry) pFile;
         try {
-            /* Open the zip file for reading */
-            final ByteArrayInputStream myInBuffer = new ByteArrayInputStream(theZipFile);
-            myZipFile = new ZipInputStream(myInBuffer);
-
-            /* Access the name of the file entry */
-            final String myName = myFile.getZipName();
-            ZipEntry myEntry;
-
-            /* Loop through the Zip file entries */
-            do {
-                /* Read the entry */
-                myEntry = myZipFile.getNextEntry();
-
-                /* Break if we reached EOF or found the correct entry */
-            } while (myEntry != null
-                    && myEntry.getName().compareTo(myName) != 0);
+            /* Open the entry for reading */
+            myZipFile = openEntry(myFile.getZipName());
 
             /* Handle entry not found */
-            if (myEntry == null) {
-                myZipFile.close();
+            if (myZipFile == null) {
                 throw new GordianDataException("File not found - "
                         + pFile.getFileName());
             }
@@ -0,0 +1,117 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.core.zip;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianIOException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Zip ReadFile that is read from an input stream and held in memory.
+ * <p>Each entry is located by scanning the zip file from the start.
+ */
+public class GordianCoreZipStreamReadFile
+        extends GordianCoreZipReadFile {
+    /**
+     * The zip file contents.
+     */
+    private final byte[] theZipFile;
+
+    /**
+     * Constructor.
+     *
+     * @param pFactory     the factory
+     * @param pInputStream the input stream to read
+     * @throws GordianException on error
+     */
+    GordianCoreZipStreamReadFile(final GordianFactory pFactory,
+                                 final InputStream pInputStream) throws GordianException {
+        /* Initialise underlying class */
+        super(pFactory);
+
+        /* Protect against exceptions */
+        try (BufferedInputStream myInBuffer = new BufferedInputStream(pInputStream);
+             ByteArrayOutputStream myOutBuffer = new ByteArrayOutputStream()) {
+            /* Read the Zip file into memory */
+            myInBuffer.transferTo(myOutBuffer);
+            theZipFile = myOutBuffer.toByteArray();
+
+            /* Handle exceptions */
+        } catch (IOException e) {
+            throw new GordianIOException("Exception accessing Zip file", e);
+        }
+
+        /* Protect against exceptions */
+        try (ByteArrayInputStream myInBuffer = new ByteArrayInputStream(theZipFile);
+             ZipInputStream myHdrStream = new ZipInputStream(myInBuffer)) {
+            /* Loop through the Zip file entries */
+            ZipEntry myEntry;
+            while (true) {
+                /* Read next entry */
+                myEntry = myHdrStream.getNextEntry();
+
+                /* If this is EOF or a header record break the loop */
+                if (myEntry == null
+                        || declareEntry(myEntry)) {
+                    break;
+                }
+            }
+
+            /* If we have a header */
+            if (myEntry != null) {
+                declareHeader(myEntry, myHdrStream);
+            }
+
+            /* Catch exceptions */
+        } catch (IOException e) {
+            throw new GordianIOException("Exception accessing Zip file", e);
+        }
+    }
+
+    @Override
+    InputStream openEntry(final String pName) throws IOException {
+        /* Open the zip file for reading */
+        final ZipInputStream myZipFile = new ZipInputStream(new ByteArrayInputStream(theZipFile));
+
+        /* Loop through the Zip file entries */
+        ZipEntry myEntry;
+        do {
+            /* Read the entry */
+            myEntry = myZipFile.getNextEntry();
+
+            /* Break if we reached EOF or found the correct entry */
+        } while (myEntry != null
+                && myEntry.getName().compareTo(pName) != 0);
+
+        /* Handle entry not found */
+        if (myEntry == null) {
+            myZipFile.close();
+            return null;
+        }
+
+        /* Return the positioned stream */
+        return myZipFile;
+    }
+}
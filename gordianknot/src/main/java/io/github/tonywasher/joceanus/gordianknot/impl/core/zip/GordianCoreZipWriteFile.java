@@ -218,6 +218,13 @@ public class GordianCoreZipWriteFile
     @Override
     public OutputStream createOutputStream(final File pFile,
                                            final boolean pCompress) throws GordianException {
+        return createOutputStream(pFile, pCompress, false);
+    }
+
+    @Override
+    public OutputStream createOutputStream(final File pFile,
+                                           final boolean pCompress,
+                                           final boolean pBlocks) throws GordianException {
         /* Reject call if we have closed the stream */
         if (theStream == null) {
             throw new GordianLogicException("ZipFile is closed");
@@ -250,7 +257,7 @@ public class GordianCoreZipWriteFile
             /* If we are encrypting */
             if (isEncrypted()) {
                 /* Create an the output stream */
-                theOutput = theStreamFactory.buildOutputStream(theOutput, pCompress);
+                theOutput = theStreamFactory.buildOutputStream(theOutput, pCompress, pBlocks);
             }
 
             /* Catch exceptions */
@@ -16,13 +16,14 @@
  */
 package io.github.tonywasher.joceanus.gordianknot.impl.ext.digests;
 
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.params.GordianBlake2Parameters;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.params.GordianBlake2Parameters.GordianBlake2ParametersBuilder;
 import org.bouncycastle.crypto.DataLengthException;
-import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.OutputLengthException;
 import org.bouncycastle.util.Arrays;
 
+import java.nio.ByteBuffer;
 import java.util.Enumeration;
 import java.util.NoSuchElementException;
 
@@ -52,12 +53,22 @@ import java.util.NoSuchElementException;
  * </ul>
  */
 public class GordianBlake2Tree
-        implements Digest {
+        implements GordianParallelDigest {
     /**
      * Default leaf length.
      */
     private static final int DEFAULT_LEAFLEN = 4096;
 
+    /**
+     * Minimum length of data hashed by a single parallel task.
+     */
+    private static final int TASKLEN = 1 << 16;
+
+    /**
+     * Minimum length of an update that is hashed in parallel.
+     */
+    private static final int PARALLELLEN = TASKLEN << 2;
+
     /**
      * The underlying Blake2 instance.
      */
@@ -83,6 +94,11 @@ public class GordianBlake2Tree
      */
     private int theProcessed;
 
+    /**
+     * The thread pool on which large updates are hashed.
+     */
+    private GordianThreadPool theThreads;
+
     /**
      * Constructor.
      *
@@ -105,6 +121,11 @@ public class GordianBlake2Tree
         return theDigest.getAlgorithmName() + "Tree";
     }
 
+    @Override
+    public void setThreadPool(final GordianThreadPool pThreads) {
+        theThreads = pThreads;
+    }
+
     @Override
     public int getDigestSize() {
         return theDigest.getDigestSize();
@@ -120,7 +141,24 @@ public class GordianBlake2Tree
     public void update(final byte[] pIn,
                        final int pInOff,
                        final int pLen) {
-        processData(pIn, pInOff, pLen);
+        /* Hash large updates in parallel */
+        if (theThreads != null && pLen >= PARALLELLEN) {
+            processParallel(ByteBuffer.wrap(pIn, pInOff, pLen));
+        } else {
+            processData(pIn, pInOff, pLen);
+        }
+    }
+
+    @Override
+    public void update(final ByteBuffer pBuffer) {
+        /* Hash large updates in parallel */
+        final int myLen = pBuffer.remaining();
+        if (theThreads != null && myLen >= PARALLELLEN) {
+            processParallel(pBuffer);
+        } else {
+            processBuffer(pBuffer, pBuffer.position(), myLen);
+        }
+        pBuffer.position(pBuffer.limit());
     }
 
     @Override
@@ -217,6 +255,118 @@ public class GordianBlake2Tree
         }
     }
 
+    /**
+     * Process part of a buffer serially.
+     *
+     * @param pBuffer the buffer
+     * @param pPos    the absolute position within the buffer
+     * @param pLen    the length of data to process
+     */
+    private void processBuffer(final ByteBuffer pBuffer,
+                               final int pPos,
+                               final int pLen) {
+        /* Process a heap buffer directly */
+        if (pBuffer.hasArray()) {
+            processData(pBuffer.array(), pBuffer.arrayOffset() + pPos, pLen);
+
+            /* else copy the data out of the buffer */
+        } else {
+            final byte[] myData = new byte[pLen];
+            pBuffer.get(pPos, myData);
+            processData(myData, 0, pLen);
+        }
+    }
+
+    /**
+     * Process the remaining bytes of a buffer, hashing complete leaves in parallel.
+     * <p>The last leaf is always left open, since it may need to be marked as the last node.
+     *
+     * @param pBuffer the buffer
+     */
+    private void processParallel(final ByteBuffer pBuffer) {
+        /* Cannot process further data once tree is built */
+        if (theStore.treeBuilt()) {
+            throw new IllegalStateException("Tree has been built");
+        }
+
+        /* Complete the current leaf serially */
+        final int blkSize = getLeafLen();
+        int myPos = pBuffer.position();
+        int myRemaining = pBuffer.remaining();
+        if (theProcessed > 0) {
+            final int mySpace = Math.min(blkSize - theProcessed, myRemaining);
+            processBuffer(pBuffer, myPos, mySpace);
+            myPos += mySpace;
+            myRemaining -= mySpace;
+        }
+
+        /* Determine the number of complete leaves that are followed by further data */
+        final int myLeaves = (myRemaining - 1) / blkSize;
+        if (myLeaves > 0) {
+            /* Finalise the current leaf if it is full */
+            if (theProcessed == blkSize) {
+                theDigest.doFinal(theHash, 0);
+                theStore.addElement(theHash);
+                theDigest.setNodePosition(theDigest.getNodeOffset() + 1, 0);
+                theProcessed = 0;
+            }
+
+            /* Hash the leaves in parallel, with each task handling a run of leaves */
+            final int myPerTask = Math.max(1, TASKLEN / blkSize);
+            final int myTasks = (myLeaves + myPerTask - 1) / myPerTask;
+            final byte[][] myHashes = new byte[myLeaves][];
+            final int myBase = myPos;
+            final int myOffset = theDigest.getNodeOffset();
+            theThreads.invokeAll(myTasks, i -> {
+                final int myFirst = i * myPerTask;
+                final int myCount = Math.min(myPerTask, myLeaves - myFirst);
+                hashLeaves(pBuffer, myBase + myFirst * blkSize, myOffset + myFirst, myCount, myHashes, myFirst);
+            });
+
+            /* Add the hashes to the tree in order and position at the next leaf */
+            for (byte[] myHash : myHashes) {
+                theStore.addElement(myHash);
+            }
+            theDigest.setNodePosition(myOffset + myLeaves, 0);
+            myPos += myLeaves * blkSize;
+            myRemaining -= myLeaves * blkSize;
+        }
+
+        /* Process the remaining data serially */
+        processBuffer(pBuffer, myPos, myRemaining);
+    }
+
+    /**
+     * Hash a run of complete leaves on a copy of the digest.
+     *
+     * @param pBuffer the buffer
+     * @param pPos    the absolute position of the first leaf within the buffer
+     * @param pNode   the node offset of the first leaf
+     * @param pCount  the number of leaves
+     * @param pHashes the array to receive the hashes
+     * @param pIndex  the index of the first hash within the array
+     */
+    private void hashLeaves(final ByteBuffer pBuffer,
+                            final int pPos,
+                            final int pNode,
+                            final int pCount,
+                            final byte[][] pHashes,
+                            final int pIndex) {
+        /* Create a worker digest and leaf buffer */
+        final GordianBlake2Base myDigest = (GordianBlake2Base) theDigest.copy();
+        final int blkSize = getLeafLen();
+        final byte[] myLeaf = new byte[blkSize];
+
+        /* Loop through the leaves */
+        for (int i = 0; i < pCount; i++) {
+            pBuffer.get(pPos + i * blkSize, myLeaf);
+            myDigest.setNodePosition(pNode + i, 0);
+            myDigest.update(myLeaf, 0, blkSize);
+            pHashes[pIndex + i] = new byte[myDigest.getDigestSize()];
+            myDigest.doFinal(pHashes[pIndex + i], 0);
+        }
+    }
+
     /**
      * Initialise.
      *
@@ -16,21 +16,26 @@
  */
 package io.github.tonywasher.joceanus.gordianknot.impl.ext.digests;
 
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.params.GordianBlake3Parameters;
 import org.bouncycastle.crypto.ExtendedDigest;
 import org.bouncycastle.crypto.Xof;
 import org.bouncycastle.util.Memoable;
 import org.bouncycastle.util.Pack;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
 
 /**
  * Blake3 implementation. Donated to BouncyCastle.
+ * <p>Large updates are hashed in parallel. Complete subtrees of chunks are hashed independently on the factory
+ * thread pool and their chaining values are merged into the stack in order, giving the same result as serial
+ * hashing.
  */
 public class GordianBlake3Digest
-        implements ExtendedDigest, Memoable, Xof {
+        implements ExtendedDigest, Memoable, Xof, GordianParallelDigest {
     /**
      * Already outputting error.
      */
@@ -56,6 +61,21 @@ public class GordianBlake3Digest
      */
     private static final int CHUNKLEN = 1024;
 
+    /**
+     * Number of chunks in a subtree that is hashed in parallel.
+     */
+    private static final int SUBTREECHUNKS = 64;
+
+    /**
+     * Length of a subtree that is hashed in parallel.
+     */
+    private static final int SUBTREELEN = CHUNKLEN * SUBTREECHUNKS;
+
+    /**
+     * Minimum length of an update that is hashed in parallel.
+     */
+    private static final int PARALLELLEN = SUBTREELEN << 2;
+
     /**
      * ChunkStart Flag.
      */
@@ -268,6 +288,11 @@ public class GordianBlake3Digest
      */
     private int thePos;
 
+    /**
+     * The thread pool on which large updates are hashed.
+     */
+    private GordianThreadPool theThreads;
+
     /**
      * Constructor.
      */
@@ -293,6 +318,7 @@ public class GordianBlake3Digest
     private GordianBlake3Digest(final GordianBlake3Digest pSource) {
         /* Copy default digest length */
         theDigestLen = pSource.theDigestLen;
+        theThreads = pSource.theThreads;
 
         /* Initialise from source */
         reset(pSource);
@@ -303,6 +329,11 @@ public class GordianBlake3Digest
         return BLOCKLEN;
     }
 
+    @Override
+    public void setThreadPool(final GordianThreadPool pThreads) {
+        theThreads = pThreads;
+    }
+
     @Override
     public String getAlgorithmName() {
         return "BLAKE3";
@@ -389,6 +420,46 @@ public class GordianBlake3Digest
             throw new IllegalStateException(ERR_OUTPUTTING);
         }
 
+        /* Hash large updates in parallel */
+        if (theThreads != null && pLen >= PARALLELLEN) {
+            updateParallel(ByteBuffer.wrap(pMessage, pOffset, pLen));
+        } else {
+            processMessage(pMessage, pOffset, pLen);
+        }
+    }
+
+    @Override
+    public void update(final ByteBuffer pBuffer) {
+        /* Check that we are not outputting */
+        if (outputting) {
+            throw new IllegalStateException(ERR_OUTPUTTING);
+        }
+
+        /* Hash large updates in parallel */
+        final int myLen = pBuffer.remaining();
+        if (theThreads != null && myLen >= PARALLELLEN) {
+            updateParallel(pBuffer);
+        } else {
+            processBuffer(pBuffer, pBuffer.position(), myLen);
+        }
+        pBuffer.position(pBuffer.limit());
+    }
+
+    /**
+     * Process message serially.
+     *
+     * @param pMessage the message buffer
+     * @param pOffset  the offset within the message buffer
+     * @param pLen     the length of data to process
+     */
+    private void processMessage(final byte[] pMessage,
+                                final int pOffset,
+                                final int pLen) {
+        /* Ignore null operation */
+        if (pLen == 0) {
+            return;
+        }
+
         /* Process any bytes currently in the buffer */
         int remainingLen = 0; // left bytes of buffer
         if (thePos != 0) {
@@ -558,16 +629,150 @@ public class GordianBlake3Digest
 
         /* Adjust stack if we have completed a block */
         if (theCurrBytes == 0) {
-            adjustStack();
+            adjustStack(theCounter);
         }
     }
 
+    /**
+     * Process part of a buffer serially.
+     *
+     * @param pBuffer the buffer
+     * @param pPos    the absolute position within the buffer
+     * @param pLen    the length of data to process
+     */
+    private void processBuffer(final ByteBuffer pBuffer,
+                               final int pPos,
+                               final int pLen) {
+        /* Process a heap buffer directly */
+        if (pBuffer.hasArray()) {
+            processMessage(pBuffer.array(), pBuffer.arrayOffset() + pPos, pLen);
+
+            /* else copy the data out of the buffer */
+        } else {
+            final byte[] myData = new byte[pLen];
+            pBuffer.get(pPos, myData);
+            processMessage(myData, 0, pLen);
+        }
+    }
+
+    /**
+     * Process the remaining bytes of a buffer in parallel.
+     *
+     * @param pBuffer the buffer
+     */
+    private void updateParallel(final ByteBuffer pBuffer) {
+        /* Complete the current chunk serially */
+        int myPos = pBuffer.position();
+        int myRemaining = pBuffer.remaining();
+        final int myLead = (CHUNKLEN - (theCurrBytes + thePos) % CHUNKLEN) % CHUNKLEN;
+        processBuffer(pBuffer, myPos, myLead);
+        myPos += myLead;
+        myRemaining -= myLead;
+
+        /* Flush the last block of the chunk, which is held back by the serial update */
+        if (thePos == BLOCKLEN) {
+            compressBlock(theBuffer, 0);
+            thePos = 0;
+            Arrays.fill(theBuffer, (byte) 0);
+        }
+
+        /* Determine the number of chunks to hash, leaving at least one byte for the final block */
+        int myChunks = (myRemaining - 1) / CHUNKLEN;
+        final byte[] myChunk = new byte[CHUNKLEN];
+
+        /* Hash chunks serially until we are aligned to a subtree */
+        while (myChunks > 0 && theCounter % SUBTREECHUNKS != 0) {
+            pBuffer.get(myPos, myChunk);
+            compressChunk(myChunk);
+            myPos += CHUNKLEN;
+            myRemaining -= CHUNKLEN;
+            myChunks--;
+        }
+
+        /* Hash the complete subtrees in parallel */
+        final int mySubtrees = myChunks / SUBTREECHUNKS;
+        final int[][] myChaining = new int[mySubtrees][];
+        final int myBase = myPos;
+        final long myCounter = theCounter;
+        theThreads.invokeAll(mySubtrees, i -> myChaining[i]
+                = copy().hashSubtree(pBuffer, myBase + i * SUBTREELEN, myCounter + (long) i * SUBTREECHUNKS));
+
+        /* Merge the subtrees into the stack in order */
+        for (int[] mySubtree : myChaining) {
+            System.arraycopy(mySubtree, 0, theChaining, 0, NUMWORDS);
+            theCounter += SUBTREECHUNKS;
+            adjustStack(theCounter / SUBTREECHUNKS);
+        }
+        myPos += mySubtrees * SUBTREELEN;
+        myRemaining -= mySubtrees * SUBTREELEN;
+        myChunks -= mySubtrees * SUBTREECHUNKS;
+
+        /* Hash the trailing chunks serially */
+        while (myChunks > 0) {
+            pBuffer.get(myPos, myChunk);
+            compressChunk(myChunk);
+            myPos += CHUNKLEN;
+            myRemaining -= CHUNKLEN;
+            myChunks--;
+        }
+
+        /* Process the remaining data serially */
+        processBuffer(pBuffer, myPos, myRemaining);
+    }
+
+    /**
+     * Compress a complete chunk that is not the final chunk.
+     *
+     * @param pChunk the chunk
+     */
+    private void compressChunk(final byte[] pChunk) {
+        for (int i = 0; i < CHUNKLEN; i += BLOCKLEN) {
+            compressBlock(pChunk, i);
+        }
+    }
+
+    /**
+     * Hash a subtree of chunks on a copy of the digest.
+     *
+     * @param pBuffer  the buffer
+     * @param pPos     the absolute position of the subtree within the buffer
+     * @param pCounter the chunk counter of the first chunk in the subtree
+     * @return the chaining value of the subtree
+     */
+    private int[] hashSubtree(final ByteBuffer pBuffer,
+                              final int pPos,
+                              final long pCounter) {
+        /* Access the data */
+        final byte[] mySubtree = new byte[SUBTREELEN];
+        pBuffer.get(pPos, mySubtree);
+
+        /* Position at the start of the subtree with an empty stack */
+        theStack.clear();
+        theCounter = pCounter;
+        theCurrBytes = 0;
+
+        /* Hash the blocks, merging each completed chunk within the subtree */
+        for (int i = 0; i < SUBTREELEN; i += BLOCKLEN) {
+            initChunkBlock(BLOCKLEN, false);
+            initM(mySubtree, i);
+            compress();
+            if (theCurrBytes == 0) {
+                adjustStack(theCounter - pCounter);
+            }
+        }
+
+        /* Return the single remaining chaining value */
+        return theStack.pop();
+    }
+
     /**
      * Adjust the stack.
+     *
+     * @param pCount the number of completed chunks at the current level
      */
-    private void adjustStack() {
+    private void adjustStack(final long pCount) {
         /* Loop to combine blocks */
-        long myCount = theCounter;
+        long myCount = pCount;
         while (myCount > 0) {
             /* Break loop if we are not combining */
             if ((myCount & 1) == 1) {
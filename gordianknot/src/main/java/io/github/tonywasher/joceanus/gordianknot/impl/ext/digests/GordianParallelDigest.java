@@ -0,0 +1,47 @@
+/*
+ * GordianKnot: Security Suite
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.gordianknot.impl.ext.digests;
+
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
+import org.bouncycastle.crypto.Digest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Tree digest that is able to hash large inputs in parallel.
+ * <p>Large updates are split into independent leaves/chunks which are hashed on the factory thread pool,
+ * with the resulting chaining values being merged into the tree in order, so that the result is identical
+ * to that produced by serial hashing. A digest that has not been given a thread pool hashes serially.
+ */
+public interface GordianParallelDigest
+        extends Digest {
+    /**
+     * Set the thread pool on which large updates are hashed.
+     *
+     * @param pThreads the thread pool (or null to hash serially)
+     */
+    void setThreadPool(GordianThreadPool pThreads);
+
+    /**
+     * Update the digest with the remaining bytes of a buffer.
+     * <p>Heap, direct and memory-mapped buffers are all supported. On return the position of the buffer will
+     * have been advanced to its limit.
+     *
+     * @param pBuffer the buffer
+     */
+    void update(ByteBuffer pBuffer);
+}
@@ -39,6 +39,8 @@ import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.SecretKey;
 import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.spec.AlgorithmParameterSpec;
@@ -156,6 +158,43 @@ public class JcaAEADCipher<T extends GordianKeySpec>
         }
     }
 
+    @Override
+    public int update(final ByteBuffer pInput,
+                      final ByteBuffer pOutput) throws GordianException {
+        /* Protect against exceptions */
+        try {
+            /* Check for destroyed key */
+            getKey().checkForDestroyedKey();
+
+            /* Process the buffers natively */
+            return theCipher.update(pInput, pOutput);
+
+            /* Handle exceptions */
+        } catch (ShortBufferException e) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    @Override
+    public int finish(final ByteBuffer pInput,
+                      final ByteBuffer pOutput) throws GordianException {
+        /* Protect against exceptions */
+        try {
+            /* Check for destroyed key */
+            getKey().checkForDestroyedKey();
+
+            /* Finish the operation natively */
+            return theCipher.doFinal(pInput, pOutput);
+
+            /* Handle exceptions */
+        } catch (ShortBufferException e) {
+            throw new BufferOverflowException();
+        } catch (IllegalBlockSizeException
+                 | BadPaddingException e) {
+            throw new GordianCryptoException("Failed to finish operation", e);
+        }
+    }
+
     @Override
     public int doFinish(final byte[] pOutput,
                         final int pOutOffset) throws GordianException {
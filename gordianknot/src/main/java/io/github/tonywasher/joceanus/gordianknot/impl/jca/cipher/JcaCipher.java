@@ -43,6 +43,8 @@ import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.RC2ParameterSpec;
 import javax.crypto.spec.RC5ParameterSpec;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.spec.AlgorithmParameterSpec;
@@ -171,6 +173,43 @@ public abstract class JcaCipher<T extends GordianKeySpec>
         }
     }
 
+    @Override
+    public int update(final ByteBuffer pInput,
+                      final ByteBuffer pOutput) throws GordianException {
+        /* Protect against exceptions */
+        try {
+            /* Check for destroyed key */
+            getKey().checkForDestroyedKey();
+
+            /* Process the buffers natively */
+            return theCipher.update(pInput, pOutput);
+
+            /* Handle exceptions */
+        } catch (ShortBufferException e) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    @Override
+    public int finish(final ByteBuffer pInput,
+                      final ByteBuffer pOutput) throws GordianException {
+        /* Protect against exceptions */
+        try {
+            /* Check for destroyed key */
+            getKey().checkForDestroyedKey();
+
+            /* Finish the operation natively */
+            return theCipher.doFinal(pInput, pOutput);
+
+            /* Handle exceptions */
+        } catch (ShortBufferException e) {
+            throw new BufferOverflowException();
+        } catch (IllegalBlockSizeException
+                 | BadPaddingException e) {
+            throw new GordianCryptoException("Failed to finish operation", e);
+        }
+    }
+
     @Override
     public int doFinish(final byte[] pOutput,
                         final int pOutOffset) throws GordianException {
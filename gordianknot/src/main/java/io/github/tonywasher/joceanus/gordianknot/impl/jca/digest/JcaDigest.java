@@ -26,6 +26,7 @@ import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataExcept
 import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.digest.GordianCoreDigestSpec;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.spec.digest.GordianCoreDigestSubSpec.GordianCoreDigestState;
 
+import java.nio.ByteBuffer;
 import java.security.DigestException;
 import java.security.MessageDigest;
 
@@ -63,6 +64,11 @@ public final class JcaDigest
         theDigest.update(pBytes, pOffset, pLength);
     }
 
+    @Override
+    public void update(final ByteBuffer pBuffer) {
+        theDigest.update(pBuffer);
+    }
+
     @Override
     public void update(final byte pByte) {
         theDigest.update(pByte);
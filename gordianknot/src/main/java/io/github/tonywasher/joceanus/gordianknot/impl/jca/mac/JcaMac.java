@@ -29,6 +29,7 @@ import org.bouncycastle.jcajce.spec.SkeinParameterSpec.Builder;
 import javax.crypto.Mac;
 import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.spec.AlgorithmParameterSpec;
@@ -119,6 +120,11 @@ public final class JcaMac
         theMac.update(pBytes, pOffset, pLength);
     }
 
+    @Override
+    public void update(final ByteBuffer pBuffer) {
+        theMac.update(pBuffer);
+    }
+
     @Override
     public void update(final byte pByte) {
         theMac.update(pByte);
@@ -18,6 +18,7 @@
 package io.github.tonywasher.joceanus.gordianknot.junit.extensions;
 
 import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianBlake3Digest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.params.GordianBlake3Parameters;
 import org.bouncycastle.util.encoders.Hex;
@@ -27,6 +28,13 @@ import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -49,6 +57,21 @@ class Blake3Test {
      */
     private static final int PARTBREAK = 100;
 
+    /**
+     * The parallel data length.
+     */
+    private static final int PARALLELLEN = (3 << 20) + 517;
+
+    /**
+     * The serial update length.
+     */
+    private static final int SERIALLEN = 1000;
+
+    /**
+     * The chunk-aligned lead length.
+     */
+    private static final int CHUNKLEAD = 3 << 10;
+
     /**
      * The Blake3 Test key.
      */
@@ -279,7 +302,10 @@ class Blake3Test {
         myStream = Stream.concat(myStream, buildTests(TEST16384));
         myStream = Stream.concat(myStream, buildTests(TEST31744));
         myStream = Stream.concat(myStream, buildTests(TEST102400));
-        return myStream;
+        return Stream.concat(myStream, Stream.of(DynamicContainer.dynamicContainer("parallel", Stream.of(
+                DynamicTest.dynamicTest("hash", () -> testParallel(null)),
+                DynamicTest.dynamicTest("keyed", () -> testParallel(GordianBlake3Parameters.key(BLAKE3KEY)))
+        ))));
     }
 
     /**
@@ -397,6 +423,83 @@ class Blake3Test {
         Assertions.assertArrayEquals(pTest.theDerived, myOutput, "derivedDigest mismatch");
     }
 
+    /**
+     * Run parallel test.
+     *
+     * @param pParams the parameters (or null)
+     * @throws IOException on error
+     */
+    private void testParallel(final GordianBlake3Parameters pParams) throws IOException {
+        /* Create digest and data */
+        final GordianBlake3Digest myDigest = new GordianBlake3Digest();
+        myDigest.setThreadPool(new GordianThreadPool());
+        final byte[] myData = new byte[PARALLELLEN];
+        for (int i = 0; i < PARALLELLEN; i++) {
+            myData[i] = (byte) (i % BLAKE3MOD);
+        }
+
+        /* Calculate the serial hash via updates that are too small to be hashed in parallel */
+        myDigest.init(pParams);
+        for (int i = 0; i < PARALLELLEN; i += SERIALLEN) {
+            myDigest.update(myData, i, Math.min(SERIALLEN, PARALLELLEN - i));
+        }
+        final byte[] myExpected = new byte[myDigest.getDigestSize()];
+        myDigest.doFinal(myExpected, 0);
+
+        /* Check a single parallel update */
+        myDigest.init(pParams);
+        myDigest.update(myData, 0, PARALLELLEN);
+        checkParallelResult(myDigest, myExpected, "single");
+
+        /* Check a parallel update that starts part way through a chunk */
+        myDigest.init(pParams);
+        myDigest.update(myData, 0, SERIALLEN);
+        myDigest.update(myData, SERIALLEN, PARALLELLEN - SERIALLEN);
+        checkParallelResult(myDigest, myExpected, "partChunk");
+
+        /* Check a parallel update that starts at a chunk boundary */
+        myDigest.init(pParams);
+        myDigest.update(myData, 0, CHUNKLEAD);
+        myDigest.update(myData, CHUNKLEAD, PARALLELLEN - CHUNKLEAD);
+        checkParallelResult(myDigest, myExpected, "chunkBoundary");
+
+        /* Check a direct buffer */
+        myDigest.init(pParams);
+        final ByteBuffer myBuffer = ByteBuffer.allocateDirect(PARALLELLEN);
+        myBuffer.put(myData).flip();
+        myDigest.update(myBuffer);
+        Assertions.assertFalse(myBuffer.hasRemaining(), "directBuffer not consumed");
+        checkParallelResult(myDigest, myExpected, "directBuffer");
+
+        /* Check a memory-mapped file */
+        final Path myFile = Files.createTempFile("blake3", ".bin");
+        try {
+            Files.write(myFile, myData);
+            myDigest.init(pParams);
+            try (FileChannel myChannel = FileChannel.open(myFile, StandardOpenOption.READ)) {
+                myDigest.update(myChannel.map(MapMode.READ_ONLY, 0, myChannel.size()));
+            }
+            checkParallelResult(myDigest, myExpected, "mappedFile");
+        } finally {
+            Files.delete(myFile);
+        }
+    }
+
+    /**
+     * check parallel result.
+     *
+     * @param pDigest   the digest
+     * @param pExpected the expected result
+     * @param pTest     the test name
+     */
+    private static void checkParallelResult(final GordianBlake3Digest pDigest,
+                                            final byte[] pExpected,
+                                            final String pTest) {
+        final byte[] myResult = new byte[pDigest.getDigestSize()];
+        pDigest.doFinal(myResult, 0);
+        Assertions.assertArrayEquals(pExpected, myResult, pTest + " parallelDigest mismatch");
+    }
+
     /**
      * check multi-output.
      *
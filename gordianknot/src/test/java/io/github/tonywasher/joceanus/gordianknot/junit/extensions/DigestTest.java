@@ -17,6 +17,7 @@
 package io.github.tonywasher.joceanus.gordianknot.junit.extensions;
 
 import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianBlake2Base;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianBlake2Tree;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianBlake2Xof;
@@ -26,6 +27,7 @@ import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianCubeHas
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianGroestlDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianJHDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianKangarooDigest.GordianKangarooTwelve;
+import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianParallelDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianSkeinBase;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianSkeinDigest;
 import io.github.tonywasher.joceanus.gordianknot.impl.ext.digests.GordianSkeinTree;
@@ -47,7 +49,9 @@ import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -72,6 +76,21 @@ class DigestTest {
      */
     private static final byte[] BLAKE2DATA = new byte[256];
 
+    /**
+     * The parallel data length.
+     */
+    private static final int PARALLELLEN = (1 << 20) + 517;
+
+    /**
+     * The thread pool for the parallel trees.
+     */
+    private static final GordianThreadPool THREADS = new GordianThreadPool();
+
+    /**
+     * The serial update length.
+     */
+    private static final int SERIALLEN = 1000;
+
     static {
         for (int i = 0; i < BLAKE2DATA.length; i++) {
             BLAKE2DATA[i] = (byte) i;
@@ -533,6 +552,79 @@ class DigestTest {
         Assertions.assertArrayEquals(myResult, myLeafResult, "Result mismatch");
     }
 
+    /**
+     * Run the parallel tree tests.
+     *
+     * @param pCreator the tree creator
+     */
+    static void testParallelTree(final Supplier<GordianParallelDigest> pCreator) {
+        /* Build the data */
+        final byte[] myData = new byte[PARALLELLEN];
+        for (int i = 0; i < PARALLELLEN; i++) {
+            myData[i] = BLAKE2DATA[i % BLAKE2DATA.length];
+        }
+
+        /* Calculate the serial result via updates that are too small to be hashed in parallel */
+        GordianParallelDigest myTree = pCreator.get();
+        for (int i = 0; i < PARALLELLEN; i += SERIALLEN) {
+            myTree.update(myData, i, Math.min(SERIALLEN, PARALLELLEN - i));
+        }
+        final byte[] myExpected = new byte[myTree.getDigestSize()];
+        myTree.doFinal(myExpected, 0);
+
+        /* Check a single parallel update */
+        final byte[] myResult = new byte[myTree.getDigestSize()];
+        myTree = pCreator.get();
+        myTree.update(myData, 0, PARALLELLEN);
+        myTree.doFinal(myResult, 0);
+        Assertions.assertArrayEquals(myExpected, myResult, "Single parallel mismatch");
+
+        /* Check a parallel update that starts part way through a leaf */
+        myTree = pCreator.get();
+        myTree.update(myData, 0, SERIALLEN);
+        myTree.update(myData, SERIALLEN, PARALLELLEN - SERIALLEN);
+        myTree.doFinal(myResult, 0);
+        Assertions.assertArrayEquals(myExpected, myResult, "PartLeaf parallel mismatch");
+
+        /* Check a direct buffer */
+        final ByteBuffer myBuffer = ByteBuffer.allocateDirect(PARALLELLEN);
+        myBuffer.put(myData).flip();
+        myTree = pCreator.get();
+        myTree.update(myBuffer);
+        myTree.doFinal(myResult, 0);
+        Assertions.assertArrayEquals(myExpected, myResult, "DirectBuffer parallel mismatch");
+    }
+
+    /**
+     * Create a Blake2Tree.
+     *
+     * @return the tree
+     */
+    static GordianParallelDigest createBlake2Tree() {
+        final GordianBlake2Tree myTree = new GordianBlake2Tree(new GordianBlake2bDigest(512));
+        final GordianBlake2ParametersBuilder myBuilder = new GordianBlake2ParametersBuilder();
+        myBuilder.setKey(Arrays.copyOf(BLAKE2DATA, 32));
+        myBuilder.setTreeConfig(0, 2, 4096);
+        myTree.init(myBuilder.build());
+        myTree.setThreadPool(THREADS);
+        return myTree;
+    }
+
+    /**
+     * Create a SkeinTree.
+     *
+     * @return the tree
+     */
+    static GordianParallelDigest createSkeinTree() {
+        final GordianSkeinTree myTree = new GordianSkeinTree(new GordianSkeinBase(512, 512));
+        final GordianSkeinParametersBuilder myBuilder = new GordianSkeinParametersBuilder();
+        myBuilder.setKey(Arrays.copyOf(BLAKE2DATA, 32));
+        myBuilder.setTreeConfig(2, 4, 6);
+        myTree.init(myBuilder.build());
+        myTree.setThreadPool(THREADS);
+        return myTree;
+    }
+
     /**
      * Groestl224.
      */
@@ -1219,6 +1311,9 @@ class DigestTest {
             testBlake2Tree(53, 2, 255);
             testBlake2Tree(53, 4, 255);
             testBlake2Tree(53, 0, 255);
+
+            /* Run parallel tests */
+            testParallelTree(DigestTest::createBlake2Tree);
         }
     }
 
@@ -1295,6 +1390,9 @@ class DigestTest {
             testSkeinTree(53, 2, 255);
             testSkeinTree(53, 4, 255);
             testSkeinTree(53, 10, 255);
+
+            /* Run parallel tests */
+            testParallelTree(DigestTest::createSkeinTree);
         }
     }
 }
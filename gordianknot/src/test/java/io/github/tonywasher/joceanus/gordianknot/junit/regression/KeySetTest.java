@@ -46,21 +46,32 @@ import io.github.tonywasher.joceanus.gordianknot.api.mac.GordianMac;
 import io.github.tonywasher.joceanus.gordianknot.api.mac.spec.GordianMacSpec;
 import io.github.tonywasher.joceanus.gordianknot.api.random.GordianRandomFactory;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianDataConverter;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianEnginePool;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianEnginePool.GordianEnginePoolStatistics;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.base.GordianThreadPool;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianDataException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.exc.GordianLogicException;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianCoreKeySet;
 import io.github.tonywasher.joceanus.gordianknot.impl.core.keyset.GordianKeySetData;
 import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
 import io.github.tonywasher.joceanus.gordianknot.util.GordianUtilities;
+import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 /**
@@ -72,6 +83,36 @@ class KeySetTest {
      */
     private static final char[] DEF_PASSWORD = "SimplePassword".toCharArray();
 
+    /**
+     * Known answer lockBytes, created by a BC factory with no security phrase.
+     */
+    private static final String KNOWN_LOCK = "308202d3300b30060201030201040201010464c4edb5592457fa60f16eadc6a2ad45e2a9b790f8dd80e8d72f4dfef9e0"
+            + "fc1e5f203ef44fa65a477ba51c74ccc63041dd85abd9f9f7aa97fc32bb391a890ffa866b9027935da038e13e3d4a04c7"
+            + "f0cb6002f068a9a11d39e31fd5f76a05baac82881080c80482025c9b6a4d864e4d2232dd27126f6736528ca892adbe78"
+            + "9f41343f777a68db6dc089bad96053b1ce5a0ee475a7717e3ebfa898328b26d1e5556edb3b7bf34116cf966ad2e9a16f"
+            + "38a87057215d9bca01ebda14ede696937f39de4ee8bec12451426ca648285194c5dafd3f210465c841886ffe8586b34b"
+            + "0e2b9ebebc06238da6536cd2f385948d9b2507b834d1379d0c3e63acbeded8f81344cbac5eb35e801e1c7a22628a4ecf"
+            + "bf61345c4f2bc3d10dc0f39c68e510586ae2036dc59ab12ebeb343a3b8fc7a3042851f67f2a56bcbcdf67d96d755762a"
+            + "75b473376dac51468c2193bd8efd9a6d10364810c2819ec93c7ca165c9f01c7c3bc7217b7b5d0a9d20daf601e8f4c433"
+            + "ed48128ebd65bd4a9f2711349c241f98999883e4df16030e8bd51bdb7be30d879400704af175b1dc707eb37e873f697f"
+            + "06d571ca7442e66c3b02c8c60978a5510de2bc52c5ea2878bd2c2d136596c72c8ab808ca56578d6b38137c8d2ccc2664"
+            + "f7e2eb667f52f9d593aec70859da2ee5ecf4d3670cb22159a823bc85c2d00cf5611b0d74c5644cd66badc25ec60afc37"
+            + "c1fc5a2d01a04966f8a82f6be27f8ae7b392143389cdfd4c35b422d9d282feba4782ff50a97fa14b5f60127d673e19a9"
+            + "a3533f28e08b121461ebd0b42fdd0515b0a768156ad913ff45081bb903051a95fb53fb2a3fa5eb9cea5f07aaed0654da"
+            + "7c9ccb29b1c3c50d970e7656ab712a92114f470bda491e38e68717b414ae688a62cfe793b1e867940f1a076d0f9a7414"
+            + "cf44f24a276f33c057035f33df870725f8fbe2e9d58757140d18daf60a3bac71aabdf712de64e5263dcc3395f41822ce"
+            + "ad5bfa2910baa2";
+
+    /**
+     * Known answer plainText.
+     */
+    private static final String KNOWN_PLAIN = "KnownAnswer";
+
+    /**
+     * Known answer cipherText, encrypted by the keySet of the known answer lock.
+     */
+    private static final String KNOWN_CIPHER = "d57a40208cb866105d0d12cd71449671ac5e4b81073525e6b7f6b9deeab77411db2ad0ec";
+
     /**
      * TestString1.
      */
@@ -92,6 +133,26 @@ class KeySetTest {
      */
     private static final String TEST_AAD = "SomeAAD";
 
+    /**
+     * Buffer data length.
+     */
+    private static final int BUFFER_LEN = 1000;
+
+    /**
+     * Buffer partial length (smaller than the keySet header).
+     */
+    private static final int BUFFER_PART = 13;
+
+    /**
+     * Large data length (sufficient for pipelined processing).
+     */
+    private static final int LARGE_LEN = (1 << 20) + 17;
+
+    /**
+     * Number of concurrent threads for engine pool test.
+     */
+    private static final int POOL_THREADS = 4;
+
     /**
      * Run full profiles.
      */
@@ -344,7 +405,8 @@ class KeySetTest {
     Stream<DynamicNode> keySetTests() throws GordianException {
         /* Create tests */
         Stream<DynamicNode> myStream = keySetTests(GordianFactoryType.BC);
-        return Stream.concat(myStream, keySetTests(GordianFactoryType.JCA));
+        myStream = Stream.concat(myStream, keySetTests(GordianFactoryType.JCA));
+        return Stream.concat(myStream, Stream.of(DynamicTest.dynamicTest("lockKnownAnswer", this::checkLockKnownAnswer)));
     }
 
     /**
@@ -389,11 +451,15 @@ class KeySetTest {
         return Stream.of(DynamicContainer.dynamicContainer(myKeySet.toString(), Stream.of(
                 DynamicTest.dynamicTest("encrypt", () -> checkEncrypt(myKeySet)),
                 DynamicTest.dynamicTest("encryptAAD", () -> checkEncryptAAD(myKeySet)),
+                DynamicTest.dynamicTest("buffers", () -> checkBuffers(myKeySet)),
+                DynamicTest.dynamicTest("decryptHeader", () -> checkDecryptHeader(myKeySet)),
+                DynamicTest.dynamicTest("largeData", () -> checkLargeData(myKeySet)),
                 DynamicTest.dynamicTest("wrap", () -> checkWrap(myKeySet)),
                 DynamicTest.dynamicTest("destroyKeySet", () -> checkDestroyedKeySet(myKeySet)),
                 DynamicTest.dynamicTest("destroyCipher", () -> checkDestroyedCipher(myKeySet)),
                 DynamicTest.dynamicTest("factory", () -> checkFactory(myKeySet)),
-                DynamicTest.dynamicTest("profile", () -> profileEncrypt(myKeySet))
+                DynamicTest.dynamicTest("profile", () -> profileEncrypt(myKeySet)),
+                DynamicTest.dynamicTest("enginePool", () -> checkEnginePool(myKeySet))
         )));
     }
 
@@ -506,6 +572,175 @@ class KeySetTest {
         Assertions.assertEquals(pTest, myAnswer, "Failed AAD cache-cache decrypt " + pTest);
     }
 
+    /**
+     * Check encrypt/decrypt via heap and direct buffers.
+     *
+     * @param pKeySet the keySet
+     * @throws GordianException on error
+     */
+    private void checkBuffers(final FactoryKeySet pKeySet) throws GordianException {
+        /* Access the keySet and cipher */
+        final GordianKeySet myKeySet = pKeySet.getKeySet();
+        final GordianKeySetCipher myCipher = pKeySet.getKeySetCipher();
+
+        /* Create the test data */
+        final byte[] myData = new byte[BUFFER_LEN];
+        new SecureRandom().nextBytes(myData);
+
+        /* Loop through the buffer types */
+        for (boolean myDirect : new boolean[]{false, true}) {
+            /* Encrypt via buffers and decrypt as bytes */
+            final ByteBuffer myInput = createBuffer(myData, myDirect);
+            final ByteBuffer myOutput = allocateBuffer(GordianKeySetData.getEncryptionLength(BUFFER_LEN), !myDirect);
+            myCipher.initForEncrypt();
+            myCipher.finish(myInput, myOutput);
+            Assertions.assertFalse(myOutput.hasRemaining(), "Incorrect encrypted length");
+            final byte[] myEncrypted = readBuffer(myOutput.flip());
+            Assertions.assertArrayEquals(myData, myKeySet.decryptBytes(myEncrypted), "Failed buffer-bytes decrypt");
+
+            /* Decrypt bytes via buffers in partial blocks, splitting the header */
+            final ByteBuffer myCipherText = createBuffer(myKeySet.encryptBytes(myData), myDirect);
+            final ByteBuffer myPlainText = allocateBuffer(myCipherText.remaining(), myDirect);
+            myCipher.initForDecrypt();
+            while (myCipherText.hasRemaining()) {
+                final int myLen = Math.min(BUFFER_PART, myCipherText.remaining());
+                final ByteBuffer myPart = myCipherText.slice(myCipherText.position(), myLen);
+                myCipher.update(myPart, myPlainText);
+                myCipherText.position(myCipherText.position() + myLen);
+            }
+            myCipher.finish(myPlainText);
+            Assertions.assertArrayEquals(myData, readBuffer(myPlainText.flip()), "Failed bytes-buffer decrypt");
+        }
+    }
+
+    /**
+     * Check decryption of data at a non-zero offset, split across the keySet header.
+     *
+     * @param pKeySet the keySet
+     * @throws GordianException on error
+     */
+    private void checkDecryptHeader(final FactoryKeySet pKeySet) throws GordianException {
+        /* Access the keySet and cipher */
+        final GordianKeySet myKeySet = pKeySet.getKeySet();
+        final GordianKeySetCipher myCipher = pKeySet.getKeySetCipher();
+
+        /* Create the test data and place the encrypted data at a non-zero offset */
+        final byte[] myData = new byte[BUFFER_LEN];
+        new SecureRandom().nextBytes(myData);
+        final byte[] myEncrypted = myKeySet.encryptBytes(myData);
+        final byte[] myInput = new byte[myEncrypted.length + BUFFER_PART];
+        System.arraycopy(myEncrypted, 0, myInput, BUFFER_PART, myEncrypted.length);
+
+        /* Decrypt in partial blocks into outputs of exactly the advertised length */
+        final ByteArrayOutputStream myOutput = new ByteArrayOutputStream();
+        myCipher.initForDecrypt();
+        for (int myPos = BUFFER_PART; myPos < myInput.length; myPos += BUFFER_PART) {
+            final int myLen = Math.min(BUFFER_PART, myInput.length - myPos);
+            final byte[] myPart = new byte[myCipher.getOutputLength(myLen)];
+            final int myWritten = myCipher.update(myInput, myPos, myLen, myPart, 0);
+            myOutput.write(myPart, 0, myWritten);
+        }
+        final byte[] myLast = new byte[myCipher.getOutputLength(0)];
+        final int myWritten = myCipher.finish(myLast, 0);
+        myOutput.write(myLast, 0, myWritten);
+        Assertions.assertArrayEquals(myData, myOutput.toByteArray(), "Failed offset decrypt");
+    }
+
+    /**
+     * Check that large data processed in a single update matches data processed in partial blocks.
+     *
+     * @param pKeySet the keySet
+     * @throws GordianException on error
+     */
+    private void checkLargeData(final FactoryKeySet pKeySet) throws GordianException {
+        /* Access the keySet and cipher */
+        final GordianKeySet myKeySet = pKeySet.getKeySet();
+        final GordianKeySetCipher myCipher = pKeySet.getKeySetCipher();
+
+        /* Create the test data */
+        final byte[] myData = new byte[LARGE_LEN];
+        new SecureRandom().nextBytes(myData);
+
+        /* Encrypt in a single update and decrypt in partial blocks */
+        final byte[] myEncrypted = myKeySet.encryptBytes(myData);
+        myCipher.initForDecrypt();
+        Assertions.assertArrayEquals(myData, processPartial(myCipher, myEncrypted), "Failed single-partial decrypt");
+
+        /* Encrypt in partial blocks and decrypt in a single update */
+        myCipher.initForEncrypt();
+        final byte[] myPartial = processPartial(myCipher, myData);
+        Assertions.assertArrayEquals(myData, myKeySet.decryptBytes(myPartial), "Failed partial-single decrypt");
+
+        /* Decrypt in a single update serially when no pooled threads are free */
+        final GordianThreadPool myPool = ((GordianCoreKeySet) myKeySet).getFactory().getThreadPool();
+        Assertions.assertTrue(myPool.tryReserve(myPool.getSize()), "Failed to reserve pooled threads");
+        try {
+            Assertions.assertArrayEquals(myData, myKeySet.decryptBytes(myPartial), "Failed serial decrypt");
+        } finally {
+            myPool.release(myPool.getSize());
+        }
+    }
+
+    /**
+     * Process data through an initialised cipher in partial blocks.
+     *
+     * @param pCipher the cipher
+     * @param pData   the data
+     * @return the processed data
+     * @throws GordianException on error
+     */
+    private static byte[] processPartial(final GordianKeySetCipher pCipher,
+                                         final byte[] pData) throws GordianException {
+        final ByteArrayOutputStream myOutput = new ByteArrayOutputStream();
+        for (int myPos = 0; myPos < pData.length; myPos += SymmetricTest.PARTIALLEN) {
+            final int myLen = Math.min(SymmetricTest.PARTIALLEN, pData.length - myPos);
+            myOutput.writeBytes(pCipher.update(pData, myPos, myLen));
+        }
+        myOutput.writeBytes(pCipher.finish());
+        return myOutput.toByteArray();
+    }
+
+    /**
+     * Create a buffer containing the data at a non-zero offset.
+     *
+     * @param pData   the data
+     * @param pDirect create a direct buffer?
+     * @return the buffer
+     */
+    private static ByteBuffer createBuffer(final byte[] pData,
+                                           final boolean pDirect) {
+        final ByteBuffer myBuffer = allocateBuffer(pData.length, pDirect);
+        myBuffer.put(pData);
+        return myBuffer.flip();
+    }
+
+    /**
+     * Allocate a buffer at a non-zero offset.
+     *
+     * @param pLength the length of the buffer
+     * @param pDirect create a direct buffer?
+     * @return the buffer
+     */
+    private static ByteBuffer allocateBuffer(final int pLength,
+                                             final boolean pDirect) {
+        final ByteBuffer myBuffer = pDirect
+                ? ByteBuffer.allocateDirect(pLength + 1)
+                : ByteBuffer.allocate(pLength + 1);
+        return myBuffer.position(1).slice();
+    }
+
+    /**
+     * Read the remaining contents of a buffer.
+     *
+     * @param pBuffer the buffer
+     * @return the contents
+     */
+    private static byte[] readBuffer(final ByteBuffer pBuffer) {
+        final byte[] myBytes = new byte[pBuffer.remaining()];
+        pBuffer.get(myBytes);
+        return myBytes;
+    }
+
     /**
      * encrypt data via oneOff call.
      *
@@ -876,6 +1111,49 @@ class KeySetTest {
         }
     }
 
+    /**
+     * Check that concurrent encryption reuses pooled engines.
+     *
+     * @param pKeySet the keySet
+     * @throws Exception on error
+     */
+    private void checkEnginePool(final FactoryKeySet pKeySet) throws Exception {
+        /* Access the keySet and pool */
+        final GordianKeySet myKeySet = pKeySet.getKeySet();
+        final GordianEnginePool myPool = ((GordianCoreKeySet) myKeySet).getFactory().getEnginePool();
+        final GordianEnginePoolStatistics myStart = myPool.getStatistics();
+
+        /* Create the test data */
+        final byte[] myData = new byte[1000];
+        new SecureRandom().nextBytes(myData);
+
+        /* Encrypt and decrypt concurrently */
+        final List<Future<?>> myFutures = new ArrayList<>();
+        try (ExecutorService myExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < POOL_THREADS; i++) {
+                myFutures.add(myExecutor.submit(() -> {
+                    for (int j = 0; j < PROFILE_REPEAT; j++) {
+                        final byte[] myEncrypt = myKeySet.encryptBytes(myData);
+                        Assertions.assertArrayEquals(myData, myKeySet.decryptBytes(myEncrypt), "Failed to decrypt data");
+                        final byte[] myAADEncrypt = myKeySet.encryptAADBytes(myData, myEncrypt);
+                        Assertions.assertArrayEquals(myData, myKeySet.decryptAADBytes(myAADEncrypt, myEncrypt), "Failed to decrypt AAD data");
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> myFuture : myFutures) {
+            myFuture.get();
+        }
+
+        /* Check that engines were reused */
+        final GordianEnginePoolStatistics myEnd = myPool.getStatistics();
+        final long myRequests = myEnd.requests() - myStart.requests();
+        final long myHits = myEnd.hits() - myStart.hits();
+        Assertions.assertEquals((long) POOL_THREADS * PROFILE_REPEAT * 4, myRequests, "Unexpected number of requests");
+        Assertions.assertTrue(myHits > 0, "Pooled engines were not reused");
+    }
+
     /**
      * create a random factory and lock/resolve it.
      *
@@ -890,6 +1168,26 @@ class KeySetTest {
         Assertions.assertEquals(GordianUtilities.getFactoryLockLen(), mySecured.getLockBytes().length, "Incorrect factoryLockLength");
     }
 
+    /**
+     * Check that a known answer lock resolves to the expected keySet.
+     * <p>The lock was created on the serial lane path, so this checks that whichever lane path is selected for this
+     * machine derives the same hash and keySet.
+     *
+     * @throws GordianException on error
+     */
+    private void checkLockKnownAnswer() throws GordianException {
+        /* Resolve the lock with a factory that has no security phrase */
+        final GordianFactory myFactory = GordianGenerator.createFactory(GordianFactoryType.BC);
+        final GordianLockFactory myLocks = myFactory.getLockFactory();
+        final byte[] myLockBytes = Hex.decode(KNOWN_LOCK);
+        final GordianKeySetLock myResolved = myLocks.resolveKeySetLock(myLockBytes, DEF_PASSWORD.clone());
+        Assertions.assertArrayEquals(myLockBytes, myResolved.getLockBytes(), "Known answer lockBytes mismatch");
+
+        /* Check that the keySet decrypts the known answer */
+        final byte[] myPlain = myResolved.getKeySet().decryptBytes(Hex.decode(KNOWN_CIPHER));
+        Assertions.assertEquals(KNOWN_PLAIN, new String(myPlain, StandardCharsets.UTF_8), "Known answer keySet mismatch");
+    }
+
     /**
      * Check destroyedEncrypt
      *
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -164,6 +165,22 @@ public class SymmetricDigestScripts {
 
         /* Check that the results are identical */
         Assertions.assertArrayEquals(mySingle, myMulti, "Multi-Block and Single-Block results differ");
+
+        /* Create the digest via a heap buffer */
+        myDigest.update(ByteBuffer.wrap(myBytes));
+        final ByteBuffer myHeap = ByteBuffer.allocate(myDigest.getDigestSize());
+        myDigest.finish(myHeap);
+        Assertions.assertArrayEquals(mySingle, myHeap.array(), "Heap buffer and Single-Block results differ");
+
+        /* Create the digest via a direct buffer */
+        final ByteBuffer myInput = ByteBuffer.allocateDirect(SymmetricTest.DATALEN);
+        myInput.put(myBytes).flip();
+        myDigest.update(myInput);
+        final ByteBuffer myDirect = ByteBuffer.allocateDirect(myDigest.getDigestSize());
+        myDigest.finish(myDirect);
+        final byte[] myResult = new byte[myDigest.getDigestSize()];
+        myDirect.flip().get(myResult);
+        Assertions.assertArrayEquals(mySingle, myResult, "Direct buffer and Single-Block results differ");
     }
 
     /**
@@ -34,6 +34,7 @@ import io.github.tonywasher.joceanus.gordianknot.api.zip.GordianZipFileEntry;
 import io.github.tonywasher.joceanus.gordianknot.api.zip.GordianZipLock;
 import io.github.tonywasher.joceanus.gordianknot.api.zip.GordianZipReadFile;
 import io.github.tonywasher.joceanus.gordianknot.api.zip.GordianZipWriteFile;
+import io.github.tonywasher.joceanus.gordianknot.impl.core.zip.GordianCoreZipLock;
 import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
 import io.github.tonywasher.joceanus.gordianknot.util.GordianUtilities;
 import org.junit.jupiter.api.Assertions;
@@ -51,11 +52,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 /**
  * Security Test suite - Zip File.
@@ -66,6 +75,76 @@ class ZipFileTest {
      */
     private static final char[] DEF_PASSWORD = "SimplePassword".toCharArray();
 
+    /**
+     * The length of the large entry (spanning several compression blocks).
+     */
+    private static final int LARGE_LEN = (5 << 20) / 2;
+
+    /**
+     * The length of each random run within the large entry.
+     */
+    private static final int RUN_LEN = 4096;
+
+    /**
+     * The name of the large entry.
+     */
+    private static final String LARGE_NAME = "largeEntry";
+
+    /**
+     * The zip file holding an entry compressed as a single LZMA stream.
+     */
+    private static final String SINGLE_STREAM_ZIP = "src/test/compatData/lzmaSingleStream.zip";
+
+    /**
+     * The name of the single stream entry.
+     */
+    private static final String SINGLE_STREAM_NAME = "legacy";
+
+    /**
+     * The contents of the single stream entry.
+     */
+    private static final String SINGLE_STREAM_TEXT = "Compressed by a single LZMA stream, compressed by a single LZMA stream.";
+
+    /**
+     * End of central directory signature.
+     */
+    private static final int SIG_END = 0x06054b50;
+
+    /**
+     * Zip64 end of central directory locator signature.
+     */
+    private static final int SIG_END64LOC = 0x07064b50;
+
+    /**
+     * Zip64 end of central directory signature.
+     */
+    private static final int SIG_END64 = 0x06064b50;
+
+    /**
+     * End of central directory length.
+     */
+    private static final int LEN_END = 22;
+
+    /**
+     * Central directory entry length.
+     */
+    private static final int LEN_CENTRAL = 46;
+
+    /**
+     * Zip64 extra data record length.
+     */
+    private static final int LEN_ZIP64 = 12;
+
+    /**
+     * Zip64 marker for 16-bit values.
+     */
+    private static final int ZIP64_SHORT = 0xFFFF;
+
+    /**
+     * Zip64 marker for 32-bit values.
+     */
+    private static final int ZIP64_INT = 0xFFFFFFFF;
+
     /**
      * Create the zipFile test suite.
      *
@@ -76,7 +155,8 @@ class ZipFileTest {
     Stream<DynamicNode> zipFileTests() throws GordianException {
         /* Create tests */
         Stream<DynamicNode> myStream = zipFileTests(GordianFactoryType.BC);
-        return Stream.concat(myStream, zipFileTests(GordianFactoryType.JCA));
+        myStream = Stream.concat(myStream, zipFileTests(GordianFactoryType.JCA));
+        return Stream.concat(myStream, Stream.of(DynamicTest.dynamicTest("singleStreamLZMA", this::testSingleStreamLZMA)));
     }
 
     /**
@@ -102,6 +182,10 @@ class ZipFileTest {
         final String myName = pType.toString();
         return Stream.of(DynamicContainer.dynamicContainer(myName, Stream.of(
                 DynamicTest.dynamicTest("standard", () -> testZipFile(myFactory, null, null)),
+                DynamicTest.dynamicTest("largeEntry", () -> testLargeEntry(myFactory, false)),
+                DynamicTest.dynamicTest("largeBlockEntry", () -> testLargeEntry(myFactory, true)),
+                DynamicTest.dynamicTest("zip64", () -> testZip64(myFactory)),
+                DynamicTest.dynamicTest("baselineHeader", () -> testBaselineHeader(myFactory)),
                 DynamicContainer.dynamicContainer("encrypted128", lockedZipFileTests(myFactory, myKeyPair1, myKeyPair2, GordianLength.LEN_128)),
                 DynamicContainer.dynamicContainer("encrypted192", lockedZipFileTests(myFactory, myKeyPair1, myKeyPair2, GordianLength.LEN_192)),
                 DynamicContainer.dynamicContainer("encrypted256", lockedZipFileTests(myFactory, myKeyPair1, myKeyPair2, GordianLength.LEN_256))
@@ -142,7 +226,205 @@ class ZipFileTest {
         /* Run the tests */
         final File myDirectory = new File("src/test/testData");
         final byte[] myZipFile = createZipFile(pFactory, myDirectory, pKeyPair, pKeyLen);
-        extractZipFile(pFactory, myZipFile, pKeyPair, myDirectory);
+
+        /* Extract the zip file from memory */
+        final GordianZipFactory myZipMgr = pFactory.getZipFactory();
+        extractZipFile(myZipMgr.openZipFile(new ByteArrayInputStream(myZipFile)), pKeyPair, myDirectory);
+
+        /* Extract the zip file by random access to a file */
+        try {
+            final Path myPath = Files.createTempFile("zipFile", ".zip");
+            try {
+                Files.write(myPath, myZipFile);
+                extractZipFile(myZipMgr.openZipFile(myPath.toFile()), pKeyPair, myDirectory);
+            } finally {
+                Files.delete(myPath);
+            }
+        } catch (IOException e) {
+            throw new GordianTestException("Failed to access Zip File", e);
+        }
+    }
+
+    /**
+     * Test compression and encryption of an entry that spans several compression blocks.
+     *
+     * @param pFactory the factory.
+     * @param pBlocks  compress in parallel blocks?
+     * @throws GordianException on error
+     */
+    private void testLargeEntry(final GordianFactory pFactory,
+                                final boolean pBlocks) throws GordianException {
+        /* Build data with alternating compressible and random runs */
+        final byte[] myData = new byte[LARGE_LEN];
+        final Random myRandom = new Random(LARGE_LEN);
+        for (int i = 0; i < LARGE_LEN; i += RUN_LEN) {
+            final int myLen = Math.min(RUN_LEN, LARGE_LEN - i);
+            if ((i / RUN_LEN) % 2 == 0) {
+                final byte[] myRun = new byte[myLen];
+                myRandom.nextBytes(myRun);
+                System.arraycopy(myRun, 0, myData, i, myLen);
+            } else {
+                Arrays.fill(myData, i, i + myLen, (byte) i);
+            }
+        }
+
+        /* Write the entry to an encrypted zip file */
+        final ByteArrayOutputStream myZipStream = new ByteArrayOutputStream();
+        try (GordianZipWriteFile myZipFile = createZipFile(pFactory, myZipStream, null, GordianLength.LEN_256);
+             OutputStream myOutput = myZipFile.createOutputStream(new File(LARGE_NAME), true, pBlocks)) {
+            myOutput.write(myData);
+        } catch (IOException e) {
+            throw new GordianTestException("Failed to create Zip File", e);
+        }
+
+        /* Read the entry back and check that it matches */
+        final GordianZipFactory myZipMgr = pFactory.getZipFactory();
+        final GordianZipReadFile myZipFile = myZipMgr.openZipFile(new ByteArrayInputStream(myZipStream.toByteArray()));
+        myZipFile.getLock().unlock(DEF_PASSWORD.clone());
+        final GordianZipFileEntry myEntry = myZipFile.getContents().findFileEntry(LARGE_NAME);
+        Assertions.assertNotNull(myEntry, "File not found");
+        try (InputStream myZipInput = myZipFile.createInputStream(myEntry)) {
+            Assertions.assertArrayEquals(myData, myZipInput.readAllBytes(), "File MisMatch");
+        } catch (IOException e) {
+            throw new GordianTestException("Failed to extract Zip File", e);
+        }
+    }
+
+    /**
+     * Test reading an entry compressed as a single LZMA stream.
+     * <p>The zip file was written by an earlier version, before compression was split into blocks.
+     *
+     * @throws GordianException on error
+     */
+    private void testSingleStreamLZMA() throws GordianException {
+        /* Open and unlock the zip file */
+        final GordianFactory myFactory = GordianGenerator.createFactory(GordianFactoryType.BC);
+        final GordianZipFactory myZipMgr = myFactory.getZipFactory();
+        final GordianZipReadFile myZipFile = myZipMgr.openZipFile(new File(SINGLE_STREAM_ZIP));
+        myZipFile.getLock().unlock(DEF_PASSWORD.clone());
+
+        /* Read the entry and check that it matches */
+        final GordianZipFileEntry myEntry = myZipFile.getContents().findFileEntry(SINGLE_STREAM_NAME);
+        Assertions.assertNotNull(myEntry, "File not found");
+        try (InputStream myZipInput = myZipFile.createInputStream(myEntry)) {
+            final String myText = new String(myZipInput.readAllBytes(), StandardCharsets.UTF_8);
+            Assertions.assertEquals(SINGLE_STREAM_TEXT, myText, "File MisMatch");
+        } catch (IOException e) {
+            throw new GordianTestException("Failed to extract Zip File", e);
+        }
+    }
+
+    /**
+     * Test reading an encrypted zip file with a Zip64 central directory.
+     * <p>Every entry carries a Zip64 offset record in the central directory, as the entries beyond 4GB of a large
+     * archive would. The header entry must still be identified by its lock, and the other entries read.
+     *
+     * @param pFactory the factory.
+     * @throws GordianException on error
+     */
+    private void testZip64(final GordianFactory pFactory) throws GordianException {
+        /* Create the zip file and convert it to Zip64 */
+        final File myDirectory = new File("src/test/testData");
+        final byte[] myZipFile = toZip64(createZipFile(pFactory, myDirectory, null, GordianLength.LEN_256));
+
+        /* Extract the zip file by random access to a file */
+        final GordianZipFactory myZipMgr = pFactory.getZipFactory();
+        try {
+            final Path myPath = Files.createTempFile("zip64File", ".zip");
+            try {
+                Files.write(myPath, myZipFile);
+                extractZipFile(myZipMgr.openZipFile(myPath.toFile()), null, myDirectory);
+            } finally {
+                Files.delete(myPath);
+            }
+        } catch (IOException e) {
+            throw new GordianTestException("Failed to access Zip File", e);
+        }
+    }
+
+    /**
+     * Test that the header written by this version can be read as earlier versions read it.
+     * <p>Earlier versions treat the first entry with extra data as the header entry, and build the lock directly
+     * from its extra data.
+     *
+     * @param pFactory the factory.
+     * @throws GordianException on error
+     */
+    private void testBaselineHeader(final GordianFactory pFactory) throws GordianException {
+        /* Create the zip file */
+        final File myDirectory = new File("src/test/testData");
+        final byte[] myZipFile = createZipFile(pFactory, myDirectory, null, GordianLength.LEN_256);
+
+        /* Locate the header entry as earlier versions did */
+        try (ZipInputStream myStream = new ZipInputStream(new ByteArrayInputStream(myZipFile))) {
+            ZipEntry myEntry = myStream.getNextEntry();
+            while (myEntry != null
+                    && myEntry.getExtra() == null) {
+                myEntry = myStream.getNextEntry();
+            }
+            Assertions.assertNotNull(myEntry, "Header not found");
+
+            /* Build the lock from the raw extra data and unlock it */
+            final GordianZipLock myLock = new GordianCoreZipLock(pFactory, myEntry.getExtra());
+            myLock.unlock(DEF_PASSWORD.clone());
+            Assertions.assertFalse(myLock.isLocked(), "Header lock not unlocked");
+        } catch (IOException e) {
+            throw new GordianTestException("Failed to access Zip File", e);
+        }
+    }
+
+    /**
+     * Rewrite the central directory of a zip file in Zip64 form.
+     * <p>Each entry has its offset replaced by the Zip64 marker and a Zip64 record holding the offset placed ahead
+     * of any other extra data, and the end of central directory record points to a Zip64 end record.
+     *
+     * @param pZipFile the zip file
+     * @return the converted zip file
+     */
+    private static byte[] toZip64(final byte[] pZipFile) {
+        /* Access the end of central directory record */
+        final ByteBuffer myZip = ByteBuffer.wrap(pZipFile).order(ByteOrder.LITTLE_ENDIAN);
+        final int myEndPos = pZipFile.length - LEN_END;
+        Assertions.assertEquals(SIG_END, myZip.getInt(myEndPos), "End of central directory not found");
+        final int myCount = myZip.getShort(myEndPos + 10) & ZIP64_SHORT;
+        final int myCenPos = myZip.getInt(myEndPos + 16);
+
+        /* Rewrite each central directory entry */
+        final ByteBuffer myOutput = ByteBuffer.allocate(pZipFile.length + myCount * LEN_ZIP64 + LEN_END + 76)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        myOutput.put(pZipFile, 0, myCenPos);
+        int myPos = myCenPos;
+        for (int i = 0; i < myCount; i++) {
+            /* Access the variable lengths and the extra data */
+            final int myNameLen = myZip.getShort(myPos + 28) & ZIP64_SHORT;
+            final int myExtraLen = myZip.getShort(myPos + 30) & ZIP64_SHORT;
+            final int myCommentLen = myZip.getShort(myPos + 32) & ZIP64_SHORT;
+            final long myOffset = myZip.getInt(myPos + 42) & 0xFFFFFFFFL;
+            final int myExtraPos = myPos + LEN_CENTRAL + myNameLen;
+
+            /* Write the entry with the Zip64 offset */
+            final int myStart = myOutput.position();
+            myOutput.put(pZipFile, myPos, LEN_CENTRAL + myNameLen);
+            myOutput.putShort(myStart + 30, (short) (myExtraLen + LEN_ZIP64));
+            myOutput.putInt(myStart + 42, ZIP64_INT);
+            myOutput.putShort((short) 1).putShort((short) Long.BYTES).putLong(myOffset);
+            myOutput.put(pZipFile, myExtraPos, myExtraLen);
+            myOutput.put(pZipFile, myPos + LEN_CENTRAL + myNameLen + myExtraLen, myCommentLen);
+            myPos += LEN_CENTRAL + myNameLen + myExtraLen + myCommentLen;
+        }
+        final int myCenLen = myOutput.position() - myCenPos;
+
+        /* Write the Zip64 end of central directory record and locator */
+        final int myEnd64Pos = myOutput.position();
+        myOutput.putInt(SIG_END64).putLong(44).putShort((short) 45).putShort((short) 45).putInt(0).putInt(0)
+                .putLong(myCount).putLong(myCount).putLong(myCenLen).putLong(myCenPos);
+        myOutput.putInt(SIG_END64LOC).putInt(0).putLong(myEnd64Pos).putInt(1);
+
+        /* Write the end of central directory record with Zip64 markers */
+        myOutput.putInt(SIG_END).putShort((short) 0).putShort((short) 0)
+                .putShort((short) ZIP64_SHORT).putShort((short) ZIP64_SHORT)
+                .putInt(ZIP64_INT).putInt(ZIP64_INT).putShort((short) 0);
+        return Arrays.copyOf(myOutput.array(), myOutput.position());
     }
 
     /**
@@ -255,24 +537,16 @@ class ZipFileTest {
     /**
      * Extract a Zip File and compare to a directory.
      *
-     * @param pZipFile   the in-memory Zip file
+     * @param pZipFile   the opened Zip file
      * @param pKeyPair   the keyPair (if any)
      * @param pDirectory the directory to compare against
      * @throws GordianException on error
      */
-    private void extractZipFile(final GordianFactory pFactory,
-                                final byte[] pZipFile,
+    private void extractZipFile(final GordianZipReadFile pZipFile,
                                 final Object pKeyPair,
                                 final File pDirectory) throws GordianException {
-        /* Access ZipManager */
-        final GordianZipFactory myZipMgr = pFactory.getZipFactory();
-
-        /* Access the file */
-        final ByteArrayInputStream myInputStream = new ByteArrayInputStream(pZipFile);
-        final GordianZipReadFile myZipFile = myZipMgr.openZipFile(myInputStream);
-
         /* Check for security */
-        final GordianZipLock myLock = myZipFile.getLock();
+        final GordianZipLock myLock = pZipFile.getLock();
         if (myLock != null) {
             /* switch on lockType */
             switch (myLock.getLockType()) {
@@ -288,7 +562,7 @@ class ZipFileTest {
         }
 
         /* Access the contents */
-        final GordianZipFileContents myContents = myZipFile.getContents();
+        final GordianZipFileContents myContents = pZipFile.getContents();
         final File[] myDirFiles = pDirectory.listFiles();
         Assertions.assertNotNull(myDirFiles, "Invalid directory");
         final List<File> myFiles = new ArrayList<>(Arrays.asList(myDirFiles));
@@ -303,7 +577,7 @@ class ZipFileTest {
             Assertions.assertNotNull(myFile, "File not found");
 
             /* Protect against exceptions */
-            try (InputStream myZipInput = myZipFile.createInputStream(myEntry);
+            try (InputStream myZipInput = pZipFile.createInputStream(myEntry);
                  InputStream myInFile = new FileInputStream(myFile);
                  InputStream myInBuffer = new BufferedInputStream(myInFile)) {
                 /* Read the entries */
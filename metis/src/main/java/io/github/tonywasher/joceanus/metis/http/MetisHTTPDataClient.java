@@ -25,6 +25,9 @@ import org.json.JSONObject;
 import org.json.JSONTokener;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -33,13 +36,22 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Http client interface.
+ * <p>
+ * The client owns an HttpClient and the executor that runs its requests, so it should be closed
+ * once the queries are complete.
  *
  * @author Tony Washer
  */
-public abstract class MetisHTTPDataClient {
+public abstract class MetisHTTPDataClient
+        implements AutoCloseable {
     /**
      * Byte encoding.
      */
@@ -85,6 +97,11 @@ public abstract class MetisHTTPDataClient {
      */
     private final String theBaseAddress;
 
+    /**
+     * The executor for the HTTPClient.
+     */
+    private final ExecutorService theExecutor;
+
     /**
      * The HTTPClient.
      */
@@ -115,12 +132,26 @@ public abstract class MetisHTTPDataClient {
                                   final MetisHTTPAuthType pAuthType,
                                   final String pAuth) {
         theBaseAddress = pBaseAddress;
-        theClient = HttpClient.newHttpClient();
+        theExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        theClient = HttpClient.newBuilder()
+                .executor(theExecutor)
+                .build();
 
         /* Determine the authorisation string */
         theAuth = pAuthType.getAuthString(pAuth);
     }
 
+    /**
+     * Close the client.
+     * <p>
+     * Waits for any outstanding requests to complete, then releases the HttpClient and its executor.
+     */
+    @Override
+    public void close() {
+        theClient.close();
+        theExecutor.close();
+    }
+
     /**
      * Obtain query results from explicit object as JSON object.
      *
@@ -228,6 +259,50 @@ public abstract class MetisHTTPDataClient {
         return new JSONObject(myTokener);
     }
 
+    /**
+     * Start an asynchronous query for a JSON object.
+     * <p>
+     * The response is parsed as it is streamed in, on the virtual thread that handles the response.
+     * Failures are reported by completing the future exceptionally with an OceanusException.
+     *
+     * @param pQuery   the query string
+     * @param pTrailer the trailing details
+     * @return the future query results
+     * @throws OceanusException on error
+     */
+    protected CompletableFuture<JSONObject> queryJSONObjectWithTrailerAsync(final String pQuery,
+                                                                            final String pTrailer) throws OceanusException {
+        /* Build the correct URL and request */
+        final String myURL = buildURL(null, pQuery, pTrailer);
+        final HttpRequest myGet = buildGetRequest(myURL);
+
+        /* Send the request and parse the streamed response */
+        return theClient.sendAsync(myGet, BodyHandlers.ofInputStream())
+                .thenApply(MetisHTTPDataClient::parseJSONObject);
+    }
+
+    /**
+     * Obtain the result of an asynchronous query.
+     *
+     * @param <T>     the type of the result
+     * @param pFuture the future result
+     * @return the result
+     * @throws OceanusException on error
+     */
+    protected static <T> T awaitResult(final CompletableFuture<T> pFuture) throws OceanusException {
+        /* Protect against exceptions */
+        try {
+            return pFuture.join();
+
+            /* Unwrap failures */
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof OceanusException myException) {
+                throw myException;
+            }
+            throw new MetisIOException(HTTPERROR_QUERY, e.getCause());
+        }
+    }
+
     /**
      * Obtain query results as JSON array.
      *
@@ -321,14 +396,7 @@ public abstract class MetisHTTPDataClient {
      */
     private JSONTokener performJSONQuery(final String pURL) throws OceanusException {
         /* Create the get request */
-        final HttpRequest.Builder myBuilder = HttpRequest.newBuilder()
-                .uri(URI.create(pURL));
-        if (theAuth != null) {
-            /* Build header */
-            myBuilder.setHeader(HEADER_AUTH, theAuth);
-            myBuilder.setHeader(HEADER_ACCEPT, HEADER_ACCEPT_DTL);
-        }
-        final HttpRequest myGet = myBuilder.build();
+        final HttpRequest myGet = buildGetRequest(pURL);
 
         /* Protect against exceptions */
         try {
@@ -353,6 +421,49 @@ public abstract class MetisHTTPDataClient {
         }
     }
 
+    /**
+     * Build a get request.
+     *
+     * @param pURL the location to be queried
+     * @return the request
+     */
+    private HttpRequest buildGetRequest(final String pURL) {
+        /* Create the get request */
+        final HttpRequest.Builder myBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(pURL));
+        if (theAuth != null) {
+            /* Build header */
+            myBuilder.setHeader(HEADER_AUTH, theAuth);
+            myBuilder.setHeader(HEADER_ACCEPT, HEADER_ACCEPT_DTL);
+        }
+        return myBuilder.build();
+    }
+
+    /**
+     * Parse a streamed response as a JSON object.
+     *
+     * @param pResponse the response
+     * @return the parsed object
+     * @throws CompletionException on error
+     */
+    private static JSONObject parseJSONObject(final HttpResponse<InputStream> pResponse) {
+        /* Protect against exceptions */
+        try (Reader myReader = new InputStreamReader(pResponse.body(), StandardCharsets.UTF_8)) {
+            /* If we were successful */
+            if (pResponse.statusCode() == HTTP_OK) {
+                /* Parse directly from the stream */
+                return new JSONObject(new JSONTokener(myReader));
+            }
+
+            /* Notify of failure */
+            throw new CompletionException(new MetisDataException(pResponse.toString(), HTTPERROR_QUERY));
+
+            /* Catch exceptions */
+        } catch (IOException e) {
+            throw new CompletionException(new MetisIOException(HTTPERROR_QUERY, e));
+        }
+    }
+
     /**
      * Build the requested URL.
      *
@@ -29,9 +29,13 @@ import org.json.JSONObject;
 
 import java.util.Currency;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * Client to query YQL.
@@ -80,11 +84,6 @@ public class MetisHTTPYQLClient
      */
     private static final String YQLSEL_END = "\")";
 
-    /**
-     * YQL select middle statement.
-     */
-    private static final String YQLSEL_MID = "\",\"";
-
     /**
      * YQL result query.
      */
@@ -105,21 +104,11 @@ public class MetisHTTPYQLClient
      */
     private static final String YQLRES_RATE = "rate";
 
-    /**
-     * YQL field Symbol.
-     */
-    private static final String YQLFLD_SYMBOL = "Symbol";
-
     /**
      * YQL field Price.
      */
     private static final String YQLFLD_PRICE = "LastTradePriceOnly";
 
-    /**
-     * YQL field Id.
-     */
-    private static final String YQLFLD_ID = "id";
-
     /**
      * YQL field Rate.
      */
@@ -130,19 +119,46 @@ public class MetisHTTPYQLClient
      */
     private static final String YQLERROR_PARSE = "Failed to parse results";
 
+    /**
+     * YQL interrupted error.
+     */
+    private static final String YQLERROR_INTERRUPT = "Interrupted while waiting to query";
+
+    /**
+     * Maximum number of concurrent queries.
+     */
+    private static final int MAX_QUERIES = 8;
+
     /**
      * Decimal parser.
      */
     private final OceanusDecimalParser theParser;
 
+    /**
+     * The limit on outstanding queries.
+     */
+    private final Semaphore theQueryLimit;
+
     /**
      * Constructor.
      *
      * @param pFormatter the data formatter
      */
     public MetisHTTPYQLClient(final OceanusDataFormatter pFormatter) {
-        super(YQL_WEBSITE);
+        this(pFormatter, YQL_WEBSITE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pFormatter   the data formatter
+     * @param pBaseAddress the base address of the query service
+     */
+    public MetisHTTPYQLClient(final OceanusDataFormatter pFormatter,
+                              final String pBaseAddress) {
+        super(pBaseAddress);
         theParser = pFormatter.getDecimalParser();
+        theQueryLimit = new Semaphore(MAX_QUERIES);
     }
 
     /**
@@ -155,125 +171,67 @@ public class MetisHTTPYQLClient
      */
     public OceanusPrice obtainSecurityPrice(final String pSymbol,
                                             final Currency pCurrency) throws OceanusException {
-        /* Build the query string */
-        final StringBuilder myBuilder = new StringBuilder();
-        myBuilder.append(YQL_SELECT);
-        myBuilder.append(YQLDB_PRICES);
-        myBuilder.append(YQLSEL_SYMBOL);
-        myBuilder.append(pSymbol);
-        myBuilder.append(YQLSEL_END);
-
         /* Determine price divisor */
-        int myDivisor = 1;
-        for (int iNumDigits = pCurrency.getDefaultFractionDigits(); iNumDigits > 0; iNumDigits--) {
-            myDivisor *= OceanusDecimal.RADIX_TEN;
-        }
+        final int myDivisor = determineDivisor(pCurrency);
 
         /* Perform the query */
-        JSONObject myJSON = queryJSONObjectWithTrailer(myBuilder.toString(), YQL_TAIL);
-
-        /* Protect against exceptions */
-        try {
-            /* Shift down to the results */
-            myJSON = myJSON.getJSONObject(YQLRES_QUERY);
-            myJSON = myJSON.getJSONObject(YQLRES_RESULTS);
-
-            /* Access the single result */
-            final JSONArray myArray = myJSON.getJSONArray(YQLRES_QUOTE);
-            final JSONObject myEntry = myArray.getJSONObject(0);
-            final String myStrPrice = myEntry.optString(YQLFLD_PRICE, null);
-
-            /* If we found the price */
-            if (myStrPrice != null) {
-                /* Parse the price and convert from minor units */
-                final OceanusPrice myPrice = theParser.parsePriceValue(myStrPrice, pCurrency);
-                myPrice.divide(myDivisor);
-                return myPrice;
-            }
-
-            /* No price found */
-            return null;
-
-        } catch (JSONException e) {
-            /* Notify of failure */
-            throw new MetisDataException(YQLERROR_PARSE, e);
+        final String myQuery = YQL_SELECT + YQLDB_PRICES + YQLSEL_SYMBOL + pSymbol + YQLSEL_END;
+        final String myStrPrice = awaitResult(startQuery(myQuery, YQLRES_QUOTE, YQLFLD_PRICE));
+
+        /* If we found the price */
+        if (myStrPrice != null) {
+            /* Parse the price and convert from minor units */
+            final OceanusPrice myPrice = theParser.parsePriceValue(myStrPrice, pCurrency);
+            myPrice.divide(myDivisor);
+            return myPrice;
         }
+
+        /* No price found */
+        return null;
     }
 
     /**
-     * Obtain price for individual security.
+     * Obtain prices for a list of securities.
+     * <p>
+     * Each security is queried separately, with a limited number of queries outstanding at a time.
      *
      * @param pSymbols  the security symbols
      * @param pCurrency the currency for the price
-     * @return the price
+     * @return the map of prices
      * @throws OceanusException on error
      */
     public Map<String, OceanusPrice> obtainSecurityPrices(final List<String> pSymbols,
                                                           final Currency pCurrency) throws OceanusException {
-        /* Build the query string */
-        final StringBuilder myBuilder = new StringBuilder();
-        myBuilder.append(YQL_SELECT);
-        myBuilder.append(YQLDB_PRICES);
-        myBuilder.append(YQLSEL_SYMBOL);
-
         /* Determine price divisor */
-        int myDivisor = 1;
-        for (int iNumDigits = pCurrency.getDefaultFractionDigits(); iNumDigits > 0; iNumDigits--) {
-            myDivisor *= OceanusDecimal.RADIX_TEN;
-        }
-
-        /* Build the symbol set */
-        final Iterator<String> myIterator = pSymbols.iterator();
-        boolean bFirst = true;
-        while (myIterator.hasNext()) {
-            final String mySymbol = myIterator.next();
-            if (!bFirst) {
-                myBuilder.append(YQLSEL_MID);
+        final int myDivisor = determineDivisor(pCurrency);
+
+        /* Start the queries */
+        final Map<String, CompletableFuture<String>> myQueries = new LinkedHashMap<>();
+        for (String mySymbol : pSymbols) {
+            if (!myQueries.containsKey(mySymbol)) {
+                final String myQuery = YQL_SELECT + YQLDB_PRICES + YQLSEL_SYMBOL + mySymbol + YQLSEL_END;
+                myQueries.put(mySymbol, startQuery(myQuery, YQLRES_QUOTE, YQLFLD_PRICE));
             }
-            myBuilder.append(mySymbol);
-            bFirst = false;
         }
-        myBuilder.append(YQLSEL_END);
 
-        /* Create the result map */
+        /* Loop through the results */
         final Map<String, OceanusPrice> myMap = new HashMap<>();
+        for (Entry<String, CompletableFuture<String>> myEntry : myQueries.entrySet()) {
+            final String myStrPrice = awaitResult(myEntry.getValue());
 
-        /* Perform the query */
-        JSONObject myJSON = queryJSONObjectWithTrailer(myBuilder.toString(), YQL_TAIL);
-
-        /* Protect against exceptions */
-        try {
-            /* Shift down to the results */
-            myJSON = myJSON.getJSONObject(YQLRES_QUERY);
-            myJSON = myJSON.getJSONObject(YQLRES_RESULTS);
+            /* If we have a price */
+            if (myStrPrice != null) {
+                /* Parse and convert to proper units */
+                final OceanusPrice myPrice = theParser.parsePriceValue(myStrPrice, pCurrency);
+                myPrice.divide(myDivisor);
 
-            /* Access the result array */
-            final JSONArray myArray = myJSON.getJSONArray(YQLRES_QUOTE);
-            final int myNumPrices = myArray.length();
-            for (int i = 0; i < myNumPrices; i++) {
-                /* Access the details */
-                final JSONObject myEntry = myArray.getJSONObject(i);
-                final String myStrPrice = myEntry.optString(YQLFLD_PRICE, null);
-
-                /* If we have a price */
-                if (myStrPrice != null) {
-                    /* Parse and convert to proper units */
-                    final OceanusPrice myPrice = theParser.parsePriceValue(myStrPrice, pCurrency);
-                    myPrice.divide(myDivisor);
-
-                    /* Add the the map */
-                    final String mySymbol = myEntry.getString(YQLFLD_SYMBOL);
-                    myMap.put(mySymbol, myPrice);
-                }
+                /* Add to the map */
+                myMap.put(myEntry.getKey(), myPrice);
             }
-
-            /* Return the map */
-            return myMap;
-
-        } catch (JSONException e) {
-            /* Notify of failure */
-            throw new MetisDataException(YQLERROR_PARSE, e);
         }
+
+        /* Return the map */
+        return myMap;
     }
 
     /**
@@ -286,110 +244,130 @@ public class MetisHTTPYQLClient
      */
     public OceanusRatio obtainExchangeRate(final Currency pFrom,
                                            final Currency pTo) throws OceanusException {
-        /* Build the query string */
-        final StringBuilder myBuilder = new StringBuilder();
-        myBuilder.append(YQL_SELECT);
-        myBuilder.append(YQLDB_RATES);
-        myBuilder.append(YQLSEL_PAIR);
-        myBuilder.append(pFrom.getCurrencyCode());
-        myBuilder.append(pTo.getCurrencyCode());
-        myBuilder.append(YQLSEL_END);
-
         /* Perform the query */
-        JSONObject myJSON = queryJSONObjectWithTrailer(myBuilder.toString(), YQL_TAIL);
-
-        /* Protect against exceptions */
-        try {
-            /* Shift down to the results */
-            myJSON = myJSON.getJSONObject(YQLRES_QUERY);
-            myJSON = myJSON.getJSONObject(YQLRES_RESULTS);
-
-            /* Access the single result */
-            final JSONArray myArray = myJSON.getJSONArray(YQLRES_RATE);
-            final JSONObject myEntry = myArray.getJSONObject(0);
-            final String myRate = myEntry.optString(YQLFLD_RATE, null);
+        final String myQuery = YQL_SELECT + YQLDB_RATES + YQLSEL_PAIR + pFrom.getCurrencyCode() + pTo.getCurrencyCode() + YQLSEL_END;
+        final String myRate = awaitResult(startQuery(myQuery, YQLRES_RATE, YQLFLD_RATE));
 
-            /* return parsed rate if possible */
-            return (myRate != null)
-                    ? theParser.parseRatioValue(myRate)
-                    : null;
-
-        } catch (JSONException e) {
-            /* Notify of failure */
-            throw new MetisDataException(YQLERROR_PARSE, e);
-        }
+        /* return parsed rate if possible */
+        return (myRate != null)
+                ? theParser.parseRatioValue(myRate)
+                : null;
     }
 
     /**
      * Obtain exchange rate for currency pairs.
+     * <p>
+     * Each pair is queried separately, with a limited number of queries outstanding at a time.
      *
      * @param pFrom   the from currency
      * @param pToList the list of to currencies
-     * @return the price
+     * @return the map of rates
      * @throws OceanusException on error
      */
     public Map<Currency, OceanusRatio> obtainExchangeRates(final Currency pFrom,
                                                            final List<Currency> pToList) throws OceanusException {
-        /* Build the query string */
-        final StringBuilder myBuilder = new StringBuilder();
-        myBuilder.append(YQL_SELECT);
-        myBuilder.append(YQLDB_RATES);
-        myBuilder.append(YQLSEL_PAIR);
-
-        /* Build the pair set */
+        /* Start the queries */
         final String myFrom = pFrom.getCurrencyCode();
-        final Iterator<Currency> myIterator = pToList.iterator();
-        boolean bFirst = true;
-        while (myIterator.hasNext()) {
-            final Currency myCurr = myIterator.next();
-            if (!bFirst) {
-                myBuilder.append(YQLSEL_MID);
+        final Map<Currency, CompletableFuture<String>> myQueries = new LinkedHashMap<>();
+        for (Currency myCurr : pToList) {
+            if (!myQueries.containsKey(myCurr)) {
+                final String myQuery = YQL_SELECT + YQLDB_RATES + YQLSEL_PAIR + myFrom + myCurr.getCurrencyCode() + YQLSEL_END;
+                myQueries.put(myCurr, startQuery(myQuery, YQLRES_RATE, YQLFLD_RATE));
             }
-            myBuilder.append(myFrom);
-            myBuilder.append(myCurr.getCurrencyCode());
-            bFirst = false;
         }
-        myBuilder.append(YQLSEL_END);
 
-        /* Create the result map */
+        /* Loop through the results */
         final Map<Currency, OceanusRatio> myMap = new HashMap<>();
+        for (Entry<Currency, CompletableFuture<String>> myEntry : myQueries.entrySet()) {
+            final String myStrRate = awaitResult(myEntry.getValue());
 
-        /* Perform the query */
-        JSONObject myJSON = queryJSONObjectWithTrailer(myBuilder.toString(), YQL_TAIL);
+            /* If we have a rate, add it to the map */
+            if (myStrRate != null) {
+                myMap.put(myEntry.getKey(), theParser.parseRatioValue(myStrRate));
+            }
+        }
+
+        /* Return the map */
+        return myMap;
+    }
 
+    /**
+     * Determine the divisor to convert a price from minor units.
+     *
+     * @param pCurrency the currency for the price
+     * @return the divisor
+     */
+    private static int determineDivisor(final Currency pCurrency) {
+        int myDivisor = 1;
+        for (int iNumDigits = pCurrency.getDefaultFractionDigits(); iNumDigits > 0; iNumDigits--) {
+            myDivisor *= OceanusDecimal.RADIX_TEN;
+        }
+        return myDivisor;
+    }
+
+    /**
+     * Start a query for a single result field.
+     * <p>
+     * Waits for a free query slot before sending the query. The slot is released once the response
+     * has been parsed.
+     *
+     * @param pQuery  the query string
+     * @param pResult the name of the result array
+     * @param pField  the name of the field to extract from the first result
+     * @return the future field value (or null if not present)
+     * @throws OceanusException on error
+     */
+    private CompletableFuture<String> startQuery(final String pQuery,
+                                                 final String pResult,
+                                                 final String pField) throws OceanusException {
+        /* Wait for a free query slot */
+        try {
+            theQueryLimit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MetisDataException(YQLERROR_INTERRUPT, e);
+        }
+
+        /* Protect against exceptions */
+        try {
+            /* Start the query, extracting the field and releasing the slot on completion */
+            return queryJSONObjectWithTrailerAsync(pQuery, YQL_TAIL)
+                    .thenApply(j -> extractField(j, pResult, pField))
+                    .whenComplete((r, e) -> theQueryLimit.release());
+
+            /* Release the slot if we failed to start the query */
+        } catch (OceanusException e) {
+            theQueryLimit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Extract a field from the first result of a query.
+     *
+     * @param pJSON   the query results
+     * @param pResult the name of the result array
+     * @param pField  the name of the field
+     * @return the field value (or null if not present)
+     * @throws CompletionException on error
+     */
+    private static String extractField(final JSONObject pJSON,
+                                       final String pResult,
+                                       final String pField) {
         /* Protect against exceptions */
         try {
             /* Shift down to the results */
-            myJSON = myJSON.getJSONObject(YQLRES_QUERY);
+            JSONObject myJSON = pJSON.getJSONObject(YQLRES_QUERY);
             myJSON = myJSON.getJSONObject(YQLRES_RESULTS);
 
-            /* Access the results */
-            final JSONArray myArray = myJSON.getJSONArray(YQLRES_RATE);
-            final int myNumPrices = myArray.length();
-            for (int i = 0; i < myNumPrices; i++) {
-                /* Access the details */
-                final JSONObject myEntry = myArray.getJSONObject(i);
-                final String myStrRate = myEntry.optString(YQLFLD_RATE, null);
-
-                /* If we have a rate */
-                if (myStrRate != null) {
-                    /* Determine currency and rate */
-                    String myId = myEntry.getString(YQLFLD_ID);
-                    myId = myId.substring(myFrom.length());
-                    final Currency myCurr = Currency.getInstance(myId);
-                    final OceanusRatio myRate = theParser.parseRatioValue(myStrRate);
-
-                    /* Add to the map */
-                    myMap.put(myCurr, myRate);
-                }
-            }
-
-            /* Return the map */
-            return myMap;
+            /* Access the single result */
+            final JSONArray myArray = myJSON.getJSONArray(pResult);
+            final JSONObject myEntry = myArray.getJSONObject(0);
+            return myEntry.optString(pField, null);
 
         } catch (JSONException e) {
             /* Notify of failure */
-            throw new MetisDataException(YQLERROR_PARSE, e);
+            throw new CompletionException(new MetisDataException(YQLERROR_PARSE, e));
         }
     }
 }
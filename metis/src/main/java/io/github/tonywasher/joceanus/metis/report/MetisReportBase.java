@@ -17,7 +17,6 @@
 package io.github.tonywasher.joceanus.metis.report;
 
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
-import org.w3c.dom.Document;
 
 /**
  * Interface provided by report builders.
@@ -78,5 +77,5 @@ public abstract class MetisReportBase<D, F>
      * @param pData the source data
      * @return Web document
      */
-    public abstract Document createReport(D pData);
+    public abstract MetisReportDocument createReport(D pData);
 }
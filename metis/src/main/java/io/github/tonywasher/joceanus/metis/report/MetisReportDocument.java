@@ -0,0 +1,276 @@
+/*
+ * Metis: Java Data Framework
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.metis.report;
+
+import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Report document, held as HTML text.
+ * <p>
+ * Titles and tables are written to the document as they are built, and the text is completed when
+ * it is first requested. Sections of the completed text are then expanded, hidden and restored in
+ * place.
+ */
+public final class MetisReportDocument {
+    /**
+     * The document header.
+     */
+    private static final String DOC_HEADER = "<html><body>";
+
+    /**
+     * The document trailer.
+     */
+    private static final String DOC_TRAILER = "</body></html>";
+
+    /**
+     * The row start.
+     */
+    private static final String ROW_START = "<tr";
+
+    /**
+     * The row end.
+     */
+    private static final String ROW_END = "</tr>";
+
+    /**
+     * The link start.
+     */
+    private static final String LINK_START = "<a ";
+
+    /**
+     * The href attribute.
+     */
+    private static final String HREF_START = " href=\"";
+
+    /**
+     * The id attribute.
+     */
+    private static final String ID_START = " id=\"";
+
+    /**
+     * The parts of the document that are still being built.
+     */
+    private List<Object> theParts;
+
+    /**
+     * The text.
+     */
+    private final StringBuilder theText;
+
+    /**
+     * Constructor.
+     */
+    MetisReportDocument() {
+        theParts = new ArrayList<>();
+        theText = new StringBuilder(DOC_HEADER);
+    }
+
+    /**
+     * Obtain the text of the document.
+     *
+     * @return the text
+     */
+    public String getText() {
+        /* Complete the document if necessary */
+        if (theParts != null) {
+            completeDocument();
+        }
+        return theText.toString();
+    }
+
+    /**
+     * Append text to the document.
+     *
+     * @param pText the text
+     */
+    void appendText(final CharSequence pText) {
+        theParts.add(pText.toString());
+    }
+
+    /**
+     * Append a table to the document.
+     *
+     * @param pTable the table
+     */
+    void appendTable(final MetisReportHTMLTable pTable) {
+        theParts.add(pTable);
+    }
+
+    /**
+     * Complete the document.
+     */
+    private void completeDocument() {
+        /* Write out the parts in order */
+        for (Object myPart : theParts) {
+            if (myPart instanceof MetisReportHTMLTable myTable) {
+                myTable.writeTable(theText);
+            } else {
+                theText.append((String) myPart);
+            }
+        }
+
+        /* Terminate the document */
+        theText.append(DOC_TRAILER);
+        theParts = null;
+    }
+
+    /**
+     * Embed a section after the row holding the link for the section.
+     *
+     * @param pLinkId  the escaped id of the link
+     * @param pHRef    the escaped reference for the link
+     * @param pPrefix  the prefix for the link
+     * @param pSection the section row
+     * @return was the link found true/false
+     */
+    boolean embedSection(final String pLinkId,
+                         final String pHRef,
+                         final String pPrefix,
+                         final CharSequence pSection) {
+        /* Complete the document if necessary */
+        if (theParts != null) {
+            completeDocument();
+        }
+        return embedSection(theText, pLinkId, pHRef, pPrefix, pSection);
+    }
+
+    /**
+     * Remove the section with the given id.
+     *
+     * @param pLinkId    the escaped id of the link that owns the section
+     * @param pPrefix    the prefix for the link
+     * @param pSectionId the escaped id of the section
+     * @return the removed section (or null if not found)
+     */
+    String removeSection(final String pLinkId,
+                         final String pPrefix,
+                         final String pSectionId) {
+        /* Complete the document if necessary */
+        if (theParts != null) {
+            completeDocument();
+        }
+
+        /* Locate the section */
+        final int myStart = theText.indexOf(ROW_START + ID_START + pSectionId + "\">");
+        if (myStart == -1) {
+            return null;
+        }
+
+        /* Determine the end of the section, allowing for embedded rows */
+        int myDepth = 0;
+        int myIndex = myStart;
+        do {
+            final int myNextStart = theText.indexOf(ROW_START, myIndex + 1);
+            final int myNextEnd = theText.indexOf(ROW_END, myIndex + 1);
+            if (myNextStart != -1
+                    && myNextStart < myNextEnd) {
+                myDepth++;
+                myIndex = myNextStart;
+            } else {
+                myDepth--;
+                myIndex = myNextEnd;
+            }
+        } while (myDepth >= 0);
+        final int myEnd = myIndex + ROW_END.length();
+
+        /* Remove the section and adjust the prefix of the owning link */
+        final String mySection = theText.substring(myStart, myEnd);
+        theText.delete(myStart, myEnd);
+        final int myLink = findLink(theText, pLinkId);
+        if (myLink != -1) {
+            setPrefix(theText, myLink, pPrefix);
+        }
+        return mySection;
+    }
+
+    /**
+     * Embed a section after the row holding the link for the section.
+     *
+     * @param pText    the text to embed into
+     * @param pLinkId  the escaped id of the link
+     * @param pHRef    the escaped reference for the link
+     * @param pPrefix  the prefix for the link
+     * @param pSection the section row
+     * @return was the link found true/false
+     */
+    static boolean embedSection(final StringBuilder pText,
+                                final String pLinkId,
+                                final String pHRef,
+                                final String pPrefix,
+                                final CharSequence pSection) {
+        /* Locate the link */
+        final int myLink = findLink(pText, pLinkId);
+        if (myLink == -1) {
+            return false;
+        }
+
+        /* Insert the section after the end of the link row */
+        final int myRowEnd = pText.indexOf(ROW_END, myLink) + ROW_END.length();
+        pText.insert(myRowEnd, pSection);
+
+        /* Update the reference of the link */
+        final int myHRef = pText.indexOf(HREF_START, myLink) + HREF_START.length();
+        pText.replace(myHRef, pText.indexOf("\"", myHRef), pHRef);
+
+        /* Adjust the prefix of the link */
+        setPrefix(pText, myLink, pPrefix);
+        return true;
+    }
+
+    /**
+     * Locate the start of a link.
+     * <p>
+     * Quotes are always escaped in text and attribute values, so the id can only match an id attribute. It
+     * is only accepted if that attribute belongs to a link element.
+     *
+     * @param pText   the text to search
+     * @param pLinkId the escaped id of the link
+     * @return the start of the link (or -1 if not found)
+     */
+    private static int findLink(final StringBuilder pText,
+                                final String pLinkId) {
+        final String myAttr = ID_START + pLinkId + '"';
+        int myId = pText.indexOf(myAttr);
+        while (myId != -1) {
+            final int myLink = pText.lastIndexOf(LINK_START, myId);
+            if (myLink != -1
+                    && myLink == pText.lastIndexOf("<", myId)) {
+                return myLink;
+            }
+            myId = pText.indexOf(myAttr, myId + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Set the prefix that precedes a link, replacing whatever prefix is there.
+     *
+     * @param pText   the text
+     * @param pLink   the start of the link
+     * @param pPrefix the prefix
+     */
+    private static void setPrefix(final StringBuilder pText,
+                                  final int pLink,
+                                  final String pPrefix) {
+        /* The prefix runs from the end of the enclosing cell tag to the link */
+        final int myStart = pText.lastIndexOf(">", pLink) + 1;
+        pText.replace(myStart, pLink, pPrefix);
+    }
+}
@@ -16,21 +16,14 @@
  */
 package io.github.tonywasher.joceanus.metis.report;
 
-import io.github.tonywasher.joceanus.metis.exc.MetisIOException;
-import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimal;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.Text;
-
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 
 /**
  * Build a report document.
+ * <p>
+ * The HTML is written directly as text. Each table accumulates its own header and body, and is
+ * written into its parent, or into the document, when it is complete.
  */
 public class MetisReportHTMLBuilder {
     /**
@@ -41,7 +34,7 @@ public class MetisReportHTMLBuilder {
     /**
      * The id attribute.
      */
-    protected static final String ATTR_ID = "id";
+    private static final String ATTR_ID = "id";
 
     /**
      * The name attribute.
@@ -138,16 +131,6 @@ public class MetisReportHTMLBuilder {
      */
     private static final String CLASS_NEGVALUE = "negValue";
 
-    /**
-     * The HTML element.
-     */
-    private static final String ELEMENT_HTML = "html";
-
-    /**
-     * The body element.
-     */
-    private static final String ELEMENT_BODY = "body";
-
     /**
      * The title element.
      */
@@ -228,15 +211,10 @@ public class MetisReportHTMLBuilder {
      */
     private static final String PFX_COLLAPSED = "⯈ ";
 
-    /**
-     * The document builder.
-     */
-    private final DocumentBuilder theBuilder;
-
     /**
      * The document.
      */
-    private Document theDocument;
+    private MetisReportDocument theDocument;
 
     /**
      * The data formatter.
@@ -247,24 +225,10 @@ public class MetisReportHTMLBuilder {
      * Constructor.
      *
      * @param pFormatter the formatter
-     * @throws OceanusException on error
-     */
-    public MetisReportHTMLBuilder(final OceanusDataFormatter pFormatter) throws OceanusException {
-        /* Protect against exceptions */
-        try {
-            /* Store the formatter */
-            theFormatter = pFormatter;
-
-            /* Create the document builder */
-            final DocumentBuilderFactory myDocFactory = DocumentBuilderFactory.newInstance();
-            myDocFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            myDocFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            myDocFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-            theBuilder = myDocFactory.newDocumentBuilder();
-
-        } catch (Exception e) {
-            throw new MetisIOException("Failed to create", e);
-        }
+     */
+    public MetisReportHTMLBuilder(final OceanusDataFormatter pFormatter) {
+        /* Store the formatter */
+        theFormatter = pFormatter;
     }
 
     /**
@@ -281,17 +245,26 @@ public class MetisReportHTMLBuilder {
      *
      * @return the document
      */
-    public Document getDocument() {
+    public MetisReportDocument getDocument() {
         return theDocument;
     }
 
+    /**
+     * Set the document, so as to resume building a previously rendered report.
+     *
+     * @param pDocument the document
+     */
+    void setDocument(final MetisReportDocument pDocument) {
+        theDocument = pDocument;
+    }
+
     /**
      * Create and append a standard empty cell.
      *
      * @param pControl the table control
      */
     public void makeValueCell(final MetisReportHTMLTable pControl) {
-        pControl.createNewCell(false);
+        pControl.createNewCell(false).append('>').append(endElement(ELEMENT_CELL));
     }
 
     /**
@@ -300,7 +273,7 @@ public class MetisReportHTMLBuilder {
      * @param pControl the table control
      */
     public void makeTotalCell(final MetisReportHTMLTable pControl) {
-        pControl.createNewCell(true);
+        pControl.createNewCell(true).append('>').append(endElement(ELEMENT_TOTAL));
     }
 
     /**
@@ -309,7 +282,7 @@ public class MetisReportHTMLBuilder {
      * @param pControl the table control
      */
     public void makeTitleCell(final MetisReportHTMLTable pControl) {
-        pControl.createNewCell(true);
+        pControl.createNewCell(true).append('>').append(endElement(ELEMENT_TOTAL));
     }
 
     /**
@@ -320,8 +293,7 @@ public class MetisReportHTMLBuilder {
      */
     public void makeValueCell(final MetisReportHTMLTable pControl,
                               final Object pValue) {
-        final Element myCell = pControl.createNewCell(false);
-        setCellValue(myCell, pValue);
+        makeValueCell(pControl, false, pValue, false);
     }
 
     /**
@@ -332,9 +304,7 @@ public class MetisReportHTMLBuilder {
      */
     public void makeStretchedValueCell(final MetisReportHTMLTable pControl,
                                        final Object pValue) {
-        final Element myCell = pControl.createNewCell(false);
-        setCellValue(myCell, pValue);
-        myCell.setAttribute(ATTR_COLSPAN, Integer.toString(2));
+        makeValueCell(pControl, false, pValue, true);
     }
 
     /**
@@ -345,8 +315,7 @@ public class MetisReportHTMLBuilder {
      */
     public void makeTotalCell(final MetisReportHTMLTable pControl,
                               final Object pValue) {
-        final Element myCell = pControl.createNewCell(true);
-        setCellValue(myCell, pValue);
+        makeValueCell(pControl, true, pValue, false);
     }
 
     /**
@@ -357,9 +326,7 @@ public class MetisReportHTMLBuilder {
      */
     public void makeStretchedTotalCell(final MetisReportHTMLTable pControl,
                                        final Object pValue) {
-        final Element myCell = pControl.createNewCell(true);
-        setCellValue(myCell, pValue);
-        myCell.setAttribute(ATTR_COLSPAN, Integer.toString(2));
+        makeValueCell(pControl, true, pValue, true);
     }
 
     /**
@@ -370,8 +337,7 @@ public class MetisReportHTMLBuilder {
      */
     public void makeTitleCell(final MetisReportHTMLTable pControl,
                               final String pTitle) {
-        final Element myCell = pControl.createNewCell(true);
-        setCellTitle(myCell, pTitle);
+        makeTitleCell(pControl, pTitle, false);
     }
 
     /**
@@ -382,9 +348,7 @@ public class MetisReportHTMLBuilder {
      */
     public void makeStretchedTitleCell(final MetisReportHTMLTable pControl,
                                        final String pTitle) {
-        final Element myCell = pControl.createNewCell(true);
-        setCellTitle(myCell, pTitle);
-        myCell.setAttribute(ATTR_COLSPAN, Integer.toString(2));
+        makeTitleCell(pControl, pTitle, true);
     }
 
     /**
@@ -408,25 +372,7 @@ public class MetisReportHTMLBuilder {
     public void makeTableLinkCell(final MetisReportHTMLTable pControl,
                                   final String pLink,
                                   final String pName) {
-        /* Determine the id of the link */
-        final String myId = REF_ID
-                + pLink;
-
-        /* Create the header */
-        final Text myHeader = theDocument.createTextNode(PFX_OPEN);
-
-        /* Create the cell */
-        final Element myCell = pControl.createNewCell(false);
-        final Element myLink = theDocument.createElement(ELEMENT_LINK);
-        myLink.setAttribute(ATTR_CLASS, CLASS_ACCORDIANVALUE);
-        myLink.setAttribute(ATTR_ID, myId);
-        myLink.setIdAttribute(ATTR_ID, true);
-        myLink.setAttribute(ATTR_NAME, myId);
-        myLink.setAttribute(ATTR_HREF, REF_TAB
-                + pLink);
-        myLink.setTextContent(pName);
-        myCell.appendChild(myHeader);
-        myCell.appendChild(myLink);
+        makeAccordianLinkCell(pControl, PFX_OPEN, REF_TAB, pLink, pName);
     }
 
     /**
@@ -450,25 +396,7 @@ public class MetisReportHTMLBuilder {
     public void makeDelayLinkCell(final MetisReportHTMLTable pControl,
                                   final String pLink,
                                   final String pName) {
-        /* Determine the id of the link */
-        final String myId = REF_ID
-                + pLink;
-
-        /* Create the header */
-        final Text myHeader = theDocument.createTextNode(PFX_COLLAPSED);
-
-        /* Create the cell */
-        final Element myCell = pControl.createNewCell(false);
-        final Element myLink = theDocument.createElement(ELEMENT_LINK);
-        myLink.setAttribute(ATTR_CLASS, CLASS_ACCORDIANVALUE);
-        myLink.setAttribute(ATTR_ID, myId);
-        myLink.setIdAttribute(ATTR_ID, true);
-        myLink.setAttribute(ATTR_NAME, myId);
-        myLink.setAttribute(ATTR_HREF, REF_DELAY
-                + pLink);
-        myLink.setTextContent(pName);
-        myCell.appendChild(myHeader);
-        myCell.appendChild(myLink);
+        makeAccordianLinkCell(pControl, PFX_COLLAPSED, REF_DELAY, pLink, pName);
     }
 
     /**
@@ -492,13 +420,16 @@ public class MetisReportHTMLBuilder {
     public void makeFilterLinkCell(final MetisReportHTMLTable pControl,
                                    final String pLink,
                                    final String pName) {
-        final Element myCell = pControl.createNewCell(false);
-        final Element myLink = theDocument.createElement(ELEMENT_LINK);
-        myLink.setAttribute(ATTR_CLASS, CLASS_LINKVALUE);
-        myLink.setAttribute(ATTR_HREF, REF_FILTER
+        final StringBuilder myCell = pControl.createNewCell(false);
+        myCell.append('>');
+        startElement(myCell, ELEMENT_LINK);
+        appendAttribute(myCell, ATTR_CLASS, CLASS_LINKVALUE);
+        appendAttribute(myCell, ATTR_HREF, REF_FILTER
                 + pLink);
-        myLink.setTextContent(pName);
-        myCell.appendChild(myLink);
+        myCell.append('>');
+        appendText(myCell, pName);
+        myCell.append(endElement(ELEMENT_LINK))
+                .append(endElement(ELEMENT_CELL));
     }
 
     /**
@@ -511,23 +442,107 @@ public class MetisReportHTMLBuilder {
     public void makeFilterLinkCell(final MetisReportHTMLTable pControl,
                                    final String pLink,
                                    final Object pValue) {
-        final Element myCell = pControl.createNewCell(false);
-        myCell.setAttribute(ATTR_CLASS, CLASS_LINKOBJECT);
-        final Element myLink = theDocument.createElement(ELEMENT_LINK);
-        myLink.setAttribute(ATTR_HREF, REF_FILTER
+        final StringBuilder myCell = pControl.createNewCell(false);
+        appendAttribute(myCell, ATTR_CLASS, CLASS_LINKOBJECT);
+        myCell.append('>');
+        startElement(myCell, ELEMENT_LINK);
+        final String myValue = setCellValue(myCell, pValue);
+        appendAttribute(myCell, ATTR_HREF, REF_FILTER
+                + pLink);
+        myCell.append('>');
+        appendText(myCell, myValue);
+        myCell.append(endElement(ELEMENT_LINK))
+                .append(endElement(ELEMENT_CELL));
+    }
+
+    /**
+     * Create and append a cell with value.
+     *
+     * @param pControl   the table control
+     * @param pTotal     is this a total cell true/false
+     * @param pValue     the value
+     * @param pStretched does the cell span 2 columns true/false
+     */
+    private void makeValueCell(final MetisReportHTMLTable pControl,
+                               final boolean pTotal,
+                               final Object pValue,
+                               final boolean pStretched) {
+        final StringBuilder myCell = pControl.createNewCell(pTotal);
+        final String myValue = setCellValue(myCell, pValue);
+        if (pStretched) {
+            appendAttribute(myCell, ATTR_COLSPAN, Integer.toString(2));
+        }
+        myCell.append('>');
+        appendText(myCell, myValue);
+        myCell.append(endElement(pTotal
+                ? ELEMENT_TOTAL
+                : ELEMENT_CELL));
+    }
+
+    /**
+     * Create and append a title cell.
+     *
+     * @param pControl   the table control
+     * @param pTitle     the title
+     * @param pStretched does the cell span 2 columns true/false
+     */
+    private static void makeTitleCell(final MetisReportHTMLTable pControl,
+                                      final String pTitle,
+                                      final boolean pStretched) {
+        /* Set class and content of cell */
+        final StringBuilder myCell = pControl.createNewCell(true);
+        appendAttribute(myCell, ATTR_CLASS, CLASS_TITLEVALUE);
+        if (pStretched) {
+            appendAttribute(myCell, ATTR_COLSPAN, Integer.toString(2));
+        }
+        myCell.append('>');
+        appendText(myCell, pTitle);
+        myCell.append(endElement(ELEMENT_TOTAL));
+    }
+
+    /**
+     * Make accordian link cell.
+     *
+     * @param pControl the table control
+     * @param pPrefix  the link prefix
+     * @param pRef     the reference header
+     * @param pLink    the link table name
+     * @param pName    the link table display name
+     */
+    private static void makeAccordianLinkCell(final MetisReportHTMLTable pControl,
+                                              final String pPrefix,
+                                              final String pRef,
+                                              final String pLink,
+                                              final String pName) {
+        /* Determine the id of the link */
+        final String myId = REF_ID
+                + pLink;
+
+        /* Create the cell */
+        final StringBuilder myCell = pControl.createNewCell(false);
+        myCell.append('>')
+                .append(pPrefix);
+        startElement(myCell, ELEMENT_LINK);
+        appendAttribute(myCell, ATTR_CLASS, CLASS_ACCORDIANVALUE);
+        appendAttribute(myCell, ATTR_HREF, pRef
                 + pLink);
-        setCellValue(myLink, pValue);
-        myCell.appendChild(myLink);
+        appendAttribute(myCell, ATTR_ID, myId);
+        appendAttribute(myCell, ATTR_NAME, myId);
+        myCell.append('>');
+        appendText(myCell, pName);
+        myCell.append(endElement(ELEMENT_LINK))
+                .append(endElement(ELEMENT_CELL));
     }
 
     /**
      * Set a cell value.
      *
-     * @param pCell  the cell to set the value for
+     * @param pCell  the open cell to set the value for
      * @param pValue the value for the cell
+     * @return the formatted value (or null)
      */
-    private void setCellValue(final Element pCell,
-                              final Object pValue) {
+    private String setCellValue(final StringBuilder pCell,
+                                final Object pValue) {
         Object myValue = pValue;
         String myClass = CLASS_DATAVALUE;
 
@@ -544,25 +559,12 @@ public class MetisReportHTMLBuilder {
         }
 
         /* Set class of cell */
-        pCell.setAttribute(ATTR_CLASS, myClass);
+        appendAttribute(pCell, ATTR_CLASS, myClass);
 
-        /* Set value of cell */
-        if (myValue != null) {
-            pCell.setTextContent(theFormatter.formatObject(myValue));
-        }
-    }
-
-    /**
-     * Set a cell title.
-     *
-     * @param pCell  the cell to set the value for
-     * @param pTitle the title for the cell
-     */
-    private static void setCellTitle(final Element pCell,
-                                     final String pTitle) {
-        /* Set class and content of cell */
-        pCell.setAttribute(ATTR_CLASS, CLASS_TITLEVALUE);
-        pCell.setTextContent(pTitle);
+        /* Return the value of the cell */
+        return myValue == null
+                ? null
+                : theFormatter.formatObject(myValue);
     }
 
     /**
@@ -598,83 +600,81 @@ public class MetisReportHTMLBuilder {
     /**
      * Start Report.
      *
-     * @return the body
+     * @return the document
      */
-    public Element startReport() {
+    public MetisReportDocument startReport() {
         /* Create the new document */
-        theDocument = theBuilder.newDocument();
-
-        /* Create the standard structure */
-        final Element myHtml = theDocument.createElement(ELEMENT_HTML);
-        theDocument.appendChild(myHtml);
-        final Element myBody = theDocument.createElement(ELEMENT_BODY);
-        myHtml.appendChild(myBody);
-        return myBody;
+        theDocument = new MetisReportDocument();
+        return theDocument;
     }
 
     /**
      * Make title.
      *
-     * @param pBody  the document body
-     * @param pTitle the title
+     * @param pDocument the document
+     * @param pTitle    the title
      */
-    public void makeTitle(final Element pBody,
+    public void makeTitle(final MetisReportDocument pDocument,
                           final String pTitle) {
         /* Create the title */
-        final Element myTitle = theDocument.createElement(ELEMENT_TITLE);
-        pBody.appendChild(myTitle);
-        myTitle.setTextContent(pTitle);
+        final StringBuilder myTitle = new StringBuilder();
+        startElement(myTitle, ELEMENT_TITLE);
+        myTitle.append('>');
+        appendText(myTitle, pTitle);
+        myTitle.append(endElement(ELEMENT_TITLE));
+        pDocument.appendText(myTitle);
     }
 
     /**
      * Make two line title.
      *
-     * @param pBody   the document body
-     * @param pTitle1 the first title
-     * @param pTitle2 the second title
+     * @param pDocument the document
+     * @param pTitle1   the first title
+     * @param pTitle2   the second title
      */
-    public void makeTitle(final Element pBody,
+    public void makeTitle(final MetisReportDocument pDocument,
                           final String pTitle1,
                           final String pTitle2) {
         /* Create the title */
-        final Element myTitle = theDocument.createElement(ELEMENT_TITLE);
-        pBody.appendChild(myTitle);
-        Node myText = theDocument.createTextNode(pTitle1);
-        myTitle.appendChild(myText);
-        final Element myBreak = theDocument.createElement(ELEMENT_BREAK);
-        myTitle.appendChild(myBreak);
-        myText = theDocument.createTextNode(pTitle2);
-        myTitle.appendChild(myText);
+        final StringBuilder myTitle = new StringBuilder();
+        startElement(myTitle, ELEMENT_TITLE);
+        myTitle.append('>');
+        appendText(myTitle, pTitle1);
+        startElement(myTitle, ELEMENT_BREAK);
+        myTitle.append('>');
+        appendText(myTitle, pTitle2);
+        myTitle.append(endElement(ELEMENT_TITLE));
+        pDocument.appendText(myTitle);
     }
 
     /**
      * Make subtitle.
      *
-     * @param pBody  the document body
-     * @param pTitle the title
+     * @param pDocument the document
+     * @param pTitle    the title
      */
-    public void makeSubTitle(final Element pBody,
+    public void makeSubTitle(final MetisReportDocument pDocument,
                              final String pTitle) {
         /* Create the title */
-        final Element myTitle = theDocument.createElement(ELEMENT_SUBTITLE);
-        pBody.appendChild(myTitle);
-        myTitle.setTextContent(pTitle);
+        final StringBuilder myTitle = new StringBuilder();
+        startElement(myTitle, ELEMENT_SUBTITLE);
+        myTitle.append('>');
+        appendText(myTitle, pTitle);
+        myTitle.append(endElement(ELEMENT_SUBTITLE));
+        pDocument.appendText(myTitle);
     }
 
     /**
      * Start Table.
      *
-     * @param pBody the document body
+     * @param pDocument the document
      * @return the table control
      */
-    public MetisReportHTMLTable startTable(final Element pBody) {
-        /* Create the standard structure */
-        final Element myTable = theDocument.createElement(ELEMENT_TABLE);
-        pBody.appendChild(myTable);
-        myTable.setAttribute(ATTR_ALIGN, ALIGN_CENTER);
-
+    public MetisReportHTMLTable startTable(final MetisReportDocument pDocument) {
         /* Create the table control */
-        return new MetisReportHTMLTable(myTable);
+        final MetisReportHTMLTable myTable = new MetisReportHTMLTable();
+        pDocument.appendTable(myTable);
+        return myTable;
     }
 
     /**
@@ -684,48 +684,39 @@ public class MetisReportHTMLBuilder {
      * @return the new table
      */
     public MetisReportHTMLTable createEmbeddedTable(final MetisReportHTMLTable pParent) {
-        /* Create the table */
-        final Element myTable = theDocument.createElement(ELEMENT_TABLE);
-        myTable.setAttribute(ATTR_CLASS, CLASS_SUBTABLE);
-        myTable.setAttribute(ATTR_ALIGN, ALIGN_CENTER);
-
         /* Create the table control */
-        return new MetisReportHTMLTable(myTable, pParent);
+        return new MetisReportHTMLTable(pParent);
     }
 
     /**
      * Embed a table into the document.
+     * <p>
+     * Only the new table is written. Its row is spliced into the existing text after the link row,
+     * so the rest of the document is not serialised again.
      *
      * @param pTable the table to embed
      * @param pTitle the title of the table
      */
     public void embedTable(final MetisReportHTMLTable pTable,
                            final String pTitle) {
-        /* Access body element */
-        final MetisReportHTMLTable myParent = pTable.getParent();
-        final Element myLink = getLinkRow(pTitle);
-        final Node myNextRow = myLink.getNextSibling();
-
         /* Create the row */
-        final Element myRow = theDocument.createElement(ELEMENT_ROW);
-        myRow.setAttribute(ATTR_ID, REF_TAB
+        final MetisReportHTMLTable myParent = pTable.getParent();
+        final StringBuilder myRow = new StringBuilder();
+        startElement(myRow, ELEMENT_ROW);
+        appendAttribute(myRow, ATTR_ID, REF_TAB
                 + pTitle);
-        myRow.setIdAttribute(ATTR_ID, true);
-        final Element myCell = theDocument.createElement(ELEMENT_CELL);
-        myRow.appendChild(myCell);
-        myCell.setAttribute(ATTR_COLSPAN, Integer.toString(myParent.getNumCols()));
-        myCell.appendChild(pTable.getTable());
+        myRow.append('>');
+        writeEmbeddedCell(myRow, pTable);
+        myRow.append(endElement(ELEMENT_ROW));
 
-        /* Insert into the correct place in the document */
-        final Node myTop = myLink.getParentNode();
-        if (myNextRow == null) {
-            myTop.appendChild(myRow);
-        } else {
-            myTop.insertBefore(myRow, myNextRow);
+        /* Insert after the link row in the parent, or in the document if the parent is complete */
+        final String myLinkId = escape(REF_ID
+                + pTitle);
+        final String myHRef = escape(REF_TAB
+                + pTitle);
+        if (!myParent.embedSection(myLinkId, myHRef, myRow)) {
+            theDocument.embedSection(myLinkId, myHRef, PFX_OPEN, myRow);
         }
-
-        /* Adjust prefix of owning link */
-        setPrefix(myLink, true);
     }
 
     /**
@@ -734,57 +725,143 @@ public class MetisReportHTMLBuilder {
      * @param pTable the table to embed
      */
     public void embedTable(final MetisReportHTMLTable pTable) {
-        /* Access body element */
-        final MetisReportHTMLTable myParent = pTable.getParent();
-        final Element myBody = myParent.getTableBody();
-
         /* Create the row */
-        final Element myRow = theDocument.createElement(ELEMENT_ROW);
-        final Element myCell = theDocument.createElement(ELEMENT_CELL);
-        myRow.appendChild(myCell);
-        myCell.setAttribute(ATTR_COLSPAN, Integer.toString(myParent.getNumCols()));
-        myCell.appendChild(pTable.getTable());
+        final StringBuilder myRow = new StringBuilder();
+        startElement(myRow, ELEMENT_ROW);
+        myRow.append('>');
+        writeEmbeddedCell(myRow, pTable);
+        myRow.append(endElement(ELEMENT_ROW));
 
         /* Insert into the correct place in the document */
-        myBody.appendChild(myRow);
+        pTable.getParent().appendRow(myRow);
     }
 
     /**
-     * Obtain the row that a link is in.
+     * Write the cell that holds an embedded table.
      *
-     * @param pTitle the title of the link
-     * @return the row that contains the link
+     * @param pRow   the row
+     * @param pTable the table to embed
      */
-    protected Element getLinkRow(final String pTitle) {
-        /* Determine the id of the link */
-        final String myId = REF_ID
-                + pTitle;
+    private static void writeEmbeddedCell(final StringBuilder pRow,
+                                          final MetisReportHTMLTable pTable) {
+        startElement(pRow, ELEMENT_CELL);
+        appendAttribute(pRow, ATTR_COLSPAN, Integer.toString(pTable.getParent().getNumCols()));
+        pRow.append('>');
+        pTable.writeTable(pRow);
+        pRow.append(endElement(ELEMENT_CELL));
+    }
 
-        /* Locate the cell element */
-        final Element myLink = theDocument.getElementById(myId);
-        final Node myCell = myLink.getParentNode();
-        final Node myParent = myCell.getParentNode();
+    /**
+     * Remove the section for a table link from the document.
+     *
+     * @param pDocument the document
+     * @param pTitle    the title of the table
+     * @return the removed section (or null if not found)
+     */
+    String removeSection(final MetisReportDocument pDocument,
+                         final String pTitle) {
+        return pDocument.removeSection(escape(REF_ID + pTitle), PFX_COLLAPSED,
+                escape(REF_TAB + pTitle));
+    }
 
-        /* Update the link to be a table reference */
-        myLink.setAttribute(ATTR_HREF, REF_TAB
-                + pTitle);
+    /**
+     * Restore a previously removed section for a table link into the document.
+     *
+     * @param pDocument the document
+     * @param pTitle    the title of the table
+     * @param pSection  the section
+     * @return was the section restored true/false
+     */
+    boolean restoreSection(final MetisReportDocument pDocument,
+                           final String pTitle,
+                           final String pSection) {
+        return pDocument.embedSection(escape(REF_ID + pTitle),
+                escape(REF_TAB + pTitle), PFX_OPEN, pSection);
+    }
 
-        /* Cast result to element */
-        return myParent instanceof Element myElement
-                ? myElement
-                : null;
+    /**
+     * Start an element.
+     *
+     * @param pText    the text to append to
+     * @param pElement the element
+     */
+    private static void startElement(final StringBuilder pText,
+                                     final String pElement) {
+        pText.append('<').append(pElement);
     }
 
     /**
-     * Set prefix for owning link.
+     * Obtain the end tag for an element.
      *
-     * @param pOwner the owning link
-     * @param pOpen  is the link open true/false
+     * @param pElement the element
+     * @return the end tag
      */
-    void setPrefix(final Node pOwner,
-                   final boolean pOpen) {
-        /* Adjust prefix of owning link */
-        pOwner.getFirstChild().getFirstChild().setTextContent(pOpen ? PFX_OPEN : PFX_COLLAPSED);
+    private static String endElement(final String pElement) {
+        return "</" + pElement + '>';
+    }
+
+    /**
+     * Append an attribute to an open element.
+     *
+     * @param pText  the text to append to
+     * @param pName  the attribute name
+     * @param pValue the attribute value
+     */
+    private static void appendAttribute(final StringBuilder pText,
+                                        final String pName,
+                                        final String pValue) {
+        pText.append(' ').append(pName).append("=\"");
+        appendEscaped(pText, pValue);
+        pText.append('"');
+    }
+
+    /**
+     * Append text content.
+     *
+     * @param pText  the text to append to
+     * @param pValue the value (or null)
+     */
+    private static void appendText(final StringBuilder pText,
+                                   final String pValue) {
+        if (pValue != null) {
+            appendEscaped(pText, pValue);
+        }
+    }
+
+    /**
+     * Escape a value.
+     *
+     * @param pValue the value
+     * @return the escaped value
+     */
+    private static String escape(final String pValue) {
+        final StringBuilder myBuilder = new StringBuilder(pValue.length());
+        appendEscaped(myBuilder, pValue);
+        return myBuilder.toString();
+    }
+
+    /**
+     * Append an escaped value.
+     * <p>
+     * Quotes are escaped in text as well as in attributes, so that attribute markup such as an id can only
+     * occur in the text where it was written as an attribute.
+     *
+     * @param pText  the text to append to
+     * @param pValue the value
+     */
+    private static void appendEscaped(final StringBuilder pText,
+                                      final String pValue) {
+        final int myLen = pValue.length();
+        for (int i = 0; i < myLen; i++) {
+            final char myChar = pValue.charAt(i);
+            switch (myChar) {
+                case '&' -> pText.append("&amp;");
+                case '<' -> pText.append("&lt;");
+                case '>' -> pText.append("&gt;");
+                case '"' -> pText.append("&quot;");
+                default -> pText.append(myChar);
+            }
+        }
     }
 
     /**
@@ -802,24 +879,24 @@ public class MetisReportHTMLBuilder {
         private final MetisReportHTMLTable theParent;
 
         /**
-         * The table element.
+         * The table header text.
          */
-        private final Element theTable;
+        private StringBuilder theHeader;
 
         /**
-         * The table header element.
+         * The table body text.
          */
-        private Element theHeader;
+        private StringBuilder theBody;
 
         /**
-         * The table body element.
+         * The text of the current row.
          */
-        private Element theBody;
+        private StringBuilder theRow;
 
         /**
-         * The current row.
+         * Has the table been written.
          */
-        private Element theRow;
+        private boolean isWritten;
 
         /**
          * Was the last row an odd row.
@@ -839,25 +916,19 @@ public class MetisReportHTMLBuilder {
         /**
          * Constructor.
          *
-         * @param pTable  the table element
          * @param pParent the parent table.
          */
-        private MetisReportHTMLTable(final Element pTable,
-                                     final MetisReportHTMLTable pParent) {
+        private MetisReportHTMLTable(final MetisReportHTMLTable pParent) {
             /* Store parameters */
-            theTable = pTable;
             theParent = pParent;
             theClass = pParent.getNextTableClass();
         }
 
         /**
          * Constructor.
-         *
-         * @param pTable the table element
          */
-        private MetisReportHTMLTable(final Element pTable) {
+        private MetisReportHTMLTable() {
             /* Store parameters */
-            theTable = pTable;
             theParent = null;
             theClass = TableClass.SUMMARY;
         }
@@ -867,18 +938,11 @@ public class MetisReportHTMLBuilder {
          *
          * @return the header
          */
-        private Element getTableHeader() {
+        private StringBuilder getTableHeader() {
             /* If we have not yet created the header */
             if (theHeader == null) {
                 /* Create the header */
-                theHeader = theDocument.createElement(ELEMENT_THDR);
-
-                /* Insert before body */
-                if (theBody == null) {
-                    theTable.appendChild(theHeader);
-                } else {
-                    theTable.insertBefore(theHeader, theBody);
-                }
+                theHeader = new StringBuilder();
             }
             return theHeader;
         }
@@ -888,12 +952,11 @@ public class MetisReportHTMLBuilder {
          *
          * @return the body
          */
-        private Element getTableBody() {
+        private StringBuilder getTableBody() {
             /* If we have not yet created the body */
             if (theBody == null) {
                 /* Create the body */
-                theBody = theDocument.createElement(ELEMENT_TBODY);
-                theTable.appendChild(theBody);
+                theBody = new StringBuilder();
             }
             return theBody;
         }
@@ -916,15 +979,6 @@ public class MetisReportHTMLBuilder {
             return theParent;
         }
 
-        /**
-         * Obtain the table.
-         *
-         * @return the table
-         */
-        private Element getTable() {
-            return theTable;
-        }
-
         /**
          * Obtain the next class name.
          *
@@ -954,16 +1008,8 @@ public class MetisReportHTMLBuilder {
          * Create a new row.
          */
         private void createTotalRow() {
-            /* Determine the parent */
-            final Element myParent = getTableBody();
-
             /* Create the row */
-            theRow = theDocument.createElement(ELEMENT_ROW);
-            myParent.appendChild(theRow);
-            theRow.setAttribute(ATTR_CLASS, CLASS_TOTROW);
-
-            /* Adjust # of columns */
-            numCols = 0;
+            startRow(getTableBody(), CLASS_TOTROW);
         }
 
         /**
@@ -972,29 +1018,53 @@ public class MetisReportHTMLBuilder {
          * @param bHdr use header rather than body (true/false)
          */
         private void createNewRow(final boolean bHdr) {
-            /* Determine the parent */
-            final Element myParent = bHdr
-                    ? getTableHeader()
-                    : getTableBody();
+            /* Create the row */
+            startRow(bHdr
+                            ? getTableHeader()
+                            : getTableBody(),
+                    bHdr
+                            ? CLASS_TOTROW
+                            : getNextRowClass());
+        }
+
+        /**
+         * Start a new row.
+         *
+         * @param pParent the parent text
+         * @param pClass  the row class
+         */
+        private void startRow(final StringBuilder pParent,
+                              final String pClass) {
+            /* Close any open row */
+            closeRow();
 
             /* Create the row */
-            theRow = theDocument.createElement(ELEMENT_ROW);
-            myParent.appendChild(theRow);
-            theRow.setAttribute(ATTR_CLASS, bHdr
-                    ? CLASS_TOTROW
-                    : getNextRowClass());
+            theRow = pParent;
+            startElement(theRow, ELEMENT_ROW);
+            appendAttribute(theRow, ATTR_CLASS, pClass);
+            theRow.append('>');
 
             /* Adjust # of columns */
             numCols = 0;
         }
 
+        /**
+         * Close the current row.
+         */
+        private void closeRow() {
+            if (theRow != null) {
+                theRow.append(endElement(ELEMENT_ROW));
+                theRow = null;
+            }
+        }
+
         /**
          * Create a new cell in the current row.
          *
          * @param bTotal create total cell (true/false)
-         * @return the new cell
+         * @return the row text, positioned within the open start tag of the new cell
          */
-        private Element createNewCell(final boolean bTotal) {
+        private StringBuilder createNewCell(final boolean bTotal) {
             /* Determine the cell type */
             final String myCellType = bTotal
                     ? ELEMENT_TOTAL
@@ -1007,11 +1077,78 @@ public class MetisReportHTMLBuilder {
             }
 
             /* Create the cell in the current row */
-            final Element myCell = theDocument.createElement(myCellType);
-            theRow.appendChild(myCell);
-            return myCell;
+            startElement(theRow, myCellType);
+            return theRow;
         }
 
+        /**
+         * Append a complete row to the table body.
+         *
+         * @param pRow the row
+         */
+        private void appendRow(final CharSequence pRow) {
+            closeRow();
+            getTableBody().append(pRow);
+        }
+
+        /**
+         * Embed a section after the row holding the link for the section.
+         *
+         * @param pLinkId  the escaped id of the link
+         * @param pHRef    the escaped reference for the link
+         * @param pSection the section row
+         * @return was the link found true/false
+         */
+        private boolean embedSection(final String pLinkId,
+                                     final String pHRef,
+                                     final CharSequence pSection) {
+            closeRow();
+            return !isWritten
+                    && theBody != null
+                    && MetisReportDocument.embedSection(theBody, pLinkId, pHRef, PFX_OPEN, pSection);
+        }
+
+        /**
+         * Write the table.
+         *
+         * @param pText the text to write to
+         */
+        void writeTable(final StringBuilder pText) {
+            /* Close any open row */
+            closeRow();
+
+            /* Write the table */
+            startElement(pText, ELEMENT_TABLE);
+            appendAttribute(pText, ATTR_ALIGN, ALIGN_CENTER);
+            if (theParent != null) {
+                appendAttribute(pText, ATTR_CLASS, CLASS_SUBTABLE);
+            }
+            pText.append('>');
+            writeSection(pText, ELEMENT_THDR, theHeader);
+            writeSection(pText, ELEMENT_TBODY, theBody);
+            pText.append(endElement(ELEMENT_TABLE));
+
+            /* Release the text */
+            theHeader = null;
+            theBody = null;
+            isWritten = true;
+        }
+
+        /**
+         * Write a table section.
+         *
+         * @param pText    the text to write to
+         * @param pElement the section element
+         * @param pSection the section text (or null)
+         */
+        private static void writeSection(final StringBuilder pText,
+                                         final String pElement,
+                                         final StringBuilder pSection) {
+            if (pSection != null) {
+                startElement(pText, pElement);
+                pText.append('>').append(pSection).append(endElement(pElement));
+            }
+        }
     }
 
     /**
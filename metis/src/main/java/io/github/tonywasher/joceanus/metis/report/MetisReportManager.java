@@ -16,26 +16,11 @@
  */
 package io.github.tonywasher.joceanus.metis.report;
 
-import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
 import io.github.tonywasher.joceanus.oceanus.event.OceanusEventManager;
 import io.github.tonywasher.joceanus.oceanus.event.OceanusEventRegistrar;
 import io.github.tonywasher.joceanus.oceanus.event.OceanusEventRegistrar.OceanusEventProvider;
-import io.github.tonywasher.joceanus.oceanus.logger.OceanusLogManager;
-import io.github.tonywasher.joceanus.oceanus.logger.OceanusLogger;
-import io.github.tonywasher.joceanus.metis.exc.MetisIOException;
 import io.github.tonywasher.joceanus.tethys.api.control.TethysUIHTMLManager;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-
-import javax.xml.XMLConstants;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.StringWriter;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -48,21 +33,11 @@ import java.util.Map;
  */
 public class MetisReportManager<F>
         implements OceanusEventProvider<MetisReportEvent> {
-    /**
-     * Logger.
-     */
-    private static final OceanusLogger LOGGER = OceanusLogManager.getLogger(MetisReportManager.class);
-
     /**
      * The Event Manager.
      */
     private final OceanusEventManager<MetisReportEvent> theEventManager;
 
-    /**
-     * The Transformer.
-     */
-    private final Transformer theXformer;
-
     /**
      * Report formatter.
      */
@@ -71,7 +46,7 @@ public class MetisReportManager<F>
     /**
      * The Current document.
      */
-    private Document theDocument;
+    private MetisReportDocument theDocument;
 
     /**
      * The Reference Manager.
@@ -84,17 +59,31 @@ public class MetisReportManager<F>
     private String theText;
 
     /**
-     * The hidden element map.
+     * The hidden section map.
+     */
+    private Map<String, String> theHiddenMap;
+
+    /**
+     * The map of rendered reports.
+     */
+    private final Map<MetisReportBase<?, F>, RenderedReport> theRenderMap;
+
+    /**
+     * The Current rendered report.
+     */
+    private RenderedReport theRender;
+
+    /**
+     * The source of the rendered reports.
      */
-    private final Map<String, HiddenElement> theHiddenMap;
+    private Object theSource;
 
     /**
      * Constructor.
      *
      * @param pBuilder the HTML builder
-     * @throws OceanusException on error
      */
-    public MetisReportManager(final MetisReportHTMLBuilder pBuilder) throws OceanusException {
+    public MetisReportManager(final MetisReportHTMLBuilder pBuilder) {
         /* Record parameters */
         theBuilder = pBuilder;
 
@@ -103,20 +92,7 @@ public class MetisReportManager<F>
 
         /* Allocate the hashMaps */
         theHiddenMap = new HashMap<>();
-
-        /* Protect against exceptions */
-        try {
-            /* Create the transformer */
-            final TransformerFactory myXformFactory = TransformerFactory.newInstance();
-            myXformFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            myXformFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            myXformFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-            theXformer = myXformFactory.newTransformer();
-            theXformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-
-        } catch (Exception e) {
-            throw new MetisIOException("Failed to create", e);
-        }
+        theRenderMap = new HashMap<>();
     }
 
     @Override
@@ -133,18 +109,100 @@ public class MetisReportManager<F>
         return theBuilder;
     }
 
+    /**
+     * Set the source that reports are built from.
+     * <p>
+     * Rendered reports are retained only while the source is unchanged. A new source, compared by
+     * identity, discards all previously rendered reports so that they cannot hold on to stale data.
+     *
+     * @param pSource the source
+     */
+    public void setSource(final Object pSource) {
+        /* If the source has changed */
+        if (pSource != theSource) {
+            /* Record the source and discard the rendered reports */
+            theSource = pSource;
+            theRenderMap.clear();
+            theRender = null;
+        }
+    }
+
     /**
      * Set Report.
      *
      * @param pReport the report
      */
     public void setReport(final MetisReportBase<?, F> pReport) {
-        /* Clear the maps */
-        theHiddenMap.clear();
+        setReport(pReport, null);
+    }
+
+    /**
+     * Set Report.
+     *
+     * @param pReport the report
+     * @param pKey    the key identifying the data that the report is built from (or null)
+     */
+    public void setReport(final MetisReportBase<?, F> pReport,
+                          final Object pKey) {
+        /* Save the current render */
+        saveRender();
+
+        /* Allocate new maps */
+        theHiddenMap = new HashMap<>();
 
         /* Store the reference manager */
         theReferenceMgr = pReport.getReferenceMgr();
         theReferenceMgr.clearMaps();
+
+        /* Record the new render */
+        theRender = new RenderedReport(pKey, theReferenceMgr, theHiddenMap);
+        theRenderMap.put(pReport, theRender);
+        theDocument = null;
+        theText = null;
+    }
+
+    /**
+     * Resume a previously rendered report.
+     * <p>
+     * If the report was last rendered from the same key, the rendered document, its text and the
+     * state of any expanded/hidden sections are reinstated and the document is returned.
+     *
+     * @param pReport the report
+     * @param pKey    the key identifying the data that the report is built from
+     * @return the previously rendered document, or null if the report must be rebuilt
+     */
+    public MetisReportDocument resumeReport(final MetisReportBase<?, F> pReport,
+                                            final Object pKey) {
+        /* Look for a matching render */
+        final RenderedReport myRender = theRenderMap.get(pReport);
+        if (pKey == null
+                || myRender == null
+                || myRender.theDocument == null
+                || !pKey.equals(myRender.theKey)) {
+            return null;
+        }
+
+        /* Save the current render */
+        saveRender();
+
+        /* Reinstate the render */
+        theRender = myRender;
+        theReferenceMgr = myRender.theReferenceMgr;
+        theHiddenMap = myRender.theHiddenMap;
+        theDocument = myRender.theDocument;
+        theText = myRender.theText;
+        theBuilder.setDocument(theDocument);
+        return theDocument;
+    }
+
+    /**
+     * Save the state of the current render.
+     */
+    private void saveRender() {
+        if (theRender != null) {
+            theRender.theDocument = theDocument;
+            theRender.theText = theText;
+        }
     }
 
     /**
@@ -152,9 +210,26 @@ public class MetisReportManager<F>
      *
      * @param pDocument the document
      */
-    public void setDocument(final Document pDocument) {
-        /* Store the document */
-        theDocument = pDocument;
+    public void setDocument(final MetisReportDocument pDocument) {
+        /* If the document has changed */
+        if (pDocument != theDocument) {
+            /* Store the document and reset the text */
+            theDocument = pDocument;
+            theText = null;
+        }
+    }
+
+    /**
+     * Obtain the text of the current document.
+     *
+     * @return the text
+     */
+    public String getText() {
+        if (theText == null
+                && theDocument != null) {
+            theText = theDocument.getText();
+        }
+        return theText;
     }
 
     /**
@@ -181,12 +256,10 @@ public class MetisReportManager<F>
      *
      * @param pId the id of the section to hide.
      * @return the modified text
-     * @throws OceanusException on error
      */
-    protected String hideSection(final String pId) throws OceanusException {
-        /* Ignore if we have no document or transformer */
-        if (theDocument == null
-                || theXformer == null) {
+    protected String hideSection(final String pId) {
+        /* Ignore if we have no document */
+        if (theDocument == null) {
             /* Return no change */
             return null;
         }
@@ -196,114 +269,44 @@ public class MetisReportManager<F>
             return null;
         }
 
-        /* Locate the section */
-        final Element mySection = getElementById(pId);
+        /* Remove the section */
+        final String mySection = theBuilder.removeSection(theDocument, getTitle(pId));
         if (mySection != null) {
-            /* Hide the element */
-            final HiddenElement myElement = new HiddenElement(mySection);
-            myElement.hide();
-
-            /* Put the old element into the map */
-            theHiddenMap.put(pId, myElement);
+            /* Put the old section into the map */
+            theHiddenMap.put(pId, mySection);
 
             /* Return the new text */
-            return formatXML();
+            return refreshText();
         }
 
         /* Return no change */
         return null;
     }
 
-    /**
-     * Obtain element with the given id attribute.
-     *
-     * @param pId the id
-     * @return the relevant element (or null)
-     */
-    private Element getElementById(final String pId) {
-        /* Access root element */
-        final Element myElement = theDocument.getDocumentElement();
-
-        /* Loop through the nodes */
-        for (Node myNode = myElement.getFirstChild(); myNode != null; myNode = myNode.getNextSibling()) {
-            /* Skip nonElement nodes */
-            if (myNode.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            /* Access node as element */
-            final Element myChild = (Element) myNode;
-            final Element myResult = checkElementForId(myChild, pId);
-            if (myResult != null) {
-                return myResult;
-            }
-        }
-
-        /* Return not found */
-        return null;
-    }
-
-    /**
-     * Obtain element with the given id attribute.
-     *
-     * @param pElement the element to search
-     * @param pId      the id
-     * @return the element or null if not found
-     */
-    private static Element checkElementForId(final Element pElement,
-                                             final String pId) {
-        /* Check the element for the id */
-        if (pElement.getAttribute(MetisReportHTMLBuilder.ATTR_ID).equals(pId)) {
-            return pElement;
-        }
-
-        /* Loop through the child nodes */
-        for (Node myNode = pElement.getFirstChild(); myNode != null; myNode = myNode.getNextSibling()) {
-            /* Skip nonElement nodes */
-            if (myNode.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-
-            /* Access node as element */
-            final Element myChild = (Element) myNode;
-
-            /* Pass check on to child */
-            final Element myResult = checkElementForId(myChild, pId);
-            if (myResult != null) {
-                return myResult;
-            }
-        }
-
-        /* Return not found */
-        return null;
-    }
-
     /**
      * Restore section.
      *
      * @param pId the id of the section to restore.
      * @return the modified text
-     * @throws OceanusException on error
      */
-    String restoreSection(final String pId) throws OceanusException {
-        /* Ignore if we have no document or transformer */
-        if (theDocument == null
-                || theXformer == null) {
+    String restoreSection(final String pId) {
+        /* Ignore if we have no document */
+        if (theDocument == null) {
             /* Return current text */
             return theText;
         }
 
-        /* Obtain the hidden element */
-        final HiddenElement myHidden = theHiddenMap.get(pId);
+        /* Obtain the hidden section */
+        final String myHidden = theHiddenMap.get(pId);
 
-        /* If we have hidden an element */
+        /* If we have hidden a section */
         if (myHidden != null) {
-            /* Restore the element */
-            myHidden.restore();
+            /* Restore the section */
             theHiddenMap.remove(pId);
-
-            /* Return the new text */
-            return formatXML();
+            if (theBuilder.restoreSection(theDocument, getTitle(pId), myHidden)) {
+                /* Return the new text */
+                return refreshText();
+            }
         }
 
         /* Just return the current text */
@@ -311,24 +314,23 @@ public class MetisReportManager<F>
     }
 
     /**
-     * Format XML.
+     * Obtain the table title from a table reference.
      *
-     * @return the formatted XML
-     * @throws OceanusException on error
+     * @param pId the table reference
+     * @return the title
      */
-    public String formatXML() throws OceanusException {
-        /* Protect against exceptions */
-        try {
-            /* Transform the new document */
-            final StringWriter myWriter = new StringWriter();
-            theXformer.transform(new DOMSource(theDocument), new StreamResult(myWriter));
-            theText = myWriter.getBuffer().toString().replaceAll("[\n\r]", "");
+    private static String getTitle(final String pId) {
+        return pId.substring(MetisReportHTMLBuilder.REF_TAB.length());
+    }
 
-            /* Return the new text */
-            return theText;
-        } catch (TransformerException e) {
-            throw new MetisIOException("Failed to format", e);
-        }
+    /**
+     * Refresh the text from the document.
+     *
+     * @return the new text
+     */
+    private String refreshText() {
+        theText = theDocument.getText();
+        return theText;
     }
 
     /**
@@ -362,41 +364,34 @@ public class MetisReportManager<F>
         /* Allocate the text */
         String myText = null;
 
-        /* Protected against exceptions */
-        try {
-            /* If this is a table reference */
-            if (pId.startsWith(MetisReportHTMLBuilder.REF_TAB)) {
-                /* If the section is hidden */
-                if (isHiddenId(pId)) {
-                    /* Restore the section and access text */
-                    myText = restoreSection(pId);
-
-                    /* else try to hide the section */
-                } else {
-                    myText = hideSection(pId);
-                }
-
-                /* else if this is a delayed table reference */
-            } else if (pId.startsWith(MetisReportHTMLBuilder.REF_DELAY)) {
-                /* Process the delayed reference and format text */
-                if (theReferenceMgr.processDelayedReference(getBuilder(), pId)) {
-                    /* Format the text */
-                    myText = formatXML();
-                }
-
-                /* else if this is a filter reference */
-            } else if (pId.startsWith(MetisReportHTMLBuilder.REF_FILTER)) {
-                /* Process the filter reference */
-                final F myFilter = theReferenceMgr.processFilterReference(pId);
-
-                /* Fire Action event if necessary */
-                if (myFilter != null) {
-                    fireActionEvent(myFilter);
-                }
+        /* If this is a table reference */
+        if (pId.startsWith(MetisReportHTMLBuilder.REF_TAB)) {
+            /* If the section is hidden */
+            if (isHiddenId(pId)) {
+                /* Restore the section and access text */
+                myText = restoreSection(pId);
+
+                /* else try to hide the section */
+            } else {
+                myText = hideSection(pId);
+            }
+
+            /* else if this is a delayed table reference */
+        } else if (pId.startsWith(MetisReportHTMLBuilder.REF_DELAY)) {
+            /* Process the delayed reference and access text */
+            if (theReferenceMgr.processDelayedReference(getBuilder(), pId)) {
+                myText = refreshText();
+            }
+
+            /* else if this is a filter reference */
+        } else if (pId.startsWith(MetisReportHTMLBuilder.REF_FILTER)) {
+            /* Process the filter reference */
+            final F myFilter = theReferenceMgr.processFilterReference(pId);
+
+            /* Fire Action event if necessary */
+            if (myFilter != null) {
+                fireActionEvent(myFilter);
             }
-        } catch (OceanusException e) {
-            LOGGER.error("Failed to process reference", e);
-            myText = null;
         }
 
         /* Return the new text */
@@ -404,59 +399,47 @@ public class MetisReportManager<F>
     }
 
     /**
-     * Simple element class for hidden elements.
+     * Rendered report state.
      */
-    private final class HiddenElement {
+    private final class RenderedReport {
         /**
-         * The element that is hidden.
+         * The key that the report was rendered from.
          */
-        private final Element theElement;
+        private final Object theKey;
 
         /**
-         * Its parent.
+         * The Reference Manager.
          */
-        private final Node theParent;
+        private final MetisReportReferenceManager<F> theReferenceMgr;
 
         /**
-         * Its previous sibling.
+         * The hidden section map.
          */
-        private final Node thePrevious;
+        private final Map<String, String> theHiddenMap;
 
         /**
-         * Constructor.
-         *
-         * @param pElement the element.
+         * The rendered document.
          */
-        private HiddenElement(final Element pElement) {
-            /* Store details */
-            theElement = pElement;
-            theParent = pElement.getParentNode();
-            thePrevious = pElement.getPreviousSibling();
-        }
+        private MetisReportDocument theDocument;
 
         /**
-         * Hide the element.
+         * The rendered text.
          */
-        private void hide() {
-            /* Remove the child from the parent */
-            theBuilder.setPrefix(thePrevious, false);
-            theParent.removeChild(theElement);
-        }
+        private String theText;
 
         /**
-         * Restore the element.
+         * Constructor.
+         *
+         * @param pKey       the key
+         * @param pRefMgr    the reference manager
+         * @param pHiddenMap the hidden section map
          */
-        private void restore() {
-            /* Determine next sibling */
-            theBuilder.setPrefix(thePrevious, true);
-            final Node myNextSibling = thePrevious.getNextSibling();
-
-            /* Restore the element */
-            if (myNextSibling == null) {
-                theParent.appendChild(theElement);
-            } else {
-                theParent.insertBefore(theElement, myNextSibling);
-            }
+        private RenderedReport(final Object pKey,
+                               final MetisReportReferenceManager<F> pRefMgr,
+                               final Map<String, String> pHiddenMap) {
+            theKey = pKey;
+            theReferenceMgr = pRefMgr;
+            theHiddenMap = pHiddenMap;
         }
     }
 }
@@ -91,10 +91,8 @@ public class MetisReportReferenceManager<F> {
         /* Create the delayed table */
         final MetisReportHTMLTable myTable = theReport.createDelayedTable(myDelay);
 
-        /* Embed the table correctly */
+        /* Write just the new table into the document */
         pBuilder.embedTable(myTable, myDelay.getId());
-
-        /* Reformat text */
         return true;
     }
 
@@ -0,0 +1,280 @@
+/*
+ * Metis: Java Data Framework
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.tonywasher.joceanus.metis.junit.report;
+
+import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDelayedTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
+import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
+import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
+import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
+import io.github.tonywasher.joceanus.tethys.api.control.TethysUIHTMLManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.stream.Stream;
+
+/**
+ * Report document tests.
+ */
+class TestReport {
+    /**
+     * The id of the delayed table.
+     */
+    private static final String DELAY_ID = "first";
+
+    /**
+     * The display name of the delayed table link.
+     */
+    private static final String DELAY_NAME = "A & \"B\" <c>";
+
+    /**
+     * The start of the report.
+     */
+    private static final String TEXT_START = "<html><body><h1>Report for &quot;Test&quot;<br>1 &lt; 2 &amp; 3 &gt; 2</h1>"
+            + "<table align=\"center\"><thead><tr class=\"totalRow\"><th class=\"titleValue\">Name</th>"
+            + "<th class=\"titleValue\">Value</th></tr></thead><tbody><tr class=\"summRow\"><td>";
+
+    /**
+     * The end of the link.
+     */
+    private static final String TEXT_LINK = "\" id=\"idfirst\" name=\"idfirst\">A &amp; &quot;B&quot; &lt;c&gt;</a></td>"
+            + "<td class=\"dataValue\">x&lt;y</td></tr>";
+
+    /**
+     * The embedded section.
+     */
+    private static final String TEXT_SECTION = "<tr id=\"tablefirst\"><td colspan=\"2\"><table align=\"center\" class=\"subtable\">"
+            + "<tbody><tr class=\"dtlSummRow\"><td class=\"dataValue\">Detail of A &amp; &quot;B&quot; &lt;c&gt;</td>"
+            + "<td class=\"dataValue\">&quot;quoted&quot;</td></tr></tbody></table></td></tr>";
+
+    /**
+     * The end of the report.
+     */
+    private static final String TEXT_END = "<tr class=\"totalRow\"><th class=\"dataValue\">Total</th><th></th></tr>"
+            + "</tbody></table></body></html>";
+
+    /**
+     * The text of the built report.
+     */
+    private static final String REPORT_TEXT = TEXT_START
+            + "⯈ <a class=\"accordianValue\" href=\"delayfirst" + TEXT_LINK
+            + TEXT_END;
+
+    /**
+     * The text of the report once the delayed table has been expanded.
+     */
+    private static final String EXPANDED_TEXT = TEXT_START
+            + "⯆ <a class=\"accordianValue\" href=\"tablefirst" + TEXT_LINK
+            + TEXT_SECTION
+            + TEXT_END;
+
+    /**
+     * The text of the report once the expanded table has been hidden.
+     */
+    private static final String HIDDEN_TEXT = TEXT_START
+            + "⯈ <a class=\"accordianValue\" href=\"tablefirst" + TEXT_LINK
+            + TEXT_END;
+
+    /**
+     * Create the report test suite.
+     *
+     * @return the test stream
+     */
+    @TestFactory
+    Stream<DynamicNode> reportTests() {
+        return Stream.of(
+                DynamicTest.dynamicTest("checkBuild", TestReport::build),
+                DynamicTest.dynamicTest("checkSections", TestReport::sections)
+        );
+    }
+
+    /**
+     * Build tests.
+     */
+    private static void build() {
+        /* Build the report and check the text */
+        final TestReportManager myManager = new TestReportManager();
+        Assertions.assertEquals(REPORT_TEXT, myManager.getText(), "Incorrect report text");
+
+        /* An unknown reference leaves the text unchanged */
+        myManager.processReference("tableunknown");
+        Assertions.assertNull(myManager.theContent, "Unknown reference changed text");
+        Assertions.assertEquals(REPORT_TEXT, myManager.getText(), "Unknown reference changed text");
+    }
+
+    /**
+     * Section tests.
+     */
+    private static void sections() {
+        /* Build the report */
+        final TestReportManager myManager = new TestReportManager();
+
+        /* Expand the delayed table */
+        myManager.processReference("delay" + DELAY_ID);
+        Assertions.assertEquals(EXPANDED_TEXT, myManager.theContent, "Incorrect expanded text");
+        Assertions.assertEquals("id" + DELAY_ID, myManager.theReference, "Incorrect scroll reference");
+
+        /* The delayed table is only expanded once */
+        myManager.theContent = null;
+        myManager.processReference("delay" + DELAY_ID);
+        Assertions.assertNull(myManager.theContent, "Delayed table expanded twice");
+
+        /* Hide the section */
+        myManager.processReference("table" + DELAY_ID);
+        Assertions.assertEquals(HIDDEN_TEXT, myManager.theContent, "Incorrect hidden text");
+
+        /* Restore the section */
+        myManager.processReference("table" + DELAY_ID);
+        Assertions.assertEquals(EXPANDED_TEXT, myManager.theContent, "Incorrect restored text");
+
+        /* Hide it again */
+        myManager.processReference("table" + DELAY_ID);
+        Assertions.assertEquals(HIDDEN_TEXT, myManager.theContent, "Incorrect hidden text");
+    }
+
+    /**
+     * Report manager that records the content set into the HTML pane.
+     */
+    private static final class TestReportManager {
+        /**
+         * The report manager.
+         */
+        private final MetisReportManager<Object> theManager;
+
+        /**
+         * The HTML pane.
+         */
+        private final TethysUIHTMLManager thePane;
+
+        /**
+         * The content last set into the pane.
+         */
+        private String theContent;
+
+        /**
+         * The reference last scrolled to.
+         */
+        private String theReference;
+
+        /**
+         * Constructor.
+         */
+        private TestReportManager() {
+            /* Create the manager and pane */
+            final MetisReportHTMLBuilder myBuilder = new MetisReportHTMLBuilder(new OceanusDataFormatter());
+            theManager = new MetisReportManager<>(myBuilder);
+            thePane = (TethysUIHTMLManager) Proxy.newProxyInstance(TethysUIHTMLManager.class.getClassLoader(),
+                    new Class<?>[]{TethysUIHTMLManager.class}, (p, m, a) -> {
+                        switch (m.getName()) {
+                            case "setHTMLContent" -> theContent = (String) a[0];
+                            case "scrollToReference" -> theReference = (String) a[0];
+                            default -> throw new UnsupportedOperationException(m.getName());
+                        }
+                        return null;
+                    });
+
+            /* Build the report */
+            final TestReportBuilder myReport = new TestReportBuilder(myBuilder);
+            theManager.setReport(myReport);
+            theManager.setDocument(myReport.createReport(DELAY_NAME));
+        }
+
+        /**
+         * Obtain the text.
+         *
+         * @return the text
+         */
+        private String getText() {
+            return theManager.getText();
+        }
+
+        /**
+         * Process a reference.
+         *
+         * @param pId the reference
+         */
+        private void processReference(final String pId) {
+            theManager.processReference(pId, thePane);
+        }
+    }
+
+    /**
+     * Report builder with a single delayed table.
+     */
+    private static final class TestReportBuilder
+            extends MetisReportBase<String, Object> {
+        /**
+         * The HTML builder.
+         */
+        private final MetisReportHTMLBuilder theBuilder;
+
+        /**
+         * Constructor.
+         *
+         * @param pBuilder the HTML builder
+         */
+        private TestReportBuilder(final MetisReportHTMLBuilder pBuilder) {
+            theBuilder = pBuilder;
+        }
+
+        @Override
+        public MetisReportDocument createReport(final String pData) {
+            /* Start the report */
+            final MetisReportDocument myDoc = theBuilder.startReport();
+            theBuilder.makeTitle(myDoc, "Report for \"Test\"", "1 < 2 & 3 > 2");
+
+            /* Create the header */
+            final MetisReportHTMLTable myTable = theBuilder.startTable(myDoc);
+            theBuilder.startHdrRow(myTable);
+            theBuilder.makeTitleCell(myTable, "Name");
+            theBuilder.makeTitleCell(myTable, "Value");
+
+            /* Create the delayed row */
+            theBuilder.startRow(myTable);
+            theBuilder.makeDelayLinkCell(myTable, DELAY_ID, pData);
+            theBuilder.makeValueCell(myTable, "x<y");
+            setDelayedTable(DELAY_ID, myTable, pData);
+
+            /* Create the total row */
+            theBuilder.startTotalRow(myTable);
+            theBuilder.makeTotalCell(myTable, "Total");
+            theBuilder.makeTotalCell(myTable);
+            return myDoc;
+        }
+
+        @Override
+        public Object processFilter(final Object pSource) {
+            return null;
+        }
+
+        @Override
+        public MetisReportHTMLTable createDelayedTable(final MetisReportDelayedTable pTable) {
+            /* Create the detail table */
+            final MetisReportHTMLTable myTable = theBuilder.createEmbeddedTable(pTable.getParent());
+            theBuilder.startRow(myTable);
+            theBuilder.makeValueCell(myTable, "Detail of " + pTable.getSource());
+            theBuilder.makeValueCell(myTable, "\"quoted\"");
+            return myTable;
+        }
+    }
+}
@@ -443,10 +443,11 @@ public abstract class MoneyWiseXAnalysisAccountBucket<T extends MoneyWiseAssetBa
     public void recordOpeningBalance() {
         /* Obtain the base valuation */
         final MoneyWiseXAnalysisAccountValues myValues = getBaseValues();
-        final OceanusMoney myBaseValue = myValues.getMoneyValue(MoneyWiseXAnalysisAccountAttr.BALANCE);
+        myValues.addMoneyValue(MoneyWiseXAnalysisAccountAttr.BALANCE, getAccount().getOpeningBalance());
 
-        /* Set the base value (this will set the current value as well) */
-        myBaseValue.addAmount(getAccount().getOpeningBalance());
+        /* Copy the base value to the current value */
+        final OceanusMoney myBaseValue = myValues.getMoneyValue(MoneyWiseXAnalysisAccountAttr.BALANCE);
+        theValues.setValue(MoneyWiseXAnalysisAccountAttr.BALANCE, myBaseValue);
 
         /* If this is a foreign currency */
         if (isForeignCurrency) {
@@ -459,6 +460,11 @@ public abstract class MoneyWiseXAnalysisAccountBucket<T extends MoneyWiseAssetBa
             theValues.setValue(MoneyWiseXAnalysisAccountAttr.VALUATION, myReport);
             myValues.setValue(MoneyWiseXAnalysisAccountAttr.VALUATION, myReport);
             myValues.setValue(MoneyWiseXAnalysisAccountAttr.EXCHANGERATE, myRate);
+
+            /* else the valuation is the balance */
+        } else {
+            theValues.setValue(MoneyWiseXAnalysisAccountAttr.VALUATION, myBaseValue);
+            myValues.setValue(MoneyWiseXAnalysisAccountAttr.VALUATION, myBaseValue);
         }
     }
 
@@ -236,7 +236,7 @@ public abstract class MoneyWiseXAnalysisAccountCategoryBucket<T extends MoneyWis
     }
 
     /**
-     * Add bucket to totals.
+     * Add bucket to totals. The category balance follows the valuation.
      *
      * @param pTotals the totals
      * @param pSource the values to add
@@ -244,13 +244,12 @@ public abstract class MoneyWiseXAnalysisAccountCategoryBucket<T extends MoneyWis
     private static void addValues(final MoneyWiseXAnalysisAccountValues pTotals,
                                   final MoneyWiseXAnalysisAccountValues pSource) {
         /* Add base values */
-        final OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION);
-        final OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION, pSource.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION));
+        pTotals.setValue(MoneyWiseXAnalysisAccountAttr.BALANCE, pTotals.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION));
     }
 
     /**
-     * Add bucket to totals.
+     * Add bucket to totals. The category balance follows the valuation.
      *
      * @param pTotals the totals
      * @param pSource the values to add
@@ -258,8 +257,7 @@ public abstract class MoneyWiseXAnalysisAccountCategoryBucket<T extends MoneyWis
     private static void addValues(final MoneyWiseXAnalysisAccountValues pTotals,
                                   final MoneyWiseXAnalysisSecurityValues pSource) {
         /* Add base values */
-        final OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION);
-        final OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION));
+        pTotals.setValue(MoneyWiseXAnalysisAccountAttr.BALANCE, pTotals.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION));
     }
 }
@@ -412,6 +412,7 @@ public final class MoneyWiseXAnalysisPayeeBucket
 
     /**
      * Add bucket to totals.
+     * The base values of the totals bucket are kept equal to the totals.
      *
      * @param pSource the bucket to add
      */
@@ -420,14 +421,12 @@ public final class MoneyWiseXAnalysisPayeeBucket
         final MoneyWiseXAnalysisPayeeValues mySource = pSource.getValues();
 
         /* Add income values */
-        OceanusMoney myValue = theValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME);
-        OceanusMoney mySrcValue = mySource.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME, mySource.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME));
+        theBaseValues.setValue(MoneyWiseXAnalysisPayeeAttr.INCOME, theValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME));
 
         /* Add expense values */
-        myValue = theValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE);
-        mySrcValue = mySource.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE, mySource.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE));
+        theBaseValues.setValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE, theValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE));
     }
 
     /**
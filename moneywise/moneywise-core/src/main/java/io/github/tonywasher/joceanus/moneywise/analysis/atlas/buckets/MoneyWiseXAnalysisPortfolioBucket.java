@@ -438,9 +438,7 @@ public final class MoneyWiseXAnalysisPortfolioBucket
     private static void addValues(final MoneyWiseXAnalysisSecurityValues pTotals,
                                   final MoneyWiseXAnalysisAccountValues pSource) {
         /* Add valuation values */
-        final OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION);
-        final OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION, pSource.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION));
     }
 
     /**
@@ -452,43 +450,25 @@ public final class MoneyWiseXAnalysisPortfolioBucket
     private static void addValues(final MoneyWiseXAnalysisSecurityValues pTotals,
                                   final MoneyWiseXAnalysisSecurityValues pSource) {
         /* Add valuation values */
-        OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION);
-        OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION));
 
         /* Add cost values */
-        myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.RESIDUALCOST);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.RESIDUALCOST);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.RESIDUALCOST, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.RESIDUALCOST));
 
         /* Add gains values */
-        myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.REALISEDGAINS);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.REALISEDGAINS);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.REALISEDGAINS, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.REALISEDGAINS));
 
         /* Add profit adjustment values */
-        myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.GAINSADJUST);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.GAINSADJUST);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.GAINSADJUST, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.GAINSADJUST));
 
         /* Add dividends values */
-        myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.DIVIDEND);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.DIVIDEND);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.DIVIDEND, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.DIVIDEND));
 
         /* Add market profit values */
-        myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.MARKETPROFIT);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.MARKETPROFIT);
-        if (mySrcValue != null) {
-            myValue.addAmount(mySrcValue);
-        }
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.MARKETPROFIT, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.MARKETPROFIT));
 
         /* Add profit values */
-        myValue = pTotals.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.PROFIT);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.PROFIT);
-        if (mySrcValue != null) {
-            myValue.addAmount(mySrcValue);
-        }
+        pTotals.addMoneyValue(MoneyWiseXAnalysisSecurityAttr.PROFIT, pSource.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.PROFIT));
     }
 
     /**
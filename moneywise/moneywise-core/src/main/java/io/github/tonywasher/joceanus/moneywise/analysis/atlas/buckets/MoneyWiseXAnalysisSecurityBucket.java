@@ -651,7 +651,8 @@ public final class MoneyWiseXAnalysisSecurityBucket
         /* If we have a funded value */
         final OceanusMoney myFunded = theValues.getMoneyValue(MoneyWiseXAnalysisSecurityAttr.FUNDED);
         if (myFunded.isNonZero()) {
-            /* Add to valuation */
+            /* Add to a copy of the valuation so that the value itself is untouched */
+            myBalance = new OceanusMoney(myBalance);
             myBalance.addAmount(myFunded);
         }
 
@@ -506,15 +506,16 @@ public abstract class MoneyWiseXAnalysisTaxBasisBaseBucket
 
     /**
      * Add values.
+     * The base values of the totals bucket are kept equal to the totals.
      *
      * @param pBucket tax category bucket
      */
     protected void addValues(final MoneyWiseXAnalysisTaxBasisBaseBucket pBucket) {
         /* Add the values */
-        OceanusMoney myAmount = theValues.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.GROSS);
-        myAmount.addAmount(pBucket.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.GROSS));
-        myAmount = theValues.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.NETT);
-        myAmount.addAmount(pBucket.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.NETT));
+        theValues.addMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.GROSS, pBucket.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.GROSS));
+        theBaseValues.setValue(MoneyWiseXAnalysisTaxBasisAttr.GROSS, theValues.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.GROSS));
+        theValues.addMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.NETT, pBucket.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.NETT));
+        theBaseValues.setValue(MoneyWiseXAnalysisTaxBasisAttr.NETT, theValues.getMoneyValue(MoneyWiseXAnalysisTaxBasisAttr.NETT));
     }
 
     /**
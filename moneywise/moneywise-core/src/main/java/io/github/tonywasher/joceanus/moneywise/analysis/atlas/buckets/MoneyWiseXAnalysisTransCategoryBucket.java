@@ -459,6 +459,7 @@ public final class MoneyWiseXAnalysisTransCategoryBucket
 
     /**
      * Add bucket to totals.
+     * The base values of the totals bucket are kept equal to the totals.
      *
      * @param pSource the bucket to add
      */
@@ -467,14 +468,12 @@ public final class MoneyWiseXAnalysisTransCategoryBucket
         final MoneyWiseXAnalysisTransValues mySource = pSource.getValues();
 
         /* Add income values */
-        OceanusMoney myValue = theValues.getMoneyValue(MoneyWiseXAnalysisTransAttr.INCOME);
-        OceanusMoney mySrcValue = mySource.getMoneyValue(MoneyWiseXAnalysisTransAttr.INCOME);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseXAnalysisTransAttr.INCOME, mySource.getMoneyValue(MoneyWiseXAnalysisTransAttr.INCOME));
+        theBaseValues.setValue(MoneyWiseXAnalysisTransAttr.INCOME, theValues.getMoneyValue(MoneyWiseXAnalysisTransAttr.INCOME));
 
         /* Add expense values */
-        myValue = theValues.getMoneyValue(MoneyWiseXAnalysisTransAttr.EXPENSE);
-        mySrcValue = mySource.getMoneyValue(MoneyWiseXAnalysisTransAttr.EXPENSE);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseXAnalysisTransAttr.EXPENSE, mySource.getMoneyValue(MoneyWiseXAnalysisTransAttr.EXPENSE));
+        theBaseValues.setValue(MoneyWiseXAnalysisTransAttr.EXPENSE, theValues.getMoneyValue(MoneyWiseXAnalysisTransAttr.EXPENSE));
     }
 
     @Override
@@ -16,20 +16,28 @@
  */
 package io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse;
 
+import io.github.tonywasher.joceanus.metis.field.MetisFieldVersionValues;
 import io.github.tonywasher.joceanus.metis.list.MetisListKey;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseBasicDataType;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseTransInfo;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseTransInfo.MoneyWiseTransInfoList;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseTransaction;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseTransaction.MoneyWiseTransactionList;
 import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
 import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusCryptographyDataType;
+import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataItem;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataList;
 import io.github.tonywasher.joceanus.prometheus.views.PrometheusDataControl;
 import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditEntry;
 import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -41,6 +49,36 @@ public class MoneyWiseAnalysisBuilder {
      */
     private final PrometheusDataControl theControl;
 
+    /**
+     * The analysed transactions.
+     */
+    private final Map<Integer, MoneyWiseAnalysedItem> theTransMap;
+
+    /**
+     * The analysed transaction infos.
+     */
+    private final Map<Integer, MoneyWiseAnalysedItem> theInfoMap;
+
+    /**
+     * The versions of the other lists in the editSet.
+     */
+    private final Map<PrometheusEditEntry<?>, Integer> theListVersions;
+
+    /**
+     * The last changed-data analysis.
+     */
+    private MoneyWiseAnalysis theAnalysis;
+
+    /**
+     * The transaction list of the last analysis.
+     */
+    private MoneyWiseTransactionList theTransList;
+
+    /**
+     * The dataSet version of the last analysis.
+     */
+    private int theDataVersion;
+
     /**
      * Constructor.
      *
@@ -48,6 +86,9 @@ public class MoneyWiseAnalysisBuilder {
      */
     public MoneyWiseAnalysisBuilder(final PrometheusDataControl pControl) {
         theControl = pControl;
+        theTransMap = new HashMap<>();
+        theInfoMap = new HashMap<>();
+        theListVersions = new HashMap<>();
     }
 
     /**
@@ -106,6 +147,11 @@ public class MoneyWiseAnalysisBuilder {
 
     /**
      * analysis on editSet change.
+     * <p>
+     * If the editSet was analysed by the previous call and only transactions have changed since,
+     * a copy of the previous analysis is rewound to the earliest changed transaction date and only
+     * the transactions from that date onwards are re-analysed into it. The previous analysis is
+     * left unchanged, but must not have been totalled. Otherwise a full analysis is performed.
      *
      * @param pEditSet the editSet
      * @return the analysis
@@ -118,23 +164,196 @@ public class MoneyWiseAnalysisBuilder {
 
         /* Sort the transaction list */
         myTask.startTask("sortTransactions");
-        pEditSet.getDataList(MoneyWiseBasicDataType.TRANSACTION, MoneyWiseTransactionList.class).reSort();
+        final MoneyWiseTransactionList myTrans = pEditSet.getDataList(MoneyWiseBasicDataType.TRANSACTION, MoneyWiseTransactionList.class);
+        myTrans.reSort();
 
         /* initialise analysis */
         myTask.startTask("updateMaps");
         updateEditSetMaps(pEditSet);
 
-        /* Create a new analysis on the editSet */
-        final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(myTask, pEditSet, theControl.getPreferenceManager());
+        /* Determine whether we can continue the previous analysis */
+        myTask.startTask("checkChanges");
+        final MoneyWiseAnalysis myPrevious = theAnalysis;
+        final boolean canContinue = canContinueAnalysis(pEditSet, myTrans);
+        final OceanusDate myDate = recordAnalysedItems(myTrans);
+        recordListVersions(pEditSet);
+
+        /* If nothing has changed, return the previous analysis */
+        if (canContinue && myDate == null) {
+            myTask.end();
+            return myPrevious;
+        }
+
+        /* Forget the previous analysis until we succeed */
+        theAnalysis = null;
+
+        /* Create a new or continued analysis on the editSet */
+        final MoneyWiseAnalysisTransAnalyser myAnalyser = canContinue
+                ? new MoneyWiseAnalysisTransAnalyser(myTask, myPrevious, myDate)
+                : new MoneyWiseAnalysisTransAnalyser(myTask, pEditSet, theControl.getPreferenceManager());
 
         /* post-process analysis */
         myAnalyser.postProcessAnalysis();
 
+        /* Record the analysis */
+        theAnalysis = myAnalyser.getAnalysis();
+        theTransList = myTrans;
+        theDataVersion = pEditSet.getDataSet().getVersion();
+
         /* Complete the task */
         myTask.end();
 
         /* Return analysis */
-        return myAnalyser.getAnalysis();
+        return theAnalysis;
+    }
+
+    /**
+     * Can we continue the previous analysis?
+     *
+     * @param pEditSet the editSet
+     * @param pTrans   the transaction list
+     * @return true/false
+     */
+    private boolean canContinueAnalysis(final PrometheusEditSet pEditSet,
+                                        final MoneyWiseTransactionList pTrans) {
+        /* We must have a previous analysis of the same transactions on unchanged data */
+        if (theAnalysis == null
+                || !pEditSet.equals(theAnalysis.getEditSet())
+                || !pTrans.equals(theTransList)
+                || pEditSet.getDataSet().getVersion() != theDataVersion) {
+            return false;
+        }
+
+        /* Loop through the list types */
+        final Iterator<PrometheusEditEntry<?>> myIterator = pEditSet.listIterator();
+        while (myIterator.hasNext()) {
+            final PrometheusEditEntry<?> myEntry = myIterator.next();
+
+            /* Any changes to other lists require a full analysis */
+            if (!isTransactionEntry(myEntry)
+                    && !Integer.valueOf(myEntry.getDataList().getVersion()).equals(theListVersions.get(myEntry))) {
+                return false;
+            }
+        }
+
+        /* Can continue */
+        return true;
+    }
+
+    /**
+     * Record the versions of the other lists.
+     *
+     * @param pEditSet the editSet
+     */
+    private void recordListVersions(final PrometheusEditSet pEditSet) {
+        /* Loop through the list types */
+        theListVersions.clear();
+        final Iterator<PrometheusEditEntry<?>> myIterator = pEditSet.listIterator();
+        while (myIterator.hasNext()) {
+            final PrometheusEditEntry<?> myEntry = myIterator.next();
+
+            /* Record the version of non-transaction lists */
+            if (!isTransactionEntry(myEntry)) {
+                theListVersions.put(myEntry, myEntry.getDataList().getVersion());
+            }
+        }
+    }
+
+    /**
+     * Is this a transaction entry?
+     *
+     * @param pEntry the editEntry
+     * @return true/false
+     */
+    private static boolean isTransactionEntry(final PrometheusEditEntry<?> pEntry) {
+        return pEntry.isDataType(MoneyWiseBasicDataType.TRANSACTION)
+                || pEntry.isDataType(MoneyWiseBasicDataType.TRANSACTIONINFO);
+    }
+
+    /**
+     * Record the analysed transactions and infos.
+     *
+     * @param pTrans the transaction list
+     * @return the earliest changed date (or null if there are no changes)
+     */
+    private OceanusDate recordAnalysedItems(final MoneyWiseTransactionList pTrans) {
+        /* Record the transactions */
+        final Map<Integer, MoneyWiseAnalysedItem> myTrans = new HashMap<>(theTransMap);
+        theTransMap.clear();
+        OceanusDate myDate = null;
+        final Iterator<MoneyWiseTransaction> myIterator = pTrans.iterator();
+        while (myIterator.hasNext()) {
+            final MoneyWiseTransaction myCurr = myIterator.next();
+            final MoneyWiseTransaction myAnalysed = myCurr.isDeleted() || myCurr.isHeader()
+                    ? null
+                    : myCurr;
+            myDate = recordAnalysedItem(myTrans, theTransMap, myCurr, myAnalysed, myDate);
+        }
+
+        /* Record the infos */
+        final Map<Integer, MoneyWiseAnalysedItem> myInfo = new HashMap<>(theInfoMap);
+        theInfoMap.clear();
+        final MoneyWiseTransInfoList myInfoList = pTrans.getTransactionInfo();
+        final Iterator<MoneyWiseTransInfo> myInfoIterator = myInfoList.iterator();
+        while (myInfoIterator.hasNext()) {
+            final MoneyWiseTransInfo myCurr = myInfoIterator.next();
+            final MoneyWiseTransaction myAnalysed = !myCurr.isDeleted()
+                    && myCurr.getOwner() instanceof MoneyWiseTransaction myOwner
+                    ? myOwner
+                    : null;
+            myDate = recordAnalysedItem(myInfo, theInfoMap, myCurr, myAnalysed, myDate);
+        }
+
+        /* Items that have disappeared count as changes */
+        for (MoneyWiseAnalysedItem myItem : myTrans.values()) {
+            myDate = myItem.earliestDate(myDate);
+        }
+        for (MoneyWiseAnalysedItem myItem : myInfo.values()) {
+            myDate = myItem.earliestDate(myDate);
+        }
+
+        /* Return the earliest changed date */
+        return myDate;
+    }
+
+    /**
+     * Record an analysed item.
+     *
+     * @param pPrevious the previously analysed items
+     * @param pTarget   the map of analysed items
+     * @param pItem     the item
+     * @param pTrans    the transaction that the item is analysed under (or null if not analysed)
+     * @param pDate     the earliest changed date so far (or null)
+     * @return the new earliest changed date (or null)
+     */
+    private static OceanusDate recordAnalysedItem(final Map<Integer, MoneyWiseAnalysedItem> pPrevious,
+                                                  final Map<Integer, MoneyWiseAnalysedItem> pTarget,
+                                                  final PrometheusDataItem pItem,
+                                                  final MoneyWiseTransaction pTrans,
+                                                  final OceanusDate pDate) {
+        /* Obtain the previous state and record the new state */
+        final MoneyWiseAnalysedItem myPrevious = pPrevious.remove(pItem.getIndexedId());
+        final MoneyWiseAnalysedItem myItem = pTrans == null
+                ? null
+                : new MoneyWiseAnalysedItem(pItem, pTrans);
+        if (myItem != null) {
+            pTarget.put(pItem.getIndexedId(), myItem);
+        }
+
+        /* If the item has changed */
+        OceanusDate myDate = pDate;
+        if (!MoneyWiseAnalysedItem.isUnchanged(myPrevious, myItem)) {
+            /* Note the earliest of the old and new dates */
+            if (myPrevious != null) {
+                myDate = myPrevious.earliestDate(myDate);
+            }
+            if (myItem != null) {
+                myDate = myItem.earliestDate(myDate);
+            }
+        }
+
+        /* Return the date */
+        return myDate;
     }
 
     /**
@@ -153,4 +372,85 @@ public class MoneyWiseAnalysisBuilder {
             myList.updateMaps();
         }
     }
+
+    /**
+     * The state of an analysed item.
+     */
+    private static final class MoneyWiseAnalysedItem {
+        /**
+         * The values of the item when analysed.
+         */
+        private final MetisFieldVersionValues theValues;
+
+        /**
+         * The transaction that the item was analysed under.
+         */
+        private final MoneyWiseTransaction theTrans;
+
+        /**
+         * The date that the item was analysed at.
+         */
+        private final OceanusDate theDate;
+
+        /**
+         * Constructor.
+         *
+         * @param pItem  the item
+         * @param pTrans the transaction that the item is analysed under
+         */
+        private MoneyWiseAnalysedItem(final PrometheusDataItem pItem,
+                                      final MoneyWiseTransaction pTrans) {
+            theValues = pItem.getValues();
+            theTrans = pTrans;
+            theDate = pTrans.getDate();
+        }
+
+        /**
+         * Is the item unchanged?
+         *
+         * @param pPrevious the previous state (or null)
+         * @param pCurrent  the current state (or null)
+         * @return true/false
+         */
+        private static boolean isUnchanged(final MoneyWiseAnalysedItem pPrevious,
+                                           final MoneyWiseAnalysedItem pCurrent) {
+            /* Handle missing states */
+            if (pPrevious == null || pCurrent == null) {
+                return pPrevious == pCurrent;
+            }
+
+            /* Edits always produce a new set of values */
+            return pPrevious.theValues == pCurrent.theValues
+                    && pPrevious.theDate.equals(pCurrent.theDate);
+        }
+
+        /**
+         * Obtain the earliest date affected by this item.
+         *
+         * @param pDate the earliest date so far (or null)
+         * @return the earliest date
+         */
+        private OceanusDate earliestDate(final OceanusDate pDate) {
+            /* Allow for the analysed date and any subsequent change of date */
+            final OceanusDate myDate = earlierDate(pDate, theDate);
+            return earlierDate(myDate, theTrans.getDate());
+        }
+
+        /**
+         * Obtain the earlier of two dates.
+         *
+         * @param pFirst  the first date (or null)
+         * @param pSecond the second date (or null)
+         * @return the earlier date
+         */
+        private static OceanusDate earlierDate(final OceanusDate pFirst,
+                                               final OceanusDate pSecond) {
+            if (pFirst == null) {
+                return pSecond;
+            }
+            return pSecond == null || pFirst.compareTo(pSecond) <= 0
+                    ? pFirst
+                    : pSecond;
+        }
+    }
 }
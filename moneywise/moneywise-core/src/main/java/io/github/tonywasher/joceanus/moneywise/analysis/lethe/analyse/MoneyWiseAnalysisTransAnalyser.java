@@ -199,6 +199,41 @@ public class MoneyWiseAnalysisTransAnalyser
     public MoneyWiseAnalysisTransAnalyser(final OceanusProfile pTask,
                                           final PrometheusEditSet pEditSet,
                                           final MetisPreferenceManager pPreferenceMgr) throws OceanusException {
+        this(pTask, pEditSet, pPreferenceMgr, null, null);
+    }
+
+    /**
+     * Constructor for an incremental analysis.
+     * <p>
+     * A copy of the previous analysis is rewound to the date and the transactions on or after
+     * that date are re-analysed into it. The previous analysis is left unchanged.
+     *
+     * @param pTask     the profiled task
+     * @param pAnalysis the previous (untotalled) full analysis
+     * @param pDate     the date from which to re-analyse
+     * @throws OceanusException on error
+     */
+    public MoneyWiseAnalysisTransAnalyser(final OceanusProfile pTask,
+                                          final MoneyWiseAnalysis pAnalysis,
+                                          final OceanusDate pDate) throws OceanusException {
+        this(pTask, pAnalysis.getEditSet(), pAnalysis.getPreferenceMgr(), pAnalysis, pDate);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pTask          the profiled task
+     * @param pEditSet       the EditSet to analyse
+     * @param pPreferenceMgr the preference manager
+     * @param pAnalysis      the analysis to rewind (or null for a new analysis)
+     * @param pDate          the date from which to re-analyse (or null for all transactions)
+     * @throws OceanusException on error
+     */
+    private MoneyWiseAnalysisTransAnalyser(final OceanusProfile pTask,
+                                           final PrometheusEditSet pEditSet,
+                                           final MetisPreferenceManager pPreferenceMgr,
+                                           final MoneyWiseAnalysis pAnalysis,
+                                           final OceanusDate pDate) throws OceanusException {
         /* Start a new task */
         theProfile = pTask;
         final OceanusProfile myTask = theProfile.startTask("analyseTransactions");
@@ -212,13 +247,22 @@ public class MoneyWiseAnalysisTransAnalyser
         /* Access the lists */
         final MoneyWiseTransactionList myTrans = pEditSet.getDataList(MoneyWiseBasicDataType.TRANSACTION, MoneyWiseTransactionList.class);
 
-        /* Create a new analysis */
+        /* Create new helper */
         myTask.startTask("Initialise");
-        theAnalysis = new MoneyWiseAnalysis(pEditSet, pPreferenceMgr);
-
-        /* Create new helper and set opening balances */
         theHelper = new MoneyWiseAnalysisTransactionHelper(myDataSet);
-        theAnalysis.addOpeningBalances(theHelper);
+
+        /* If we are creating a new analysis */
+        if (pAnalysis == null) {
+            /* Create a new analysis and set opening balances */
+            theAnalysis = new MoneyWiseAnalysis(pEditSet, pPreferenceMgr);
+            theAnalysis.addOpeningBalances(theHelper);
+
+            /* else we are continuing an existing analysis */
+        } else {
+            /* Continue from a copy of the analysis rewound to the date */
+            myTask.startTask("Rewind");
+            theAnalysis = pAnalysis.rewindToDate(pDate);
+        }
 
         /* Access details from the analysis */
         theDepositBuckets = theAnalysis.getDeposits();
@@ -248,8 +292,11 @@ public class MoneyWiseAnalysisTransAnalyser
             /* Touch underlying items */
             myCurr.touchUnderlyingItems();
 
-            /* Process the transaction in the report set */
-            processTransaction(myCurr);
+            /* Process the transaction in the report set if it is not already analysed */
+            if (pDate == null
+                    || pDate.compareTo(myCurr.getDate()) <= 0) {
+                processTransaction(myCurr);
+            }
         }
 
         /* Complete the task */
@@ -27,11 +27,26 @@ import io.github.tonywasher.joceanus.oceanus.decimal.OceanusRatio;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusUnits;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
 
+import java.util.Currency;
 import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Values for a bucket.
+ * <p>
+ * Decimal values are held as an unscaled value and a type/scale descriptor in a flat long array indexed by
+ * the attribute ordinal, so that a snapshot is a single array copy. The currency of a money/price value and
+ * any non-decimal value are held in a parallel object array which is shared with snapshots until it is modified.
+ * <p>
+ * A decimal value is held both in the long array and as a live decimal object, which is built when the
+ * attribute is set or the values are copied. A read returns the live object directly, so reads neither
+ * allocate nor modify the values and may be made concurrently. In-place adjustments of a fetched value are
+ * seen by later reads, and are folded back into the long array before a snapshot is taken.
+ * <p>
+ * Values are never shared between two sets of values. Setting a value records its current contents, so
+ * later changes to the object that was passed in are not seen, and snapshots and base values hold their
+ * own copies. A value that must change in two sets must therefore be set (or adjusted) in each of them,
+ * and a caller that wants a working copy of a fetched value must copy it before changing it.
  *
  * @param <T> the values class
  * @param <E> the enum class
@@ -39,9 +54,79 @@ import java.util.Map;
 public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<T, E>, E extends Enum<E> & MoneyWiseAnalysisAttribute>
         implements MetisDataObjectFormat, MetisDataMap<E, Object> {
     /**
-     * Map.
+     * Number of long slots per attribute.
      */
-    private final Map<E, Object> theMap;
+    private static final int SLOTS = 2;
+
+    /**
+     * Shift for value kind within descriptor.
+     */
+    private static final int KIND_SHIFT = 8;
+
+    /**
+     * Mask for scale within descriptor.
+     */
+    private static final long SCALE_MASK = 0xFF;
+
+    /**
+     * No value.
+     */
+    private static final int KIND_NONE = 0;
+
+    /**
+     * Object value.
+     */
+    private static final int KIND_OBJECT = 1;
+
+    /**
+     * Decimal value.
+     */
+    private static final int KIND_DECIMAL = 2;
+
+    /**
+     * Money value.
+     */
+    private static final int KIND_MONEY = 3;
+
+    /**
+     * Price value.
+     */
+    private static final int KIND_PRICE = 4;
+
+    /**
+     * Units value.
+     */
+    private static final int KIND_UNITS = 5;
+
+    /**
+     * Rate value.
+     */
+    private static final int KIND_RATE = 6;
+
+    /**
+     * Ratio value.
+     */
+    private static final int KIND_RATIO = 7;
+
+    /**
+     * Unscaled values and descriptors.
+     */
+    private final long[] theValues;
+
+    /**
+     * Currencies and non-decimal values.
+     */
+    private Object[] theObjects;
+
+    /**
+     * Live decimal values.
+     */
+    private final OceanusDecimal[] theDecimals;
+
+    /**
+     * Is the object array shared?
+     */
+    private boolean isShared;
 
     /**
      * Enum class.
@@ -54,7 +139,10 @@ public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<
      * @param pClass the Enum class
      */
     protected MoneyWiseAnalysisValues(final Class<E> pClass) {
-        theMap = new EnumMap<>(pClass);
+        final int myNumAttrs = pClass.getEnumConstants().length;
+        theValues = new long[myNumAttrs * SLOTS];
+        theObjects = new Object[myNumAttrs];
+        theDecimals = new OceanusDecimal[myNumAttrs];
         theClass = pClass;
     }
 
@@ -66,17 +154,27 @@ public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<
      */
     protected MoneyWiseAnalysisValues(final T pSource,
                                       final boolean pCountersOnly) {
-        this(pSource.getEnumClass());
+        /* Copy the values and share the objects */
+        final MoneyWiseAnalysisValues<T, E> mySource = pSource;
+        theClass = mySource.theClass;
+        mySource.foldDecimals();
+        theValues = mySource.theValues.clone();
+        theObjects = mySource.theObjects;
+        theDecimals = new OceanusDecimal[theObjects.length];
+        isShared = true;
+        mySource.isShared = true;
+
+        /* Build the live decimals */
+        for (int i = 0; i < theDecimals.length; i++) {
+            materialise(i);
+        }
 
-        /* Loop through the constants */
-        for (E myKey : theClass.getEnumConstants()) {
-            /* If we are copying all or the attribute is a counter */
-            if (!pCountersOnly
-                    || myKey.isCounter()) {
-                /* Copy non-null values */
-                final Object myValue = pSource.getValue(myKey);
-                if (myValue != null) {
-                    theMap.put(myKey, myValue);
+        /* If we are only copying counters */
+        if (pCountersOnly) {
+            /* Clear the non-counter values */
+            for (E myKey : theClass.getEnumConstants()) {
+                if (!myKey.isCounter()) {
+                    clearValue(myKey);
                 }
             }
         }
@@ -112,7 +210,53 @@ public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<
 
     @Override
     public Map<E, Object> getUnderlyingMap() {
-        return theMap;
+        /* Build a map of the non-null values */
+        final Map<E, Object> myMap = new EnumMap<>(theClass);
+        for (E myKey : theClass.getEnumConstants()) {
+            final Object myValue = getValue(myKey);
+            if (myValue != null) {
+                myMap.put(myKey, myValue);
+            }
+        }
+        return myMap;
+    }
+
+    /**
+     * Fold the live decimal values back into the long array.
+     */
+    private void foldDecimals() {
+        for (int i = 0; i < theDecimals.length; i++) {
+            final OceanusDecimal myDecimal = theDecimals[i];
+            if (myDecimal != null) {
+                final int mySlot = i * SLOTS;
+                theValues[mySlot] = myDecimal.unscaledValue();
+                theValues[mySlot + 1] = (theValues[mySlot + 1] & ~SCALE_MASK) | myDecimal.scale();
+            }
+        }
+    }
+
+    /**
+     * Build the live decimal value of an attribute from the long array.
+     *
+     * @param pIndex the attribute index
+     */
+    private void materialise(final int pIndex) {
+        /* Access the descriptor */
+        final int mySlot = pIndex * SLOTS;
+        final long myDesc = theValues[mySlot + 1];
+        final long myUnscaled = theValues[mySlot];
+        final int myScale = (int) (myDesc & SCALE_MASK);
+
+        /* Build the decimal value */
+        theDecimals[pIndex] = switch ((int) (myDesc >>> KIND_SHIFT)) {
+            case KIND_DECIMAL -> new OceanusDecimal(myUnscaled, myScale);
+            case KIND_MONEY -> new OceanusMoney(myUnscaled, myScale, (Currency) theObjects[pIndex]);
+            case KIND_PRICE -> new OceanusPrice(myUnscaled, myScale, (Currency) theObjects[pIndex]);
+            case KIND_UNITS -> new OceanusUnits(myUnscaled, myScale);
+            case KIND_RATE -> new OceanusRate(myUnscaled, myScale);
+            case KIND_RATIO -> new OceanusRatio(myUnscaled, myScale);
+            default -> null;
+        };
     }
 
     /**
@@ -192,12 +336,8 @@ public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<
      */
     protected void adjustMoneyToBase(final T pBase,
                                      final E pAttr) {
-        /* Adjust spend values */
-        OceanusMoney myValue = getMoneyValue(pAttr);
-        myValue = new OceanusMoney(myValue);
-        final OceanusMoney myBaseValue = pBase.getMoneyValue(pAttr);
-        myValue.subtractAmount(myBaseValue);
-        theMap.put(pAttr, myValue);
+        /* Adjust the live value */
+        getMoneyValue(pAttr).subtractAmount(pBase.getMoneyValue(pAttr));
     }
 
     /**
@@ -214,8 +354,113 @@ public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<
      */
     public void setValue(final E pAttr,
                          final Object pValue) {
-        /* Set the value into the map */
-        theMap.put(pAttr, pValue);
+        /* Handle null value */
+        if (pValue == null) {
+            clearValue(pAttr);
+            return;
+        }
+
+        /* Determine the kind of value */
+        final int myKind = determineKind(pValue);
+        final int myIndex = pAttr.ordinal();
+        final int mySlot = myIndex * SLOTS;
+
+        /* If this is a decimal value */
+        if (pValue instanceof OceanusDecimal myDecimal
+                && myKind != KIND_OBJECT) {
+            /* Store the unscaled value and descriptor */
+            theValues[mySlot] = myDecimal.unscaledValue();
+            theValues[mySlot + 1] = ((long) myKind << KIND_SHIFT) | myDecimal.scale();
+
+            /* Record the currency if required */
+            if (myDecimal instanceof OceanusMoney myMoney) {
+                setObject(myIndex, myMoney.getCurrency());
+            }
+
+            /* Build a new live value unless this is the live value itself */
+            if (theDecimals[myIndex] != myDecimal) {
+                materialise(myIndex);
+            }
+
+            /* else store as object */
+        } else {
+            theValues[mySlot] = 0;
+            theValues[mySlot + 1] = (long) KIND_OBJECT << KIND_SHIFT;
+            theDecimals[myIndex] = null;
+            setObject(myIndex, pValue);
+        }
+
+    }
+
+    /**
+     * Clear Value.
+     *
+     * @param pAttr the attribute
+     */
+    private void clearValue(final E pAttr) {
+        final int myIndex = pAttr.ordinal();
+        final int mySlot = myIndex * SLOTS;
+        theValues[mySlot] = 0;
+        theValues[mySlot + 1] = KIND_NONE;
+        theDecimals[myIndex] = null;
+        setObject(myIndex, null);
+    }
+
+    /**
+     * Add to a money value in place.
+     *
+     * @param pAttr  the attribute
+     * @param pValue the value to add (null is ignored)
+     */
+    public void addMoneyValue(final E pAttr,
+                              final OceanusMoney pValue) {
+        /* Adjust the live value if there is anything to add */
+        if (pValue != null) {
+            getMoneyValue(pAttr).addAmount(pValue);
+        }
+    }
+
+    /**
+     * Set object, unsharing the object array if necessary.
+     *
+     * @param pIndex  the index
+     * @param pObject the object
+     */
+    private void setObject(final int pIndex,
+                           final Object pObject) {
+        /* Only update if the object has changed */
+        if (theObjects[pIndex] != pObject) {
+            /* Take a private copy of the objects if they are shared */
+            if (isShared) {
+                theObjects = theObjects.clone();
+                isShared = false;
+            }
+            theObjects[pIndex] = pObject;
+        }
+    }
+
+    /**
+     * Determine the kind of value.
+     *
+     * @param pValue the value
+     * @return the kind
+     */
+    private static int determineKind(final Object pValue) {
+        final Class<?> myClass = pValue.getClass();
+        if (myClass == OceanusMoney.class) {
+            return KIND_MONEY;
+        } else if (myClass == OceanusUnits.class) {
+            return KIND_UNITS;
+        } else if (myClass == OceanusPrice.class) {
+            return KIND_PRICE;
+        } else if (myClass == OceanusRate.class) {
+            return KIND_RATE;
+        } else if (myClass == OceanusRatio.class) {
+            return KIND_RATIO;
+        } else if (myClass == OceanusDecimal.class) {
+            return KIND_DECIMAL;
+        }
+        return KIND_OBJECT;
     }
 
     /**
@@ -239,8 +484,12 @@ public abstract class MoneyWiseAnalysisValues<T extends MoneyWiseAnalysisValues<
      * @return the value of the attribute or null
      */
     public Object getValue(final E pAttr) {
-        /* Obtain the attribute value */
-        return theMap.get(pAttr);
+        /* Return the live decimal if there is one, else the object */
+        final int myIndex = pAttr.ordinal();
+        final OceanusDecimal myDecimal = theDecimals[myIndex];
+        return myDecimal != null
+                ? myDecimal
+                : theObjects[myIndex];
     }
 
     /**
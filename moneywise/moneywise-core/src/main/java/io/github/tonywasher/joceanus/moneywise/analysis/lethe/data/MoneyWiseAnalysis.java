@@ -275,6 +275,43 @@ public class MoneyWiseAnalysis
         theTaxAnalysis = null;
     }
 
+    /**
+     * Constructor for a full analysis that continues from a rewound copy of another.
+     *
+     * @param pBase    the base analysis
+     * @param pDate    the date for history cut-off
+     * @param pRewound true/false (distinguishes the constructor)
+     */
+    private MoneyWiseAnalysis(final MoneyWiseAnalysis pBase,
+                              final OceanusDate pDate,
+                              final boolean pRewound) {
+        /* Store the data */
+        theEditSet = pBase.getEditSet();
+        final MoneyWiseDataSet myDataSet = getData();
+        theCurrency = pBase.getCurrency();
+        thePreferences = pBase.getPreferenceMgr();
+        theDateRange = pBase.getDateRange();
+
+        /* Access the TaxYearCache */
+        theTaxYearCache = (MoneyWiseUKTaxYearCache) myDataSet.getTaxFactory();
+
+        /* Copy the buckets up to the date */
+        theDeposits = new MoneyWiseAnalysisDepositBucketList(this, pBase.getDeposits(), pDate);
+        theCash = new MoneyWiseAnalysisCashBucketList(this, pBase.getCash(), pDate);
+        theLoans = new MoneyWiseAnalysisLoanBucketList(this, pBase.getLoans(), pDate);
+        thePortfolios = new MoneyWiseAnalysisPortfolioBucketList(this, pBase.getPortfolios(), pDate);
+        thePayees = new MoneyWiseAnalysisPayeeBucketList(this, pBase.getPayees(), pDate);
+        theTaxBasis = new MoneyWiseAnalysisTaxBasisBucketList(this, pBase.getTaxBasis(), pDate);
+        theTransCategories = new MoneyWiseAnalysisTransCategoryBucketList(this, pBase.getTransCategories(), pDate, theTaxBasis);
+        theTransTags = new MoneyWiseAnalysisTransTagBucketList(this, pBase.getTransactionTags(), pDate);
+
+        /* Create totalling buckets */
+        theDepositCategories = new MoneyWiseAnalysisDepositCategoryBucketList(this);
+        theCashCategories = new MoneyWiseAnalysisCashCategoryBucketList(this);
+        theLoanCategories = new MoneyWiseAnalysisLoanCategoryBucketList(this);
+        theTaxAnalysis = null;
+    }
+
     /**
      * Constructor for a ranged analysis.
      *
@@ -545,4 +582,21 @@ public class MoneyWiseAnalysis
             }
         }
     }
+
+    /**
+     * Obtain a copy of a full analysis that is rewound to a date.
+     * <p>
+     * The copy holds the history before the date, so that the transactions from that date
+     * onwards can be re-analysed into it. This analysis is left unchanged. The analysis must
+     * not have been totalled.
+     *
+     * @param pDate the date to rewind to
+     * @return the rewound copy
+     */
+    public MoneyWiseAnalysis rewindToDate(final OceanusDate pDate) {
+        /* Copy the history up to the day before the date */
+        final OceanusDate myDate = new OceanusDate(pDate);
+        myDate.adjustDay(-1);
+        return new MoneyWiseAnalysis(this, myDate, true);
+    }
 }
@@ -586,31 +586,33 @@ public abstract class MoneyWiseAnalysisAccountBucket<T extends MoneyWiseAssetBas
      */
     protected void setOpeningBalance(final MoneyWiseAnalysisTransactionHelper pHelper,
                                      final OceanusMoney pBalance) {
-        /* Obtain the base valuation */
+        /* Obtain the base values */
         final MoneyWiseAnalysisAccountValues myValues = getBaseValues();
-        final OceanusMoney myBaseValue = myValues.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION);
 
         /* If we are a foreign account */
         if (isForeignCurrency) {
-            /* Obtain the foreign valuation */
-            final OceanusMoney myForeignValue = myValues.getMoneyValue(MoneyWiseAnalysisAccountAttr.FOREIGNVALUE);
-            final OceanusMoney myLocalValue = myValues.getMoneyValue(MoneyWiseAnalysisAccountAttr.LOCALVALUE);
-
             /* Obtain exchange rate and reporting value */
             final OceanusRatio myRate = pHelper.getExchangeRate(theAccount.getAssetCurrency(), theAnalysis.getData().getDateRange().getStart());
             final OceanusMoney myLocalAmount = pBalance.convertCurrency(theAnalysis.getCurrency().getCurrency(), myRate);
 
-            /* Record details */
-            myBaseValue.addAmount(myLocalAmount);
-            myLocalValue.addAmount(myLocalAmount);
-            myForeignValue.addAmount(pBalance);
+            /* Record details in the base values */
+            myValues.addMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION, myLocalAmount);
+            myValues.addMoneyValue(MoneyWiseAnalysisAccountAttr.LOCALVALUE, myLocalAmount);
+            myValues.addMoneyValue(MoneyWiseAnalysisAccountAttr.FOREIGNVALUE, pBalance);
             myValues.setValue(MoneyWiseAnalysisAccountAttr.EXCHANGERATE, myRate);
 
+            /* Copy them to the current values */
+            theValues.setValue(MoneyWiseAnalysisAccountAttr.LOCALVALUE, myValues.getMoneyValue(MoneyWiseAnalysisAccountAttr.LOCALVALUE));
+            theValues.setValue(MoneyWiseAnalysisAccountAttr.FOREIGNVALUE, myValues.getMoneyValue(MoneyWiseAnalysisAccountAttr.FOREIGNVALUE));
+
             /* else this is a standard account */
         } else {
-            /* Set the base value (this will set the current value as well) */
-            myBaseValue.addAmount(pBalance);
+            /* Adjust the base value */
+            myValues.addMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION, pBalance);
         }
+
+        /* Copy the base value to the current value */
+        theValues.setValue(MoneyWiseAnalysisAccountAttr.VALUATION, myValues.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION));
     }
 
     /**
@@ -244,9 +244,7 @@ public abstract class MoneyWiseAnalysisAccountCategoryBucket<T extends MoneyWise
     private static void addValues(final MoneyWiseAnalysisAccountValues pTotals,
                                   final MoneyWiseAnalysisAccountValues pSource) {
         /* Add base values */
-        final OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION);
-        final OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION, pSource.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION));
     }
 
     /**
@@ -258,8 +256,6 @@ public abstract class MoneyWiseAnalysisAccountCategoryBucket<T extends MoneyWise
     private static void addValues(final MoneyWiseAnalysisAccountValues pTotals,
                                   final MoneyWiseAnalysisSecurityValues pSource) {
         /* Add base values */
-        final OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION);
-        final OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION));
     }
 }
@@ -0,0 +1,278 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.analysis.lethe.data;
+
+import io.github.tonywasher.joceanus.metis.data.MetisDataItem.MetisDataMap;
+import io.github.tonywasher.joceanus.metis.field.MetisFieldItem;
+import io.github.tonywasher.joceanus.metis.field.MetisFieldSet;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of derived analyses.
+ * <p>
+ * Analyses are weighted by their number of buckets, and the least recently used analyses are evicted once the total
+ * weight exceeds the budget. The most recently added analysis is always retained.
+ */
+public class MoneyWiseAnalysisCache
+        implements MetisFieldItem, MetisDataMap<OceanusDateRange, MoneyWiseAnalysis> {
+    /**
+     * Default budget.
+     */
+    public static final int DEFAULT_BUDGET = 10000;
+
+    /**
+     * Local Report fields.
+     */
+    private static final MetisFieldSet<MoneyWiseAnalysisCache> FIELD_DEFS = MetisFieldSet.newFieldSet(MoneyWiseAnalysisCache.class);
+
+    /*
+     * Declare Fields.
+     */
+    static {
+        FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.CACHE_BUDGET, MoneyWiseAnalysisCache::getBudget);
+        FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.CACHE_WEIGHT, MoneyWiseAnalysisCache::getWeight);
+        FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.CACHE_HITS, MoneyWiseAnalysisCache::getHits);
+        FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.CACHE_MISSES, MoneyWiseAnalysisCache::getMisses);
+        FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.CACHE_EVICTIONS, MoneyWiseAnalysisCache::getEvictions);
+    }
+
+    /**
+     * The analysis map in access order.
+     */
+    private final Map<OceanusDateRange, MoneyWiseAnalysis> theAnalysisMap;
+
+    /**
+     * The weight map.
+     */
+    private final Map<OceanusDateRange, Integer> theWeightMap;
+
+    /**
+     * The budget.
+     */
+    private int theBudget;
+
+    /**
+     * The total weight.
+     */
+    private int theWeight;
+
+    /**
+     * The number of hits.
+     */
+    private int theHits;
+
+    /**
+     * The number of misses.
+     */
+    private int theMisses;
+
+    /**
+     * The number of evictions.
+     */
+    private int theEvictions;
+
+    /**
+     * Constructor.
+     */
+    public MoneyWiseAnalysisCache() {
+        theAnalysisMap = new LinkedHashMap<>(16, 0.75f, true);
+        theWeightMap = new HashMap<>();
+        theBudget = DEFAULT_BUDGET;
+    }
+
+    @Override
+    public MetisFieldSet<MoneyWiseAnalysisCache> getDataFieldSet() {
+        return FIELD_DEFS;
+    }
+
+    @Override
+    public String formatObject(final OceanusDataFormatter pFormatter) {
+        return getClass().getSimpleName();
+    }
+
+    @Override
+    public Map<OceanusDateRange, MoneyWiseAnalysis> getUnderlyingMap() {
+        return theAnalysisMap;
+    }
+
+    /**
+     * Obtain the budget.
+     *
+     * @return the budget
+     */
+    public int getBudget() {
+        return theBudget;
+    }
+
+    /**
+     * Obtain the total weight.
+     *
+     * @return the weight
+     */
+    public int getWeight() {
+        return theWeight;
+    }
+
+    /**
+     * Obtain the number of hits.
+     *
+     * @return the hits
+     */
+    public int getHits() {
+        return theHits;
+    }
+
+    /**
+     * Obtain the number of misses.
+     *
+     * @return the misses
+     */
+    public int getMisses() {
+        return theMisses;
+    }
+
+    /**
+     * Obtain the number of evictions.
+     *
+     * @return the evictions
+     */
+    public int getEvictions() {
+        return theEvictions;
+    }
+
+    /**
+     * Set the budget.
+     *
+     * @param pBudget the budget
+     */
+    public void setBudget(final int pBudget) {
+        theBudget = pBudget;
+        evictToBudget();
+    }
+
+    /**
+     * Look up an analysis.
+     *
+     * @param pRange the date range
+     * @return the analysis or null if not cached
+     */
+    public MoneyWiseAnalysis getAnalysis(final OceanusDateRange pRange) {
+        /* Look up the analysis and record the hit/miss */
+        final MoneyWiseAnalysis myAnalysis = theAnalysisMap.get(pRange);
+        if (myAnalysis == null) {
+            theMisses++;
+        } else {
+            theHits++;
+        }
+        return myAnalysis;
+    }
+
+    /**
+     * Store an analysis.
+     *
+     * @param pRange    the date range
+     * @param pAnalysis the analysis
+     */
+    public void putAnalysis(final OceanusDateRange pRange,
+                            final MoneyWiseAnalysis pAnalysis) {
+        /* Remove any existing analysis */
+        removeAnalysis(pRange);
+
+        /* Store the analysis and its weight */
+        final int myWeight = determineWeight(pAnalysis);
+        theAnalysisMap.put(pRange, pAnalysis);
+        theWeightMap.put(pRange, myWeight);
+        theWeight += myWeight;
+
+        /* Evict analyses as required */
+        evictToBudget();
+    }
+
+    /**
+     * Invalidate the cache.
+     */
+    public void invalidate() {
+        theAnalysisMap.clear();
+        theWeightMap.clear();
+        theWeight = 0;
+    }
+
+    /**
+     * Remove an analysis.
+     *
+     * @param pRange the date range
+     */
+    private void removeAnalysis(final OceanusDateRange pRange) {
+        if (theAnalysisMap.remove(pRange) != null) {
+            theWeight -= theWeightMap.remove(pRange);
+        }
+    }
+
+    /**
+     * Evict least recently used analyses until we are within budget.
+     */
+    private void evictToBudget() {
+        /* Loop while we are over budget and have more than one analysis */
+        final Iterator<OceanusDateRange> myIterator = theAnalysisMap.keySet().iterator();
+        while (theWeight > theBudget
+                && theAnalysisMap.size() > 1) {
+            /* Evict the least recently used analysis */
+            final OceanusDateRange myRange = myIterator.next();
+            myIterator.remove();
+            theWeight -= theWeightMap.remove(myRange);
+            theEvictions++;
+        }
+    }
+
+    /**
+     * Determine the weight of an analysis.
+     *
+     * @param pAnalysis the analysis
+     * @return the weight
+     */
+    private static int determineWeight(final MoneyWiseAnalysis pAnalysis) {
+        /* Count the account buckets */
+        int myWeight = pAnalysis.getDeposits().size()
+                + pAnalysis.getCash().size()
+                + pAnalysis.getLoans().size()
+                + pAnalysis.getPortfolios().size();
+        final Iterator<MoneyWiseAnalysisPortfolioBucket> myIterator = pAnalysis.getPortfolios().iterator();
+        while (myIterator.hasNext()) {
+            myWeight += myIterator.next().getSecurities().size();
+        }
+
+        /* Count the category buckets */
+        myWeight += pAnalysis.getDepositCategories().size()
+                + pAnalysis.getCashCategories().size()
+                + pAnalysis.getLoanCategories().size();
+
+        /* Count the remaining buckets */
+        myWeight += pAnalysis.getPayees().size()
+                + pAnalysis.getTransCategories().size()
+                + pAnalysis.getTaxBasis().size()
+                + pAnalysis.getTransactionTags().size();
+
+        /* Each analysis has a weight of at least one */
+        return Math.max(myWeight, 1);
+    }
+}
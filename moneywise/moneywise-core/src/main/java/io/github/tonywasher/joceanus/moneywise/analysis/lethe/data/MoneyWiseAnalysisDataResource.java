@@ -42,6 +42,51 @@ public enum MoneyWiseAnalysisDataResource
      */
     ANALYSIS_MANAGER("Analysis.Manager"),
 
+    /**
+     * Analysis Cache.
+     */
+    ANALYSIS_CACHE("Analysis.Cache"),
+
+    /**
+     * Cache Budget.
+     */
+    CACHE_BUDGET("Cache.Budget"),
+
+    /**
+     * Cache Weight.
+     */
+    CACHE_WEIGHT("Cache.Weight"),
+
+    /**
+     * Cache Hits.
+     */
+    CACHE_HITS("Cache.Hits"),
+
+    /**
+     * Cache Misses.
+     */
+    CACHE_MISSES("Cache.Misses"),
+
+    /**
+     * Cache Evictions.
+     */
+    CACHE_EVICTIONS("Cache.Evictions"),
+
+    /**
+     * Analysis Preferences Name.
+     */
+    PREFERENCE_NAME("Preference.Name"),
+
+    /**
+     * Parallel Totals Preference.
+     */
+    PREFERENCE_PARALLEL("Preference.ParallelTotals"),
+
+    /**
+     * Cache Budget Preference.
+     */
+    PREFERENCE_BUDGET("Preference.CacheBudget"),
+
     /**
      * Analysis Chargeable Events.
      */
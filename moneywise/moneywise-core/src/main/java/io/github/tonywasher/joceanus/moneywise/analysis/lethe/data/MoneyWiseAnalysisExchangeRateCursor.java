@@ -17,14 +17,13 @@
 package io.github.tonywasher.joceanus.moneywise.analysis.lethe.data;
 
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
-import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseExchangeRate;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDateSeries;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseExchangeRate.MoneyWiseExchangeRateDataMap;
 import io.github.tonywasher.joceanus.moneywise.data.statics.MoneyWiseCurrency;
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusRatio;
 
 import java.util.HashMap;
-import java.util.ListIterator;
 import java.util.Map;
 
 /**
@@ -83,9 +82,9 @@ public class MoneyWiseAnalysisExchangeRateCursor {
      */
     private final class CurrencyCursor {
         /**
-         * Exchange Rate iterator.
+         * Exchange Rate series.
          */
-        private final ListIterator<MoneyWiseExchangeRate> theIterator;
+        private final MoneyWiseDateSeries<OceanusRatio> theSeries;
 
         /**
          * The current exchange rate.
@@ -93,14 +92,9 @@ public class MoneyWiseAnalysisExchangeRateCursor {
         private OceanusRatio theCurrent = OceanusRatio.ONE;
 
         /**
-         * The next date.
+         * The index of the next exchange rate.
          */
-        private OceanusDate theNextDate;
-
-        /**
-         * The next exchange rate.
-         */
-        private OceanusRatio theNextRate;
+        private int theNext;
 
         /**
          * Constructor.
@@ -108,30 +102,8 @@ public class MoneyWiseAnalysisExchangeRateCursor {
          * @param pCurrency the currency
          */
         private CurrencyCursor(final MoneyWiseCurrency pCurrency) {
-            /* Access the Rate list */
-            theIterator = theDataMap.rateIterator(pCurrency);
-
-            /* If we have an iterator */
-            if (theIterator != null) {
-                /* move the cursor */
-                moveCursor();
-            }
-        }
-
-        /**
-         * Move the cursor.
-         */
-        private void moveCursor() {
-            /* If we have an iterator */
-            if (theIterator.hasPrevious()) {
-                /* access next rate and record */
-                final MoneyWiseExchangeRate myRate = theIterator.previous();
-                theNextRate = myRate.getExchangeRate();
-                theNextDate = myRate.getDate();
-            } else {
-                theNextDate = null;
-                theNextRate = null;
-            }
+            /* Access the Rate series */
+            theSeries = theDataMap.rateSeries(pCurrency);
         }
 
         /**
@@ -141,15 +113,14 @@ public class MoneyWiseAnalysisExchangeRateCursor {
          * @return the exchange rate
          */
         private OceanusRatio getExchangeRate(final OceanusDate pDate) {
-            /* if we have a later rate */
-            if (theNextDate != null) {
+            /* if we have a series */
+            if (theSeries != null) {
                 /* while we need to move the cursor */
-                while (pDate.compareTo(theNextDate) >= 0) {
-                    /* store rate */
-                    theCurrent = theNextRate;
-
-                    /* move the cursor */
-                    moveCursor();
+                final int myDay = pDate.getEpochDay();
+                while (theNext < theSeries.size()
+                        && theSeries.getEpochDay(theNext) <= myDay) {
+                    /* store rate and move the cursor */
+                    theCurrent = theSeries.getValue(theNext++);
                 }
             }
 
@@ -27,6 +27,8 @@ import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnal
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisLoanCategoryBucket.MoneyWiseAnalysisLoanCategoryBucketList;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPayeeBucket.MoneyWiseAnalysisPayeeBucketList;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPortfolioBucket.MoneyWiseAnalysisPortfolioBucketList;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPreference.MoneyWiseAnalysisPreferenceKey;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPreference.MoneyWiseAnalysisPreferences;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTaxBasisBucket.MoneyWiseAnalysisTaxBasisBucketList;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTransCategoryBucket.MoneyWiseAnalysisTransCategoryBucketList;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTransTagBucket.MoneyWiseAnalysisTransTagBucketList;
@@ -42,8 +44,8 @@ import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
 import io.github.tonywasher.joceanus.oceanus.logger.OceanusLogManager;
 import io.github.tonywasher.joceanus.oceanus.logger.OceanusLogger;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Analysis manager.
@@ -65,12 +67,13 @@ public class MoneyWiseAnalysisManager
      */
     static {
         FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.ANALYSIS_NAME, MoneyWiseAnalysisManager::getAnalysis);
+        FIELD_DEFS.declareLocalField(MoneyWiseAnalysisDataResource.ANALYSIS_CACHE, MoneyWiseAnalysisManager::getCache);
     }
 
     /**
-     * The analysis map.
+     * The analysis cache.
      */
-    private final Map<OceanusDateRange, MoneyWiseAnalysis> theAnalysisMap;
+    private final MoneyWiseAnalysisCache theCache;
 
     /**
      * The base analysis.
@@ -87,6 +90,11 @@ public class MoneyWiseAnalysisManager
      */
     private Boolean haveForeignCurrency = Boolean.FALSE;
 
+    /**
+     * Do we produce totals in parallel?
+     */
+    private boolean doParallelTotals;
+
     /**
      * Constructor.
      *
@@ -96,8 +104,13 @@ public class MoneyWiseAnalysisManager
         /* Store the parameters */
         theAnalysis = pAnalysis;
 
-        /* Create the analysis map */
-        theAnalysisMap = new HashMap<>();
+        /* Create the analysis cache */
+        theCache = new MoneyWiseAnalysisCache();
+
+        /* Apply the analysis preferences */
+        final MoneyWiseAnalysisPreferences myPrefs = pAnalysis.getPreferenceMgr().getPreferenceSet(MoneyWiseAnalysisPreferences.class);
+        doParallelTotals = myPrefs.getBooleanValue(MoneyWiseAnalysisPreferenceKey.PARALLELTOTALS);
+        theCache.setBudget(myPrefs.getIntegerValue(MoneyWiseAnalysisPreferenceKey.CACHEBUDGET));
     }
 
     @Override
@@ -112,7 +125,7 @@ public class MoneyWiseAnalysisManager
 
     @Override
     public Map<OceanusDateRange, MoneyWiseAnalysis> getUnderlyingMap() {
-        return theAnalysisMap;
+        return theCache.getUnderlyingMap();
     }
 
     /**
@@ -133,6 +146,31 @@ public class MoneyWiseAnalysisManager
         return theAnalysis;
     }
 
+    /**
+     * Obtain the analysis cache.
+     *
+     * @return the cache
+     */
+    public MoneyWiseAnalysisCache getCache() {
+        return theCache;
+    }
+
+    /**
+     * Set the budget for the analysis cache, overriding the analysis preference.
+     *
+     * @param pBudget the budget
+     */
+    public void setCacheBudget(final int pBudget) {
+        theCache.setBudget(pBudget);
+    }
+
+    /**
+     * Invalidate the cached analyses.
+     */
+    public void invalidate() {
+        theCache.invalidate();
+    }
+
     /**
      * Do we have a foreign currency?
      *
@@ -151,6 +189,15 @@ public class MoneyWiseAnalysisManager
         return haveActiveSecurities;
     }
 
+    /**
+     * Set whether totals are produced in parallel, overriding the analysis preference.
+     *
+     * @param pParallel true/false
+     */
+    public void setParallelTotals(final boolean pParallel) {
+        doParallelTotals = pParallel;
+    }
+
     /**
      * Obtain an analysis for a date.
      *
@@ -162,7 +209,7 @@ public class MoneyWiseAnalysisManager
         final OceanusDateRange myRange = new OceanusDateRange(null, pDate);
 
         /* Look for the existing analysis */
-        MoneyWiseAnalysis myAnalysis = theAnalysisMap.get(myRange);
+        MoneyWiseAnalysis myAnalysis = theCache.getAnalysis(myRange);
         if (myAnalysis == null) {
             /* Create the new event analysis */
             myAnalysis = new MoneyWiseAnalysis(theAnalysis, pDate);
@@ -172,7 +219,7 @@ public class MoneyWiseAnalysisManager
             checkTotals(myAnalysis);
 
             /* Put it into the map */
-            theAnalysisMap.put(myRange, myAnalysis);
+            theCache.putAnalysis(myRange, myAnalysis);
         }
 
         /* return the analysis */
@@ -187,7 +234,7 @@ public class MoneyWiseAnalysisManager
      */
     public MoneyWiseAnalysis getRangedAnalysis(final OceanusDateRange pRange) {
         /* Look for the existing analysis */
-        MoneyWiseAnalysis myAnalysis = theAnalysisMap.get(pRange);
+        MoneyWiseAnalysis myAnalysis = theCache.getAnalysis(pRange);
         if (myAnalysis == null) {
             /* Create the new event analysis */
             myAnalysis = new MoneyWiseAnalysis(theAnalysis, pRange);
@@ -197,7 +244,7 @@ public class MoneyWiseAnalysisManager
             checkTotals(myAnalysis);
 
             /* Put it into the map */
-            theAnalysisMap.put(pRange, myAnalysis);
+            theCache.putAnalysis(pRange, myAnalysis);
         }
 
         /* return the analysis */
@@ -218,6 +265,12 @@ public class MoneyWiseAnalysisManager
      * @param pAnalysis the analysis.
      */
     private void produceTotals(final MoneyWiseAnalysis pAnalysis) {
+        /* Handle parallel totals */
+        if (doParallelTotals) {
+            produceParallelTotals(pAnalysis);
+            return;
+        }
+
         /* Create the market analysis */
         final MoneyWiseAnalysisMarket myMarket = new MoneyWiseAnalysisMarket(pAnalysis);
 
@@ -268,6 +321,68 @@ public class MoneyWiseAnalysisManager
         myTags.sortBuckets();
     }
 
+    /**
+     * Produce Totals for an analysis, analysing independent bucket lists in parallel.
+     * <p>
+     * Each account type is analysed against its own market analysis, and these are merged before the market totals are
+     * propagated to the payees, transaction categories and tax basis, which are then totalled in parallel.
+     *
+     * @param pAnalysis the analysis.
+     */
+    private void produceParallelTotals(final MoneyWiseAnalysis pAnalysis) {
+        /* Create the market analyses */
+        final MoneyWiseAnalysisMarket myMarket = new MoneyWiseAnalysisMarket(pAnalysis);
+        final MoneyWiseAnalysisMarket myCashMarket = new MoneyWiseAnalysisMarket(pAnalysis);
+        final MoneyWiseAnalysisMarket myLoanMarket = new MoneyWiseAnalysisMarket(pAnalysis);
+        final MoneyWiseAnalysisMarket mySecurityMarket = new MoneyWiseAnalysisMarket(pAnalysis);
+
+        /* Access the account lists */
+        final MoneyWiseAnalysisDepositCategoryBucketList myDepositCategories = pAnalysis.getDepositCategories();
+        final MoneyWiseAnalysisCashCategoryBucketList myCashCategories = pAnalysis.getCashCategories();
+        final MoneyWiseAnalysisLoanCategoryBucketList myLoanCategories = pAnalysis.getLoanCategories();
+        final MoneyWiseAnalysisPortfolioBucketList myPortfolios = pAnalysis.getPortfolios();
+
+        /* Analyse the account types */
+        ForkJoinTask.invokeAll(
+                ForkJoinTask.adapt(() -> {
+                    myDepositCategories.analyseDeposits(myMarket, pAnalysis.getDeposits());
+                    myDepositCategories.produceTotals();
+                }),
+                ForkJoinTask.adapt(() -> {
+                    myCashCategories.analyseCash(myCashMarket, pAnalysis.getCash());
+                    myCashCategories.produceTotals();
+                }),
+                ForkJoinTask.adapt(() -> {
+                    myLoanCategories.analyseLoans(myLoanMarket, pAnalysis.getLoans());
+                    myLoanCategories.produceTotals();
+                }),
+                ForkJoinTask.adapt(() -> myPortfolios.analyseSecurities(mySecurityMarket)));
+
+        /* Merge the flags */
+        haveForeignCurrency = myDepositCategories.haveForeignCurrency();
+        haveForeignCurrency |= myCashCategories.haveForeignCurrency();
+        haveForeignCurrency |= myLoanCategories.haveForeignCurrency();
+        haveForeignCurrency |= myPortfolios.haveForeignCurrency();
+        haveActiveSecurities = myPortfolios.haveActiveSecurities();
+
+        /* Merge and propagate market totals */
+        myMarket.addMarket(myCashMarket);
+        myMarket.addMarket(myLoanMarket);
+        myMarket.addMarket(mySecurityMarket);
+        myMarket.propagateTotals();
+
+        /* Analyse the Payees, TransactionCategories and TaxBasis and sort the transaction Tag list */
+        final MoneyWiseAnalysisPayeeBucketList myPayees = pAnalysis.getPayees();
+        final MoneyWiseAnalysisTransCategoryBucketList myTransCategories = pAnalysis.getTransCategories();
+        final MoneyWiseAnalysisTaxBasisBucketList myTaxBasis = pAnalysis.getTaxBasis();
+        final MoneyWiseAnalysisTransTagBucketList myTags = pAnalysis.getTransactionTags();
+        ForkJoinTask.invokeAll(
+                ForkJoinTask.adapt(myPayees::produceTotals),
+                ForkJoinTask.adapt(myTransCategories::produceTotals),
+                ForkJoinTask.adapt(myTaxBasis::produceTotals),
+                ForkJoinTask.adapt(myTags::sortBuckets));
+    }
+
     /**
      * Check totals for an analysis.
      *
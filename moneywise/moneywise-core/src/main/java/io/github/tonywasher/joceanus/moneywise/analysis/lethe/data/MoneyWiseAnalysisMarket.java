@@ -173,6 +173,21 @@ public class MoneyWiseAnalysisMarket {
         }
     }
 
+    /**
+     * Add the totals from another market analysis.
+     *
+     * @param pSource the source market analysis
+     */
+    protected void addMarket(final MoneyWiseAnalysisMarket pSource) {
+        /* Add the market totals */
+        theMarketIncome.addAmount(pSource.theMarketIncome);
+        theMarketExpense.addAmount(pSource.theMarketExpense);
+        theGrowthIncome.addAmount(pSource.theGrowthIncome);
+        theGrowthExpense.addAmount(pSource.theGrowthExpense);
+        theFluctIncome.addAmount(pSource.theFluctIncome);
+        theFluctExpense.addAmount(pSource.theFluctExpense);
+    }
+
     /**
      * Propagate totals.
      */
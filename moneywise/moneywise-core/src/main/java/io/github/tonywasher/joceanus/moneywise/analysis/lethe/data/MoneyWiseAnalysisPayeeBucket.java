@@ -684,6 +684,7 @@ public final class MoneyWiseAnalysisPayeeBucket
 
     /**
      * Add bucket to totals.
+     * The base values of the totals bucket are kept equal to the totals.
      *
      * @param pSource the bucket to add
      */
@@ -692,14 +693,12 @@ public final class MoneyWiseAnalysisPayeeBucket
         final MoneyWiseAnalysisPayeeValues mySource = pSource.getValues();
 
         /* Add income values */
-        OceanusMoney myValue = theValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME);
-        OceanusMoney mySrcValue = mySource.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME, mySource.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME));
+        theBaseValues.setValue(MoneyWiseAnalysisPayeeAttr.INCOME, theValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME));
 
         /* Add expense values */
-        myValue = theValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE);
-        mySrcValue = mySource.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE, mySource.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE));
+        theBaseValues.setValue(MoneyWiseAnalysisPayeeAttr.EXPENSE, theValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE));
     }
 
     /**
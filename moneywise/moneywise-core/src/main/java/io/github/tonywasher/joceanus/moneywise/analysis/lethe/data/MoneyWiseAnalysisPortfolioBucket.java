@@ -506,9 +506,7 @@ public final class MoneyWiseAnalysisPortfolioBucket
     private static void addValues(final MoneyWiseAnalysisSecurityValues pTotals,
                                   final MoneyWiseAnalysisAccountValues pSource) {
         /* Add valuation values */
-        final OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION);
-        final OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION, pSource.getMoneyValue(MoneyWiseAnalysisAccountAttr.VALUATION));
     }
 
     /**
@@ -520,62 +518,34 @@ public final class MoneyWiseAnalysisPortfolioBucket
     private static void addValues(final MoneyWiseAnalysisSecurityValues pTotals,
                                   final MoneyWiseAnalysisSecurityValues pSource) {
         /* Add valuation values */
-        OceanusMoney myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION);
-        OceanusMoney mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION));
 
         /* Add invested values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.INVESTED);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.INVESTED);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.INVESTED, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.INVESTED));
 
         /* Add cost values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.RESIDUALCOST);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.RESIDUALCOST);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.RESIDUALCOST, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.RESIDUALCOST));
 
         /* Add gains values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.REALISEDGAINS);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.REALISEDGAINS);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.REALISEDGAINS, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.REALISEDGAINS));
 
         /* Add profit adjustment values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.GROWTHADJUST);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.GROWTHADJUST);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.GROWTHADJUST, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.GROWTHADJUST));
 
         /* Add dividends values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.DIVIDEND);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.DIVIDEND);
-        myValue.addAmount(mySrcValue);
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.DIVIDEND, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.DIVIDEND));
 
         /* Add market values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETGROWTH);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETGROWTH);
-        if (mySrcValue != null) {
-            myValue.addAmount(mySrcValue);
-        }
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETGROWTH, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETGROWTH));
 
         /* Add currency values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.CURRENCYFLUCT);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.CURRENCYFLUCT);
-        if (mySrcValue != null) {
-            myValue.addAmount(mySrcValue);
-        }
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.CURRENCYFLUCT, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.CURRENCYFLUCT));
 
         /* Add market profit values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETPROFIT);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETPROFIT);
-        if (mySrcValue != null) {
-            myValue.addAmount(mySrcValue);
-        }
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETPROFIT, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.MARKETPROFIT));
 
         /* Add profit values */
-        myValue = pTotals.getMoneyValue(MoneyWiseAnalysisSecurityAttr.PROFIT);
-        mySrcValue = pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.PROFIT);
-        if (mySrcValue != null) {
-            myValue.addAmount(mySrcValue);
-        }
+        pTotals.addMoneyValue(MoneyWiseAnalysisSecurityAttr.PROFIT, pSource.getMoneyValue(MoneyWiseAnalysisSecurityAttr.PROFIT));
     }
 
     /**
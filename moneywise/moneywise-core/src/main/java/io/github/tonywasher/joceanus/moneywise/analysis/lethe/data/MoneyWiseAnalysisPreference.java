@@ -0,0 +1,123 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.analysis.lethe.data;
+
+import io.github.tonywasher.joceanus.metis.preference.MetisPreferenceKey;
+import io.github.tonywasher.joceanus.metis.preference.MetisPreferenceParams;
+import io.github.tonywasher.joceanus.metis.preference.MetisPreferenceSet;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+
+/**
+ * Analysis Preferences.
+ */
+public final class MoneyWiseAnalysisPreference {
+    /**
+     * Constructor.
+     */
+    private MoneyWiseAnalysisPreference() {
+    }
+
+    /**
+     * AnalysisPreferenceKeys.
+     */
+    public enum MoneyWiseAnalysisPreferenceKey implements MetisPreferenceKey {
+        /**
+         * Parallel Totals.
+         */
+        PARALLELTOTALS("ParallelTotals", MoneyWiseAnalysisDataResource.PREFERENCE_PARALLEL),
+
+        /**
+         * Cache Budget.
+         */
+        CACHEBUDGET("CacheBudget", MoneyWiseAnalysisDataResource.PREFERENCE_BUDGET);
+
+        /**
+         * The name of the Preference.
+         */
+        private final String theName;
+
+        /**
+         * The display string.
+         */
+        private final String theDisplay;
+
+        /**
+         * Constructor.
+         *
+         * @param pName    the name
+         * @param pDisplay the display string;
+         */
+        MoneyWiseAnalysisPreferenceKey(final String pName,
+                                       final MoneyWiseAnalysisDataResource pDisplay) {
+            theName = pName;
+            theDisplay = pDisplay.getValue();
+        }
+
+        @Override
+        public String getName() {
+            return theName;
+        }
+
+        @Override
+        public String getDisplay() {
+            return theDisplay;
+        }
+    }
+
+    /**
+     * Analysis Preferences.
+     */
+    public static class MoneyWiseAnalysisPreferences
+            extends MetisPreferenceSet {
+        /**
+         * Constructor.
+         *
+         * @param pParams the parameters
+         * @throws OceanusException on error
+         */
+        public MoneyWiseAnalysisPreferences(final MetisPreferenceParams pParams) throws OceanusException {
+            super(pParams, MoneyWiseAnalysisDataResource.PREFERENCE_NAME);
+        }
+
+        @Override
+        protected void definePreferences() {
+            defineBooleanPreference(MoneyWiseAnalysisPreferenceKey.PARALLELTOTALS);
+            defineIntegerPreference(MoneyWiseAnalysisPreferenceKey.CACHEBUDGET);
+        }
+
+        @Override
+        public void autoCorrectPreferences() {
+            /* Make sure that the parallel totals flag is specified */
+            final MetisBooleanPreference myPref = getBooleanPreference(MoneyWiseAnalysisPreferenceKey.PARALLELTOTALS);
+            if (!myPref.isAvailable()) {
+                myPref.setValue(Boolean.FALSE);
+            }
+
+            /* Make sure that the cache budget is specified and positive */
+            final MetisIntegerPreference myBudgetPref = getIntegerPreference(MoneyWiseAnalysisPreferenceKey.CACHEBUDGET);
+            if (!myBudgetPref.isAvailable()) {
+                myBudgetPref.setValue(MoneyWiseAnalysisCache.DEFAULT_BUDGET);
+            }
+
+            /* Define the range */
+            myBudgetPref.setRange(1, null);
+            if (!myBudgetPref.validate()) {
+                myBudgetPref.setValue(MoneyWiseAnalysisCache.DEFAULT_BUDGET);
+            }
+        }
+    }
+}
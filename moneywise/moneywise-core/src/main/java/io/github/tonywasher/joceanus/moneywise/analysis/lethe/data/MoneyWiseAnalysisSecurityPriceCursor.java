@@ -17,8 +17,8 @@
 package io.github.tonywasher.joceanus.moneywise.analysis.lethe.data;
 
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDateSeries;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseSecurity;
-import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseSecurityPrice;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseSecurityPrice.MoneyWiseSecurityPriceDataMap;
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusPrice;
@@ -26,7 +26,6 @@ import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataInstanceMap;
 
 import java.util.Currency;
 import java.util.HashMap;
-import java.util.ListIterator;
 import java.util.Map;
 
 /**
@@ -85,9 +84,9 @@ public class MoneyWiseAnalysisSecurityPriceCursor {
      */
     private final class MoneyWiseSecurityCursor {
         /**
-         * SecurityPrice iterator.
+         * SecurityPrice series.
          */
-        private final ListIterator<MoneyWiseSecurityPrice> theIterator;
+        private final MoneyWiseDateSeries<OceanusPrice> theSeries;
 
         /**
          * The current price.
@@ -95,14 +94,9 @@ public class MoneyWiseAnalysisSecurityPriceCursor {
         private OceanusPrice theCurrent;
 
         /**
-         * The next date.
+         * The index of the next price.
          */
-        private OceanusDate theNextDate;
-
-        /**
-         * The next price.
-         */
-        private OceanusPrice theNextPrice;
+        private int theNext;
 
         /**
          * Constructor.
@@ -114,30 +108,8 @@ public class MoneyWiseAnalysisSecurityPriceCursor {
             final Currency myCurrency = pSecurity.getCurrency();
             theCurrent = OceanusPrice.getWholeUnits(PrometheusDataInstanceMap.ONE, myCurrency);
 
-            /* Access the Price list */
-            theIterator = theDataMap.priceIterator(pSecurity);
-
-            /* If we have an iterator */
-            if (theIterator != null) {
-                /* move the cursor */
-                moveCursor();
-            }
-        }
-
-        /**
-         * Move the cursor.
-         */
-        private void moveCursor() {
-            /* If we have an iterator */
-            if (theIterator.hasPrevious()) {
-                /* access next rate and record */
-                final MoneyWiseSecurityPrice myPrice = theIterator.previous();
-                theNextPrice = myPrice.getPrice();
-                theNextDate = myPrice.getDate();
-            } else {
-                theNextDate = null;
-                theNextPrice = null;
-            }
+            /* Access the Price series */
+            theSeries = theDataMap.priceSeries(pSecurity);
         }
 
         /**
@@ -147,15 +119,14 @@ public class MoneyWiseAnalysisSecurityPriceCursor {
          * @return the security price
          */
         private OceanusPrice getSecurityPrice(final OceanusDate pDate) {
-            /* if we have a later price */
-            if (theNextDate != null) {
+            /* if we have a series */
+            if (theSeries != null) {
                 /* while we need to move the cursor */
-                while (pDate.compareTo(theNextDate) >= 0) {
-                    /* store price */
-                    theCurrent = theNextPrice;
-
-                    /* move the cursor */
-                    moveCursor();
+                final int myDay = pDate.getEpochDay();
+                while (theNext < theSeries.size()
+                        && theSeries.getEpochDay(theNext) <= myDay) {
+                    /* store price and move the cursor */
+                    theCurrent = theSeries.getValue(theNext++);
                 }
             }
 
@@ -681,15 +681,16 @@ public abstract class MoneyWiseAnalysisTaxBasisBaseBucket
 
     /**
      * Add values.
+     * The base values of the totals bucket are kept equal to the totals.
      *
      * @param pBucket tax category bucket
      */
     protected void addValues(final MoneyWiseAnalysisTaxBasisBaseBucket pBucket) {
         /* Add the values */
-        OceanusMoney myAmount = theValues.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.GROSS);
-        myAmount.addAmount(pBucket.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.GROSS));
-        myAmount = theValues.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.NETT);
-        myAmount.addAmount(pBucket.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.NETT));
+        theValues.addMoneyValue(MoneyWiseAnalysisTaxBasisAttr.GROSS, pBucket.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.GROSS));
+        theBaseValues.setValue(MoneyWiseAnalysisTaxBasisAttr.GROSS, theValues.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.GROSS));
+        theValues.addMoneyValue(MoneyWiseAnalysisTaxBasisAttr.NETT, pBucket.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.NETT));
+        theBaseValues.setValue(MoneyWiseAnalysisTaxBasisAttr.NETT, theValues.getMoneyValue(MoneyWiseAnalysisTaxBasisAttr.NETT));
     }
 
     /**
@@ -304,7 +304,8 @@ public class MoneyWiseAnalysisTaxBasisBucket
                                                       final MoneyWiseAnalysisTaxBasisBucketList pBase,
                                                       final OceanusDate pDate) {
             /* Initialise class */
-            this(pAnalysis, new MoneyWiseChargeableGainSliceList(pBase.getGainSlices(), pAnalysis.getDateRange()));
+            this(pAnalysis, new MoneyWiseChargeableGainSliceList(pBase.getGainSlices(),
+                    new OceanusDateRange(pAnalysis.getDateRange().getStart(), pDate)));
 
             /* Loop through the buckets */
             final Iterator<MoneyWiseAnalysisTaxBasisBucket> myIterator = pBase.iterator();
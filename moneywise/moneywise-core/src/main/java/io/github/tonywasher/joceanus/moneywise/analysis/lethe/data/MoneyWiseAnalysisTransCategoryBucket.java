@@ -568,6 +568,7 @@ public final class MoneyWiseAnalysisTransCategoryBucket
 
     /**
      * Add bucket to totals.
+     * The base values of the totals bucket are kept equal to the totals.
      *
      * @param pSource the bucket to add
      */
@@ -576,14 +577,12 @@ public final class MoneyWiseAnalysisTransCategoryBucket
         final MoneyWiseAnalysisCategoryValues mySource = pSource.getValues();
 
         /* Add income values */
-        OceanusMoney myValue = theValues.getMoneyValue(MoneyWiseAnalysisTransAttr.INCOME);
-        OceanusMoney mySrcValue = mySource.getMoneyValue(MoneyWiseAnalysisTransAttr.INCOME);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseAnalysisTransAttr.INCOME, mySource.getMoneyValue(MoneyWiseAnalysisTransAttr.INCOME));
+        theBaseValues.setValue(MoneyWiseAnalysisTransAttr.INCOME, theValues.getMoneyValue(MoneyWiseAnalysisTransAttr.INCOME));
 
         /* Add expense values */
-        myValue = theValues.getMoneyValue(MoneyWiseAnalysisTransAttr.EXPENSE);
-        mySrcValue = mySource.getMoneyValue(MoneyWiseAnalysisTransAttr.EXPENSE);
-        myValue.addAmount(mySrcValue);
+        theValues.addMoneyValue(MoneyWiseAnalysisTransAttr.EXPENSE, mySource.getMoneyValue(MoneyWiseAnalysisTransAttr.EXPENSE));
+        theBaseValues.setValue(MoneyWiseAnalysisTransAttr.EXPENSE, theValues.getMoneyValue(MoneyWiseAnalysisTransAttr.EXPENSE));
     }
 
     /**
@@ -757,6 +756,50 @@ public final class MoneyWiseAnalysisTransCategoryBucket
             }
         }
 
+        /**
+         * Construct a dated List that is to be continued.
+         * <p>
+         * The implied buckets are obtained so that further transactions can be analysed.
+         *
+         * @param pAnalysis the analysis
+         * @param pBase     the base list
+         * @param pDate     the Date
+         * @param pTaxBasis the tax basis bucket list
+         */
+        MoneyWiseAnalysisTransCategoryBucketList(final MoneyWiseAnalysisControl pAnalysis,
+                                                 final MoneyWiseAnalysisTransCategoryBucketList pBase,
+                                                 final OceanusDate pDate,
+                                                 final MoneyWiseAnalysisTaxBasisBucketList pTaxBasis) {
+            /* Initialise class */
+            theAnalysis = pAnalysis;
+            theEditSet = theAnalysis.getEditSet();
+            theTotals = allocateTotalsBucket();
+            theList = new MetisListIndexed<>();
+
+            /* Loop through the buckets */
+            final Iterator<MoneyWiseAnalysisTransCategoryBucket> myIterator = pBase.iterator();
+            while (myIterator.hasNext()) {
+                final MoneyWiseAnalysisTransCategoryBucket myCurr = myIterator.next();
+
+                /* Access the bucket for this date and add to the list */
+                theList.add(new MoneyWiseAnalysisTransCategoryBucket(pAnalysis, myCurr, pDate));
+            }
+
+            /* Access taxBasis list */
+            theTaxBasis = pTaxBasis;
+
+            /* Obtain the implied buckets */
+            theTaxCredit = getEventInfoBucket(MoneyWiseTransInfoClass.TAXCREDIT);
+            theEmployeeNatIns = getEventInfoBucket(MoneyWiseTransInfoClass.EMPLOYEENATINS);
+            theEmployerNatIns = getEventInfoBucket(MoneyWiseTransInfoClass.EMPLOYERNATINS);
+            theDeemedBenefit = getEventInfoBucket(MoneyWiseTransInfoClass.DEEMEDBENEFIT);
+            theWithheld = getEventInfoBucket(MoneyWiseTransInfoClass.WITHHELD);
+            theTaxRelief = getEventSingularBucket(MoneyWiseTransCategoryClass.TAXRELIEF);
+            theChargeableGains = getEventSingularBucket(MoneyWiseTransCategoryClass.CHARGEABLEGAIN);
+            theTaxFreeGains = getEventSingularBucket(MoneyWiseTransCategoryClass.TAXFREEGAIN);
+            theCapitalGains = getEventSingularBucket(MoneyWiseTransCategoryClass.CAPITALGAIN);
+        }
+
         /**
          * Construct a ranged List.
          *
@@ -0,0 +1,171 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.data.basic;
+
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Date-indexed series of values, such as the prices of a security or the rates of a currency.
+ * <p>
+ * The dates are held as ascending epoch-days alongside the values, so that the value in force on a date is
+ * located by binary search without allocating. The items are ordered by date when the series is built, so they may
+ * be supplied in any order. Where several items share a date, the one that is first in the underlying list is used.
+ *
+ * @param <T> the value type
+ */
+public final class MoneyWiseDateSeries<T> {
+    /**
+     * The epoch-days in ascending order.
+     */
+    private final int[] theDates;
+
+    /**
+     * The values.
+     */
+    private final T[] theValues;
+
+    /**
+     * Constructor.
+     *
+     * @param <X>    the item type
+     * @param pItems the items
+     * @param pDate  the date accessor
+     * @param pValue the value accessor
+     */
+    @SuppressWarnings("unchecked")
+    <X> MoneyWiseDateSeries(final List<X> pItems,
+                            final Function<X, OceanusDate> pDate,
+                            final Function<X, T> pValue) {
+        /* Access the dates in list order */
+        final int mySize = pItems.size();
+        final int[] myDates = new int[mySize];
+        final Integer[] myOrder = new Integer[mySize];
+        for (int i = 0; i < mySize; i++) {
+            myDates[i] = pDate.apply(pItems.get(i)).getEpochDay();
+            myOrder[i] = i;
+        }
+
+        /* Order by ascending date, placing items that share a date in reverse list order */
+        Arrays.sort(myOrder, Comparator.<Integer>comparingInt(i -> myDates[i]).thenComparing(Comparator.reverseOrder()));
+
+        /* Store the items in ascending date order */
+        theDates = new int[mySize];
+        theValues = (T[]) new Object[mySize];
+        for (int i = 0; i < mySize; i++) {
+            final int myIndex = myOrder[i];
+            theDates[i] = myDates[myIndex];
+            theValues[i] = pValue.apply(pItems.get(myIndex));
+        }
+    }
+
+    /**
+     * Obtain the number of entries.
+     *
+     * @return the size
+     */
+    public int size() {
+        return theDates.length;
+    }
+
+    /**
+     * Obtain the epoch-day of an entry.
+     *
+     * @param pIndex the index
+     * @return the epoch-day
+     */
+    public int getEpochDay(final int pIndex) {
+        return theDates[pIndex];
+    }
+
+    /**
+     * Obtain the value of an entry.
+     *
+     * @param pIndex the index
+     * @return the value
+     */
+    public T getValue(final int pIndex) {
+        return theValues[pIndex];
+    }
+
+    /**
+     * Obtain the index of the latest entry on or before an epoch-day.
+     *
+     * @param pEpochDay the epoch-day
+     * @return the index, or -1 if there is no such entry
+     */
+    public int indexOnOrBefore(final int pEpochDay) {
+        /* Binary search for the last entry that is not after the date */
+        int myLow = 0;
+        int myHigh = theDates.length - 1;
+        while (myLow <= myHigh) {
+            final int myMid = (myLow + myHigh) >>> 1;
+            if (theDates[myMid] <= pEpochDay) {
+                myLow = myMid + 1;
+            } else {
+                myHigh = myMid - 1;
+            }
+        }
+        return myHigh;
+    }
+
+    /**
+     * Obtain the value in force on a date.
+     *
+     * @param pDate    the date
+     * @param pDefault the value to return if there is no entry on or before the date
+     * @return the value
+     */
+    public T getValueForDate(final OceanusDate pDate,
+                             final T pDefault) {
+        final int myIndex = indexOnOrBefore(pDate.getEpochDay());
+        return myIndex < 0
+                ? pDefault
+                : theValues[myIndex];
+    }
+
+    /**
+     * Obtain the values in force at the start and end of a range.
+     *
+     * @param pRange   the range
+     * @param pDefault the value to use if there is no entry on or before a date
+     * @param pResult  the two-element array to receive the start and end values
+     */
+    public void getValuesForRange(final OceanusDateRange pRange,
+                                  final T pDefault,
+                                  final T[] pResult) {
+        /* An open start has no value at the start of the range */
+        final OceanusDate myStart = pRange.getStart();
+        pResult[0] = myStart == null
+                ? pDefault
+                : getValueForDate(myStart, pDefault);
+
+        /* An open end uses the latest value */
+        final OceanusDate myEnd = pRange.getEnd();
+        final int myIndex = myEnd == null
+                ? theDates.length - 1
+                : indexOnOrBefore(myEnd.getEpochDay());
+        pResult[1] = myIndex < 0
+                ? pDefault
+                : theValues[myIndex];
+    }
+}
@@ -48,7 +48,6 @@ import java.util.Currency;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 
 /**
@@ -919,7 +918,7 @@ public class MoneyWiseExchangeRate
             final MoneyWiseRateList myList = theMapOfRates.computeIfAbsent(myCurrency, MoneyWiseRateList::new);
 
             /* Add element to the list */
-            myList.add(myItem);
+            myList.addRate(myItem);
         }
 
         /**
@@ -966,26 +965,11 @@ public class MoneyWiseExchangeRate
          */
         public OceanusRatio getRateForDate(final MoneyWiseCurrency pCurrency,
                                            final OceanusDate pDate) {
-            /* Access list for currency */
-            final MoneyWiseRateList myList = theMapOfRates.get(pCurrency);
-            if (myList != null) {
-                /* Loop through the rates */
-                final Iterator<MoneyWiseExchangeRate> myIterator = myList.iterator();
-                while (myIterator.hasNext()) {
-                    final MoneyWiseExchangeRate myCurr = myIterator.next();
-
-                    /* Access the date */
-                    final OceanusDate myDate = myCurr.getDate();
-
-                    /* break loop if we have the correct record */
-                    if (myDate.compareTo(pDate) >= 0) {
-                        return myCurr.getExchangeRate();
-                    }
-                }
-            }
-
-            /* return null */
-            return null;
+            /* Look up the rate in the series for the currency */
+            final MoneyWiseDateSeries<OceanusRatio> mySeries = rateSeries(pCurrency);
+            return mySeries == null
+                    ? null
+                    : mySeries.getValueForDate(pDate, null);
         }
 
         /**
@@ -997,55 +981,31 @@ public class MoneyWiseExchangeRate
          */
         public OceanusRatio[] getRatesForRange(final MoneyWiseCurrency pCurrency,
                                                final OceanusDateRange pRange) {
-            /* Set rate */
-            OceanusRatio myFirst = OceanusRatio.ONE;
-            OceanusRatio myLatest = OceanusRatio.ONE;
-            final OceanusDate myStart = pRange.getStart();
-
-            /* Access list for security */
-            final MoneyWiseRateList myList = theMapOfRates.get(pCurrency);
-            if (myList != null) {
-                /* Loop through the rates */
-                final ListIterator<MoneyWiseExchangeRate> myIterator = myList.listIterator(myList.size());
-                while (myIterator.hasPrevious()) {
-                    final MoneyWiseExchangeRate myCurr = myIterator.previous();
-
-                    /* Check for the range of the date */
-                    final OceanusDate myDate = myCurr.getDate();
-                    final int iComp = pRange.compareToDate(myDate);
-
-                    /* If this is later than the range we are finished */
-                    if (iComp < 0) {
-                        break;
-                    }
-
-                    /* Record as best rate */
-                    myLatest = myCurr.getExchangeRate();
-
-                    /* Adjust first rate */
-                    if (iComp > 0
-                            || myDate.compareTo(myStart) == 0) {
-                        myFirst = myLatest;
-                    }
-                }
+            /* Default to unit rate */
+            final OceanusRatio[] myRates = new OceanusRatio[]
+                    {OceanusRatio.ONE, OceanusRatio.ONE};
+
+            /* Look up the rates in the series for the currency */
+            final MoneyWiseDateSeries<OceanusRatio> mySeries = rateSeries(pCurrency);
+            if (mySeries != null) {
+                mySeries.getValuesForRange(pRange, OceanusRatio.ONE, myRates);
             }
 
             /* Return the rates */
-            return new OceanusRatio[]
-                    {myFirst, myLatest};
+            return myRates;
         }
 
         /**
-         * Obtain rateList cursor.
+         * Obtain the rate series for a currency.
          *
          * @param pCurrency the currency
-         * @return the latest rate for the date.
+         * @return the rate series (or null if there are no rates)
          */
-        public ListIterator<MoneyWiseExchangeRate> rateIterator(final MoneyWiseCurrency pCurrency) {
+        public MoneyWiseDateSeries<OceanusRatio> rateSeries(final MoneyWiseCurrency pCurrency) {
             /* Access list for currency */
             final MoneyWiseRateList myList = theMapOfRates.get(pCurrency);
             return myList != null
-                    ? myList.listIterator(myList.size())
+                    ? myList.getSeries()
                     : null;
         }
 
@@ -1076,6 +1036,11 @@ public class MoneyWiseExchangeRate
              */
             private final MoneyWiseCurrency theCurrency;
 
+            /**
+             * The rate series.
+             */
+            private MoneyWiseDateSeries<OceanusRatio> theSeries;
+
             /**
              * Constructor.
              *
@@ -1111,6 +1076,30 @@ public class MoneyWiseExchangeRate
             public List<MoneyWiseExchangeRate> getUnderlyingList() {
                 return theList;
             }
+
+            /**
+             * Add a rate to the list.
+             *
+             * @param pRate the rate
+             */
+            private void addRate(final MoneyWiseExchangeRate pRate) {
+                theList.add(pRate);
+                theSeries = null;
+            }
+
+            /**
+             * Obtain the rate series, building it if necessary.
+             *
+             * @return the series
+             */
+            private MoneyWiseDateSeries<OceanusRatio> getSeries() {
+                MoneyWiseDateSeries<OceanusRatio> mySeries = theSeries;
+                if (mySeries == null) {
+                    mySeries = new MoneyWiseDateSeries<>(theList, MoneyWiseExchangeRate::getDate, MoneyWiseExchangeRate::getExchangeRate);
+                    theSeries = mySeries;
+                }
+                return mySeries;
+            }
         }
     }
 }
@@ -43,11 +43,9 @@ import io.github.tonywasher.joceanus.prometheus.data.PrometheusListStyle;
 import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
 
 import java.util.ArrayList;
-import java.util.Currency;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 
 /**
@@ -756,7 +754,7 @@ public class MoneyWiseSecurityPrice
             final MoneyWiseSecurityPriceList myList = theMapOfPrices.computeIfAbsent(mySecurity, MoneyWiseSecurityPriceList::new);
 
             /* Add element to the list */
-            myList.add(myItem);
+            myList.addPrice(myItem);
         }
 
         /**
@@ -806,24 +804,16 @@ public class MoneyWiseSecurityPrice
             /* Access as security */
             final MoneyWiseSecurity mySecurity = MoneyWiseSecurity.class.cast(pSecurity);
 
-            /* Access list for security */
-            final MoneyWiseSecurityPriceList myList = theMapOfPrices.get(mySecurity);
-            if (myList != null) {
-                /* Loop through the prices */
-                final Iterator<MoneyWiseSecurityPrice> myIterator = myList.iterator();
-                while (myIterator.hasNext()) {
-                    final MoneyWiseSecurityPrice myCurr = myIterator.next();
-
-                    /* Return this price if this is earlier or equal to the the date */
-                    if (pDate.compareTo(myCurr.getDate()) >= 0) {
-                        return myCurr.getPrice();
-                    }
-                }
-            }
+            /* Look up the price in the series for the security */
+            final MoneyWiseDateSeries<OceanusPrice> mySeries = priceSeries(mySecurity);
+            final OceanusPrice myPrice = mySeries == null
+                    ? null
+                    : mySeries.getValueForDate(pDate, null);
 
-            /* return single unit price */
-            final Currency myCurrency = mySecurity.getCurrency();
-            return OceanusPrice.getWholeUnits(PrometheusDataInstanceMap.ONE, myCurrency);
+            /* return single unit price if there is no price */
+            return myPrice == null
+                    ? OceanusPrice.getWholeUnits(PrometheusDataInstanceMap.ONE, mySecurity.getCurrency())
+                    : myPrice;
         }
 
         /**
@@ -835,56 +825,32 @@ public class MoneyWiseSecurityPrice
          */
         public OceanusPrice[] getPricesForRange(final MoneyWiseSecurity pSecurity,
                                                 final OceanusDateRange pRange) {
-            /* Set price */
-            final Currency myCurrency = pSecurity.getCurrency();
-            OceanusPrice myFirst = OceanusPrice.getWholeUnits(PrometheusDataInstanceMap.ONE, myCurrency);
-            OceanusPrice myLatest = myFirst;
-            final OceanusDate myStart = pRange.getStart();
-
-            /* Access list for security */
-            final MoneyWiseSecurityPriceList myList = theMapOfPrices.get(pSecurity);
-            if (myList != null) {
-                /* Loop through the prices */
-                final ListIterator<MoneyWiseSecurityPrice> myIterator = myList.listIterator(myList.size());
-                while (myIterator.hasPrevious()) {
-                    final MoneyWiseSecurityPrice myCurr = myIterator.previous();
-
-                    /* Check for the range of the date */
-                    final OceanusDate myDate = myCurr.getDate();
-                    final int iComp = pRange.compareToDate(myDate);
-
-                    /* If this is later than the range we are finished */
-                    if (iComp < 0) {
-                        break;
-                    }
-
-                    /* Record as best price */
-                    myLatest = myCurr.getPrice();
-
-                    /* Record early price */
-                    if (iComp > 0
-                            || myDate.compareTo(myStart) == 0) {
-                        myFirst = myLatest;
-                    }
-                }
+            /* Default to single unit price */
+            final OceanusPrice myUnit = OceanusPrice.getWholeUnits(PrometheusDataInstanceMap.ONE, pSecurity.getCurrency());
+            final OceanusPrice[] myPrices = new OceanusPrice[]
+                    {myUnit, myUnit};
+
+            /* Look up the prices in the series for the security */
+            final MoneyWiseDateSeries<OceanusPrice> mySeries = priceSeries(pSecurity);
+            if (mySeries != null) {
+                mySeries.getValuesForRange(pRange, myUnit, myPrices);
             }
 
             /* Return the prices */
-            return new OceanusPrice[]
-                    {myFirst, myLatest};
+            return myPrices;
         }
 
         /**
-         * Obtain priceList cursor.
+         * Obtain the price series for a security.
          *
          * @param pSecurity the security
-         * @return the latest price for the date.
+         * @return the price series (or null if there are no prices)
          */
-        public ListIterator<MoneyWiseSecurityPrice> priceIterator(final MoneyWiseSecurity pSecurity) {
-            /* Access list for currency */
+        public MoneyWiseDateSeries<OceanusPrice> priceSeries(final MoneyWiseSecurity pSecurity) {
+            /* Access list for security */
             final MoneyWiseSecurityPriceList myList = theMapOfPrices.get(pSecurity);
             return myList != null
-                    ? myList.listIterator(myList.size())
+                    ? myList.getSeries()
                     : null;
         }
 
@@ -915,6 +881,11 @@ public class MoneyWiseSecurityPrice
              */
             private final MoneyWiseSecurity theSecurity;
 
+            /**
+             * The price series.
+             */
+            private MoneyWiseDateSeries<OceanusPrice> theSeries;
+
             /**
              * Constructor.
              *
@@ -950,6 +921,30 @@ public class MoneyWiseSecurityPrice
             public List<MoneyWiseSecurityPrice> getUnderlyingList() {
                 return theList;
             }
+
+            /**
+             * Add a price to the list.
+             *
+             * @param pPrice the price
+             */
+            private void addPrice(final MoneyWiseSecurityPrice pPrice) {
+                theList.add(pPrice);
+                theSeries = null;
+            }
+
+            /**
+             * Obtain the price series, building it if necessary.
+             *
+             * @return the series
+             */
+            private MoneyWiseDateSeries<OceanusPrice> getSeries() {
+                MoneyWiseDateSeries<OceanusPrice> mySeries = theSeries;
+                if (mySeries == null) {
+                    mySeries = new MoneyWiseDateSeries<>(theList, MoneyWiseSecurityPrice::getDate, MoneyWiseSecurityPrice::getPrice);
+                    theSeries = mySeries;
+                }
+                return mySeries;
+            }
         }
     }
 }
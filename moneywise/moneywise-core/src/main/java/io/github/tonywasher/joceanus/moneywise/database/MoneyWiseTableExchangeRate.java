@@ -21,7 +21,6 @@ import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseBasicResource
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseExchangeRate;
 import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
-import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataSet;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataValues;
 import io.github.tonywasher.joceanus.prometheus.database.PrometheusColumnDefinition;
@@ -42,11 +41,6 @@ public class MoneyWiseTableExchangeRate
      */
     protected static final String TABLE_NAME = MoneyWiseExchangeRate.LIST_NAME;
 
-    /**
-     * The formatter.
-     */
-    private OceanusDataFormatter theFormatter;
-
     /**
      * Constructor.
      *
@@ -71,7 +65,6 @@ public class MoneyWiseTableExchangeRate
     protected void declareData(final PrometheusDataSet pData) {
         final MoneyWiseDataSet myData = (MoneyWiseDataSet) pData;
         setList(myData.getExchangeRates());
-        theFormatter = myData.getDataFormatter();
     }
 
     @Override
@@ -79,12 +72,12 @@ public class MoneyWiseTableExchangeRate
         /* Access the table definition */
         final PrometheusTableDefinition myTableDef = getTableDef();
 
-        /* Build data values */
+        /* Build data values, leaving the rate to be parsed when the item is created */
         final PrometheusDataValues myValues = getRowValues(MoneyWiseExchangeRate.OBJECT_NAME);
         myValues.addValue(MoneyWiseBasicResource.MONEYWISEDATA_FIELD_DATE, myTableDef.getDateValue(MoneyWiseBasicResource.MONEYWISEDATA_FIELD_DATE));
         myValues.addValue(MoneyWiseBasicResource.XCHGRATE_FROM, myTableDef.getIntegerValue(MoneyWiseBasicResource.XCHGRATE_FROM));
         myValues.addValue(MoneyWiseBasicResource.XCHGRATE_TO, myTableDef.getIntegerValue(MoneyWiseBasicResource.XCHGRATE_TO));
-        myValues.addValue(MoneyWiseBasicResource.XCHGRATE_RATE, myTableDef.getRatioValue(MoneyWiseBasicResource.XCHGRATE_RATE, theFormatter));
+        myValues.addValue(MoneyWiseBasicResource.XCHGRATE_RATE, myTableDef.getStringValue(MoneyWiseBasicResource.XCHGRATE_RATE));
 
         /* Return the values */
         return myValues;
@@ -18,6 +18,7 @@ package io.github.tonywasher.joceanus.moneywise.reports.atlas;
 
 import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
 import io.github.tonywasher.joceanus.metis.report.MetisReportDelayedTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
@@ -33,8 +34,6 @@ import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFil
 import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFilter.MoneyWiseXAnalysisSecurityFilter;
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 import java.util.Iterator;
 
@@ -85,7 +84,7 @@ public class MoneyWiseXReportAssetGains
     }
 
     @Override
-    public Document createReport(final MoneyWiseXAnalysis pAnalysis) {
+    public MetisReportDocument createReport(final MoneyWiseXAnalysis pAnalysis) {
         /* Access the bucket lists */
         final MoneyWiseXAnalysisPortfolioBucketList myPortfolios = pAnalysis.getPortfolios();
         final OceanusDate myDate = pAnalysis.getDateRange().getEnd();
@@ -94,11 +93,11 @@ public class MoneyWiseXReportAssetGains
         final MoneyWiseXAnalysisPortfolioBucket myTotals = myPortfolios.getTotals();
 
         /* Start the report */
-        final Element myBody = theBuilder.startReport();
-        theBuilder.makeTitle(myBody, TEXT_TITLE, theFormatter.formatObject(myDate));
+        final MetisReportDocument myDoc = theBuilder.startReport();
+        theBuilder.makeTitle(myDoc, TEXT_TITLE, theFormatter.formatObject(myDate));
 
         /* Initialise the table */
-        final MetisReportHTMLTable myTable = theBuilder.startTable(myBody);
+        final MetisReportHTMLTable myTable = theBuilder.startTable(myDoc);
         theBuilder.startHdrRow(myTable);
         theBuilder.makeTitleCell(myTable);
         theBuilder.makeTitleCell(myTable, TEXT_VALUE);
@@ -19,6 +19,7 @@ package io.github.tonywasher.joceanus.moneywise.reports.atlas;
 import io.github.tonywasher.joceanus.metis.data.MetisDataDifference;
 import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
 import io.github.tonywasher.joceanus.metis.report.MetisReportDelayedTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
@@ -61,8 +62,6 @@ import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFil
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusMoney;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 import java.util.Iterator;
 
@@ -108,7 +107,7 @@ public class MoneyWiseXReportBalanceSheet
     }
 
     @Override
-    public Document createReport(final MoneyWiseXAnalysis pAnalysis) {
+    public MetisReportDocument createReport(final MoneyWiseXAnalysis pAnalysis) {
         /* Access the bucket lists */
         theAnalysis = pAnalysis;
         final MoneyWiseXAnalysisDepositCategoryBucketList myDeposits = theAnalysis.getDepositCategories();
@@ -123,11 +122,11 @@ public class MoneyWiseXReportBalanceSheet
         final OceanusMoney myDelta = new OceanusMoney();
 
         /* Start the report */
-        final Element myBody = theBuilder.startReport();
-        theBuilder.makeTitle(myBody, TEXT_TITLE, theFormatter.formatObject(myDateRange));
+        final MetisReportDocument myDoc = theBuilder.startReport();
+        theBuilder.makeTitle(myDoc, TEXT_TITLE, theFormatter.formatObject(myDateRange));
 
         /* Initialise the table */
-        final MetisReportHTMLTable myTable = theBuilder.startTable(myBody);
+        final MetisReportHTMLTable myTable = theBuilder.startTable(myDoc);
         theBuilder.startTotalRow(myTable);
         theBuilder.makeTitleCell(myTable);
         theBuilder.makeTitleCell(myTable, theFormatter.formatObject(myDateRange.getEnd()));
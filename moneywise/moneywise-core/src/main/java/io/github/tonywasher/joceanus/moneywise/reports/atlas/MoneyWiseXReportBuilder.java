@@ -17,11 +17,12 @@
 package io.github.tonywasher.joceanus.moneywise.reports.atlas;
 
 import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
 import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysis;
 import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysisSecurityBucket;
 import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFilter;
-import org.w3c.dom.Document;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -63,7 +64,7 @@ public class MoneyWiseXReportBuilder {
      * @param pSecurity the security
      * @return the Web document
      */
-    public Document createReport(final MoneyWiseXAnalysis pAnalysis,
+    public MetisReportDocument createReport(final MoneyWiseXAnalysis pAnalysis,
                                  final MoneyWiseXReportType pType,
                                  final MoneyWiseXAnalysisSecurityBucket pSecurity) {
         /* Access existing report */
@@ -96,14 +97,37 @@ public class MoneyWiseXReportBuilder {
         }
 
         /* If the report requires the security */
+        MoneyWiseXAnalysisSecurityBucket mySecurity = null;
         if (myReport instanceof MoneyWiseXReportCapitalGains myCapGains) {
             myCapGains.setSecurity(pSecurity);
+            mySecurity = pSecurity;
+        }
+
+        /* Reuse the previous rendering if it was built from the same analysis */
+        final MoneyWiseXReportKey myKey = new MoneyWiseXReportKey(pAnalysis, pAnalysis.getDateRange(), mySecurity);
+        final MetisReportDocument myDoc = theManager.resumeReport(myReport, myKey);
+        if (myDoc != null) {
+            return myDoc;
         }
 
         /* Set up the report */
-        theManager.setReport(myReport);
+        theManager.setReport(myReport, myKey);
 
         /* Create the report */
         return myReport.createReport(pAnalysis);
     }
+
+    /**
+     * Key identifying the data that a report was rendered from.
+     * <p>
+     * The analysis is compared by identity, so a fresh analysis always forces a rebuild.
+     *
+     * @param analysis the analysis
+     * @param range    the date range of the analysis
+     * @param security the security (or null)
+     */
+    private record MoneyWiseXReportKey(MoneyWiseXAnalysis analysis,
+                                       OceanusDateRange range,
+                                       MoneyWiseXAnalysisSecurityBucket security) {
+    }
 }
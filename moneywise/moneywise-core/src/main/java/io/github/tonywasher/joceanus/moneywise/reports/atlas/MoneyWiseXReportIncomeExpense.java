@@ -19,6 +19,7 @@ package io.github.tonywasher.joceanus.moneywise.reports.atlas;
 import io.github.tonywasher.joceanus.metis.data.MetisDataDifference;
 import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
 import io.github.tonywasher.joceanus.metis.report.MetisReportDelayedTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
@@ -33,8 +34,6 @@ import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFil
 import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFilter.MoneyWiseXAnalysisTransCategoryFilter;
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 import java.util.Iterator;
 
@@ -75,7 +74,7 @@ public class MoneyWiseXReportIncomeExpense
     }
 
     @Override
-    public Document createReport(final MoneyWiseXAnalysis pAnalysis) {
+    public MetisReportDocument createReport(final MoneyWiseXAnalysis pAnalysis) {
         /* Access the bucket list */
         theAnalysis = pAnalysis;
         final MoneyWiseXAnalysisTransCategoryBucketList myCategories = theAnalysis.getTransCategories();
@@ -85,11 +84,11 @@ public class MoneyWiseXReportIncomeExpense
         final MoneyWiseXAnalysisTransCategoryBucket myTotals = myCategories.getTotals();
 
         /* Start the report */
-        final Element myBody = theBuilder.startReport();
-        theBuilder.makeTitle(myBody, TEXT_TITLE, theFormatter.formatObject(myRange));
+        final MetisReportDocument myDoc = theBuilder.startReport();
+        theBuilder.makeTitle(myDoc, TEXT_TITLE, theFormatter.formatObject(myRange));
 
         /* Initialise the table */
-        final MetisReportHTMLTable myTable = theBuilder.startTable(myBody);
+        final MetisReportHTMLTable myTable = theBuilder.startTable(myDoc);
         theBuilder.startHdrRow(myTable);
         theBuilder.makeTitleCell(myTable);
         theBuilder.makeTitleCell(myTable, MoneyWiseXReportConstants.TEXT_INCOME);
@@ -17,11 +17,12 @@
 package io.github.tonywasher.joceanus.moneywise.reports.lethe;
 
 import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisSecurityBucket;
 import io.github.tonywasher.joceanus.moneywise.views.lethe.MoneyWiseAnalysisFilter;
-import org.w3c.dom.Document;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -63,7 +64,7 @@ public class MoneyWiseReportBuilder {
      * @param pSecurity the security
      * @return the Web document
      */
-    public Document createReport(final MoneyWiseAnalysis pAnalysis,
+    public MetisReportDocument createReport(final MoneyWiseAnalysis pAnalysis,
                                  final MoneyWiseReportType pType,
                                  final MoneyWiseAnalysisSecurityBucket pSecurity) {
         /* Access existing report */
@@ -96,14 +97,37 @@ public class MoneyWiseReportBuilder {
         }
 
         /* If the report requires the security */
+        MoneyWiseAnalysisSecurityBucket mySecurity = null;
         if (myReport instanceof MoneyWiseReportCapitalGains myCapGains) {
             myCapGains.setSecurity(pSecurity);
+            mySecurity = pSecurity;
+        }
+
+        /* Reuse the previous rendering if it was built from the same analysis */
+        final MoneyWiseReportKey myKey = new MoneyWiseReportKey(pAnalysis, pAnalysis.getDateRange(), mySecurity);
+        final MetisReportDocument myDoc = theManager.resumeReport(myReport, myKey);
+        if (myDoc != null) {
+            return myDoc;
         }
 
         /* Set up the report */
-        theManager.setReport(myReport);
+        theManager.setReport(myReport, myKey);
 
         /* Create the report */
         return myReport.createReport(pAnalysis);
     }
+
+    /**
+     * Key identifying the data that a report was rendered from.
+     * <p>
+     * The analysis is compared by identity, so a fresh analysis always forces a rebuild.
+     *
+     * @param analysis the analysis
+     * @param range    the date range of the analysis
+     * @param security the security (or null)
+     */
+    private record MoneyWiseReportKey(MoneyWiseAnalysis analysis,
+                                      OceanusDateRange range,
+                                      MoneyWiseAnalysisSecurityBucket security) {
+    }
 }
@@ -18,6 +18,7 @@ package io.github.tonywasher.joceanus.moneywise.reports.lethe;
 
 import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
 import io.github.tonywasher.joceanus.metis.report.MetisReportDelayedTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
@@ -40,8 +41,6 @@ import io.github.tonywasher.joceanus.oceanus.decimal.OceanusPrice;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusRatio;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusUnits;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 import java.util.Iterator;
 
@@ -117,18 +116,18 @@ public class MoneyWiseReportCapitalGains
     }
 
     @Override
-    public Document createReport(final MoneyWiseAnalysis pAnalysis) {
+    public MetisReportDocument createReport(final MoneyWiseAnalysis pAnalysis) {
         /* Access the securities and the date */
         theTransactions = pAnalysis.getEditSet().getDataList(MoneyWiseBasicDataType.TRANSACTION, MoneyWiseTransactionList.class);
         theEndDate = pAnalysis.getDateRange().getEnd();
 
         /* Start the report */
-        final Element myBody = theBuilder.startReport();
-        theBuilder.makeTitle(myBody, TEXT_TITLE, theFormatter.formatObject(theEndDate));
-        theBuilder.makeSubTitle(myBody, theSecurity.getDecoratedName());
+        final MetisReportDocument myDoc = theBuilder.startReport();
+        theBuilder.makeTitle(myDoc, TEXT_TITLE, theFormatter.formatObject(theEndDate));
+        theBuilder.makeSubTitle(myDoc, theSecurity.getDecoratedName());
 
         /* Initialise the table */
-        theTable = theBuilder.startTable(myBody);
+        theTable = theBuilder.startTable(myDoc);
         theBuilder.startHdrRow(theTable);
         theBuilder.makeTitleCell(theTable, MoneyWiseBasicResource.MONEYWISEDATA_FIELD_DATE.getValue());
         theBuilder.makeTitleCell(theTable, MoneyWiseBasicDataType.TRANSACTION.getItemName());
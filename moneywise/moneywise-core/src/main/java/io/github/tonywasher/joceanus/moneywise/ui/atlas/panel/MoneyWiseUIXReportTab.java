@@ -16,6 +16,7 @@
  */
 package io.github.tonywasher.joceanus.moneywise.ui.atlas.panel;
 
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
 import io.github.tonywasher.joceanus.metis.report.MetisReportEvent;
 import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
 import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
@@ -54,7 +55,6 @@ import io.github.tonywasher.joceanus.tethys.api.factory.TethysUIFactory;
 import io.github.tonywasher.joceanus.tethys.api.pane.TethysUIBorderPaneManager;
 import io.github.tonywasher.joceanus.tethys.api.pane.TethysUIPaneFactory;
 import io.github.tonywasher.joceanus.tethys.api.pane.TethysUIScrollPaneManager;
-import org.w3c.dom.Document;
 
 /**
  * Report panel.
@@ -271,9 +271,12 @@ public class MoneyWiseUIXReportTab
                 ? theAnalysisMgr.getDatedAnalysis(myRange.getEnd())
                 : theAnalysisMgr.getRangedAnalysis(myRange);
 
+        /* Discard reports rendered from any previous base analysis */
+        theManager.setSource(theAnalysisMgr.getAnalysis());
+
         /* Record analysis and build report */
         theSelect.setAnalysis(myAnalysis);
-        final Document myDoc = theBuilder.createReport(myAnalysis, myReportType, mySecurity);
+        final MetisReportDocument myDoc = theBuilder.createReport(myAnalysis, myReportType, mySecurity);
 
         /* Declare to debugger */
         theSpotEntry.setObject(myAnalysis);
@@ -283,7 +286,7 @@ public class MoneyWiseUIXReportTab
         theManager.setDocument(myDoc);
 
         /* Create initial display version */
-        final String myText = theManager.formatXML();
+        final String myText = theManager.getText();
         theHTMLPane.setHTMLContent(myText, "");
     }
 
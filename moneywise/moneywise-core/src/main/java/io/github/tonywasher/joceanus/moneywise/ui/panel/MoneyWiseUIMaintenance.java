@@ -17,6 +17,7 @@
 package io.github.tonywasher.joceanus.moneywise.ui.panel;
 
 import io.github.tonywasher.joceanus.metis.preference.MetisPreferenceManager;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPreference.MoneyWiseAnalysisPreferences;
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseAssetBase;
 import io.github.tonywasher.joceanus.moneywise.quicken.definitions.MoneyWiseQIFPreference.MoneyWiseQIFPreferences;
 import io.github.tonywasher.joceanus.moneywise.ui.MoneyWiseUIGoToId;
@@ -141,6 +142,7 @@ public class MoneyWiseUIMaintenance
         myPrefs.getPreferenceSet(PrometheusDatabasePreferences.class);
         myPrefs.getPreferenceSet(PrometheusBackupPreferences.class);
         myPrefs.getPreferenceSet(MoneyWiseQIFPreferences.class);
+        myPrefs.getPreferenceSet(MoneyWiseAnalysisPreferences.class);
 
         /* Create a listeners */
         theTabs.getEventRegistrar().addEventListener(e -> determineFocus());
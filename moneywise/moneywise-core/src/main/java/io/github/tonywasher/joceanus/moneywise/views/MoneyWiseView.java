@@ -250,6 +250,9 @@ public class MoneyWiseView
             /* Analyse the data */
             final MoneyWiseAnalysisTransAnalyser myAnalyser = analyseData(theData);
             final MoneyWiseAnalysis myAnalysis = myAnalyser.getAnalysis();
+            if (theAnalysisMgr != null) {
+                theAnalysisMgr.invalidate();
+            }
             theAnalysisMgr = new MoneyWiseAnalysisManager(myAnalysis);
 
             /* Analyse the basic ranged analysis */
@@ -50,6 +50,25 @@ public final class MoneyWiseYQLDownloader {
      * @throws OceanusException on error
      */
     public static boolean downloadPrices(final MoneyWiseSpotSecurityList pPrices) throws OceanusException {
+        final MoneyWiseDataSet myData = pPrices.getDataSet();
+        try (MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(myData.getDataFormatter())) {
+            return downloadPrices(pPrices, myClient);
+        }
+    }
+
+    /**
+     * Download prices.
+     * <p>
+     * The securities are queried concurrently, and the results are applied to the list in a single pass
+     * once all the queries have completed.
+     *
+     * @param pPrices the prices list
+     * @param pClient the client to query, which is left open
+     * @return changeMade true/false
+     * @throws OceanusException on error
+     */
+    public static boolean downloadPrices(final MoneyWiseSpotSecurityList pPrices,
+                                         final MetisHTTPYQLClient pClient) throws OceanusException {
         /* Determine currency for the prices */
         final MoneyWiseDataSet myData = pPrices.getDataSet();
         final MoneyWiseCurrency myCurrency = myData.getReportingCurrency();
@@ -57,46 +76,39 @@ public final class MoneyWiseYQLDownloader {
 
         /* If we have a default currency */
         if (myCurrency != null) {
-            /* Create the http client */
-            final MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(myData.getDataFormatter());
-
-            /* Build the symbols list */
+            /* Build the spot and symbols lists */
+            final List<MoneyWiseSpotSecurityPrice> mySpots = new ArrayList<>();
             final List<String> mySymbols = new ArrayList<>();
-            Iterator<MoneyWiseSpotSecurityPrice> myIterator = pPrices.iterator();
+            final Iterator<MoneyWiseSpotSecurityPrice> myIterator = pPrices.iterator();
             while (myIterator.hasNext()) {
                 final MoneyWiseSpotSecurityPrice mySpot = myIterator.next();
 
                 /* Ignore closed prices */
                 if (!mySpot.isDisabled()) {
-                    /* Add the symbol to the list */
+                    /* Add the spot and symbol to the lists */
                     final MoneyWiseSecurity mySecurity = mySpot.getSecurity();
+                    mySpots.add(mySpot);
                     mySymbols.add(mySecurity.getSymbol());
                 }
             }
 
             /* Access the prices */
-            final Map<String, OceanusPrice> myPrices = myClient.obtainSecurityPrices(mySymbols, myCurrency.getCurrency());
+            final Map<String, OceanusPrice> myPrices = pClient.obtainSecurityPrices(mySymbols, myCurrency.getCurrency());
 
-            /* re-loop through the securities */
-            myIterator = pPrices.iterator();
-            while (myIterator.hasNext()) {
-                final MoneyWiseSpotSecurityPrice mySpot = myIterator.next();
+            /* Loop through the active spots */
+            for (MoneyWiseSpotSecurityPrice mySpot : mySpots) {
+                /* Lookup the price */
+                final MoneyWiseSecurity mySecurity = mySpot.getSecurity();
+                final OceanusPrice myPrice = myPrices.get(mySecurity.getSymbol());
 
-                /* Ignore closed prices */
-                if (!mySpot.isDisabled()) {
-                    /* Lookup the price */
-                    final MoneyWiseSecurity mySecurity = mySpot.getSecurity();
-                    final OceanusPrice myPrice = myPrices.get(mySecurity.getSymbol());
-
-                    /* If we found a price */
-                    if (myPrice != null) {
-                        /* Push history */
-                        mySpot.pushHistory();
+                /* If we found a price */
+                if (myPrice != null) {
+                    /* Push history */
+                    mySpot.pushHistory();
 
-                        /* Set it */
-                        mySpot.setPrice(myPrice);
-                        hasChanges = true;
-                    }
+                    /* Set it */
+                    mySpot.setPrice(myPrice);
+                    hasChanges = true;
                 }
             }
         }
@@ -113,6 +125,25 @@ public final class MoneyWiseYQLDownloader {
      * @throws OceanusException on error
      */
     public static boolean downloadRates(final MoneyWiseSpotExchangeList pRates) throws OceanusException {
+        final MoneyWiseDataSet myData = pRates.getDataSet();
+        try (MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(myData.getDataFormatter())) {
+            return downloadRates(pRates, myClient);
+        }
+    }
+
+    /**
+     * Download rates.
+     * <p>
+     * The currencies are queried concurrently, and the results are applied to the list in a single pass
+     * once all the queries have completed.
+     *
+     * @param pRates  the rates list
+     * @param pClient the client to query, which is left open
+     * @return changeMade true/false
+     * @throws OceanusException on error
+     */
+    public static boolean downloadRates(final MoneyWiseSpotExchangeList pRates,
+                                        final MetisHTTPYQLClient pClient) throws OceanusException {
         /* Determine currency for the prices */
         final MoneyWiseDataSet myData = pRates.getDataSet();
         final MoneyWiseCurrency myCurrency = myData.getReportingCurrency();
@@ -120,9 +151,6 @@ public final class MoneyWiseYQLDownloader {
 
         /* If we have a default currency */
         if (myCurrency != null) {
-            /* Create the client */
-            final MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(myData.getDataFormatter());
-
             /* Build the currency list */
             final List<Currency> myCurrencies = new ArrayList<>();
             Iterator<MoneyWiseSpotExchangeRate> myIterator = pRates.iterator();
@@ -135,7 +163,7 @@ public final class MoneyWiseYQLDownloader {
             }
 
             /* Access the rates */
-            final Map<Currency, OceanusRatio> myRates = myClient.obtainExchangeRates(myCurrency.getCurrency(), myCurrencies);
+            final Map<Currency, OceanusRatio> myRates = pClient.obtainExchangeRates(myCurrency.getCurrency(), myCurrencies);
 
             /* re-loop through the rates */
             myIterator = pRates.iterator();
@@ -19,7 +19,7 @@ package io.github.tonywasher.joceanus.moneywise.views.lethe;
 import io.github.tonywasher.joceanus.metis.data.MetisDataDifference;
 import io.github.tonywasher.joceanus.metis.field.MetisFieldItem;
 import io.github.tonywasher.joceanus.metis.field.MetisFieldSet;
-import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisBuilder;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisDataResource;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisManager;
@@ -97,6 +97,11 @@ public class MoneyWiseAnalysisView
      */
     private final PrometheusEditEntry<MoneyWiseTransInfo> theInfoEntry;
 
+    /**
+     * The analysis builder.
+     */
+    private final MoneyWiseAnalysisBuilder theBuilder;
+
     /**
      * The transactions.
      */
@@ -133,8 +138,9 @@ public class MoneyWiseAnalysisView
         theTransEntry = theEditSet.registerType(MoneyWiseBasicDataType.TRANSACTION);
         theInfoEntry = theEditSet.registerType(MoneyWiseBasicDataType.TRANSACTIONINFO);
 
-        /* Create event manager */
+        /* Create event manager and analysis builder */
         theEventManager = new OceanusEventManager<>();
+        theBuilder = new MoneyWiseAnalysisBuilder(pView);
     }
 
     @Override
@@ -314,18 +320,19 @@ public class MoneyWiseAnalysisView
 
             /* Protect against exceptions */
             try {
-                /* Sort the transaction list */
-                myTask.startTask("sortTransactions");
-                reSort();
-
                 /* Initialise the analysis */
                 myTask.startTask("UpdateMaps");
                 theView.getData().updateMaps();
 
-                /* Analyse the data */
+                /* Analyse the changed data */
                 myTask.startTask("analyseData");
-                final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(myTask, theEditSet, theView.getPreferenceManager());
-                final MoneyWiseAnalysis myAnalysis = myAnalyser.getAnalysis();
+                final MoneyWiseAnalysis myAnalysis = theBuilder.analyseChangedData(theEditSet);
+
+                /* Release the cached analyses of any previous edit analysis */
+                if (theManager != null
+                        && theManager != theView.getAnalysisManager()) {
+                    theManager.invalidate();
+                }
                 theManager = new MoneyWiseAnalysisManager(myAnalysis);
                 theAnalysis = theManager.getRangedAnalysis(theRange);
 
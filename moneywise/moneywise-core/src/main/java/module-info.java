@@ -31,6 +31,7 @@ module io.github.tonywasher.joceanus.moneywise.core {
     requires io.github.tonywasher.joceanus.prometheus.sheet.api;
 
     /* Exports */
+    exports io.github.tonywasher.joceanus.moneywise.analysis.lethe.data to io.github.tonywasher.joceanus.metis, io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.quicken.definitions to io.github.tonywasher.joceanus.metis;
     exports io.github.tonywasher.joceanus.moneywise.tax.uk to io.github.tonywasher.joceanus.metis, io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.launch;
@@ -42,7 +43,6 @@ module io.github.tonywasher.joceanus.moneywise.core {
     exports io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.analysis.atlas.values to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse to io.github.tonywasher.joceanus.moneywise.core.test;
-    exports io.github.tonywasher.joceanus.moneywise.analysis.lethe.data to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.analysis.lethe.values to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.data.basic to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.data.builder to io.github.tonywasher.joceanus.moneywise.core.test;
@@ -51,6 +51,8 @@ module io.github.tonywasher.joceanus.moneywise.core {
     exports io.github.tonywasher.joceanus.moneywise.database to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.exc to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.quicken.builder.atlas to io.github.tonywasher.joceanus.moneywise.core.test;
+    exports io.github.tonywasher.joceanus.moneywise.reports.atlas to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.sheets to io.github.tonywasher.joceanus.moneywise.core.test;
     exports io.github.tonywasher.joceanus.moneywise.views to io.github.tonywasher.joceanus.moneywise.core.test;
+    exports io.github.tonywasher.joceanus.moneywise.views.atlas to io.github.tonywasher.joceanus.moneywise.core.test;
 }
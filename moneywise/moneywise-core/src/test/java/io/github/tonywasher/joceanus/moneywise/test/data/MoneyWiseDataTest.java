@@ -16,6 +16,7 @@
  */
 package io.github.tonywasher.joceanus.moneywise.test.data;
 
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysis;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
 import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisCashCategoryBucket;
@@ -34,10 +35,17 @@ import io.github.tonywasher.joceanus.moneywise.analysis.lethe.values.MoneyWiseAn
 import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
 import io.github.tonywasher.joceanus.moneywise.data.validate.MoneyWiseValidatorFactory;
 import io.github.tonywasher.joceanus.moneywise.tax.uk.MoneyWiseUKTaxYearCache;
+import io.github.tonywasher.joceanus.moneywise.test.data.download.MoneyWiseDataTestSpotDownload;
 import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestArchiveFile;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestCache;
 import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestDatabase;
 import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestEditSet;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestIncremental;
 import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestODSFile;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestParallel;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestRates;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestReports;
+import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestValues;
 import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseDataTestXMLFile;
 import io.github.tonywasher.joceanus.moneywise.test.data.storage.MoneyWiseNullThreadMgr;
 import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
@@ -98,6 +106,104 @@ public class MoneyWiseDataTest {
         new MoneyWiseDataTestEditSet(pData).checkCombinedEditSet(pView);
     }
 
+    /**
+     * Check incremental analysis.
+     *
+     * @param pData the dataSet
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public static void checkIncrementalAnalysis(final MoneyWiseDataSet pData,
+                                                final MoneyWiseView pView) throws OceanusException {
+        /* Check the analysis */
+        new MoneyWiseDataTestIncremental(pData).checkIncrementalAnalysis(pView);
+    }
+
+    /**
+     * Check parallel analysis totals.
+     *
+     * @param pData the dataSet
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public static void checkParallelTotals(final MoneyWiseDataSet pData,
+                                           final MoneyWiseView pView) throws OceanusException {
+        /* Check the totals */
+        new MoneyWiseDataTestParallel(pData).checkParallelTotals(pView);
+    }
+
+    /**
+     * Check the analysis cache.
+     *
+     * @param pData the dataSet
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public static void checkAnalysisCache(final MoneyWiseDataSet pData,
+                                          final MoneyWiseView pView) throws OceanusException {
+        /* Check the cache */
+        new MoneyWiseDataTestCache(pData).checkAnalysisCache(pView);
+    }
+
+    /**
+     * Check download of spot prices and rates.
+     *
+     * @param pData the dataSet
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public static void checkSpotDownloads(final MoneyWiseDataSet pData,
+                                          final MoneyWiseView pView) throws OceanusException {
+        /* Check the downloads */
+        new MoneyWiseDataTestSpotDownload(pData).checkSpotDownloads(pView);
+    }
+
+    /**
+     * Check analysis values.
+     *
+     * @param pData     the dataSet
+     * @param pView     the view
+     * @param pAnalysis the analysis
+     * @param pLegacy   check the legacy analysis as well
+     * @throws OceanusException on error
+     */
+    public static void checkAnalysisValues(final MoneyWiseDataSet pData,
+                                           final MoneyWiseView pView,
+                                           final MoneyWiseXAnalysis pAnalysis,
+                                           final boolean pLegacy) throws OceanusException {
+        /* Check the values */
+        final MoneyWiseDataTestValues myTest = new MoneyWiseDataTestValues(pData);
+        myTest.checkAnalysisValues(pAnalysis);
+        if (pLegacy) {
+            myTest.checkLegacyValues(pView);
+        }
+    }
+
+    /**
+     * Check exchange rate lookups.
+     *
+     * @param pData the dataSet
+     */
+    public static void checkExchangeRates(final MoneyWiseDataSet pData) {
+        /* Check the rates */
+        new MoneyWiseDataTestRates(pData).checkExchangeRates();
+    }
+
+    /**
+     * Check reuse of rendered reports.
+     *
+     * @param pData     the dataSet
+     * @param pView     the view
+     * @param pAnalysis the analysis
+     * @throws OceanusException on error
+     */
+    public static void checkReportCache(final MoneyWiseDataSet pData,
+                                        final MoneyWiseView pView,
+                                        final MoneyWiseXAnalysis pAnalysis) throws OceanusException {
+        /* Check the report cache */
+        new MoneyWiseDataTestReports(pData).checkReportCache(pView, pAnalysis);
+    }
+
     /**
      * Analyse the data.
      *
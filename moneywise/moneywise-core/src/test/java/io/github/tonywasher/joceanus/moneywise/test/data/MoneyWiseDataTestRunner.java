@@ -172,6 +172,23 @@ public class MoneyWiseDataTestRunner {
         reportTestCase(pTest);
 
         runQIFTest(pTest, myAnalysis);
+
+        /* Check the analysis values */
+        MoneyWiseDataTest.checkAnalysisValues(theDataSet, theView, myAnalysis, pTest.supportsLegacyAnalysis());
+
+        /* Check the exchange rate lookups */
+        MoneyWiseDataTest.checkExchangeRates(theDataSet);
+
+        /* Check the reuse of rendered reports */
+        MoneyWiseDataTest.checkReportCache(theDataSet, theView, myAnalysis);
+
+        /* Check incremental analysis, parallel totals, the analysis cache and spot downloads if the legacy analysis supports the testCase */
+        if (pTest.supportsLegacyAnalysis()) {
+            MoneyWiseDataTest.checkIncrementalAnalysis(theDataSet, theView);
+            MoneyWiseDataTest.checkParallelTotals(theDataSet, theView);
+            MoneyWiseDataTest.checkAnalysisCache(theDataSet, theView);
+            MoneyWiseDataTest.checkSpotDownloads(theDataSet, theView);
+        }
         myTask.end();
     }
 
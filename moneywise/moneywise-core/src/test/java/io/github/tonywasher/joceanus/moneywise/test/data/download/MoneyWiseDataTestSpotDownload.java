@@ -0,0 +1,176 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.download;
+
+import io.github.tonywasher.joceanus.metis.http.MetisHTTPYQLClient;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWisePortfolio;
+import io.github.tonywasher.joceanus.moneywise.exc.MoneyWiseIOException;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseSpotExchangeRate;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseSpotExchangeRate.MoneyWiseSpotExchangeList;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseSpotSecurityPrice;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseSpotSecurityPrice.MoneyWiseSpotSecurityList;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseYQLDownloader;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalParser;
+import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Test the download of spot prices and rates into the spot lists.
+ */
+public class MoneyWiseDataTestSpotDownload {
+    /**
+     * The delay before the stub server responds.
+     */
+    private static final long DELAY = 10;
+
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * The decimal parser.
+     */
+    private final OceanusDecimalParser theParser;
+
+    /**
+     * The date of the spot lists.
+     */
+    private final OceanusDate theDate;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestSpotDownload(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+        theParser = pDataSet.getDataFormatter().getDecimalParser();
+        theDate = new OceanusDate();
+    }
+
+    /**
+     * Check the download of prices and rates into the spot lists.
+     *
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public void checkSpotDownloads(final MoneyWiseView pView) throws OceanusException {
+        /* Declare the data to the view in a new profile */
+        final OceanusProfile myTask = pView.getNewProfile("spotDownload");
+        pView.setData(theDataSet);
+        myTask.end();
+
+        /* Protect against exceptions */
+        try {
+            /* Check the prices for each portfolio */
+            final Iterator<MoneyWisePortfolio> myIterator = theDataSet.getPortfolios().iterator();
+            while (myIterator.hasNext()) {
+                checkPrices(new MoneyWiseSpotSecurityList(pView, myIterator.next(), theDate));
+            }
+
+            /* Check the rates */
+            checkRates(new MoneyWiseSpotExchangeList(pView, theDate));
+
+        } catch (IOException e) {
+            throw new MoneyWiseIOException("Failed to run stub server", e);
+        }
+    }
+
+    /**
+     * Check the download of prices.
+     *
+     * @param pPrices the spot prices
+     * @throws IOException      on error
+     * @throws OceanusException on error
+     */
+    private void checkPrices(final MoneyWiseSpotSecurityList pPrices) throws IOException, OceanusException {
+        /* Build distinct prices in minor units for the active securities */
+        final Map<String, String> myValues = new HashMap<>();
+        final Iterator<MoneyWiseSpotSecurityPrice> myIterator = pPrices.iterator();
+        while (myIterator.hasNext()) {
+            final MoneyWiseSpotSecurityPrice mySpot = myIterator.next();
+            if (!mySpot.isDisabled()) {
+                myValues.put(mySpot.getSecurity().getSymbol(), (myValues.size() + 1) + "01");
+            }
+        }
+
+        /* Download the prices */
+        try (MoneyWiseYQLStubServer myServer = new MoneyWiseYQLStubServer(myValues, DELAY);
+             MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(theDataSet.getDataFormatter(), myServer.getBaseAddress())) {
+            final boolean hasChanges = MoneyWiseYQLDownloader.downloadPrices(pPrices, myClient);
+            Assertions.assertEquals(!myValues.isEmpty(), hasChanges, "Incorrect change indication for prices");
+            Assertions.assertEquals(myValues.size(), myServer.getCount(), "Wrong number of price queries");
+        }
+
+        /* Check the prices */
+        final Currency myCurrency = theDataSet.getReportingCurrency().getCurrency();
+        final Iterator<MoneyWiseSpotSecurityPrice> myCheck = pPrices.iterator();
+        while (myCheck.hasNext()) {
+            final MoneyWiseSpotSecurityPrice mySpot = myCheck.next();
+            final String myValue = myValues.get(mySpot.getSecurity().getSymbol());
+            if (myValue != null) {
+                final String myMajor = myValue.substring(0, myValue.length() - 2) + "." + myValue.substring(myValue.length() - 2);
+                Assertions.assertEquals(theParser.parsePriceValue(myMajor, myCurrency), mySpot.getPrice(), "Wrong price for " + mySpot.getSecurity().getSymbol());
+            }
+        }
+    }
+
+    /**
+     * Check the download of rates.
+     *
+     * @param pRates the spot rates
+     * @throws IOException      on error
+     * @throws OceanusException on error
+     */
+    private void checkRates(final MoneyWiseSpotExchangeList pRates) throws IOException, OceanusException {
+        /* Build distinct rates for each currency pair */
+        final String myFrom = theDataSet.getReportingCurrency().getCurrency().getCurrencyCode();
+        final Map<String, String> myValues = new HashMap<>();
+        final Iterator<MoneyWiseSpotExchangeRate> myIterator = pRates.iterator();
+        while (myIterator.hasNext()) {
+            final MoneyWiseSpotExchangeRate mySpot = myIterator.next();
+            myValues.put(myFrom + mySpot.getToCurrency().getCurrency().getCurrencyCode(), (myValues.size() + 1) + ".25");
+        }
+
+        /* Download the rates */
+        try (MoneyWiseYQLStubServer myServer = new MoneyWiseYQLStubServer(myValues, DELAY);
+             MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(theDataSet.getDataFormatter(), myServer.getBaseAddress())) {
+            final boolean hasChanges = MoneyWiseYQLDownloader.downloadRates(pRates, myClient);
+            Assertions.assertEquals(!myValues.isEmpty(), hasChanges, "Incorrect change indication for rates");
+            Assertions.assertEquals(myValues.size(), myServer.getCount(), "Wrong number of rate queries");
+        }
+
+        /* Check the rates */
+        final Iterator<MoneyWiseSpotExchangeRate> myCheck = pRates.iterator();
+        while (myCheck.hasNext()) {
+            final MoneyWiseSpotExchangeRate mySpot = myCheck.next();
+            final String myPair = myFrom + mySpot.getToCurrency().getCurrency().getCurrencyCode();
+            Assertions.assertEquals(theParser.parseRatioValue(myValues.get(myPair)), mySpot.getExchangeRate(), "Wrong rate for " + myPair);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.download;
+
+import io.github.tonywasher.joceanus.metis.http.MetisHTTPYQLClient;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalParser;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusPrice;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusRatio;
+import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Price and rate download tests against a local stub server.
+ */
+final class MoneyWiseYQLDownloadTest {
+    /**
+     * The number of securities to query.
+     */
+    private static final int NUM_SECURITIES = 24;
+
+    /**
+     * The maximum number of concurrent queries issued by the client.
+     */
+    private static final int MAX_QUERIES = 8;
+
+    /**
+     * The delay before the stub server responds.
+     */
+    private static final long DELAY = 50;
+
+    /**
+     * The reporting currency.
+     */
+    private static final Currency GBP = Currency.getInstance("GBP");
+
+    /**
+     * The formatter.
+     */
+    private final OceanusDataFormatter theFormatter = new OceanusDataFormatter(Locale.UK);
+
+    /**
+     * Create the download test suite.
+     *
+     * @return the test stream
+     */
+    @TestFactory
+    Stream<DynamicNode> downloadTests() {
+        return Stream.of(
+                DynamicTest.dynamicTest("prices", this::checkPrices),
+                DynamicTest.dynamicTest("rates", this::checkRates),
+                DynamicTest.dynamicTest("failure", this::checkFailure)
+        );
+    }
+
+    /**
+     * Check the download of prices.
+     *
+     * @throws IOException      on error
+     * @throws OceanusException on error
+     */
+    private void checkPrices() throws IOException, OceanusException {
+        /* Build the symbols and the prices in minor units, leaving the last symbol unpriced */
+        final Map<String, String> myValues = new HashMap<>();
+        final List<String> mySymbols = new ArrayList<>();
+        for (int i = 0; i < NUM_SECURITIES; i++) {
+            final String mySymbol = "SEC" + i + ".L";
+            mySymbols.add(mySymbol);
+            if (i < NUM_SECURITIES - 1) {
+                myValues.put(mySymbol, Integer.toString(i * 100 + 1));
+            }
+        }
+
+        /* Repeat a symbol, which should only be queried once */
+        mySymbols.add(mySymbols.get(0));
+
+        /* Query the prices */
+        try (MoneyWiseYQLStubServer myServer = new MoneyWiseYQLStubServer(myValues, DELAY);
+             MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(theFormatter, myServer.getBaseAddress())) {
+            final Map<String, OceanusPrice> myPrices = myClient.obtainSecurityPrices(mySymbols, GBP);
+
+            /* Check the prices */
+            final OceanusDecimalParser myParser = theFormatter.getDecimalParser();
+            Assertions.assertEquals(NUM_SECURITIES - 1, myPrices.size(), "Wrong number of prices");
+            for (int i = 0; i < NUM_SECURITIES - 1; i++) {
+                final OceanusPrice myExpected = myParser.parsePriceValue(i + ".01", GBP);
+                Assertions.assertEquals(myExpected, myPrices.get(mySymbols.get(i)), "Wrong price");
+            }
+
+            /* Check that the queries were concurrent but limited */
+            Assertions.assertEquals(NUM_SECURITIES, myServer.getCount(), "Wrong number of queries");
+            Assertions.assertTrue(myServer.getPeak() > 1, "Queries were not concurrent");
+            Assertions.assertTrue(myServer.getPeak() <= MAX_QUERIES, "Too many concurrent queries");
+        }
+    }
+
+    /**
+     * Check the download of rates.
+     *
+     * @throws IOException      on error
+     * @throws OceanusException on error
+     */
+    private void checkRates() throws IOException, OceanusException {
+        /* Build the rates */
+        final Map<String, String> myValues = new HashMap<>();
+        myValues.put("GBPUSD", "1.2500");
+        myValues.put("GBPEUR", "1.1500");
+        final List<Currency> myCurrencies = List.of(Currency.getInstance("USD"),
+                Currency.getInstance("EUR"), Currency.getInstance("JPY"));
+
+        /* Query the rates */
+        try (MoneyWiseYQLStubServer myServer = new MoneyWiseYQLStubServer(myValues, DELAY);
+             MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(theFormatter, myServer.getBaseAddress())) {
+            final Map<Currency, OceanusRatio> myRates = myClient.obtainExchangeRates(GBP, myCurrencies);
+
+            /* Check the rates */
+            final OceanusDecimalParser myParser = theFormatter.getDecimalParser();
+            Assertions.assertEquals(2, myRates.size(), "Wrong number of rates");
+            Assertions.assertEquals(myParser.parseRatioValue("1.25"), myRates.get(myCurrencies.get(0)), "Wrong rate");
+            Assertions.assertEquals(myParser.parseRatioValue("1.15"), myRates.get(myCurrencies.get(1)), "Wrong rate");
+            Assertions.assertEquals(myCurrencies.size(), myServer.getCount(), "Wrong number of queries");
+        }
+    }
+
+    /**
+     * Check that a failed query is reported.
+     *
+     * @throws IOException on error
+     */
+    private void checkFailure() throws IOException {
+        /* Query a list including a failing symbol */
+        final List<String> mySymbols = List.of("SEC1.L", MoneyWiseYQLStubServer.KEY_FAIL, "SEC2.L");
+        try (MoneyWiseYQLStubServer myServer = new MoneyWiseYQLStubServer(Map.of(), 0);
+             MetisHTTPYQLClient myClient = new MetisHTTPYQLClient(theFormatter, myServer.getBaseAddress())) {
+            Assertions.assertThrows(OceanusException.class, () -> myClient.obtainSecurityPrices(mySymbols, GBP), "Failure not reported");
+        }
+    }
+}
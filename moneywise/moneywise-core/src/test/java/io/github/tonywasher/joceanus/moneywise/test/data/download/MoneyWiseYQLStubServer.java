@@ -0,0 +1,244 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.download;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stub of the YQL query service.
+ * <p>
+ * Answers single-symbol price queries and single-pair rate queries from the supplied map of
+ * values, so that the downloader can be exercised without network access.
+ */
+public class MoneyWiseYQLStubServer
+        implements AutoCloseable {
+    /**
+     * The query context.
+     */
+    private static final String CONTEXT = "/yql";
+
+    /**
+     * The query parameter.
+     */
+    private static final String PARM_QUERY = "q=";
+
+    /**
+     * The rates database.
+     */
+    private static final String DB_RATES = "yahoo.finance.xchange";
+
+    /**
+     * The key that causes the server to fail the request.
+     */
+    static final String KEY_FAIL = "FAIL";
+
+    /**
+     * OK return code.
+     */
+    private static final int HTTP_OK = 200;
+
+    /**
+     * Error return code.
+     */
+    private static final int HTTP_ERROR = 500;
+
+    /**
+     * The server.
+     */
+    private final HttpServer theServer;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService theExecutor;
+
+    /**
+     * The map of key to value.
+     */
+    private final Map<String, String> theValues;
+
+    /**
+     * The delay before responding in milliseconds.
+     */
+    private final long theDelay;
+
+    /**
+     * The number of requests in progress.
+     */
+    private final AtomicInteger theActive;
+
+    /**
+     * The maximum number of requests in progress at one time.
+     */
+    private final AtomicInteger thePeak;
+
+    /**
+     * The number of requests handled.
+     */
+    private final AtomicInteger theCount;
+
+    /**
+     * Constructor.
+     *
+     * @param pValues the map of symbol or currency pair to value
+     * @param pDelay  the delay before responding in milliseconds
+     * @throws IOException on error
+     */
+    public MoneyWiseYQLStubServer(final Map<String, String> pValues,
+                                  final long pDelay) throws IOException {
+        /* Store parameters */
+        theValues = pValues;
+        theDelay = pDelay;
+        theActive = new AtomicInteger();
+        thePeak = new AtomicInteger();
+        theCount = new AtomicInteger();
+
+        /* Create and start the server on a free local port */
+        theServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        theExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        theServer.setExecutor(theExecutor);
+        theServer.createContext(CONTEXT, this::handleQuery);
+        theServer.start();
+    }
+
+    /**
+     * Obtain the base address for the client.
+     *
+     * @return the base address
+     */
+    public String getBaseAddress() {
+        return "http://" + theServer.getAddress().getHostString() + ":" + theServer.getAddress().getPort()
+                + CONTEXT + "?" + PARM_QUERY;
+    }
+
+    /**
+     * Obtain the maximum number of requests in progress at one time.
+     *
+     * @return the peak
+     */
+    public int getPeak() {
+        return thePeak.get();
+    }
+
+    /**
+     * Obtain the number of requests handled.
+     *
+     * @return the count
+     */
+    public int getCount() {
+        return theCount.get();
+    }
+
+    @Override
+    public void close() {
+        theServer.stop(0);
+        theExecutor.close();
+    }
+
+    /**
+     * Handle a query.
+     *
+     * @param pExchange the exchange
+     * @throws IOException on error
+     */
+    private void handleQuery(final HttpExchange pExchange) throws IOException {
+        /* Record the request */
+        theCount.incrementAndGet();
+        thePeak.accumulateAndGet(theActive.incrementAndGet(), Math::max);
+
+        /* Protect against exceptions */
+        try {
+            /* Delay the response */
+            Thread.sleep(theDelay);
+
+            /* Determine the key and build the response */
+            final String myQuery = extractQuery(pExchange.getRequestURI().getRawQuery());
+            final String myKey = myQuery.substring(myQuery.indexOf("(\"") + 2, myQuery.indexOf("\")"));
+            if (KEY_FAIL.equals(myKey)) {
+                pExchange.sendResponseHeaders(HTTP_ERROR, -1);
+                return;
+            }
+            final String myResponse = myQuery.contains(DB_RATES)
+                    ? buildResponse("rate", "id", myKey, "Rate")
+                    : buildResponse("quote", "Symbol", myKey, "LastTradePriceOnly");
+
+            /* Send the response */
+            final byte[] myBytes = myResponse.getBytes(StandardCharsets.UTF_8);
+            pExchange.sendResponseHeaders(HTTP_OK, myBytes.length);
+            try (OutputStream myStream = pExchange.getResponseBody()) {
+                myStream.write(myBytes);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            theActive.decrementAndGet();
+            pExchange.close();
+        }
+    }
+
+    /**
+     * Extract the decoded query from the query parameters.
+     *
+     * @param pParms the raw query parameters
+     * @return the query
+     */
+    private static String extractQuery(final String pParms) {
+        for (String myParm : pParms.split("&")) {
+            if (myParm.startsWith(PARM_QUERY)) {
+                return URLDecoder.decode(myParm.substring(PARM_QUERY.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Build a single result response.
+     *
+     * @param pResult   the name of the result array
+     * @param pKeyField the name of the key field
+     * @param pKey      the key
+     * @param pField    the name of the value field
+     * @return the response
+     */
+    private String buildResponse(final String pResult,
+                                 final String pKeyField,
+                                 final String pKey,
+                                 final String pField) {
+        final StringBuilder myBuilder = new StringBuilder();
+        myBuilder.append("{\"query\":{\"results\":{\"").append(pResult).append("\":[{\"")
+                .append(pKeyField).append("\":\"").append(pKey).append('"');
+        final String myValue = theValues.get(pKey);
+        if (myValue != null) {
+            myBuilder.append(",\"").append(pField).append("\":\"").append(myValue).append('"');
+        }
+        myBuilder.append("}]}}}");
+        return myBuilder.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisCache;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisManager;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Test the analysis cache.
+ */
+public class MoneyWiseDataTestCache {
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestCache(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+    }
+
+    /**
+     * Check that the cache is bounded, reused and invalidated.
+     *
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public void checkAnalysisCache(final MoneyWiseView pView) throws OceanusException {
+        /* Create the analysis */
+        final PrometheusEditSet myEditSet = new PrometheusEditSet(pView);
+        final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(pView.getNewProfile("cachedAnalysis"), myEditSet, pView.getPreferenceManager());
+        myAnalyser.postProcessAnalysis();
+        final MoneyWiseAnalysis myAnalysis = myAnalyser.getAnalysis();
+
+        /* Create the bounded and unbounded managers, restricting the bounded cache to a single analysis */
+        final MoneyWiseAnalysisManager myBounded = new MoneyWiseAnalysisManager(myAnalysis);
+        final MoneyWiseAnalysisManager myUnbounded = new MoneyWiseAnalysisManager(myAnalysis);
+        myBounded.setCacheBudget(1);
+
+        /* Request the full range, each half of the range and a dated analysis */
+        final OceanusDateRange myRange = theDataSet.getDateRange();
+        final OceanusDate myStart = myRange.getStart();
+        final OceanusDate myEnd = myRange.getEnd();
+        final OceanusDate myMid = new OceanusDate(myStart);
+        myMid.adjustDay((int) myStart.daysUntil(myEnd) / 2);
+        checkRange(myBounded, myUnbounded, myRange);
+        checkRange(myBounded, myUnbounded, new OceanusDateRange(myStart, myMid));
+        checkRange(myBounded, myUnbounded, new OceanusDateRange(myMid, myEnd));
+        MoneyWiseDataTestCompare.checkAnalyses(myBounded.getDatedAnalysis(myMid), myUnbounded.getDatedAnalysis(myMid));
+
+        /* Check that evicted analyses are rebuilt and that cached analyses are reused */
+        checkRange(myBounded, myUnbounded, myRange);
+        final MoneyWiseAnalysisCache myBoundedCache = myBounded.getCache();
+        final MoneyWiseAnalysisCache myUnboundedCache = myUnbounded.getCache();
+        Assertions.assertEquals(1, myBoundedCache.getUnderlyingMap().size(), "Cache not bounded");
+        Assertions.assertEquals(4, myBoundedCache.getEvictions(), "Evictions mismatch");
+        Assertions.assertEquals(5, myBoundedCache.getMisses(), "Misses mismatch");
+        Assertions.assertEquals(4, myUnboundedCache.getUnderlyingMap().size(), "Cache mismatch");
+        Assertions.assertEquals(1, myUnboundedCache.getHits(), "Hits mismatch");
+
+        /* Check invalidation */
+        myUnbounded.invalidate();
+        Assertions.assertTrue(myUnboundedCache.getUnderlyingMap().isEmpty(), "Cache not invalidated");
+        Assertions.assertEquals(0, myUnboundedCache.getWeight(), "Weight not reset");
+    }
+
+    /**
+     * Check a ranged analysis.
+     *
+     * @param pBounded   the bounded manager
+     * @param pUnbounded the unbounded manager
+     * @param pRange     the range
+     */
+    private static void checkRange(final MoneyWiseAnalysisManager pBounded,
+                                   final MoneyWiseAnalysisManager pUnbounded,
+                                   final OceanusDateRange pRange) {
+        /* Check the analyses */
+        MoneyWiseDataTestCompare.checkAnalyses(pBounded.getRangedAnalysis(pRange), pUnbounded.getRangedAnalysis(pRange));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.metis.data.MetisDataItem.MetisDataList;
+import io.github.tonywasher.joceanus.metis.field.MetisFieldItem.MetisFieldTableItem;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPortfolioBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTransTagBucket;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compare analyses produced by differently configured analysis managers.
+ */
+final class MoneyWiseDataTestCompare {
+    /**
+     * Private constructor.
+     */
+    private MoneyWiseDataTestCompare() {
+    }
+
+    /**
+     * Check that two analyses hold the same bucket values.
+     *
+     * @param pExpected the expected analysis
+     * @param pActual   the actual analysis
+     */
+    static void checkAnalyses(final MoneyWiseAnalysis pExpected,
+                              final MoneyWiseAnalysis pActual) {
+        /* Check the account buckets */
+        checkBuckets("Deposits", pExpected.getDeposits(), pActual.getDeposits(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("Cash", pExpected.getCash(), pActual.getCash(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("Loans", pExpected.getLoans(), pActual.getLoans(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("Portfolios", pExpected.getPortfolios(), pActual.getPortfolios(), b -> b.getValues().getUnderlyingMap());
+        final Iterator<MoneyWiseAnalysisPortfolioBucket> myIterator = pExpected.getPortfolios().iterator();
+        while (myIterator.hasNext()) {
+            final MoneyWiseAnalysisPortfolioBucket myPortfolio = myIterator.next();
+            final MoneyWiseAnalysisPortfolioBucket myOther = pActual.getPortfolios().findItemById(myPortfolio.getIndexedId());
+            checkBuckets("Securities", myPortfolio.getSecurities(), myOther.getSecurities(), b -> b.getValues().getUnderlyingMap());
+        }
+
+        /* Check the category buckets */
+        checkBuckets("DepositCategories", pExpected.getDepositCategories(), pActual.getDepositCategories(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("CashCategories", pExpected.getCashCategories(), pActual.getCashCategories(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("LoanCategories", pExpected.getLoanCategories(), pActual.getLoanCategories(), b -> b.getValues().getUnderlyingMap());
+
+        /* Check the remaining buckets */
+        checkBuckets("Payees", pExpected.getPayees(), pActual.getPayees(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("TransCategories", pExpected.getTransCategories(), pActual.getTransCategories(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("TaxBasis", pExpected.getTaxBasis(), pActual.getTaxBasis(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("TransTags", pExpected.getTransactionTags(), pActual.getTransactionTags(), MoneyWiseAnalysisTransTagBucket::getDateRange);
+    }
+
+    /**
+     * Check bucket lists.
+     *
+     * @param <B>       the bucket type
+     * @param pName     the name of the list
+     * @param pExpected the expected list
+     * @param pActual   the actual list
+     * @param pValues   the function to obtain the values to compare
+     */
+    private static <B extends MetisFieldTableItem> void checkBuckets(final String pName,
+                                                                     final MetisDataList<B> pExpected,
+                                                                     final MetisDataList<B> pActual,
+                                                                     final Function<B, Object> pValues) {
+        Assertions.assertEquals(buildValueMap(pExpected, pValues), buildValueMap(pActual, pValues), pName + " mismatch");
+    }
+
+    /**
+     * Build the map of values for a bucket list.
+     *
+     * @param <B>     the bucket type
+     * @param pList   the list
+     * @param pValues the function to obtain the values to compare
+     * @return the map
+     */
+    private static <B extends MetisFieldTableItem> Map<Integer, Object> buildValueMap(final MetisDataList<B> pList,
+                                                                                       final Function<B, Object> pValues) {
+        final Map<Integer, Object> myMap = new HashMap<>();
+        for (B myBucket : pList.getUnderlyingList()) {
+            myMap.put(myBucket.getIndexedId(), pValues.apply(myBucket));
+        }
+        return myMap;
+    }
+}
@@ -29,6 +29,11 @@ import org.junit.jupiter.api.Assertions;
  * Test Database.
  */
 public class MoneyWiseDataTestDatabase {
+    /**
+     * The number of parallel load connections.
+     */
+    private static final int PARALLEL_CONNS = 3;
+
     /**
      * The Thread manager.
      */
@@ -77,11 +82,50 @@ public class MoneyWiseDataTestDatabase {
         theManager.setNewProfile("LoadDB");
         myDatabase.loadDatabase(myReport, myNewData);
 
+        /* Load the database in parallel */
+        final MoneyWiseDataSet myParallelData = loadInParallel(pData, pView);
+
         /* Purge the data */
         myDatabase.purgeTables(myReport);
 
         /* Create a difference set between the two data copies */
         final MoneyWiseDataSet myDiff = myNewData.getDifferenceSet(theManager, pData);
         Assertions.assertTrue(myDiff.isEmpty(), "Failed to save/load database");
+
+        /* Create a difference set for the parallel copy */
+        theManager.setNewProfile("CheckParallelDB");
+        final MoneyWiseDataSet myParallelDiff = myParallelData.getDifferenceSet(theManager, pData);
+        Assertions.assertTrue(myParallelDiff.isEmpty(), "Failed to load database in parallel");
+    }
+
+    /**
+     * Load the database over multiple connections.
+     *
+     * @param pData the data to test with.
+     * @param pView the view
+     * @return the loaded data
+     * @throws OceanusException on error
+     */
+    private MoneyWiseDataSet loadInParallel(final MoneyWiseDataSet pData,
+                                            final MoneyWiseView pView) throws OceanusException {
+        /* Create config */
+        final PrometheusDBConfig myConfig = PrometheusDBConfig.h2();
+        myConfig.setLoadConnections(PARALLEL_CONNS);
+
+        /* Access Database */
+        final MoneyWiseDataStore myDatabase = new MoneyWiseDataStore("TestDB", myConfig);
+
+        /* Create the new dataSet */
+        final MoneyWiseDataSet myNewData = pView.getNewData();
+        if (pData.newValidityChecks()) {
+            myNewData.doNewValidityChecks();
+        }
+
+        /* Load the database */
+        final TethysUIThreadStatusReport myReport = new MoneyWiseNullThreadStatusReport();
+        theManager.setNewProfile("LoadDBParallel");
+        myDatabase.loadDatabase(myReport, myNewData);
+        myDatabase.close();
+        return myNewData;
     }
 }
@@ -0,0 +1,232 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.metis.data.MetisDataItem.MetisDataList;
+import io.github.tonywasher.joceanus.metis.field.MetisFieldItem.MetisFieldTableItem;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisBuilder;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisManager;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPortfolioBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTransTagBucket;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseBasicDataType;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseTransaction;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseTransaction.MoneyWiseTransactionList;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusMoney;
+import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
+import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Test incremental analysis.
+ */
+public class MoneyWiseDataTestIncremental {
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestIncremental(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+    }
+
+    /**
+     * Check that incremental analysis matches full analysis.
+     *
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public void checkIncrementalAnalysis(final MoneyWiseView pView) throws OceanusException {
+        /* Create the editSet */
+        final PrometheusEditSet myEditSet = new PrometheusEditSet(pView);
+        myEditSet.setDataSet(theDataSet);
+        myEditSet.registerType(MoneyWiseBasicDataType.TRANSACTION);
+        myEditSet.registerType(MoneyWiseBasicDataType.TRANSACTIONINFO);
+        final MoneyWiseTransactionList myTrans = theDataSet.getTransactions().deriveEditList(myEditSet);
+        myTrans.relinkEditAssetEvents();
+
+        /* Perform the initial analysis */
+        final MoneyWiseAnalysisBuilder myBuilder = new MoneyWiseAnalysisBuilder(pView);
+        final MoneyWiseAnalysis myAnalysis = analyseChangedData(pView, myBuilder, myEditSet);
+        checkAnalysis(pView, myEditSet, myAnalysis);
+
+        /* An unchanged editSet returns the same analysis */
+        Assertions.assertSame(myAnalysis, analyseChangedData(pView, myBuilder, myEditSet), "Unchanged analysis was rebuilt");
+
+        /* Double the amount of a transaction in the middle of the list */
+        final int mySize = myTrans.size();
+        final MoneyWiseTransaction myAmountTrans = myTrans.get(mySize / 2);
+        final OceanusMoney myAmount = new OceanusMoney(myAmountTrans.getAmount());
+        myAmount.addAmount(myAmountTrans.getAmount());
+        myAmountTrans.pushHistory();
+        myAmountTrans.setAmount(myAmount);
+        final MoneyWiseAnalysis myOriginal = getRangedAnalysis(myAnalysis);
+        final MoneyWiseAnalysis myAmended = analyseChangedData(pView, myBuilder, myEditSet);
+        checkAnalysis(pView, myEditSet, myAmended);
+
+        /* The previous analysis is left unchanged */
+        Assertions.assertNotSame(myAnalysis, myAmended, "Previous analysis was updated");
+        checkAnalyses(myOriginal, getRangedAnalysis(myAnalysis));
+
+        /* Move a late transaction to an earlier date */
+        final MoneyWiseTransaction myDateTrans = myTrans.get((mySize * 3) / 4);
+        myDateTrans.pushHistory();
+        myDateTrans.setDate(myTrans.get(mySize / 4).getDate());
+        checkAnalysis(pView, myEditSet, analyseChangedData(pView, myBuilder, myEditSet));
+
+        /* Delete a transaction */
+        final MoneyWiseTransaction myDelTrans = myTrans.get(mySize / 3);
+        myDelTrans.pushHistory();
+        myDelTrans.setDeleted(true);
+        checkAnalysis(pView, myEditSet, analyseChangedData(pView, myBuilder, myEditSet));
+
+        /* Undo the changes */
+        myDelTrans.popHistory();
+        myDateTrans.popHistory();
+        myAmountTrans.popHistory();
+        checkAnalysis(pView, myEditSet, analyseChangedData(pView, myBuilder, myEditSet));
+    }
+
+    /**
+     * Analyse the changed editSet.
+     *
+     * @param pView     the view
+     * @param pBuilder  the analysis builder
+     * @param pEditSet  the editSet
+     * @return the analysis
+     * @throws OceanusException on error
+     */
+    private static MoneyWiseAnalysis analyseChangedData(final MoneyWiseView pView,
+                                                        final MoneyWiseAnalysisBuilder pBuilder,
+                                                        final PrometheusEditSet pEditSet) throws OceanusException {
+        /* Analyse the editSet in a new profile */
+        final OceanusProfile myTask = pView.getNewProfile("incrementalAnalysis");
+        final MoneyWiseAnalysis myAnalysis = pBuilder.analyseChangedData(pEditSet);
+        myTask.end();
+        return myAnalysis;
+    }
+
+    /**
+     * Check an analysis against a full analysis of the editSet.
+     *
+     * @param pView     the view
+     * @param pEditSet  the editSet
+     * @param pAnalysis the analysis to check
+     * @throws OceanusException on error
+     */
+    private void checkAnalysis(final MoneyWiseView pView,
+                               final PrometheusEditSet pEditSet,
+                               final MoneyWiseAnalysis pAnalysis) throws OceanusException {
+        /* Create the full analysis */
+        final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(pView.getNewProfile("fullAnalysis"), pEditSet, pView.getPreferenceManager());
+        myAnalyser.postProcessAnalysis();
+
+        /* Compare ranged analyses over the full range */
+        checkAnalyses(getRangedAnalysis(myAnalyser.getAnalysis()), getRangedAnalysis(pAnalysis));
+    }
+
+    /**
+     * Obtain a ranged analysis over the full range of the data.
+     *
+     * @param pAnalysis the analysis
+     * @return the ranged analysis
+     */
+    private MoneyWiseAnalysis getRangedAnalysis(final MoneyWiseAnalysis pAnalysis) {
+        final OceanusDateRange myRange = theDataSet.getDateRange();
+        return new MoneyWiseAnalysisManager(pAnalysis).getRangedAnalysis(myRange);
+    }
+
+    /**
+     * Check that two analyses hold the same bucket values.
+     *
+     * @param pExpected the expected analysis
+     * @param pActual   the actual analysis
+     */
+    private static void checkAnalyses(final MoneyWiseAnalysis pExpected,
+                                      final MoneyWiseAnalysis pActual) {
+        /* Check the account buckets */
+        checkBuckets("Deposits", pExpected.getDeposits(), pActual.getDeposits(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("Cash", pExpected.getCash(), pActual.getCash(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("Loans", pExpected.getLoans(), pActual.getLoans(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("Portfolios", pExpected.getPortfolios(), pActual.getPortfolios(), b -> b.getValues().getUnderlyingMap());
+        final Iterator<MoneyWiseAnalysisPortfolioBucket> myIterator = pExpected.getPortfolios().iterator();
+        while (myIterator.hasNext()) {
+            final MoneyWiseAnalysisPortfolioBucket myPortfolio = myIterator.next();
+            final MoneyWiseAnalysisPortfolioBucket myOther = pActual.getPortfolios().findItemById(myPortfolio.getIndexedId());
+            checkBuckets("Securities", myPortfolio.getSecurities(), myOther.getSecurities(), b -> b.getValues().getUnderlyingMap());
+        }
+
+        /* Check the category buckets */
+        checkBuckets("DepositCategories", pExpected.getDepositCategories(), pActual.getDepositCategories(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("CashCategories", pExpected.getCashCategories(), pActual.getCashCategories(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("LoanCategories", pExpected.getLoanCategories(), pActual.getLoanCategories(), b -> b.getValues().getUnderlyingMap());
+
+        /* Check the remaining buckets */
+        checkBuckets("Payees", pExpected.getPayees(), pActual.getPayees(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("TransCategories", pExpected.getTransCategories(), pActual.getTransCategories(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("TaxBasis", pExpected.getTaxBasis(), pActual.getTaxBasis(), b -> b.getValues().getUnderlyingMap());
+        checkBuckets("TransTags", pExpected.getTransactionTags(), pActual.getTransactionTags(), MoneyWiseAnalysisTransTagBucket::getDateRange);
+    }
+
+    /**
+     * Check bucket lists.
+     *
+     * @param <B>       the bucket type
+     * @param pName     the name of the list
+     * @param pExpected the expected list
+     * @param pActual   the actual list
+     * @param pValues   the function to obtain the values to compare
+     */
+    private static <B extends MetisFieldTableItem> void checkBuckets(final String pName,
+                                                                     final MetisDataList<B> pExpected,
+                                                                     final MetisDataList<B> pActual,
+                                                                     final Function<B, Object> pValues) {
+        Assertions.assertEquals(buildValueMap(pExpected, pValues), buildValueMap(pActual, pValues), pName + " mismatch");
+    }
+
+    /**
+     * Build the map of values for a bucket list.
+     *
+     * @param <B>     the bucket type
+     * @param pList   the list
+     * @param pValues the function to obtain the values to compare
+     * @return the map
+     */
+    private static <B extends MetisFieldTableItem> Map<Integer, Object> buildValueMap(final MetisDataList<B> pList,
+                                                                                       final Function<B, Object> pValues) {
+        final Map<Integer, Object> myMap = new HashMap<>();
+        for (B myBucket : pList.getUnderlyingList()) {
+            myMap.put(myBucket.getIndexedId(), pValues.apply(myBucket));
+        }
+        return myMap;
+    }
+}
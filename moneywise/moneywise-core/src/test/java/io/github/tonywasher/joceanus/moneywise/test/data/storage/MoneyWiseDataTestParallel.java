@@ -0,0 +1,96 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisManager;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Test parallel analysis totals.
+ */
+public class MoneyWiseDataTestParallel {
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestParallel(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+    }
+
+    /**
+     * Check that parallel totals match serial totals.
+     *
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public void checkParallelTotals(final MoneyWiseView pView) throws OceanusException {
+        /* Create the analysis */
+        final PrometheusEditSet myEditSet = new PrometheusEditSet(pView);
+        final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(pView.getNewProfile("parallelAnalysis"), myEditSet, pView.getPreferenceManager());
+        myAnalyser.postProcessAnalysis();
+        final MoneyWiseAnalysis myAnalysis = myAnalyser.getAnalysis();
+
+        /* Create the serial and parallel managers */
+        final MoneyWiseAnalysisManager mySerial = new MoneyWiseAnalysisManager(myAnalysis);
+        final MoneyWiseAnalysisManager myParallel = new MoneyWiseAnalysisManager(myAnalysis);
+        mySerial.setParallelTotals(false);
+        myParallel.setParallelTotals(true);
+
+        /* Check the full range and each half of the range */
+        final OceanusDateRange myRange = theDataSet.getDateRange();
+        final OceanusDate myStart = myRange.getStart();
+        final OceanusDate myEnd = myRange.getEnd();
+        final OceanusDate myMid = new OceanusDate(myStart);
+        myMid.adjustDay((int) myStart.daysUntil(myEnd) / 2);
+        checkRange(mySerial, myParallel, myRange);
+        checkRange(mySerial, myParallel, new OceanusDateRange(myStart, myMid));
+        checkRange(mySerial, myParallel, new OceanusDateRange(myMid, myEnd));
+
+        /* Check a dated analysis */
+        MoneyWiseDataTestCompare.checkAnalyses(mySerial.getDatedAnalysis(myMid), myParallel.getDatedAnalysis(myMid));
+    }
+
+    /**
+     * Check a ranged analysis.
+     *
+     * @param pSerial   the serial manager
+     * @param pParallel the parallel manager
+     * @param pRange    the range
+     */
+    private static void checkRange(final MoneyWiseAnalysisManager pSerial,
+                                   final MoneyWiseAnalysisManager pParallel,
+                                   final OceanusDateRange pRange) {
+        /* Check the analyses and flags */
+        MoneyWiseDataTestCompare.checkAnalyses(pSerial.getRangedAnalysis(pRange), pParallel.getRangedAnalysis(pRange));
+        Assertions.assertEquals(pSerial.haveForeignCurrency(), pParallel.haveForeignCurrency(), "ForeignCurrency mismatch");
+        Assertions.assertEquals(pSerial.haveActiveSecurities(), pParallel.haveActiveSecurities(), "ActiveSecurities mismatch");
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseExchangeRate;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseExchangeRate.MoneyWiseExchangeRateDataMap;
+import io.github.tonywasher.joceanus.moneywise.data.statics.MoneyWiseCurrency;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusRatio;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Test exchange rate lookups.
+ */
+public class MoneyWiseDataTestRates {
+    /**
+     * The number of days beyond the last rate to check.
+     */
+    private static final int FUTURE_DAYS = 1000;
+
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestRates(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+    }
+
+    /**
+     * Check the exchange rates in force on dates around each recorded rate.
+     */
+    public void checkExchangeRates() {
+        /* Group the rates by currency and date */
+        final Map<MoneyWiseCurrency, TreeMap<OceanusDate, OceanusRatio>> myRates = new HashMap<>();
+        final Iterator<MoneyWiseExchangeRate> myIterator = theDataSet.getExchangeRates().iterator();
+        while (myIterator.hasNext()) {
+            final MoneyWiseExchangeRate myRate = myIterator.next();
+            myRates.computeIfAbsent(myRate.getToCurrency(), c -> new TreeMap<>()).put(myRate.getDate(), myRate.getExchangeRate());
+        }
+
+        /* Check each currency */
+        final MoneyWiseExchangeRateDataMap myMap = theDataSet.getExchangeRates().getDataMap();
+        for (Entry<MoneyWiseCurrency, TreeMap<OceanusDate, OceanusRatio>> myEntry : myRates.entrySet()) {
+            checkCurrency(myMap, myEntry.getKey(), myEntry.getValue());
+        }
+    }
+
+    /**
+     * Check the exchange rates for a currency.
+     *
+     * @param pMap      the dataMap
+     * @param pCurrency the currency
+     * @param pRates    the rates for the currency in date order
+     */
+    private static void checkCurrency(final MoneyWiseExchangeRateDataMap pMap,
+                                      final MoneyWiseCurrency pCurrency,
+                                      final TreeMap<OceanusDate, OceanusRatio> pRates) {
+        /* There is no rate before the first rate */
+        final String myName = pCurrency.getName();
+        Assertions.assertNull(pMap.getRateForDate(pCurrency, adjustDate(pRates.firstKey(), -1)), "Rate found before first rate for " + myName);
+
+        /* Loop through the rates */
+        OceanusDate myLast = null;
+        for (Entry<OceanusDate, OceanusRatio> myEntry : pRates.entrySet()) {
+            /* A rate applies on its own date */
+            final OceanusDate myDate = myEntry.getKey();
+            final OceanusRatio myRate = myEntry.getValue();
+            Assertions.assertEquals(myRate, pMap.getRateForDate(pCurrency, myDate), "Incorrect rate on " + myDate + " for " + myName);
+
+            /* The previous rate applies up to the day before this one */
+            if (myLast != null
+                    && myLast.daysUntil(myDate) > 1) {
+                final OceanusRatio myPrevious = pRates.get(myLast);
+                Assertions.assertEquals(myPrevious, pMap.getRateForDate(pCurrency, adjustDate(myLast, 1)), "Incorrect rate after " + myLast + " for " + myName);
+                Assertions.assertEquals(myPrevious, pMap.getRateForDate(pCurrency, adjustDate(myDate, -1)), "Incorrect rate before " + myDate + " for " + myName);
+            }
+            myLast = myDate;
+        }
+
+        /* The last rate applies thereafter */
+        final OceanusRatio myFinal = pRates.lastEntry().getValue();
+        Assertions.assertEquals(myFinal, pMap.getRateForDate(pCurrency, adjustDate(myLast, 1)), "Incorrect rate after last rate for " + myName);
+        Assertions.assertEquals(myFinal, pMap.getRateForDate(pCurrency, adjustDate(myLast, FUTURE_DAYS)), "Incorrect future rate for " + myName);
+    }
+
+    /**
+     * Obtain an adjusted copy of a date.
+     *
+     * @param pDate the date
+     * @param pDays the number of days to adjust by
+     * @return the adjusted date
+     */
+    private static OceanusDate adjustDate(final OceanusDate pDate,
+                                          final int pDays) {
+        final OceanusDate myDate = new OceanusDate(pDate);
+        myDate.adjustDay(pDays);
+        return myDate;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.metis.report.MetisReportBase;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDelayedTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportDocument;
+import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder;
+import io.github.tonywasher.joceanus.metis.report.MetisReportHTMLBuilder.MetisReportHTMLTable;
+import io.github.tonywasher.joceanus.metis.report.MetisReportManager;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.analyse.MoneyWiseXAnalyseBuilder;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.analyse.MoneyWiseXAnalyseManager;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysis;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.reports.atlas.MoneyWiseXReportBuilder;
+import io.github.tonywasher.joceanus.moneywise.reports.atlas.MoneyWiseXReportType;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.moneywise.views.atlas.MoneyWiseXAnalysisFilter;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Test reuse of rendered reports.
+ */
+public class MoneyWiseDataTestReports {
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * The analysis manager.
+     */
+    private MoneyWiseXAnalyseManager theAnalysisMgr;
+
+    /**
+     * The report manager.
+     */
+    private MetisReportManager<MoneyWiseXAnalysisFilter<?, ?>> theManager;
+
+    /**
+     * The report builder.
+     */
+    private MoneyWiseXReportBuilder theBuilder;
+
+    /**
+     * The summary report.
+     */
+    private MoneyWiseDataTestSummary theSummary;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestReports(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+    }
+
+    /**
+     * Check that rendered reports are reused for the same analysis and rebuilt for a new one.
+     *
+     * @param pView     the view
+     * @param pAnalysis the analysis
+     * @throws OceanusException on error
+     */
+    public void checkReportCache(final MoneyWiseView pView,
+                                 final MoneyWiseXAnalysis pAnalysis) throws OceanusException {
+        /* Create the managers */
+        theAnalysisMgr = new MoneyWiseXAnalyseManager(pAnalysis);
+        theManager = new MetisReportManager<>(new MetisReportHTMLBuilder(pView.getDataFormatter()));
+        theBuilder = new MoneyWiseXReportBuilder(theManager);
+        theSummary = new MoneyWiseDataTestSummary(theManager.getBuilder());
+
+        /* Render two reports from the same analysis */
+        final MoneyWiseXAnalysis myDated = getDatedAnalysis();
+        final MetisReportDocument myNetWorth = buildNetWorth();
+        final String myText = theManager.getText();
+        final MetisReportDocument mySummary = buildSummary();
+        Assertions.assertNotSame(myNetWorth, mySummary, "Reports share a document");
+
+        /* Re-selecting the reports reuses the rendered documents and text */
+        Assertions.assertSame(myNetWorth, buildNetWorth(), "NetWorth report not reused");
+        Assertions.assertSame(myText, theManager.getText(), "NetWorth text not reused");
+        Assertions.assertSame(mySummary, buildSummary(), "Summary report not reused");
+        Assertions.assertEquals(1, theSummary.getNumBuilds(), "Summary report rebuilt");
+
+        /* A new base analysis, built in a new profile, forces the reports to be rebuilt */
+        final OceanusProfile myTask = pView.getNewProfile("reportAnalysis");
+        theAnalysisMgr.setAnalysis(new MoneyWiseXAnalyseBuilder(pView).analyseNewData(theDataSet));
+        myTask.end();
+        final MetisReportDocument myNewNetWorth = buildNetWorth();
+        Assertions.assertNotSame(myNetWorth, myNewNetWorth, "NetWorth report not rebuilt");
+        Assertions.assertEquals(myText, theManager.getText(), "NetWorth report differs for same data");
+
+        /* A report rendered before the new analysis was evicted rather than resumed */
+        Assertions.assertNull(theManager.resumeReport(theSummary, myDated), "Summary report not evicted");
+        final MetisReportDocument myNewSummary = buildSummary();
+        Assertions.assertNotSame(mySummary, myNewSummary, "Summary report not rebuilt");
+        Assertions.assertEquals(2, theSummary.getNumBuilds(), "Summary report not rebuilt");
+        Assertions.assertSame(myNewNetWorth, buildNetWorth(), "Rebuilt report not reused");
+    }
+
+    /**
+     * Obtain the dated analysis at the end of the data.
+     *
+     * @return the analysis
+     */
+    private MoneyWiseXAnalysis getDatedAnalysis() {
+        /* Declare the base analysis and access the dated analysis */
+        theManager.setSource(theAnalysisMgr.getAnalysis());
+        final OceanusDateRange myRange = theDataSet.getDateRange();
+        return theAnalysisMgr.getDatedAnalysis(myRange.getEnd());
+    }
+
+    /**
+     * Build the NetWorth report as the report tab does.
+     *
+     * @return the document
+     */
+    private MetisReportDocument buildNetWorth() {
+        /* Build the report and declare the document */
+        final MetisReportDocument myDoc = theBuilder.createReport(getDatedAnalysis(), MoneyWiseXReportType.NETWORTH, null);
+        theManager.setDocument(myDoc);
+        return myDoc;
+    }
+
+    /**
+     * Build the summary report, reusing any previous rendering.
+     *
+     * @return the document
+     */
+    private MetisReportDocument buildSummary() {
+        /* Reuse the previous rendering if it was built from the same analysis */
+        final MoneyWiseXAnalysis myAnalysis = getDatedAnalysis();
+        MetisReportDocument myDoc = theManager.resumeReport(theSummary, myAnalysis);
+        if (myDoc == null) {
+            /* Build the report */
+            theManager.setReport(theSummary, myAnalysis);
+            myDoc = theSummary.createReport(myAnalysis);
+        }
+
+        /* Declare the document */
+        theManager.setDocument(myDoc);
+        return myDoc;
+    }
+
+    /**
+     * Summary report that counts its builds.
+     */
+    private static final class MoneyWiseDataTestSummary
+            extends MetisReportBase<MoneyWiseXAnalysis, MoneyWiseXAnalysisFilter<?, ?>> {
+        /**
+         * The HTML builder.
+         */
+        private final MetisReportHTMLBuilder theHTMLBuilder;
+
+        /**
+         * The number of builds.
+         */
+        private int theNumBuilds;
+
+        /**
+         * Constructor.
+         *
+         * @param pBuilder the HTML builder
+         */
+        private MoneyWiseDataTestSummary(final MetisReportHTMLBuilder pBuilder) {
+            theHTMLBuilder = pBuilder;
+        }
+
+        /**
+         * Obtain the number of builds.
+         *
+         * @return the number of builds
+         */
+        int getNumBuilds() {
+            return theNumBuilds;
+        }
+
+        @Override
+        public MetisReportDocument createReport(final MoneyWiseXAnalysis pAnalysis) {
+            /* Build the report */
+            theNumBuilds++;
+            final MetisReportDocument myDoc = theHTMLBuilder.startReport();
+            theHTMLBuilder.makeTitle(myDoc, "Summary", theHTMLBuilder.getDataFormatter().formatObject(pAnalysis.getDateRange()));
+            return myDoc;
+        }
+
+        @Override
+        public MoneyWiseXAnalysisFilter<?, ?> processFilter(final Object pSource) {
+            return null;
+        }
+
+        @Override
+        public MetisReportHTMLTable createDelayedTable(final MetisReportDelayedTable pTable) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * MoneyWise: Finance Application
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.moneywise.test.data.storage;
+
+import io.github.tonywasher.joceanus.metis.data.MetisDataItem.MetisDataMap;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysis;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysisAccountCategoryBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysisPayeeBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysisPortfolioBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysisTaxBasisBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.buckets.MoneyWiseXAnalysisTransCategoryBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisAccountAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisAccountValues;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisPayeeAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisPayeeValues;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisSecurityAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisTaxBasisAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.atlas.values.MoneyWiseXAnalysisTransAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.analyse.MoneyWiseAnalysisTransAnalyser;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysis;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisManager;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPayeeBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisPortfolioBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTaxBasisBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.data.MoneyWiseAnalysisTransCategoryBucket;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.values.MoneyWiseAnalysisPayeeAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.values.MoneyWiseAnalysisPayeeValues;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.values.MoneyWiseAnalysisSecurityAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.values.MoneyWiseAnalysisTaxBasisAttr;
+import io.github.tonywasher.joceanus.moneywise.analysis.lethe.values.MoneyWiseAnalysisTransAttr;
+import io.github.tonywasher.joceanus.moneywise.data.basic.MoneyWiseDataSet;
+import io.github.tonywasher.joceanus.moneywise.views.MoneyWiseView;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusMoney;
+import io.github.tonywasher.joceanus.prometheus.views.PrometheusEditSet;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Test the values recorded in analysis buckets.
+ */
+public class MoneyWiseDataTestValues {
+    /**
+     * The dataSet.
+     */
+    private final MoneyWiseDataSet theDataSet;
+
+    /**
+     * Constructor.
+     *
+     * @param pDataSet the dataSet
+     */
+    public MoneyWiseDataTestValues(final MoneyWiseDataSet pDataSet) {
+        theDataSet = pDataSet;
+    }
+
+    /**
+     * Check the values of an analysis.
+     *
+     * @param pAnalysis the analysis
+     */
+    public void checkAnalysisValues(final MoneyWiseXAnalysis pAnalysis) {
+        /* Category balances follow the valuation */
+        checkCategories(pAnalysis.getDepositCategories().getUnderlyingList());
+        checkCategories(pAnalysis.getCashCategories().getUnderlyingList());
+        checkCategories(pAnalysis.getLoanCategories().getUnderlyingList());
+        checkCategory(pAnalysis.getDepositCategories().getTotals());
+        checkCategory(pAnalysis.getCashCategories().getTotals());
+        checkCategory(pAnalysis.getLoanCategories().getTotals());
+
+        /* The base values of the totals follow the totals */
+        final MoneyWiseXAnalysisPayeeBucket myPayees = pAnalysis.getPayees().getTotals();
+        checkTotals(myPayees.getValues(), myPayees.getBaseValues(), MoneyWiseXAnalysisPayeeAttr.INCOME, MoneyWiseXAnalysisPayeeAttr.EXPENSE);
+        final MoneyWiseXAnalysisTransCategoryBucket myCategories = pAnalysis.getTransCategories().getTotals();
+        checkTotals(myCategories.getValues(), myCategories.getBaseValues(), MoneyWiseXAnalysisTransAttr.INCOME, MoneyWiseXAnalysisTransAttr.EXPENSE);
+        final MoneyWiseXAnalysisTaxBasisBucket myTaxBasis = pAnalysis.getTaxBasis().getTotals();
+        checkTotals(myTaxBasis.getValues(), myTaxBasis.getBaseValues(), MoneyWiseXAnalysisTaxBasisAttr.GROSS, MoneyWiseXAnalysisTaxBasisAttr.NETT);
+
+        /* The totals are the sum of the buckets */
+        final List<MoneyWiseXAnalysisPayeeBucket> myPayeeList = pAnalysis.getPayees().getUnderlyingList();
+        checkSum(myPayees.getValues().getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME), myPayeeList, b -> b.getValues().getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME));
+        checkSum(myPayees.getValues().getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE), myPayeeList, b -> b.getValues().getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE));
+        final MoneyWiseXAnalysisPortfolioBucket myPortfolios = pAnalysis.getPortfolios().getTotals();
+        if (myPortfolios != null) {
+            final List<MoneyWiseXAnalysisPortfolioBucket> myList = pAnalysis.getPortfolios().getUnderlyingList();
+            checkSum(myPortfolios.getValues().getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION), myList, b -> b.getValues().getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION));
+            checkSum(myPortfolios.getBaseValues().getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION), myList, b -> b.getBaseValues().getMoneyValue(MoneyWiseXAnalysisSecurityAttr.VALUATION));
+            checkSum(myPortfolios.getValues().getMoneyValue(MoneyWiseXAnalysisSecurityAttr.RESIDUALCOST), myList, b -> b.getValues().getMoneyValue(MoneyWiseXAnalysisSecurityAttr.RESIDUALCOST));
+        }
+
+        /* Check the contract of the values */
+        checkContract(theDataSet.getReportingCurrency().getCurrency());
+    }
+
+    /**
+     * Check the values of the legacy analysis.
+     *
+     * @param pView the view
+     * @throws OceanusException on error
+     */
+    public void checkLegacyValues(final MoneyWiseView pView) throws OceanusException {
+        /* Create the analysis */
+        final PrometheusEditSet myEditSet = new PrometheusEditSet(pView);
+        final MoneyWiseAnalysisTransAnalyser myAnalyser = new MoneyWiseAnalysisTransAnalyser(pView.getNewProfile("valuesAnalysis"), myEditSet, pView.getPreferenceManager());
+        myAnalyser.postProcessAnalysis();
+        final MoneyWiseAnalysisManager myManager = new MoneyWiseAnalysisManager(myAnalyser.getAnalysis());
+        myManager.analyseBase();
+
+        /* Check the base and ranged analyses */
+        checkLegacyValues(myAnalyser.getAnalysis());
+        checkLegacyValues(myManager.getRangedAnalysis(theDataSet.getDateRange()));
+    }
+
+    /**
+     * Check the values of a legacy analysis.
+     *
+     * @param pAnalysis the analysis
+     */
+    private void checkLegacyValues(final MoneyWiseAnalysis pAnalysis) {
+        /* The base values of the totals follow the totals */
+        final MoneyWiseAnalysisPayeeBucket myPayees = pAnalysis.getPayees().getTotals();
+        checkTotals(myPayees.getValues(), myPayees.getBaseValues(), MoneyWiseAnalysisPayeeAttr.INCOME, MoneyWiseAnalysisPayeeAttr.EXPENSE);
+        final MoneyWiseAnalysisTransCategoryBucket myCategories = pAnalysis.getTransCategories().getTotals();
+        checkTotals(myCategories.getValues(), myCategories.getBaseValues(), MoneyWiseAnalysisTransAttr.INCOME, MoneyWiseAnalysisTransAttr.EXPENSE);
+        final MoneyWiseAnalysisTaxBasisBucket myTaxBasis = pAnalysis.getTaxBasis().getTotals();
+        checkTotals(myTaxBasis.getValues(), myTaxBasis.getBaseValues(), MoneyWiseAnalysisTaxBasisAttr.GROSS, MoneyWiseAnalysisTaxBasisAttr.NETT);
+
+        /* The totals are the sum of the buckets */
+        final List<MoneyWiseAnalysisPayeeBucket> myPayeeList = pAnalysis.getPayees().getUnderlyingList();
+        checkSum(myPayees.getValues().getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME), myPayeeList, b -> b.getValues().getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME));
+        checkSum(myPayees.getValues().getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE), myPayeeList, b -> b.getValues().getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE));
+        final MoneyWiseAnalysisPortfolioBucket myPortfolios = pAnalysis.getPortfolios().getTotals();
+        if (myPortfolios != null) {
+            final List<MoneyWiseAnalysisPortfolioBucket> myList = pAnalysis.getPortfolios().getUnderlyingList();
+            checkSum(myPortfolios.getValues().getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION), myList, b -> b.getValues().getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION));
+            checkSum(myPortfolios.getBaseValues().getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION), myList, b -> b.getBaseValues().getMoneyValue(MoneyWiseAnalysisSecurityAttr.VALUATION));
+            checkSum(myPortfolios.getValues().getMoneyValue(MoneyWiseAnalysisSecurityAttr.RESIDUALCOST), myList, b -> b.getValues().getMoneyValue(MoneyWiseAnalysisSecurityAttr.RESIDUALCOST));
+        }
+
+        /* Check the contract of the values */
+        checkLegacyContract(theDataSet.getReportingCurrency().getCurrency());
+    }
+
+    /**
+     * Check a list of account categories.
+     *
+     * @param pList the list of categories
+     */
+    private static void checkCategories(final List<? extends MoneyWiseXAnalysisAccountCategoryBucket<?, ?>> pList) {
+        for (MoneyWiseXAnalysisAccountCategoryBucket<?, ?> myBucket : pList) {
+            checkCategory(myBucket);
+        }
+    }
+
+    /**
+     * Check an account category.
+     *
+     * @param pBucket the category bucket (or null)
+     */
+    private static void checkCategory(final MoneyWiseXAnalysisAccountCategoryBucket<?, ?> pBucket) {
+        if (pBucket != null) {
+            checkBalance(pBucket.getName(), pBucket.getValues());
+            checkBalance(pBucket.getName(), pBucket.getBaseValues());
+        }
+    }
+
+    /**
+     * Check that the balance matches the valuation.
+     *
+     * @param pName   the bucket name
+     * @param pValues the values
+     */
+    private static void checkBalance(final String pName,
+                                     final MoneyWiseXAnalysisAccountValues pValues) {
+        final OceanusMoney myValuation = pValues.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION);
+        Assertions.assertEquals(myValuation, pValues.getMoneyValue(MoneyWiseXAnalysisAccountAttr.BALANCE), "Balance mismatch for " + pName);
+
+        /* Repeated access returns the same value */
+        Assertions.assertSame(myValuation, pValues.getMoneyValue(MoneyWiseXAnalysisAccountAttr.VALUATION), "Value not reused for " + pName);
+    }
+
+    /**
+     * Check that the base values of a totals bucket match the totals.
+     *
+     * @param <E>     the attribute type
+     * @param pValues the values
+     * @param pBase   the base values
+     * @param pAttrs  the attributes to check
+     */
+    @SafeVarargs
+    private static <E extends Enum<E>> void checkTotals(final MetisDataMap<E, Object> pValues,
+                                                        final MetisDataMap<E, Object> pBase,
+                                                        final E... pAttrs) {
+        for (E myAttr : pAttrs) {
+            Assertions.assertEquals(pValues.getUnderlyingMap().get(myAttr), pBase.getUnderlyingMap().get(myAttr), "Base mismatch for " + myAttr);
+        }
+    }
+    /**
+     * Check that a total is the sum of the bucket values.
+     *
+     * @param <B>      the bucket type
+     * @param pTotal   the total
+     * @param pBuckets the buckets
+     * @param pValue   the function to obtain the bucket value
+     */
+    private static <B> void checkSum(final OceanusMoney pTotal,
+                                     final List<B> pBuckets,
+                                     final Function<B, OceanusMoney> pValue) {
+        /* Sum the bucket values */
+        final OceanusMoney mySum = new OceanusMoney(pTotal);
+        mySum.setZero();
+        for (B myBucket : pBuckets) {
+            final OceanusMoney myValue = pValue.apply(myBucket);
+            if (myValue != null) {
+                mySum.addAmount(myValue);
+            }
+        }
+
+        /* Check the total */
+        Assertions.assertEquals(pTotal, mySum, "Totals mismatch");
+    }
+
+    /**
+     * Check the contract of a set of values.
+     *
+     * @param pCurrency the currency
+     */
+    private static void checkContract(final Currency pCurrency) {
+        /* An in-place change to a fetched value is seen by later reads */
+        final MoneyWiseXAnalysisPayeeValues myValues = new MoneyWiseXAnalysisPayeeValues(pCurrency);
+        final MoneyWiseXAnalysisPayeeValues mySnapShot = new MoneyWiseXAnalysisPayeeValues(myValues);
+        final OceanusMoney myUnit = OceanusMoney.getWholeUnits(1, pCurrency);
+        final OceanusMoney myIncome = myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME);
+        myIncome.addAmount(myUnit);
+        Assertions.assertSame(myIncome, myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME), "Value not reused");
+        Assertions.assertEquals(myUnit, myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME), "In-place change lost");
+
+        /* The snapshot holds its own copy */
+        Assertions.assertTrue(mySnapShot.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME).isZero(), "Snapshot shares value");
+        final MoneyWiseXAnalysisPayeeValues myCopy = new MoneyWiseXAnalysisPayeeValues(myValues);
+        myValues.addMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME, myUnit);
+        Assertions.assertEquals(myUnit, myCopy.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.INCOME), "Snapshot shares value");
+
+        /* Setting a value records its contents */
+        final OceanusMoney myExpense = new OceanusMoney(myUnit);
+        myValues.setValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE, myExpense);
+        myExpense.addAmount(myUnit);
+        Assertions.assertEquals(myUnit, myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE), "Set value not recorded");
+
+        /* Setting the live value back keeps it live */
+        final OceanusMoney myLive = myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE);
+        myLive.addAmount(myUnit);
+        myValues.setValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE, myLive);
+        Assertions.assertSame(myLive, myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE), "Live value replaced");
+        Assertions.assertEquals(myExpense, myLive, "Set value not recorded");
+
+        /* A cleared value is removed */
+        myValues.setValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE, null);
+        Assertions.assertNull(myValues.getMoneyValue(MoneyWiseXAnalysisPayeeAttr.EXPENSE), "Value not cleared");
+        Assertions.assertFalse(myValues.getUnderlyingMap().containsKey(MoneyWiseXAnalysisPayeeAttr.EXPENSE), "Value not cleared");
+    }
+
+    /**
+     * Check the contract of a set of legacy values.
+     *
+     * @param pCurrency the currency
+     */
+    private static void checkLegacyContract(final Currency pCurrency) {
+        /* An in-place change to a fetched value is seen by later reads */
+        final MoneyWiseAnalysisPayeeValues myValues = new MoneyWiseAnalysisPayeeValues(pCurrency);
+        final MoneyWiseAnalysisPayeeValues mySnapShot = new MoneyWiseAnalysisPayeeValues(myValues, false);
+        final OceanusMoney myUnit = OceanusMoney.getWholeUnits(1, pCurrency);
+        final OceanusMoney myIncome = myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME);
+        myIncome.addAmount(myUnit);
+        Assertions.assertSame(myIncome, myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME), "Value not reused");
+        Assertions.assertEquals(myUnit, myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME), "In-place change lost");
+
+        /* The snapshot holds its own copy */
+        Assertions.assertTrue(mySnapShot.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME).isZero(), "Snapshot shares value");
+        final MoneyWiseAnalysisPayeeValues myCopy = new MoneyWiseAnalysisPayeeValues(myValues, false);
+        myValues.addMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME, myUnit);
+        Assertions.assertEquals(myUnit, myCopy.getMoneyValue(MoneyWiseAnalysisPayeeAttr.INCOME), "Snapshot shares value");
+
+        /* Setting a value records its contents */
+        final OceanusMoney myExpense = new OceanusMoney(myUnit);
+        myValues.setValue(MoneyWiseAnalysisPayeeAttr.EXPENSE, myExpense);
+        myExpense.addAmount(myUnit);
+        Assertions.assertEquals(myUnit, myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE), "Set value not recorded");
+
+        /* Setting the live value back keeps it live */
+        final OceanusMoney myLive = myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE);
+        myLive.addAmount(myUnit);
+        myValues.setValue(MoneyWiseAnalysisPayeeAttr.EXPENSE, myLive);
+        Assertions.assertSame(myLive, myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE), "Live value replaced");
+        Assertions.assertEquals(myExpense, myLive, "Set value not recorded");
+
+        /* A cleared value is removed */
+        myValues.setValue(MoneyWiseAnalysisPayeeAttr.EXPENSE, null);
+        Assertions.assertNull(myValues.getMoneyValue(MoneyWiseAnalysisPayeeAttr.EXPENSE), "Value not cleared");
+        Assertions.assertFalse(myValues.getUnderlyingMap().containsKey(MoneyWiseAnalysisPayeeAttr.EXPENSE), "Value not cleared");
+    }
+}
@@ -173,6 +173,15 @@ public abstract class MoneyWiseDataTestCase {
     public void checkAnalysis() {
     }
 
+    /**
+     * Does the legacy analysis support this testCase?
+     *
+     * @return true/false
+     */
+    public boolean supportsLegacyAnalysis() {
+        return true;
+    }
+
     /**
      * Use infoClass.
      *
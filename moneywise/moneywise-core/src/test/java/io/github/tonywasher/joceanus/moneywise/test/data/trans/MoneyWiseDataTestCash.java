@@ -58,6 +58,11 @@ public class MoneyWiseDataTestCash
         return "Cash accounts can be used as normal accounts or as autoCash";
     }
 
+    @Override
+    public boolean supportsLegacyAnalysis() {
+        return false;
+    }
+
     @Override
     public void setUpAccounts() throws OceanusException {
         createPayees(MoneyWiseDataTestAccounts.IDPY_ASDA);
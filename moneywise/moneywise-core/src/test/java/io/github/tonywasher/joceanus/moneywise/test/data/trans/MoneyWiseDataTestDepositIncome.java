@@ -58,6 +58,11 @@ public class MoneyWiseDataTestDepositIncome
         return "Income from Deposits transactions can be made as follows";
     }
 
+    @Override
+    public boolean supportsLegacyAnalysis() {
+        return false;
+    }
+
     @Override
     public void setUpAccounts() throws OceanusException {
         createDeposits(MoneyWiseDataTestAccounts.IDDP_BARCLAYS_CURRENT,
@@ -57,6 +57,11 @@ public class MoneyWiseDataTestExpense
         return "Simple expenses can be made from any valued account to/from any payee";
     }
 
+    @Override
+    public boolean supportsLegacyAnalysis() {
+        return false;
+    }
+
     @Override
     public void setUpAccounts() throws OceanusException {
         createPayees(MoneyWiseDataTestAccounts.IDPY_ASDA);
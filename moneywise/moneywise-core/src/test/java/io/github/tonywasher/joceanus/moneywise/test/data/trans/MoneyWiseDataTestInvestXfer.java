@@ -55,6 +55,11 @@ public class MoneyWiseDataTestInvestXfer
         return "Investment accounts can generally performa ll the tasks that standard deposit accounts can do.";
     }
 
+    @Override
+    public boolean supportsLegacyAnalysis() {
+        return false;
+    }
+
     @Override
     public void setUpAccounts() throws OceanusException {
         createPayees(MoneyWiseDataTestAccounts.IDPY_PARENTS);
@@ -57,6 +57,11 @@ public class MoneyWiseDataTestShareDividend
         return "Shares can be bought and sold and have their number of units adjusted.";
     }
 
+    @Override
+    public boolean supportsLegacyAnalysis() {
+        return false;
+    }
+
     @Override
     public void setUpAccounts() throws OceanusException {
         createPayees(MoneyWiseDataTestAccounts.IDPY_PARENTS);
@@ -21,6 +21,7 @@
 open module io.github.tonywasher.joceanus.moneywise.core.test {
     /* Java libraries */
     requires java.xml;
+    requires jdk.httpserver;
 
     /* Exports */
     requires io.github.tonywasher.joceanus.moneywise.core;
@@ -24,7 +24,6 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
 import java.util.Locale;
 
@@ -32,6 +31,10 @@ import java.util.Locale;
  * Represents a Date object that is fixed to a particular day. There is no concept of time within
  * the day Calendar objects that are built to represent the Date are set to noon on the day in
  * question.
+ * <p>
+ * The date is held as a single epoch-day. The year, month, day and id are calculated directly from the
+ * epoch-day without building a java date, and nothing is cached, so a date may be read concurrently. The
+ * formatted text is derived via the shared formatters of {@link OceanusDateFormatter}.
  */
 public class OceanusDate
         implements Comparable<OceanusDate> {
@@ -40,11 +43,6 @@ public class OceanusDate
      */
     public static final Clock CLOCK = Clock.systemDefaultZone();
 
-    /**
-     * The Hash prime.
-     */
-    protected static final int HASH_PRIME = 17;
-
     /**
      * The Year shift for DateDay Id. This is 9 corresponding to (1 shiftLeft 9 places) = 512
      */
@@ -56,69 +54,129 @@ public class OceanusDate
     protected static final int MONTHS_IN_QUARTER = 3;
 
     /**
-     * Text for Null Date Error.
+     * The shift of the year within the packed year/month/day.
      */
-    private static final String ERROR_NULLDATE = OceanusDateResource.ERROR_NULLDATE.getValue();
+    private static final int SHIFT_YEAR = 9;
 
     /**
-     * Text for Null Locale Error.
+     * The shift of the month within the packed year/month/day.
      */
-    private static final String ERROR_NULLLOCALE = OceanusDateResource.ERROR_NULLLOCALE.getValue();
+    private static final int SHIFT_MONTH = 5;
 
     /**
-     * Text for Bad Format Error.
+     * The mask for the month within the packed year/month/day.
      */
-    private static final String ERROR_BADFORMAT = OceanusDateResource.ERROR_BADFORMAT.getValue();
+    private static final int MASK_MONTH = 0x0F;
 
     /**
-     * The format to be used.
+     * The mask for the day within the packed year/month/day.
      */
-    private static final String FORMAT_DEFAULT = "dd-MMM-yyyy";
+    private static final int MASK_DAY = 0x1F;
 
     /**
-     * The locale to be used.
+     * The days from 1st March of year 0 to the epoch.
      */
-    private Locale theLocale;
+    private static final int DAYS_TO_EPOCH = 719468;
 
     /**
-     * The format to be used.
+     * The days in a 400-year cycle.
      */
-    private String theFormat = FORMAT_DEFAULT;
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    /**
+     * The years in a cycle.
+     */
+    private static final int YEARS_PER_CYCLE = 400;
+
+    /**
+     * The days in a century (other than the last of a cycle).
+     */
+    private static final int DAYS_PER_CENTURY = 36524;
+
+    /**
+     * The days in a 4-year period.
+     */
+    private static final int DAYS_PER_QUADRENNIUM = 1460;
 
     /**
-     * The Simple Date format for the locale and format string.
+     * The days in a year.
      */
-    private DateTimeFormatter theDateFormat;
+    private static final int DAYS_PER_YEAR = 365;
 
     /**
-     * The Date format.
+     * The years in a century.
      */
-    private String theFormattedDate;
+    private static final int YEARS_PER_CENTURY = 100;
 
     /**
-     * The Date object in underlying Java form.
+     * The years in a leap cycle.
      */
-    private LocalDate theDate;
+    private static final int YEARS_PER_LEAP = 4;
 
     /**
-     * The year of the date.
+     * The days in five March-based months.
      */
-    private int theYear;
+    private static final int DAYS_PER_FIVE_MONTHS = 153;
 
     /**
-     * The month of the date.
+     * The number of months in which {@link #DAYS_PER_FIVE_MONTHS} fall.
      */
-    private int theMonth;
+    private static final int FIVE_MONTHS = 5;
 
     /**
-     * The day of the date.
+     * The number of March-based months.
      */
-    private int theDay;
+    private static final int MONTHS_PER_YEAR = 12;
 
     /**
-     * The day id.
+     * The March-based month index of January.
      */
-    private int theId;
+    private static final int MARCH_JANUARY = 10;
+
+    /**
+     * The offset from a March-based month index to a month.
+     */
+    private static final int MARCH_OFFSET = 3;
+
+    /**
+     * The March-based day-of-year of the 1st January.
+     */
+    private static final int MARCH_DAY_OF_JANUARY = 306;
+
+    /**
+     * Text for Null Date Error.
+     */
+    private static final String ERROR_NULLDATE = OceanusDateResource.ERROR_NULLDATE.getValue();
+
+    /**
+     * Text for Null Locale Error.
+     */
+    private static final String ERROR_NULLLOCALE = OceanusDateResource.ERROR_NULLLOCALE.getValue();
+
+    /**
+     * Text for Bad Format Error.
+     */
+    private static final String ERROR_BADFORMAT = OceanusDateResource.ERROR_BADFORMAT.getValue();
+
+    /**
+     * The format to be used.
+     */
+    private static final String FORMAT_DEFAULT = "dd-MMM-yyyy";
+
+    /**
+     * The locale to be used.
+     */
+    private Locale theLocale;
+
+    /**
+     * The format to be used.
+     */
+    private String theFormat = FORMAT_DEFAULT;
+
+    /**
+     * The epoch-day of the date.
+     */
+    private int theEpochDay;
 
     /**
      * Construct a new Date and initialise with today's date.
@@ -266,10 +324,10 @@ public class OceanusDate
         try {
             /* Access the date format */
             theFormat = pFormat;
-            theDateFormat = DateTimeFormatter.ofPattern(theFormat, pLocale);
+            final DateTimeFormatter myFormat = OceanusDateFormatter.getFormatter(theFormat, pLocale);
 
             /* Parse and build the date */
-            final LocalDate myDate = LocalDate.parse(pValue, theDateFormat);
+            final LocalDate myDate = LocalDate.parse(pValue, myFormat);
             buildDateDay(myDate, pLocale);
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException(ERROR_BADFORMAT
@@ -284,7 +342,7 @@ public class OceanusDate
      * @return the year of the date
      */
     public int getYear() {
-        return theYear;
+        return toYearMonthDay(theEpochDay) >> SHIFT_YEAR;
     }
 
     /**
@@ -293,7 +351,7 @@ public class OceanusDate
      * @return the month of the date
      */
     public int getMonth() {
-        return theMonth;
+        return (toYearMonthDay(theEpochDay) >> SHIFT_MONTH) & MASK_MONTH;
     }
 
     /**
@@ -302,7 +360,7 @@ public class OceanusDate
      * @return the day of the date
      */
     public int getDay() {
-        return theDay;
+        return toYearMonthDay(theEpochDay) & MASK_DAY;
     }
 
     /**
@@ -311,7 +369,7 @@ public class OceanusDate
      * @return the day of the week
      */
     public DayOfWeek getDayOfWeek() {
-        return theDate.getDayOfWeek();
+        return getDate().getDayOfWeek();
     }
 
     /**
@@ -320,7 +378,7 @@ public class OceanusDate
      * @return the month value
      */
     public Month getMonthValue() {
-        return theDate.getMonth();
+        return getDate().getMonth();
     }
 
     /**
@@ -330,7 +388,71 @@ public class OceanusDate
      * @return the id of the date
      */
     public int getId() {
-        return theId;
+        /* Calculate the id (512*year + dayofYear) */
+        final int myYear = getYear();
+        return (myYear << SHIFT_ID_YEAR)
+                + theEpochDay - toEpochDay(myYear) + 1;
+    }
+
+    /**
+     * Calculate the year, month and day of an epoch-day.
+     * <p>
+     * This works in years that start on 1st March, so that the leap day falls at the end of the year.
+     *
+     * @param pEpochDay the epoch-day
+     * @return the year, month and day packed as (512*year + 32*month + day)
+     */
+    private static int toYearMonthDay(final int pEpochDay) {
+        /* Locate the day within its 400-year cycle */
+        final long myShifted = (long) pEpochDay + DAYS_TO_EPOCH;
+        final long myCycle = Math.floorDiv(myShifted, DAYS_PER_CYCLE);
+        final int myDayOfCycle = (int) (myShifted - myCycle * DAYS_PER_CYCLE);
+
+        /* Determine the year within the cycle and the day within that year */
+        final int myYearOfCycle = (myDayOfCycle
+                - myDayOfCycle / DAYS_PER_QUADRENNIUM
+                + myDayOfCycle / DAYS_PER_CENTURY
+                - myDayOfCycle / (DAYS_PER_CYCLE - 1)) / DAYS_PER_YEAR;
+        final int myDayOfYear = myDayOfCycle
+                - (DAYS_PER_YEAR * myYearOfCycle
+                + myYearOfCycle / YEARS_PER_LEAP
+                - myYearOfCycle / YEARS_PER_CENTURY);
+
+        /* Determine the month and day */
+        final int myMarchMonth = (FIVE_MONTHS * myDayOfYear + 2) / DAYS_PER_FIVE_MONTHS;
+        final int myDay = myDayOfYear - (DAYS_PER_FIVE_MONTHS * myMarchMonth + 2) / FIVE_MONTHS + 1;
+        final int myMonth = myMarchMonth < MARCH_JANUARY
+                ? myMarchMonth + MARCH_OFFSET
+                : myMarchMonth + MARCH_OFFSET - MONTHS_PER_YEAR;
+
+        /* January and February belong to the following calendar year */
+        int myYear = (int) (myCycle * YEARS_PER_CYCLE) + myYearOfCycle;
+        if (myMarchMonth >= MARCH_JANUARY) {
+            myYear++;
+        }
+
+        /* Pack the fields */
+        return (myYear << SHIFT_YEAR)
+                + (myMonth << SHIFT_MONTH)
+                + myDay;
+    }
+
+    /**
+     * Calculate the epoch-day of the 1st January of a year.
+     *
+     * @param pYear the year
+     * @return the epoch-day
+     */
+    private static int toEpochDay(final int pYear) {
+        /* January belongs to the March-based year before */
+        final int myYear = pYear - 1;
+        final int myCycle = Math.floorDiv(myYear, YEARS_PER_CYCLE);
+        final int myYearOfCycle = myYear - myCycle * YEARS_PER_CYCLE;
+        final int myDayOfCycle = DAYS_PER_YEAR * myYearOfCycle
+                + myYearOfCycle / YEARS_PER_LEAP
+                - myYearOfCycle / YEARS_PER_CENTURY
+                + MARCH_DAY_OF_JANUARY;
+        return myCycle * DAYS_PER_CYCLE + myDayOfCycle - DAYS_TO_EPOCH;
     }
 
     /**
@@ -339,7 +461,16 @@ public class OceanusDate
      * @return the date
      */
     public LocalDate getDate() {
-        return theDate;
+        return LocalDate.ofEpochDay(theEpochDay);
+    }
+
+    /**
+     * Get the epoch-day of the date.
+     *
+     * @return the epoch-day
+     */
+    public int getEpochDay() {
+        return theEpochDay;
     }
 
     /**
@@ -371,8 +502,7 @@ public class OceanusDate
 
         /* Build date values */
         theLocale = pLocale;
-        theDate = pDate;
-        obtainValues();
+        theEpochDay = (int) pDate.toEpochDay();
     }
 
     /**
@@ -397,14 +527,13 @@ public class OceanusDate
      * @param pLocale the locale
      */
     public void setLocale(final Locale pLocale) {
+        /* Null locale not allowed */
+        if (pLocale == null) {
+            throw new IllegalArgumentException(ERROR_NULLLOCALE);
+        }
+
         /* Record the locale */
         theLocale = pLocale;
-
-        /* rebuild the date into the new locale */
-        buildDateDay(theYear, theMonth, theDay, pLocale);
-
-        /* Reset the date format */
-        theDateFormat = null;
     }
 
     /**
@@ -415,10 +544,6 @@ public class OceanusDate
     public void setFormat(final String pFormat) {
         /* Store the format string */
         theFormat = pFormat;
-
-        /* Reset the date format */
-        theDateFormat = null;
-        theFormattedDate = null;
     }
 
     /**
@@ -427,8 +552,7 @@ public class OceanusDate
      * @param iYear the number of years to adjust by
      */
     public void adjustYear(final int iYear) {
-        theDate = theDate.plusYears(iYear);
-        obtainValues();
+        setDate(getDate().plusYears(iYear));
     }
 
     /**
@@ -437,8 +561,7 @@ public class OceanusDate
      * @param iMonth the number of months to adjust by
      */
     public void adjustMonth(final int iMonth) {
-        theDate = theDate.plusMonths(iMonth);
-        obtainValues();
+        setDate(getDate().plusMonths(iMonth));
     }
 
     /**
@@ -447,8 +570,7 @@ public class OceanusDate
      * @param iDay the number of days to adjust by
      */
     public void adjustDay(final int iDay) {
-        theDate = theDate.plusDays(iDay);
-        obtainValues();
+        theEpochDay += iDay;
     }
 
     /**
@@ -459,8 +581,7 @@ public class OceanusDate
      */
     public void adjustField(final TemporalUnit iField,
                             final int iUnits) {
-        theDate = theDate.plus(iUnits, iField);
-        obtainValues();
+        setDate(getDate().plus(iUnits, iField));
     }
 
     /**
@@ -494,8 +615,8 @@ public class OceanusDate
      * @return the days until that date
      */
     public long daysUntil(final OceanusDate pDate) {
-        /* Calculate the initial age assuming same date in year */
-        return theDate.until(pDate.theDate, ChronoUnit.DAYS);
+        /* Calculate the difference in epoch-days */
+        return (long) pDate.theEpochDay - theEpochDay;
     }
 
     /**
@@ -505,44 +626,21 @@ public class OceanusDate
      */
     public void copyDate(final OceanusDate pDate) {
         buildDateDay(pDate.getDate(), theLocale);
-        obtainValues();
     }
 
     /**
-     * Obtain the year,month and day values from the date.
+     * Set the date from a java date.
+     *
+     * @param pDate the java date
      */
-    private void obtainValues() {
-        /* Access date details */
-        theYear = theDate.getYear();
-        theMonth = theDate.getMonthValue();
-        theDay = theDate.getDayOfMonth();
-
-        /* Calculate the id (512*year + dayofYear) */
-        theId = (theYear << SHIFT_ID_YEAR)
-                + theDate.getDayOfYear();
-
-        /* Reset formatted date */
-        theFormattedDate = null;
+    private void setDate(final LocalDate pDate) {
+        theEpochDay = (int) pDate.toEpochDay();
     }
 
     @Override
     public String toString() {
-        /* If we already have a formatted date */
-        if (theFormattedDate != null) {
-            return theFormattedDate;
-        }
-
-        /* If we have not obtained the date format */
-        if (theDateFormat == null) {
-            /* Create the simple date format */
-            theDateFormat = DateTimeFormatter.ofPattern(theFormat, theLocale);
-        }
-
-        /* Format the date */
-        theFormattedDate = theDate.format(theDateFormat);
-
-        /* Return the date */
-        return theFormattedDate;
+        /* Format the date with the shared formatter */
+        return getDate().format(OceanusDateFormatter.getFormatter(theFormat, theLocale));
     }
 
     @Override
@@ -554,19 +652,8 @@ public class OceanusDate
             return -1;
         }
 
-        /* Compare the year, month and date */
-        int iDiff = theYear
-                - pThat.theYear;
-        if (iDiff != 0) {
-            return iDiff;
-        }
-        iDiff = theMonth
-                - pThat.theMonth;
-        if (iDiff != 0) {
-            return iDiff;
-        }
-        return theDay
-                - pThat.theDay;
+        /* Compare the epoch-days */
+        return Integer.compare(theEpochDay, pThat.theEpochDay);
     }
 
     @Override
@@ -587,21 +674,14 @@ public class OceanusDate
         /* Access the object as a TethysDate */
         final OceanusDate myThat = (OceanusDate) pThat;
 
-        /* Check components */
-        return theYear == myThat.theYear
-                && theMonth == myThat.theMonth
-                && theDay == myThat.theDay;
+        /* Check epoch-day */
+        return theEpochDay == myThat.theEpochDay;
     }
 
     @Override
     public int hashCode() {
-        /* Calculate hash based on Year/Month/Day */
-        int iHash = theYear;
-        iHash *= HASH_PRIME;
-        iHash += theMonth + 1;
-        iHash *= HASH_PRIME;
-        iHash += theDay;
-        return iHash;
+        /* Calculate hash based on epoch-day */
+        return theEpochDay;
     }
 
     /**
@@ -27,6 +27,8 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Formatter for Date objects.
@@ -65,6 +67,11 @@ public class OceanusDateFormatter
      */
     private static final int YEARS_CENTURY = 100;
 
+    /**
+     * The shared formatters by locale and format.
+     */
+    private static final Map<Locale, Map<String, DateTimeFormatter>> FORMATTERS = new ConcurrentHashMap<>();
+
     /**
      * The Event Manager.
      */
@@ -115,6 +122,19 @@ public class OceanusDateFormatter
         return theEventManager.getEventRegistrar();
     }
 
+    /**
+     * Obtain the shared formatter for a format and locale.
+     *
+     * @param pFormat the format string
+     * @param pLocale the locale
+     * @return the formatter
+     */
+    public static DateTimeFormatter getFormatter(final String pFormat,
+                                                 final Locale pLocale) {
+        return FORMATTERS.computeIfAbsent(pLocale, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(pFormat, f -> DateTimeFormatter.ofPattern(f, pLocale));
+    }
+
     /**
      * Set the date format.
      *
@@ -130,7 +150,7 @@ public class OceanusDateFormatter
         /* Create the simple date format */
         theFormat = pFormat;
         theDateFormat = new SimpleDateFormat(theFormat, theLocale);
-        theLocalDateFormat = DateTimeFormatter.ofPattern(theFormat, theLocale);
+        theLocalDateFormat = getFormatter(theFormat, theLocale);
 
         /* Notify of the change */
         theEventManager.fireEvent(OceanusDateEvent.FORMATCHANGED);
@@ -310,7 +330,7 @@ public class OceanusDateFormatter
      * @return the processed date
      */
     public byte[] toBytes(final OceanusDate pDate) {
-        final long myEpoch = pDate.getDate().toEpochDay();
+        final long myEpoch = pDate.getEpochDay();
         return OceanusDataConverter.longToByteArray(myEpoch);
     }
 
@@ -16,7 +16,6 @@
  */
 package io.github.tonywasher.joceanus.oceanus.date;
 
-import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -109,14 +108,15 @@ public class OceanusDateRange
      */
     public int compareToDate(final OceanusDate pDate) {
         /* Check start date */
+        final int myDay = pDate.getEpochDay();
         if (theStart != null
-                && theStart.compareTo(pDate) > 0) {
+                && theStart.getEpochDay() > myDay) {
             return 1;
         }
 
         /* Check end date */
         if (theEnd != null
-                && theEnd.compareTo(pDate) < 0) {
+                && theEnd.getEpochDay() < myDay) {
             return -1;
         }
 
@@ -295,6 +295,6 @@ public class OceanusDateRange
         }
 
         /* Calculate the number of days */
-        return 1 + ChronoUnit.DAYS.between(theStart.getDate(), theEnd.getDate());
+        return 1L + theEnd.getEpochDay() - theStart.getEpochDay();
     }
 }
@@ -0,0 +1,317 @@
+/*
+ * Oceanus: Java Utilities
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.oceanus.decimal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Mutable accumulator for decimal arithmetic.
+ * <p>
+ * The accumulator holds an unscaled long value at a fixed scale and performs all arithmetic in place, so that
+ * repeated calculations do not allocate intermediate decimals. Products and quotients are calculated exactly using
+ * {@link Math#multiplyHigh(long, long)} to detect overflow of the intermediate value, and are then rounded once
+ * (half away from zero) to the scale of the accumulator. Only if the intermediate value overflows a long is the
+ * calculation performed with {@link BigDecimal} arithmetic.
+ */
+public class OceanusDecimalAccumulator {
+    /**
+     * The shift to obtain the sign of a long.
+     */
+    private static final int SIGN_SHIFT = Long.SIZE - 1;
+
+    /**
+     * The unscaled value.
+     */
+    private long theValue;
+
+    /**
+     * The scale.
+     */
+    private final int theScale;
+
+    /**
+     * Constructor.
+     *
+     * @param pScale the scale
+     */
+    public OceanusDecimalAccumulator(final int pScale) {
+        /* Validate and store the scale */
+        if (pScale < 0
+                || pScale > OceanusDecimal.MAX_DECIMALS) {
+            throw new IllegalArgumentException("Decimals must be in the range 0 to "
+                    + OceanusDecimal.MAX_DECIMALS);
+        }
+        theScale = pScale;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pSource the initial value
+     */
+    public OceanusDecimalAccumulator(final OceanusDecimal pSource) {
+        theScale = pSource.scale();
+        theValue = pSource.unscaledValue();
+    }
+
+    /**
+     * Obtain the unscaled value of the accumulator.
+     *
+     * @return the unscaled value
+     */
+    public long unscaledValue() {
+        return theValue;
+    }
+
+    /**
+     * Obtain the scale of the accumulator.
+     *
+     * @return the scale
+     */
+    public int scale() {
+        return theScale;
+    }
+
+    /**
+     * Determine whether we have a zero value.
+     *
+     * @return true/false
+     */
+    public boolean isZero() {
+        return theValue == 0;
+    }
+
+    /**
+     * Set to zero value.
+     */
+    public void setZero() {
+        theValue = 0;
+    }
+
+    /**
+     * Set the value.
+     *
+     * @param pValue the value
+     */
+    public void setValue(final OceanusDecimal pValue) {
+        theValue = atScale(pValue);
+    }
+
+    /**
+     * Add a decimal to the value.
+     *
+     * @param pValue the value to add
+     */
+    public void addValue(final OceanusDecimal pValue) {
+        theValue += atScale(pValue);
+    }
+
+    /**
+     * Subtract a decimal from the value.
+     *
+     * @param pValue the value to subtract
+     */
+    public void subtractValue(final OceanusDecimal pValue) {
+        theValue -= atScale(pValue);
+    }
+
+    /**
+     * Add an accumulator to the value.
+     *
+     * @param pValue the accumulator to add
+     */
+    public void addValue(final OceanusDecimalAccumulator pValue) {
+        theValue += atScale(pValue.theValue, pValue.theScale);
+    }
+
+    /**
+     * Add the product of two decimals to the value.
+     *
+     * @param pFirst  the first factor
+     * @param pSecond the second factor
+     */
+    public void addProduct(final OceanusDecimal pFirst,
+                           final OceanusDecimal pSecond) {
+        theValue += calculateProduct(pFirst.unscaledValue(), pFirst.scale(),
+                pSecond.unscaledValue(), pSecond.scale());
+    }
+
+    /**
+     * Subtract the product of two decimals from the value.
+     *
+     * @param pFirst  the first factor
+     * @param pSecond the second factor
+     */
+    public void subtractProduct(final OceanusDecimal pFirst,
+                                final OceanusDecimal pSecond) {
+        theValue -= calculateProduct(pFirst.unscaledValue(), pFirst.scale(),
+                pSecond.unscaledValue(), pSecond.scale());
+    }
+
+    /**
+     * Multiply the value by a decimal. The scale is maintained.
+     *
+     * @param pValue the value to multiply by
+     */
+    public void multiplyBy(final OceanusDecimal pValue) {
+        theValue = calculateProduct(theValue, theScale, pValue.unscaledValue(), pValue.scale());
+    }
+
+    /**
+     * Divide the value by a decimal. The scale is maintained.
+     *
+     * @param pValue the value to divide by
+     */
+    public void divideBy(final OceanusDecimal pValue) {
+        /* Access the divisor */
+        final long myDivisor = pValue.unscaledValue();
+        final int myShift = pValue.scale();
+
+        /* Calculate the shifted dividend if it does not overflow */
+        final long myFactor = OceanusDecimal.getFactor(myShift);
+        final long myHigh = Math.multiplyHigh(theValue, myFactor);
+        final long myLow = theValue * myFactor;
+        if (myHigh == myLow >> SIGN_SHIFT
+                && myDivisor != Long.MIN_VALUE) {
+            /* Divide with rounding */
+            theValue = roundedDivide(myLow, myDivisor);
+            return;
+        }
+
+        /* Fall back to BigDecimal arithmetic */
+        final BigDecimal myResult = BigDecimal.valueOf(theValue, theScale)
+                .divide(pValue.toBigDecimal(), theScale, RoundingMode.HALF_UP);
+        theValue = myResult.unscaledValue().longValueExact();
+    }
+
+    /**
+     * Store the value into a decimal, adjusting to the scale of the target.
+     *
+     * @param pTarget the target decimal
+     */
+    public void storeInto(final OceanusDecimal pTarget) {
+        final int myScale = pTarget.scale();
+        pTarget.setValue(OceanusDecimal.adjustDecimals(theValue, myScale - theScale), myScale);
+    }
+
+    /**
+     * Obtain the value as a new decimal.
+     *
+     * @return the decimal
+     */
+    public OceanusDecimal toDecimal() {
+        return new OceanusDecimal(theValue, theScale);
+    }
+
+    @Override
+    public String toString() {
+        return toDecimal().toString();
+    }
+
+    /**
+     * Obtain the unscaled value of a decimal at the scale of the accumulator.
+     *
+     * @param pValue the value
+     * @return the unscaled value
+     */
+    private long atScale(final OceanusDecimal pValue) {
+        return atScale(pValue.unscaledValue(), pValue.scale());
+    }
+
+    /**
+     * Obtain an unscaled value at the scale of the accumulator.
+     *
+     * @param pValue the unscaled value
+     * @param pScale the scale of the value
+     * @return the unscaled value
+     */
+    private long atScale(final long pValue,
+                         final int pScale) {
+        return pScale == theScale
+                ? pValue
+                : OceanusDecimal.adjustDecimals(pValue, theScale - pScale);
+    }
+
+    /**
+     * Calculate the product of two unscaled values at the scale of the accumulator.
+     *
+     * @param pFirst       the first unscaled value
+     * @param pFirstScale  the scale of the first value
+     * @param pSecond      the second unscaled value
+     * @param pSecondScale the scale of the second value
+     * @return the unscaled product
+     */
+    private long calculateProduct(final long pFirst,
+                                  final int pFirstScale,
+                                  final long pSecond,
+                                  final int pSecondScale) {
+        /* Calculate the exact product */
+        final long myHigh = Math.multiplyHigh(pFirst, pSecond);
+        final long myLow = pFirst * pSecond;
+        final int myShift = theScale - pFirstScale - pSecondScale;
+
+        /* If the product fits within a long */
+        if (myHigh == myLow >> SIGN_SHIFT) {
+            /* If we need to reduce the scale, divide with rounding */
+            if (myShift <= 0 && -myShift <= OceanusDecimal.MAX_DECIMALS) {
+                return myShift == 0
+                        ? myLow
+                        : roundedDivide(myLow, OceanusDecimal.getFactor(-myShift));
+            }
+
+            /* If we need to increase the scale and can do so without overflow */
+            if (myShift > 0) {
+                final long myFactor = OceanusDecimal.getFactor(myShift);
+                final long myScaledHigh = Math.multiplyHigh(myLow, myFactor);
+                final long myScaledLow = myLow * myFactor;
+                if (myScaledHigh == myScaledLow >> SIGN_SHIFT) {
+                    return myScaledLow;
+                }
+            }
+        }
+
+        /* Fall back to BigDecimal arithmetic */
+        final BigDecimal myResult = BigDecimal.valueOf(pFirst, pFirstScale)
+                .multiply(BigDecimal.valueOf(pSecond, pSecondScale))
+                .setScale(theScale, RoundingMode.HALF_UP);
+        return myResult.unscaledValue().longValueExact();
+    }
+
+    /**
+     * Divide a value, rounding half away from zero.
+     *
+     * @param pValue   the value to divide
+     * @param pDivisor the divisor
+     * @return the rounded quotient
+     */
+    private static long roundedDivide(final long pValue,
+                                      final long pDivisor) {
+        /* Calculate the quotient and the size of the remainder */
+        final long myQuotient = pValue / pDivisor;
+        final long myRemainder = Math.abs(pValue % pDivisor);
+        final long myDivisor = Math.abs(pDivisor);
+
+        /* Round away from zero if the remainder is at least half the divisor */
+        if (myRemainder >= myDivisor - myRemainder) {
+            return (pValue ^ pDivisor) < 0
+                    ? myQuotient - 1
+                    : myQuotient + 1;
+        }
+        return myQuotient;
+    }
+}
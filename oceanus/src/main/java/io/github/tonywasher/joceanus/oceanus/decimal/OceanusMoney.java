@@ -81,6 +81,20 @@ public class OceanusMoney
         adjustToScale(theCurrency.getDefaultFractionDigits());
     }
 
+    /**
+     * Construct a new OceanusMoney from an unscaled value.
+     *
+     * @param pUnscaledValue the unscaled value
+     * @param pScale         the scale
+     * @param pCurrency      the currency
+     */
+    public OceanusMoney(final long pUnscaledValue,
+                        final int pScale,
+                        final Currency pCurrency) {
+        super(pUnscaledValue, pScale);
+        theCurrency = pCurrency;
+    }
+
     /**
      * Construct a new OceanusMoney by combining money and rate.
      *
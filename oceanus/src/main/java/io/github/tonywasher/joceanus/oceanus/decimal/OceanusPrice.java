@@ -56,6 +56,19 @@ public class OceanusPrice
         setValue(pPrice.unscaledValue(), pPrice.scale());
     }
 
+    /**
+     * Construct a new Price from an unscaled value.
+     *
+     * @param pUnscaledValue the unscaled value
+     * @param pScale         the scale
+     * @param pCurrency      the currency
+     */
+    public OceanusPrice(final long pUnscaledValue,
+                        final int pScale,
+                        final Currency pCurrency) {
+        super(pUnscaledValue, pScale, pCurrency);
+    }
+
     /**
      * Create the price from a byte array.
      *
@@ -69,6 +69,17 @@ public class OceanusRate
         super.subtractValue(RATE_ONEHUNDREDPERCENT);
     }
 
+    /**
+     * Construct a new Rate from an unscaled value.
+     *
+     * @param pUnscaledValue the unscaled value
+     * @param pScale         the scale
+     */
+    public OceanusRate(final long pUnscaledValue,
+                       final int pScale) {
+        super(pUnscaledValue, pScale);
+    }
+
     /**
      * Create the rate from a byte array.
      *
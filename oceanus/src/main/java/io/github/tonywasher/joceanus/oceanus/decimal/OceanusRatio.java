@@ -79,6 +79,17 @@ public class OceanusRatio
         calculateQuotient(pFirst, pSecond);
     }
 
+    /**
+     * Construct a new Ratio from an unscaled value.
+     *
+     * @param pUnscaledValue the unscaled value
+     * @param pScale         the scale
+     */
+    public OceanusRatio(final long pUnscaledValue,
+                        final int pScale) {
+        super(pUnscaledValue, pScale);
+    }
+
     /**
      * Create the ratio from a byte array.
      *
@@ -42,6 +42,17 @@ public class OceanusUnits
         super(pUnits.unscaledValue(), pUnits.scale());
     }
 
+    /**
+     * Construct a new Units from an unscaled value.
+     *
+     * @param pUnscaledValue the unscaled value
+     * @param pScale         the scale
+     */
+    public OceanusUnits(final long pUnscaledValue,
+                        final int pScale) {
+        super(pUnscaledValue, pScale);
+    }
+
     /**
      * Create the units from a byte array.
      *
@@ -0,0 +1,286 @@
+/*
+ * Oceanus: Java Utilities
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.tonywasher.joceanus.oceanus.junit.date;
+
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDateRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Date JUnit Tests.
+ */
+class TestDate {
+    /**
+     * Create the date test suite.
+     *
+     * @return the test stream
+     */
+    @TestFactory
+    Stream<DynamicNode> dateTests() {
+        return Stream.of(
+                DynamicTest.dynamicTest("checkEquality", TestDate::equality),
+                DynamicTest.dynamicTest("checkCompare", TestDate::comparisons),
+                DynamicTest.dynamicTest("checkDaysUntil", TestDate::daysUntil),
+                DynamicTest.dynamicTest("checkAdjust", TestDate::adjustments),
+                DynamicTest.dynamicTest("checkDerived", TestDate::derivedFields),
+                DynamicTest.dynamicTest("checkNumDays", TestDate::numDays),
+                DynamicTest.dynamicTest("checkRange", TestDate::rangeComparisons)
+        );
+    }
+
+    /**
+     * Equality tests.
+     */
+    private static void equality() {
+        checkEquality(new OceanusDate(2024, 2, 29));
+        checkEquality(new OceanusDate(1970, 1, 1));
+        checkEquality(new OceanusDate(1969, 12, 31));
+        checkEquality(new OceanusDate(1900, 2, 28));
+
+        /* The locale does not take part in equality */
+        final OceanusDate myFirst = new OceanusDate(2000, 2, 29, Locale.UK);
+        final OceanusDate mySecond = new OceanusDate(2000, 2, 29, Locale.FRANCE);
+        Assertions.assertEquals(myFirst, mySecond, "Locale affects equality");
+        Assertions.assertEquals(myFirst.hashCode(), mySecond.hashCode(), "Locale affects hashCode");
+
+        /* Adjacent dates differ */
+        Assertions.assertNotEquals(new OceanusDate(1969, 12, 31), new OceanusDate(1970, 1, 1), "Adjacent dates are equal");
+        Assertions.assertNotEquals(null, new OceanusDate(1970, 1, 1), "Date equals null");
+    }
+
+    /**
+     * Comparison tests.
+     */
+    private static void comparisons() {
+        checkOrder(new OceanusDate(1969, 12, 31), new OceanusDate(1970, 1, 1));
+        checkOrder(new OceanusDate(1900, 2, 28), new OceanusDate(1900, 3, 1));
+        checkOrder(new OceanusDate(2024, 2, 28), new OceanusDate(2024, 2, 29));
+        checkOrder(new OceanusDate(1066, 10, 14), new OceanusDate(2024, 2, 29));
+
+        /* Null sorts last */
+        final OceanusDate myDate = new OceanusDate(1969, 12, 31);
+        Assertions.assertEquals(-1, myDate.compareTo(null), "Incorrect null compare");
+        Assertions.assertEquals(0, myDate.compareTo(new OceanusDate(myDate)), "Incorrect equal compare");
+    }
+
+    /**
+     * DaysUntil tests.
+     */
+    private static void daysUntil() {
+        /* Leap years */
+        checkDaysUntil(new OceanusDate(2024, 2, 28), new OceanusDate(2024, 3, 1), 2);
+        checkDaysUntil(new OceanusDate(2023, 2, 28), new OceanusDate(2023, 3, 1), 1);
+        checkDaysUntil(new OceanusDate(2000, 2, 28), new OceanusDate(2000, 3, 1), 2);
+        checkDaysUntil(new OceanusDate(1900, 2, 28), new OceanusDate(1900, 3, 1), 1);
+        checkDaysUntil(new OceanusDate(2024, 1, 1), new OceanusDate(2025, 1, 1), 366);
+
+        /* Negative epoch-days */
+        checkDaysUntil(new OceanusDate(1969, 12, 31), new OceanusDate(1970, 1, 1), 1);
+        checkDaysUntil(new OceanusDate(1960, 1, 1), new OceanusDate(1969, 12, 31), 3652);
+        checkDaysUntil(new OceanusDate(1066, 10, 14), new OceanusDate(1970, 1, 1), 329_893);
+    }
+
+    /**
+     * Adjustment tests.
+     */
+    private static void adjustments() {
+        /* Adjust across the leap day */
+        final OceanusDate myDate = new OceanusDate(2024, 2, 28, Locale.UK);
+        Assertions.assertEquals("28-Feb-2024", myDate.toString(), "Incorrect text");
+        myDate.adjustDay(1);
+        checkFields(myDate, 2024, 2, 29);
+        Assertions.assertEquals("29-Feb-2024", myDate.toString(), "Text not refreshed by adjustDay");
+        myDate.adjustYear(1);
+        checkFields(myDate, 2025, 2, 28);
+        Assertions.assertEquals("28-Feb-2025", myDate.toString(), "Text not refreshed by adjustYear");
+
+        /* Adjust across the epoch */
+        myDate.copyDate(new OceanusDate(1970, 1, 1));
+        myDate.adjustDay(-1);
+        checkFields(myDate, 1969, 12, 31);
+        Assertions.assertEquals(-1, myDate.getEpochDay(), "Incorrect epoch-day");
+        Assertions.assertEquals("31-Dec-1969", myDate.toString(), "Text not refreshed by copyDate");
+
+        /* Change the format and locale */
+        myDate.setFormat("yyyy/MM/dd");
+        Assertions.assertEquals("1969/12/31", myDate.toString(), "Text not refreshed by setFormat");
+        myDate.setFormat("d MMMM yyyy");
+        myDate.setLocale(Locale.FRANCE);
+        Assertions.assertEquals("31 décembre 1969", myDate.toString(), "Text not refreshed by setLocale");
+    }
+
+    /**
+     * Derived field tests.
+     */
+    private static void derivedFields() {
+        /* Check every day across several leap cycles either side of the epoch */
+        final LocalDate myEnd = LocalDate.of(2401, 3, 1);
+        for (LocalDate myDate = LocalDate.of(1599, 12, 1); myDate.isBefore(myEnd); myDate = myDate.plusDays(1)) {
+            final OceanusDate myTest = new OceanusDate(myDate);
+            checkFields(myTest, myDate.getYear(), myDate.getMonthValue(), myDate.getDayOfMonth());
+            Assertions.assertEquals((myDate.getYear() << 9) + myDate.getDayOfYear(), myTest.getId(), "Incorrect id");
+        }
+
+        /* Check the distant past */
+        checkFields(new OceanusDate(-1, 12, 31), -1, 12, 31);
+        checkFields(new OceanusDate(0, 2, 29), 0, 2, 29);
+        checkFields(new OceanusDate(1, 1, 1), 1, 1, 1);
+    }
+
+    /**
+     * NumDays tests.
+     */
+    private static void numDays() {
+        checkNumDays(new OceanusDate(2024, 1, 1), new OceanusDate(2024, 12, 31), 366);
+        checkNumDays(new OceanusDate(2023, 1, 1), new OceanusDate(2023, 12, 31), 365);
+        checkNumDays(new OceanusDate(2024, 2, 29), new OceanusDate(2024, 2, 29), 1);
+        checkNumDays(new OceanusDate(1969, 12, 1), new OceanusDate(1970, 1, 31), 62);
+
+        /* Unbounded ranges */
+        checkNumDays(null, new OceanusDate(2024, 2, 29), -1);
+        checkNumDays(new OceanusDate(2024, 2, 29), null, -1);
+        checkNumDays(null, null, -1);
+    }
+
+    /**
+     * Range comparison tests.
+     */
+    private static void rangeComparisons() {
+        /* Bounded range spanning the epoch */
+        final OceanusDate myStart = new OceanusDate(1969, 12, 31);
+        final OceanusDate myEnd = new OceanusDate(1970, 1, 2);
+        final OceanusDateRange myRange = new OceanusDateRange(myStart, myEnd);
+        checkRange(myRange, new OceanusDate(1969, 12, 30), 1);
+        checkRange(myRange, myStart, 0);
+        checkRange(myRange, new OceanusDate(1970, 1, 1), 0);
+        checkRange(myRange, myEnd, 0);
+        checkRange(myRange, new OceanusDate(1970, 1, 3), -1);
+
+        /* Range with no start */
+        final OceanusDateRange myNoStart = new OceanusDateRange(null, myEnd);
+        checkRange(myNoStart, new OceanusDate(1066, 10, 14), 0);
+        checkRange(myNoStart, myEnd, 0);
+        checkRange(myNoStart, new OceanusDate(1970, 1, 3), -1);
+
+        /* Range with no end */
+        final OceanusDateRange myNoEnd = new OceanusDateRange(myStart, null);
+        checkRange(myNoEnd, new OceanusDate(1969, 12, 30), 1);
+        checkRange(myNoEnd, myStart, 0);
+        checkRange(myNoEnd, new OceanusDate(2400, 2, 29), 0);
+
+        /* Unbounded range */
+        final OceanusDateRange myAll = new OceanusDateRange();
+        checkRange(myAll, new OceanusDate(1066, 10, 14), 0);
+        checkRange(myAll, new OceanusDate(2400, 2, 29), 0);
+    }
+
+    /**
+     * Check equality against a copy and a date built from the java date.
+     *
+     * @param pDate the date
+     */
+    private static void checkEquality(final OceanusDate pDate) {
+        final OceanusDate myCopy = new OceanusDate(pDate);
+        final OceanusDate myJava = new OceanusDate(LocalDate.ofEpochDay(pDate.getEpochDay()));
+        Assertions.assertEquals(pDate, myCopy, "Copy not equal");
+        Assertions.assertEquals(pDate, myJava, "Java date not equal");
+        Assertions.assertEquals(pDate.hashCode(), myCopy.hashCode(), "Copy hashCode differs");
+        Assertions.assertEquals(pDate.hashCode(), myJava.hashCode(), "Java date hashCode differs");
+        Assertions.assertEquals(0, pDate.compareTo(myJava), "Java date compares unequal");
+    }
+
+    /**
+     * Check that two dates are ordered.
+     *
+     * @param pFirst  the earlier date
+     * @param pSecond the later date
+     */
+    private static void checkOrder(final OceanusDate pFirst,
+                                   final OceanusDate pSecond) {
+        Assertions.assertTrue(pFirst.compareTo(pSecond) < 0, "Earlier date not before " + pSecond);
+        Assertions.assertTrue(pSecond.compareTo(pFirst) > 0, "Later date not after " + pFirst);
+    }
+
+    /**
+     * Check the days between two dates in both directions.
+     *
+     * @param pFirst    the first date
+     * @param pSecond   the second date
+     * @param pExpected the expected days
+     */
+    private static void checkDaysUntil(final OceanusDate pFirst,
+                                       final OceanusDate pSecond,
+                                       final long pExpected) {
+        final long myJava = pSecond.getDate().toEpochDay() - pFirst.getDate().toEpochDay();
+        Assertions.assertEquals(pExpected, myJava, "Incorrect expected days for " + pFirst);
+        Assertions.assertEquals(pExpected, pFirst.daysUntil(pSecond), "Incorrect days until " + pSecond);
+        Assertions.assertEquals(-pExpected, pSecond.daysUntil(pFirst), "Incorrect days until " + pFirst);
+    }
+
+    /**
+     * Check the fields of a date.
+     *
+     * @param pDate  the date
+     * @param pYear  the expected year
+     * @param pMonth the expected month
+     * @param pDay   the expected day
+     */
+    private static void checkFields(final OceanusDate pDate,
+                                    final int pYear,
+                                    final int pMonth,
+                                    final int pDay) {
+        Assertions.assertEquals(pYear, pDate.getYear(), "Incorrect year");
+        Assertions.assertEquals(pMonth, pDate.getMonth(), "Incorrect month");
+        Assertions.assertEquals(pDay, pDate.getDay(), "Incorrect day");
+        Assertions.assertEquals(LocalDate.of(pYear, pMonth, pDay), pDate.getDate(), "Incorrect java date");
+    }
+
+    /**
+     * Check the number of days in a range.
+     *
+     * @param pStart    the start date (or null)
+     * @param pEnd      the end date (or null)
+     * @param pExpected the expected number of days
+     */
+    private static void checkNumDays(final OceanusDate pStart,
+                                     final OceanusDate pEnd,
+                                     final long pExpected) {
+        final OceanusDateRange myRange = new OceanusDateRange(pStart, pEnd);
+        Assertions.assertEquals(pExpected, myRange.getNumDays(), "Incorrect number of days for " + myRange);
+    }
+
+    /**
+     * Check the comparison of a date against a range.
+     *
+     * @param pRange    the range
+     * @param pDate     the date
+     * @param pExpected the expected result
+     */
+    private static void checkRange(final OceanusDateRange pRange,
+                                   final OceanusDate pDate,
+                                   final int pExpected) {
+        Assertions.assertEquals(pExpected, pRange.compareToDate(pDate), "Incorrect compare of " + pDate + " to " + pRange);
+    }
+}
@@ -21,6 +21,7 @@ import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
 import io.github.tonywasher.joceanus.oceanus.date.OceanusDateFormatter;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimal;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalAccumulator;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusDecimalParser;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusMoney;
 import io.github.tonywasher.joceanus.oceanus.decimal.OceanusPrice;
@@ -53,6 +54,7 @@ class TestDecimal {
                 DynamicTest.dynamicTest("checkSubtract", TestDecimal::subtractions),
                 DynamicTest.dynamicTest("checkMultiply", TestDecimal::multiplications),
                 DynamicTest.dynamicTest("checkDivide", TestDecimal::divisions),
+                DynamicTest.dynamicTest("checkAccumulator", TestDecimal::accumulations),
                 DynamicTest.dynamicTest("checkBytes", TestDecimal::checkBytes)
         );
     }
@@ -98,6 +100,71 @@ class TestDecimal {
         checkDivision("1234.000167677", "1234.000167678");
     }
 
+    /**
+     * Accumulator tests.
+     */
+    private static void accumulations() {
+        checkAccumulation("1.0003", "2.156", 2);
+        checkAccumulation("1.0003", "-2.156", 4);
+        checkAccumulation("11.4567", "67.78657", 2);
+        checkAccumulation("11.4567", "-67.78657", 6);
+        checkAccumulation("0.005", "1", 2);
+        checkAccumulation("-0.005", "1", 2);
+        checkAccumulation("12345678901.23", "98765.4321", 2);
+        checkAccumulation("-12345678901.23", "98765.4321", 3);
+    }
+
+    /**
+     * Check accumulation.
+     *
+     * @param pFirst  the first value
+     * @param pSecond the second value
+     * @param pScale  the scale of the accumulator
+     */
+    private static void checkAccumulation(final String pFirst,
+                                          final String pSecond,
+                                          final int pScale) {
+        /* Obtain the two decimals */
+        final OceanusDecimal myD1 = OceanusDecimalParser.parseDecimalValue(pFirst);
+        final OceanusDecimal myD2 = OceanusDecimalParser.parseDecimalValue(pSecond);
+
+        /* Obtain the two BigDecimals */
+        final BigDecimal myB1 = new BigDecimal(pFirst);
+        final BigDecimal myB2 = new BigDecimal(pSecond);
+
+        /* Check the sum of the products */
+        final OceanusDecimalAccumulator myAccumulator = new OceanusDecimalAccumulator(pScale);
+        myAccumulator.addProduct(myD1, myD2);
+        myAccumulator.addProduct(myD2, myD1);
+        final BigDecimal myProduct = myB1.multiply(myB2).setScale(pScale, RoundingMode.HALF_UP);
+        Assertions.assertEquals(myProduct.add(myProduct), BigDecimal.valueOf(myAccumulator.unscaledValue(), pScale),
+                "Failed Accumulated Product: " + pFirst + " * " + pSecond);
+
+        /* Check in place multiplication */
+        myAccumulator.setValue(myD1);
+        myAccumulator.multiplyBy(myD2);
+        Assertions.assertEquals(myB1.setScale(pScale, RoundingMode.HALF_UP).multiply(myB2).setScale(pScale, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(myAccumulator.unscaledValue(), pScale), "Failed Accumulated Multiplication: " + pFirst + " * " + pSecond);
+
+        /* Check in place division */
+        myAccumulator.setValue(myD1);
+        myAccumulator.divideBy(myD2);
+        Assertions.assertEquals(myB1.setScale(pScale, RoundingMode.HALF_UP).divide(myB2, pScale, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(myAccumulator.unscaledValue(), pScale), "Failed Accumulated Division: " + pFirst + " / " + pSecond);
+
+        /* Check that the sum matches the standard arithmetic */
+        final OceanusDecimal myTotal = new OceanusDecimal(myD1);
+        myTotal.addValue(myD2);
+        myAccumulator.setZero();
+        myAccumulator.addValue(myD1);
+        myAccumulator.addValue(myD2);
+        final OceanusDecimal myStored = new OceanusDecimal(0, myTotal.scale());
+        myAccumulator.storeInto(myStored);
+        if (pScale >= myTotal.scale()) {
+            Assertions.assertEquals(myTotal, myStored, "Failed Accumulated Addition: " + pFirst + " + " + pSecond);
+        }
+    }
+
     /**
      * Check addition.
      *
@@ -29,11 +29,13 @@ import io.github.tonywasher.joceanus.prometheus.data.PrometheusData.PrometheusGr
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncrypted.PrometheusDataInfoItemCtl;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncrypted.PrometheusDataInfoSetCtl;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncrypted.PrometheusDataInfoSetItemCtl;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -233,24 +235,26 @@ public class PrometheusDataValues
     /**
      * Constructor.
      *
-     * @param pElement the Item to obtain values from
-     * @param pFields  the field definitions
+     * @param pReader the reader positioned at the start of the item element
+     * @param pFields the field definitions
+     * @throws XMLStreamException on error
      */
-    public PrometheusDataValues(final Element pElement,
-                                final MetisFieldSetDef pFields) {
-        this(pElement, pFields, pElement.getNodeName());
+    public PrometheusDataValues(final XMLStreamReader pReader,
+                                final MetisFieldSetDef pFields) throws XMLStreamException {
+        this(pReader, pFields, pReader.getLocalName());
     }
 
     /**
      * Constructor.
      *
-     * @param pElement  the Item to obtain values from
+     * @param pReader   the reader positioned at the start of the item element
      * @param pFields   the field definitions
      * @param pItemName the item name
+     * @throws XMLStreamException on error
      */
-    protected PrometheusDataValues(final Element pElement,
+    protected PrometheusDataValues(final XMLStreamReader pReader,
                                    final MetisFieldSetDef pFields,
-                                   final String pItemName) {
+                                   final String pItemName) throws XMLStreamException {
         /* Store Item type */
         theItemType = pItemName;
 
@@ -258,12 +262,61 @@ public class PrometheusDataValues
         theFields = new LinkedHashMap<>();
 
         /* Declare the id if it exists */
-        final Integer myId = getId(pElement);
+        final Integer myId = getId(pReader);
         if (myId != null) {
             theFields.put(MetisDataResource.DATA_ID, myId);
         }
 
-        /* Loop through the children */
+        /* Loop through the child elements */
+        final Map<String, String> myValues = new HashMap<>();
+        List<PrometheusInfoItem> myInfoItems = null;
+        List<PrometheusDataValues> myChildren = null;
+        while (pReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final String myName = pReader.getLocalName();
+
+            /* If this is the first InfoSet list */
+            if (TAG_INFOSET.equals(myName)
+                    && myInfoItems == null) {
+                /* Allocate infoItems list and add the items */
+                myInfoItems = new ArrayList<>();
+                while (pReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    myInfoItems.add(new PrometheusInfoItem(pReader));
+                }
+
+                /* If this is the first children list */
+            } else if (TAG_CHILDREN.equals(myName)
+                    && myChildren == null) {
+                /* Allocate children list */
+                myChildren = new ArrayList<>();
+
+                /* Loop through the child values */
+                while (pReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    /* If the child is the correct element */
+                    if (TAG_CHILD.equals(pReader.getLocalName())) {
+                        /* Add item to the list */
+                        myChildren.add(new PrometheusDataValues(pReader, pFields, theItemType));
+                    } else {
+                        skipElement(pReader);
+                    }
+                }
+
+                /* If this is the first instance of a field */
+            } else if (!myValues.containsKey(myName)
+                    && !TAG_INFOSET.equals(myName)
+                    && !TAG_CHILDREN.equals(myName)) {
+                /* Store the text, skipping any element that is not simple text */
+                final String myText = readText(pReader);
+                if (myText != null) {
+                    myValues.put(myName, myText);
+                }
+
+                /* else skip the element */
+            } else {
+                skipElement(pReader);
+            }
+        }
+
+        /* Loop through the fields */
         final Iterator<MetisFieldDef> myIterator = pFields.fieldIterator();
         while (myIterator.hasNext()) {
             final MetisFieldDef myField = myIterator.next();
@@ -271,57 +324,17 @@ public class PrometheusDataValues
             /* If the field is an equality valueSet item */
             if (myField instanceof MetisFieldVersionedDef myVersioned
                     && myVersioned.isEquality()) {
-                /* Access element */
-                final Element myChild = getChild(pElement, myField.getFieldId().getId());
-                if (myChild != null) {
-                    /* Put value */
-                    theFields.put(myField.getFieldId(), myChild.getTextContent());
+                /* Put value if present */
+                final String myValue = myValues.get(myField.getFieldId().getId());
+                if (myValue != null) {
+                    theFields.put(myField.getFieldId(), myValue);
                 }
             }
         }
 
-        /* Look for an InfoSet list */
-        final Element myInfoSet = getChild(pElement, TAG_INFOSET);
-        if (myInfoSet != null) {
-            /* Allocate infoItems list */
-            theInfoItems = new ArrayList<>();
-
-            /* Loop through the child values */
-            for (Node myCurr = myInfoSet.getFirstChild(); myCurr != null; myCurr = myCurr.getNextSibling()) {
-                /* If the child is an element */
-                if (myCurr instanceof Element myChild) {
-                    /* Add item to the list */
-                    final PrometheusInfoItem myInfo = new PrometheusInfoItem(myChild);
-                    theInfoItems.add(myInfo);
-                }
-            }
-
-            /* Else not that we have no infoItems */
-        } else {
-            theInfoItems = null;
-        }
-
-        /* Look for children */
-        final Element myChildren = getChild(pElement, TAG_CHILDREN);
-        if (myChildren != null) {
-            /* Allocate infoItems list */
-            theChildren = new ArrayList<>();
-
-            /* Loop through the child values */
-            for (Node myCurr = myChildren.getFirstChild(); myCurr != null; myCurr = myCurr.getNextSibling()) {
-                /* If the child is the correct element */
-                if (myCurr instanceof Element myChild
-                        && TAG_CHILD.equals(myCurr.getNodeName())) {
-                    /* Add item to the list */
-                    final PrometheusDataValues myValues = new PrometheusDataValues(myChild, pFields, theItemType);
-                    theChildren.add(myValues);
-                }
-            }
-
-            /* Else not that we have no children */
-        } else {
-            theChildren = null;
-        }
+        /* Store the lists */
+        theInfoItems = myInfoItems;
+        theChildren = myChildren;
     }
 
     /**
@@ -447,120 +460,162 @@ public class PrometheusDataValues
     /**
      * Obtain id from element.
      *
-     * @param pElement the element.
+     * @param pReader the reader positioned at the start of the element.
      * @return the id
      */
-    private static Integer getId(final Element pElement) {
+    private static Integer getId(final XMLStreamReader pReader) {
         /* Access the id */
-        final String myId = pElement.getAttribute(MetisDataResource.DATA_ID.getId());
-        return !myId.isEmpty()
+        final String myId = pReader.getAttributeValue(null, MetisDataResource.DATA_ID.getId());
+        return myId != null && !myId.isEmpty()
                 ? Integer.parseInt(myId)
                 : null;
     }
 
     /**
-     * Obtain child element with given name.
+     * Read the text content of an element.
      *
-     * @param pParent the parent element
-     * @param pName   the element name
-     * @return the element
+     * @param pReader the reader positioned at the start of the element
+     * @return the text, or null if the element has child elements
+     * @throws XMLStreamException on error
      */
-    private static Element getChild(final Element pParent,
-                                    final String pName) {
-        /* Loop through the child values */
-        for (Node myCurr = pParent.getFirstChild(); myCurr != null; myCurr = myCurr.getNextSibling()) {
-            /* If the child is the correct element */
-            if (myCurr instanceof Element myElement
-                    && pName.equals(myCurr.getNodeName())) {
-                /* Return the element */
-                return myElement;
+    private static String readText(final XMLStreamReader pReader) throws XMLStreamException {
+        /* Loop through the content */
+        final StringBuilder myBuilder = new StringBuilder();
+        for (;;) {
+            switch (pReader.next()) {
+                case XMLStreamConstants.CHARACTERS,
+                     XMLStreamConstants.CDATA,
+                     XMLStreamConstants.SPACE,
+                     XMLStreamConstants.ENTITY_REFERENCE:
+                    myBuilder.append(pReader.getText());
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    /* Skip the nested element and the remainder of this element */
+                    skipElement(pReader);
+                    skipElement(pReader);
+                    return null;
+                case XMLStreamConstants.END_ELEMENT:
+                    return myBuilder.toString();
+                default:
+                    break;
             }
         }
+    }
 
-        /* Not found */
-        return null;
+    /**
+     * Skip to the end of the current element.
+     *
+     * @param pReader the reader positioned at the start of the element
+     * @throws XMLStreamException on error
+     */
+    private static void skipElement(final XMLStreamReader pReader) throws XMLStreamException {
+        /* Loop until we reach the matching end element */
+        int myDepth = 1;
+        while (myDepth > 0) {
+            switch (pReader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    myDepth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    myDepth--;
+                    break;
+                default:
+                    break;
+            }
+        }
     }
 
     /**
-     * Create XML element for item.
+     * Write XML element for item.
      *
-     * @param pDocument  the document to hold the item.
+     * @param pWriter    the writer.
      * @param pFormatter the data formatter
      * @param pStoreIds  do we include IDs in XML
-     * @return the new element
+     * @throws XMLStreamException on error
      */
-    protected Element createXML(final Document pDocument,
-                                final OceanusDataFormatter pFormatter,
-                                final boolean pStoreIds) {
+    protected void writeXML(final XMLStreamWriter pWriter,
+                            final OceanusDataFormatter pFormatter,
+                            final boolean pStoreIds) throws XMLStreamException {
         /* Create an element for the item */
-        final Element myElement = pDocument.createElement(theItemType);
+        pWriter.writeStartElement(theItemType);
+
+        /* Write the id attribute if required */
+        final Object myId = theFields.get(MetisDataResource.DATA_ID);
+        if (pStoreIds
+                && myId != null) {
+            pWriter.writeAttribute(MetisDataResource.DATA_ID.getId(), myId.toString());
+        }
 
         /* Loop through the values */
         for (Entry<MetisDataFieldId, Object> myEntry : theFields.entrySet()) {
-            /* Access parts */
+            /* Skip the Id */
             final MetisDataFieldId myFieldId = myEntry.getKey();
-            final Object myValue = myEntry.getValue();
-
-            /* If this is the Id */
-            if (MetisDataResource.DATA_ID.equals(myFieldId)) {
-                /* Add as an Attribute if required */
-                if (pStoreIds) {
-                    myElement.setAttribute(myFieldId.getId(), myValue.toString());
-                }
-
-                /* Skip to next field */
-                continue;
+            if (!MetisDataResource.DATA_ID.equals(myFieldId)) {
+                /* Write the value */
+                writeText(pWriter, myFieldId.getId(), pFormatter.formatObject(myEntry.getValue()));
             }
-
-            /* Create the child element */
-            final Element myChild = pDocument.createElement(myFieldId.getId());
-            myElement.appendChild(myChild);
-
-            /* Store the value */
-            myChild.setTextContent(pFormatter.formatObject(myValue));
         }
 
         /* If we have InfoSet items */
         if (theInfoItems != null) {
             /* Add infoSet */
-            final Element myInfoSet = pDocument.createElement(TAG_INFOSET);
-            myElement.appendChild(myInfoSet);
+            pWriter.writeStartElement(TAG_INFOSET);
 
             /* Loop through the items */
             for (PrometheusInfoItem myInfo : theInfoItems) {
                 /* Create the element */
-                final Element myItem = pDocument.createElement(myInfo.getName());
-                myInfoSet.appendChild(myItem);
+                pWriter.writeStartElement(myInfo.getName());
 
                 /* Set the id if required */
                 if (pStoreIds) {
-                    myItem.setAttribute(MetisDataResource.DATA_ID.getValue(), myInfo.getId().toString());
+                    pWriter.writeAttribute(MetisDataResource.DATA_ID.getValue(), myInfo.getId().toString());
                 }
 
                 /* Set the value */
-                myItem.setTextContent(pFormatter.formatObject(myInfo.getValue()));
+                final String myValue = pFormatter.formatObject(myInfo.getValue());
+                if (myValue != null) {
+                    pWriter.writeCharacters(myValue);
+                }
+                pWriter.writeEndElement();
             }
+            pWriter.writeEndElement();
         }
 
         /* If we have children */
         if (theChildren != null) {
             /* Add children */
-            final Element myChildren = pDocument.createElement(TAG_CHILDREN);
-            myElement.appendChild(myChildren);
+            pWriter.writeStartElement(TAG_CHILDREN);
 
             /* Loop through the children */
-            final Iterator<PrometheusDataValues> myIterator = theChildren.iterator();
-            while (myIterator.hasNext()) {
-                final PrometheusDataValues myValues = myIterator.next();
-
-                /* Create the subElement and append */
-                final Element myChild = myValues.createXML(pDocument, pFormatter, pStoreIds);
-                myChildren.appendChild(myChild);
+            for (PrometheusDataValues myValues : theChildren) {
+                myValues.writeXML(pWriter, pFormatter, pStoreIds);
             }
+            pWriter.writeEndElement();
         }
 
-        /* Return the element */
-        return myElement;
+        /* Close the element */
+        pWriter.writeEndElement();
+    }
+
+    /**
+     * Write a simple text element.
+     *
+     * @param pWriter the writer
+     * @param pName   the element name
+     * @param pValue  the value (or null)
+     * @throws XMLStreamException on error
+     */
+    private static void writeText(final XMLStreamWriter pWriter,
+                                  final String pName,
+                                  final String pValue) throws XMLStreamException {
+        /* Write an empty element for a null value */
+        if (pValue == null) {
+            pWriter.writeEmptyElement(pName);
+        } else {
+            pWriter.writeStartElement(pName);
+            pWriter.writeCharacters(pValue);
+            pWriter.writeEndElement();
+        }
     }
 
     /**
@@ -602,13 +657,14 @@ public class PrometheusDataValues
         /**
          * Constructor.
          *
-         * @param pElement the XML element
+         * @param pReader the reader positioned at the start of the XML element
+         * @throws XMLStreamException on error
          */
-        private PrometheusInfoItem(final Element pElement) {
+        private PrometheusInfoItem(final XMLStreamReader pReader) throws XMLStreamException {
             /* Store values */
-            theName = pElement.getNodeName();
-            theId = PrometheusDataValues.getId(pElement);
-            theValue = pElement.getTextContent();
+            theName = pReader.getLocalName();
+            theId = PrometheusDataValues.getId(pReader);
+            theValue = pReader.getElementText();
         }
 
         /**
@@ -37,31 +37,25 @@ import io.github.tonywasher.joceanus.prometheus.exc.PrometheusIOException;
 import io.github.tonywasher.joceanus.prometheus.exc.PrometheusSecurityException;
 import io.github.tonywasher.joceanus.prometheus.security.PrometheusSecurityPasswordManager;
 import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadStatusReport;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
-
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 
 /**
  * Formatter/Parser class for DataValues.
+ * <p>
+ * Lists are streamed item by item to and from the zip entries, so that no document is built for a list.
  */
 public class PrometheusDataValuesFormatter {
     /**
@@ -85,14 +79,14 @@ public class PrometheusDataValuesFormatter {
     private final PrometheusSecurityPasswordManager thePasswordMgr;
 
     /**
-     * The document builder.
+     * The XML input factory.
      */
-    private final DocumentBuilder theBuilder;
+    private final XMLInputFactory theInputFactory;
 
     /**
-     * The transformer.
+     * The XML output factory.
      */
-    private final Transformer theXformer;
+    private final XMLOutputFactory theOutputFactory;
 
     /**
      * The Data version.
@@ -114,21 +108,15 @@ public class PrometheusDataValuesFormatter {
 
         /* protect against exceptions */
         try {
-            /* Create a Document builder */
-            final DocumentBuilderFactory myFactory = DocumentBuilderFactory.newInstance();
-            myFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            myFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            myFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-            theBuilder = myFactory.newDocumentBuilder();
-
-            /* Create the transformer */
-            final TransformerFactory myXformFactory = TransformerFactory.newInstance();
-            myXformFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            myXformFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            myXformFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-            theXformer = myXformFactory.newTransformer();
-
-        } catch (ParserConfigurationException | TransformerConfigurationException e) {
+            /* Create the input factory */
+            theInputFactory = XMLInputFactory.newFactory();
+            theInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            theInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+
+            /* Create the output factory */
+            theOutputFactory = XMLOutputFactory.newFactory();
+
+        } catch (IllegalArgumentException e) {
             throw new PrometheusIOException("Failed to initialise parser", e);
         }
     }
@@ -302,36 +290,36 @@ public class PrometheusDataValuesFormatter {
 
         /* Protect the workbook access */
         try (OutputStream myStream = pZipFile.createOutputStream(new File(myName), true)) {
-            /* Create a new document */
-            final Document myDocument = theBuilder.newDocument();
-
-            /* Populate the document from the list */
-            populateXML(myDocument, pList, pStoreIds);
-
-            /* Format the XML and write to stream */
-            theXformer.transform(new DOMSource(myDocument), new StreamResult(myStream));
+            /* Stream the list to the entry */
+            final XMLStreamWriter myWriter = theOutputFactory.createXMLStreamWriter(myStream, StandardCharsets.UTF_8.name());
+            try {
+                writeXMLList(myWriter, pList, pStoreIds);
+            } finally {
+                myWriter.close();
+            }
 
         } catch (GordianException
-                 | TransformerException
+                 | XMLStreamException
                  | IOException e) {
-            throw new PrometheusIOException("Failed to transform XML", e);
+            throw new PrometheusIOException("Failed to write XML", e);
         }
     }
 
     /**
-     * Create XML for a list.
+     * Write XML for a list.
      *
-     * @param pDocument the document to hold the list.
+     * @param pWriter   the writer.
      * @param pList     the data list
      * @param pStoreIds do we include IDs in XML
-     * @throws OceanusException on error
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private void populateXML(final Document pDocument,
-                             final PrometheusDataList<?> pList,
-                             final boolean pStoreIds) throws OceanusException {
-        /* Create an element for the item */
-        final Element myElement = pDocument.createElement(pList.listName());
-        pDocument.appendChild(myElement);
+    private void writeXMLList(final XMLStreamWriter pWriter,
+                              final PrometheusDataList<?> pList,
+                              final boolean pStoreIds) throws OceanusException, XMLStreamException {
+        /* Create an element for the list */
+        pWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        pWriter.writeStartElement(pList.listName());
 
         /* Access the Data formatter */
         final OceanusDataFormatter myFormatter = pList.getDataSet().getDataFormatter();
@@ -341,9 +329,9 @@ public class PrometheusDataValuesFormatter {
         theReport.setNumSteps(myTotal);
 
         /* Set the list type and size */
-        myElement.setAttribute(PrometheusDataValues.ATTR_TYPE, pList.getItemType().getItemName());
-        myElement.setAttribute(PrometheusDataValues.ATTR_SIZE, Integer.toString(myTotal));
-        myElement.setAttribute(PrometheusDataValues.ATTR_VERS, Integer.toString(theVersion));
+        pWriter.writeAttribute(PrometheusDataValues.ATTR_TYPE, pList.getItemType().getItemName());
+        pWriter.writeAttribute(PrometheusDataValues.ATTR_SIZE, Integer.toString(myTotal));
+        pWriter.writeAttribute(PrometheusDataValues.ATTR_VERS, Integer.toString(theVersion));
 
         /* Iterate through the list */
         final Iterator<?> myIterator = pList.iterator();
@@ -361,20 +349,22 @@ public class PrometheusDataValuesFormatter {
                 continue;
             }
 
-            /* Create DataValues for item */
+            /* Create DataValues for item and write it out */
             final PrometheusDataValues myValues = new PrometheusDataValues(myItem);
-
-            /* Add the child to the list */
-            final Element myChild = myValues.createXML(pDocument, myFormatter, pStoreIds);
-            myElement.appendChild(myChild);
+            myValues.writeXML(pWriter, myFormatter, pStoreIds);
 
             /* Report the progress */
             theReport.setNextStep();
         }
+
+        /* Close the list */
+        pWriter.writeEndElement();
+        pWriter.writeEndDocument();
     }
 
     /**
      * Load a ZipFile.
+     * <p>The file is accessed by random access, so that only the entries that are parsed are read.
      *
      * @param pData DataSet to load into
      * @param pFile the file to load
@@ -382,10 +372,23 @@ public class PrometheusDataValuesFormatter {
      */
     public void loadZipFile(final PrometheusDataSet pData,
                             final File pFile) throws OceanusException {
+        /* Protect against exceptions */
         try {
-            loadZipFile(pData, new FileInputStream(pFile), pFile.getName());
-        } catch (IOException e) {
-            throw new PrometheusIOException("Failed to access ZipFile", e);
+            /* Obtain the active profile */
+            final OceanusProfile myTask = theReport.getActiveTask();
+            final OceanusProfile myStage = myTask.startTask("Loading");
+            myStage.startTask("Parsing");
+
+            /* Access the zip file */
+            final GordianZipFactory myZips = thePasswordMgr.getSecurityFactory().getZipFactory();
+            final GordianZipReadFile myZipFile = myZips.openZipFile(pFile);
+
+            /* Load the zip file and complete the task */
+            loadZipFile(myStage, pData, myZipFile, pFile.getName());
+            myStage.end();
+
+        } catch (GordianException e) {
+            throw new PrometheusSecurityException(e);
         }
     }
 
@@ -411,19 +414,8 @@ public class PrometheusDataValuesFormatter {
             final GordianZipFactory myZips = thePasswordMgr.getSecurityFactory().getZipFactory();
             final GordianZipReadFile myZipFile = myZips.openZipFile(pInStream);
 
-            /* Obtain the hash bytes from the file */
-            final GordianZipLock myLock = myZipFile.getLock();
-
-            /* If this is a secure ZipFile */
-            if (myLock != null) {
-                /* Resolve the lock */
-                thePasswordMgr.resolveZipLock(myLock, pName);
-            }
-
-            /* Parse the Zip File */
-            parseZipFile(myStage, pData, myZipFile);
-
-            /* Complete the task */
+            /* Load the zip file and complete the task */
+            loadZipFile(myStage, pData, myZipFile, pName);
             myStage.end();
 
         } catch (GordianException e) {
@@ -431,6 +423,32 @@ public class PrometheusDataValuesFormatter {
         }
     }
 
+    /**
+     * Load an opened ZipFile.
+     *
+     * @param pProfile the active profile
+     * @param pData    DataSet to load into
+     * @param pZipFile the zip file
+     * @param pName    the file to load
+     * @throws OceanusException on error
+     */
+    private void loadZipFile(final OceanusProfile pProfile,
+                             final PrometheusDataSet pData,
+                             final GordianZipReadFile pZipFile,
+                             final String pName) throws OceanusException {
+        /* Obtain the hash bytes from the file */
+        final GordianZipLock myLock = pZipFile.getLock();
+
+        /* If this is a secure ZipFile */
+        if (myLock != null) {
+            /* Resolve the lock */
+            thePasswordMgr.resolveZipLock(myLock, pName);
+        }
+
+        /* Parse the Zip File */
+        parseZipFile(pProfile, pData, pZipFile);
+    }
+
     /**
      * Parse a ZipFile.
      *
@@ -497,14 +515,16 @@ public class PrometheusDataValuesFormatter {
 
             /* Protect the workbook access */
             try (InputStream myStream = pZipFile.createInputStream(myEntry)) {
-                /* Read the document from the stream and parse it */
-                final Document myDocument = theBuilder.parse(myStream);
-
-                /* Populate the list from the document */
-                parseXMLDocument(myDocument, pList);
+                /* Stream the items from the entry into the list */
+                final XMLStreamReader myReader = theInputFactory.createXMLStreamReader(myStream);
+                try {
+                    parseXMLList(myReader, pList);
+                } finally {
+                    myReader.close();
+                }
 
             } catch (IOException
-                     | SAXException e) {
+                     | XMLStreamException e) {
                 throw new PrometheusIOException("Failed to parse XML", e);
             }
         } catch (GordianException e) {
@@ -513,26 +533,27 @@ public class PrometheusDataValuesFormatter {
     }
 
     /**
-     * parse an XML document into DataValues.
+     * parse an XML stream into DataValues.
      *
-     * @param pDocument the document that holds the list.
-     * @param pList     the data list
-     * @throws OceanusException on error
+     * @param pReader the reader for the list.
+     * @param pList   the data list
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private void parseXMLDocument(final Document pDocument,
-                                  final PrometheusDataList<?> pList) throws OceanusException {
-        /* Access the parent element */
-        final Element myElement = pDocument.getDocumentElement();
+    private void parseXMLList(final XMLStreamReader pReader,
+                              final PrometheusDataList<?> pList) throws OceanusException, XMLStreamException {
+        /* Access the list element */
+        pReader.nextTag();
         final MetisListKey myItemType = pList.getItemType();
 
-        /* Check that the document name and dataType are correct */
-        if (!MetisDataDifference.isEqual(myElement.getNodeName(), pList.listName())
-                || !MetisDataDifference.isEqual(myElement.getAttribute(PrometheusDataValues.ATTR_TYPE), myItemType.getItemName())) {
+        /* Check that the list name and dataType are correct */
+        if (!MetisDataDifference.isEqual(pReader.getLocalName(), pList.listName())
+                || !MetisDataDifference.isEqual(pReader.getAttributeValue(null, PrometheusDataValues.ATTR_TYPE), myItemType.getItemName())) {
             throw new PrometheusDataException("Invalid list type");
         }
 
         /* If this is the first Data version */
-        final Integer myVersion = Integer.valueOf(myElement.getAttribute(PrometheusDataValues.ATTR_VERS));
+        final Integer myVersion = parseVersion(pReader.getAttributeValue(null, PrometheusDataValues.ATTR_VERS));
         if (theVersion == null) {
             theVersion = myVersion;
         } else if (!theVersion.equals(myVersion)) {
@@ -546,21 +567,13 @@ public class PrometheusDataValuesFormatter {
         final OceanusDataFormatter myFormatter = pList.getDataSet().getDataFormatter();
 
         /* Declare the number of steps */
-        final int myTotal = getListCount(myFormatter, myElement);
+        final int myTotal = getListCount(myFormatter, pReader.getAttributeValue(null, PrometheusDataValues.ATTR_SIZE));
         theReport.setNumSteps(myTotal);
 
         /* Loop through the children */
-        for (Node myChild = myElement.getFirstChild(); myChild != null; myChild = myChild.getNextSibling()) {
-            /* Ignore non-elements */
-            if (!(myChild instanceof Element)) {
-                continue;
-            }
-
-            /* Access as Element */
-            final Element myItem = (Element) myChild;
-
+        while (pReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
             /* Create DataArguments for item */
-            final PrometheusDataValues myValues = new PrometheusDataValues(myItem, myFields);
+            final PrometheusDataValues myValues = new PrometheusDataValues(pReader, myFields);
 
             /* Add the child to the list */
             pList.addValuesItem(myValues);
@@ -570,20 +583,34 @@ public class PrometheusDataValuesFormatter {
         }
     }
 
+    /**
+     * Parse version attribute.
+     *
+     * @param pVersion the version attribute.
+     * @return the version
+     * @throws OceanusException on error
+     */
+    private static Integer parseVersion(final String pVersion) throws OceanusException {
+        try {
+            return Integer.valueOf(pVersion);
+        } catch (NumberFormatException e) {
+            throw new PrometheusDataException("Invalid data version", e);
+        }
+    }
+
     /**
      * Obtain count attribute.
      *
      * @param pFormatter the formatter.
-     * @param pElement   the element that holds the count.
+     * @param pSize      the count attribute.
      * @return the list count
      * @throws OceanusException on error
      */
     private static Integer getListCount(final OceanusDataFormatter pFormatter,
-                                        final Element pElement) throws OceanusException {
+                                        final String pSize) throws OceanusException {
         try {
-            /* Access the list count */
-            final String mySize = pElement.getAttribute(PrometheusDataValues.ATTR_SIZE);
-            return pFormatter.parseValue(mySize, Integer.class);
+            /* Parse the list count */
+            return pFormatter.parseValue(pSize, Integer.class);
         } catch (NumberFormatException e) {
             throw new PrometheusDataException("Invalid list count", e);
         }
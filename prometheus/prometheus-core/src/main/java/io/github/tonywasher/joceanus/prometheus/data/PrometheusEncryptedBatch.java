@@ -0,0 +1,96 @@
+/*
+ * Prometheus: Application Framework
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.prometheus.data;
+
+import io.github.tonywasher.joceanus.metis.field.MetisFieldItem.MetisFieldDef;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of encrypted values awaiting encryption, grouped by encryptor.
+ */
+final class PrometheusEncryptedBatch {
+    /**
+     * The pending values for each encryptor.
+     */
+    private final Map<PrometheusEncryptor, List<PrometheusEncryptedTarget>> theTargets;
+
+    /**
+     * Constructor.
+     */
+    PrometheusEncryptedBatch() {
+        theTargets = new LinkedHashMap<>();
+    }
+
+    /**
+     * Add a value to the batch.
+     *
+     * @param pEncryptor the encryptor
+     * @param pValues    the values that hold the field
+     * @param pField     the field
+     * @param pPending   the pending pair
+     */
+    void addValue(final PrometheusEncryptor pEncryptor,
+                  final PrometheusEncryptedValues pValues,
+                  final MetisFieldDef pField,
+                  final PrometheusEncryptedPair pPending) {
+        theTargets.computeIfAbsent(pEncryptor, e -> new ArrayList<>())
+                .add(new PrometheusEncryptedTarget(pValues, pField, pPending));
+    }
+
+    /**
+     * Encrypt the values and store them into their fields.
+     *
+     * @throws OceanusException on error
+     */
+    void encryptValues() throws OceanusException {
+        /* Loop through the encryptors */
+        for (Map.Entry<PrometheusEncryptor, List<PrometheusEncryptedTarget>> myEntry : theTargets.entrySet()) {
+            /* Encrypt the pending values */
+            final List<PrometheusEncryptedTarget> myTargets = myEntry.getValue();
+            final List<PrometheusEncryptedPair> myPending = myTargets.stream()
+                    .map(PrometheusEncryptedTarget::pending)
+                    .toList();
+            final List<MetisFieldDef> myFields = myTargets.stream()
+                    .map(PrometheusEncryptedTarget::field)
+                    .toList();
+            final List<PrometheusEncryptedPair> myResults = myEntry.getKey().encryptValues(myPending, myFields);
+
+            /* Store the results */
+            for (int i = 0; i < myResults.size(); i++) {
+                final PrometheusEncryptedTarget myTarget = myTargets.get(i);
+                myTarget.values().setUncheckedValue(myTarget.field(), myResults.get(i));
+            }
+        }
+    }
+
+    /**
+     * The target of an encrypted value.
+     *
+     * @param values  the values that hold the field
+     * @param field   the field
+     * @param pending the pending pair
+     */
+    private record PrometheusEncryptedTarget(PrometheusEncryptedValues values,
+                                             MetisFieldDef field,
+                                             PrometheusEncryptedPair pending) {
+    }
+}
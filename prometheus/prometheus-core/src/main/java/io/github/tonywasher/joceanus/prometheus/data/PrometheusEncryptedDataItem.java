@@ -18,6 +18,7 @@ package io.github.tonywasher.joceanus.prometheus.data;
 
 import io.github.tonywasher.joceanus.metis.data.MetisDataDifference;
 import io.github.tonywasher.joceanus.metis.data.MetisDataItem.MetisDataFieldId;
+import io.github.tonywasher.joceanus.metis.field.MetisFieldItem.MetisFieldSetDef;
 import io.github.tonywasher.joceanus.metis.field.MetisFieldSet;
 import io.github.tonywasher.joceanus.metis.field.MetisFieldVersionedSet;
 import io.github.tonywasher.joceanus.metis.list.MetisListKey;
@@ -30,7 +31,11 @@ import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataKeySet.Promet
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncrypted.PrometheusEncryptedDataItemCtl;
 import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadStatusReport;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Encrypted Data Item and List.
@@ -345,6 +350,29 @@ public abstract class PrometheusEncryptedDataItem
         getValues().updateSecurity();
     }
 
+    /**
+     * Switch to a new KeySet, adding the encrypted values to a batch for re-encryption.
+     *
+     * @param pKeySet the new KeySet
+     * @param pBatch  the batch
+     */
+    void updateSecurity(final PrometheusDataKeySet pKeySet,
+                        final PrometheusEncryptedBatch pBatch) {
+        /* Ignore call if we have the same keySet */
+        if (pKeySet.equals(getDataKeySet())) {
+            return;
+        }
+
+        /* Store the current detail into history */
+        pushHistory();
+
+        /* Set the DataKeySet */
+        setDataKeySet(pKeySet);
+
+        /* Add all elements to the batch */
+        getValues().updateSecurity(pBatch);
+    }
+
     /**
      * Encrypted DataList.
      *
@@ -441,19 +469,79 @@ public abstract class PrometheusEncryptedDataItem
             pReport.setNumSteps(size());
 
             /* Loop through the items */
+            final PrometheusEncryptedBatch myBatch = new PrometheusEncryptedBatch();
             final Iterator<T> myIterator = iterator();
             while (myIterator.hasNext()) {
                 final T myCurr = myIterator.next();
 
                 /* Only update if we are using the wrong controlKey */
                 if (!pControl.equals(myCurr.getDataKeySet().getControlKey())) {
-                    /* Update the security */
-                    myCurr.updateSecurity(pControl.getNextDataKeySet());
+                    /* Switch the keySet and queue the values for encryption */
+                    myCurr.updateSecurity(pControl.getNextDataKeySet(), myBatch);
                 }
 
                 /* Report the progress */
                 pReport.setNextStep();
             }
+
+            /* Encrypt the values as a batch */
+            myBatch.encryptValues();
+        }
+
+        /**
+         * Decrypt the encrypted values for a set of items as a batch, in advance of adding the items.
+         *
+         * @param pValues the values of the items
+         * @throws OceanusException on error
+         */
+        public void prepareValues(final List<PrometheusDataValues> pValues) throws OceanusException {
+            /* Access the DataKeySets and the fields */
+            final PrometheusDataKeySetList mySets
+                    = getDataSet().getDataList(PrometheusCryptographyDataType.DATAKEYSET, PrometheusDataKeySetList.class);
+            final MetisFieldSetDef myFields = getItemFields();
+
+            /* Loop through the values, grouping the encrypted bytes by encryptor */
+            final Map<PrometheusEncryptor, List<byte[]>> myBatches = new LinkedHashMap<>();
+            for (PrometheusDataValues myValues : pValues) {
+                /* Skip values that do not have a known keySet */
+                final Object myId = myValues.getValue(PrometheusCryptographyDataType.DATAKEYSET);
+                final PrometheusDataKeySet mySet = myId instanceof Integer i
+                        ? mySets.findItemById(i)
+                        : null;
+                if (mySet == null) {
+                    continue;
+                }
+
+                /* Loop through the encrypted fields */
+                final Iterator<Map.Entry<MetisDataFieldId, Object>> myIterator = myValues.fieldIterator();
+                while (myIterator.hasNext()) {
+                    final Map.Entry<MetisDataFieldId, Object> myEntry = myIterator.next();
+                    if (myEntry.getValue() instanceof byte[] myBytes
+                            && myFields.getField(myEntry.getKey()) instanceof PrometheusEncryptedField) {
+                        myBatches.computeIfAbsent(mySet.getEncryptor(), e -> new ArrayList<>()).add(myBytes);
+                    }
+                }
+            }
+
+            /* Decrypt the batches */
+            for (Map.Entry<PrometheusEncryptor, List<byte[]>> myEntry : myBatches.entrySet()) {
+                myEntry.getKey().prepareValues(myEntry.getValue());
+            }
+        }
+
+        /**
+         * Discard any prepared values that were not used.
+         */
+        public void clearPreparedValues() {
+            final PrometheusDataKeySetList mySets
+                    = getDataSet().getDataList(PrometheusCryptographyDataType.DATAKEYSET, PrometheusDataKeySetList.class);
+            final Iterator<PrometheusDataKeySet> myIterator = mySets.iterator();
+            while (myIterator.hasNext()) {
+                final PrometheusEncryptor myEncryptor = myIterator.next().getEncryptor();
+                if (myEncryptor != null) {
+                    myEncryptor.clearPreparedValues();
+                }
+            }
         }
 
         /**
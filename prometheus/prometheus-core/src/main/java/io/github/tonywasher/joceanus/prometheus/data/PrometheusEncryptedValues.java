@@ -173,6 +173,37 @@ public class PrometheusEncryptedValues
         }
     }
 
+    /**
+     * Add the values to a batch for updating security.
+     *
+     * @param pBatch the batch
+     */
+    void updateSecurity(final PrometheusEncryptedBatch pBatch) {
+        /* Loop through the fields */
+        final PrometheusEncryptedDataItemCtl myItem = getItem();
+        final PrometheusEncryptor myEncryptor = myItem.getEncryptor();
+        final MetisFieldSetDef myFieldSet = getFields();
+        final Iterator<MetisFieldDef> myIterator = myFieldSet.fieldIterator();
+        while (myIterator.hasNext()) {
+            final MetisFieldDef myField = myIterator.next();
+
+            /* Ignore non-encrypted fields */
+            if (!(myField instanceof PrometheusEncryptedField)) {
+                continue;
+            }
+
+            /* Access the pair, wrapping any unencrypted value */
+            PrometheusEncryptedPair myPending = getEncryptedPair(myField);
+            final Object myValue = getValue(myField);
+            if (myPending == null && myValue != null) {
+                myPending = new PrometheusEncryptedPair(null, myValue, null);
+            }
+
+            /* Add the value to the batch */
+            pBatch.addValue(myEncryptor, this, myField, myPending);
+        }
+    }
+
     /**
      * Adopt security for the values.
      *
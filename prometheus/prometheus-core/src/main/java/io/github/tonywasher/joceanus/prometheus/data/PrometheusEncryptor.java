@@ -35,8 +35,15 @@ import io.github.tonywasher.joceanus.prometheus.exc.PrometheusDataException;
 import io.github.tonywasher.joceanus.prometheus.exc.PrometheusLogicException;
 import io.github.tonywasher.joceanus.prometheus.exc.PrometheusSecurityException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Encryptor/Decryptor.
@@ -58,6 +65,16 @@ public class PrometheusEncryptor
      */
     private static final String ERROR_DATATYPE = "Unsupported Data Type";
 
+    /**
+     * Batch failure error text.
+     */
+    private static final String ERROR_BATCH = "Failed to process encryption batch";
+
+    /**
+     * The number of values processed by each task of a batch.
+     */
+    private static final int BATCH_CHUNK = 256;
+
     /**
      * The Encryptor map.
      */
@@ -73,6 +90,11 @@ public class PrometheusEncryptor
      */
     private final OceanusDataFormatter theFormatter;
 
+    /**
+     * Decrypted bytes prepared by a batch, keyed by the (identity of the) encrypted bytes.
+     */
+    private final Map<byte[], byte[]> thePrepared;
+
     /**
      * Constructor.
      *
@@ -83,6 +105,7 @@ public class PrometheusEncryptor
                                final GordianKeySet pKeySet) {
         theFormatter = pFormatter;
         theKeySet = pKeySet;
+        thePrepared = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -195,9 +218,7 @@ public class PrometheusEncryptor
             }
 
             /* Decrypt the data */
-            final byte[] myDecrypted = theKeySet.decryptBytes(pBytes);
-            final Object myValue = myEncryptor.parseValue(theFormatter, myDecrypted);
-            return new PrometheusEncryptedPair(theKeySet, myValue, pBytes);
+            return new PrometheusEncryptedPair(theKeySet, parseBytes(myEncryptor, pBytes), pBytes);
         } catch (GordianException e) {
             throw new PrometheusSecurityException(e);
         }
@@ -211,8 +232,8 @@ public class PrometheusEncryptor
      * @return the encryptedPair.
      * @throws OceanusException on error
      */
-    PrometheusEncryptedPair decryptValue(final byte[] pBytes,
-                                         final Class<?> pClazz) throws OceanusException {
+    public PrometheusEncryptedPair decryptValue(final byte[] pBytes,
+                                                final Class<?> pClazz) throws OceanusException {
         /* Protect agains exceptions */
         try {
             /* Access the encryptor */
@@ -223,14 +244,181 @@ public class PrometheusEncryptor
             }
 
             /* Decrypt the data */
-            final byte[] myDecrypted = theKeySet.decryptBytes(pBytes);
-            final Object myValue = myEncryptor.parseValue(theFormatter, myDecrypted);
-            return new PrometheusEncryptedPair(theKeySet, myValue, pBytes);
+            return new PrometheusEncryptedPair(theKeySet, parseBytes(myEncryptor, pBytes), pBytes);
         } catch (GordianException e) {
             throw new PrometheusSecurityException(e);
         }
     }
 
+    /**
+     * Decrypt and parse bytes.
+     * <p>
+     * The parsers do not retain the decrypted bytes, so they are cleared once the value has been parsed.
+     *
+     * @param pEncryptor the data encryptor
+     * @param pBytes     the bytes to decrypt.
+     * @return the parsed value.
+     * @throws OceanusException on error
+     * @throws GordianException on error
+     */
+    private Object parseBytes(final PrometheusDataEncryptor pEncryptor,
+                              final byte[] pBytes) throws OceanusException, GordianException {
+        final byte[] myDecrypted = decryptBytes(pBytes);
+        try {
+            return pEncryptor.parseValue(theFormatter, myDecrypted);
+        } finally {
+            clearBytes(myDecrypted);
+        }
+    }
+
+    /**
+     * Decrypt bytes, using the result of a batch decryption if available.
+     *
+     * @param pBytes the bytes to decrypt.
+     * @return the decrypted bytes.
+     * @throws GordianException on error
+     */
+    private byte[] decryptBytes(final byte[] pBytes) throws GordianException {
+        final byte[] myPrepared = thePrepared.remove(pBytes);
+        return myPrepared != null
+                ? myPrepared
+                : theKeySet.decryptBytes(pBytes);
+    }
+
+    /**
+     * Encrypt a batch of values.
+     * <p>
+     * The values of the pending pairs are converted according to their field definitions and encrypted under
+     * this encryptor's keySet in parallel chunks, returning the new pairs in the same order. Null entries are
+     * returned as null.
+     *
+     * @param pPending the pending pairs
+     * @param pFields  the field definitions of the pending pairs
+     * @return the encrypted pairs
+     * @throws OceanusException on error
+     */
+    public List<PrometheusEncryptedPair> encryptValues(final List<PrometheusEncryptedPair> pPending,
+                                                       final List<MetisFieldDef> pFields) throws OceanusException {
+        /* Encrypt the values */
+        final PrometheusEncryptedPair[] myResults = new PrometheusEncryptedPair[pPending.size()];
+        processBatch(pPending.size(), i -> {
+            final PrometheusEncryptedPair myPending = pPending.get(i);
+            if (myPending != null) {
+                myResults[i] = encryptValue(myPending.getValue(), pFields.get(i));
+            }
+        });
+
+        /* Return the results */
+        return Arrays.asList(myResults);
+    }
+
+    /**
+     * Decrypt a batch of encrypted bytes in advance of their use.
+     * <p>
+     * The bytes are decrypted in parallel chunks and held so that subsequent calls to decryptValue for the
+     * same arrays only need to parse the value. Bytes that fail to decrypt are left for decryptValue to report.
+     *
+     * @param pEncrypted the encrypted bytes
+     * @throws OceanusException on error
+     */
+    public void prepareValues(final List<byte[]> pEncrypted) throws OceanusException {
+        /* Nothing to do if we have no keySet */
+        if (theKeySet == null) {
+            return;
+        }
+
+        /* Decrypt the bytes */
+        processBatch(pEncrypted.size(), i -> {
+            final byte[] myBytes = pEncrypted.get(i);
+            try {
+                clearBytes(thePrepared.put(myBytes, theKeySet.decryptBytes(myBytes)));
+            } catch (GordianException e) {
+                /* Make sure that the failure is reported on use */
+                clearBytes(thePrepared.remove(myBytes));
+            }
+        });
+    }
+
+    /**
+     * Discard any prepared values that have not been used, clearing their decrypted bytes.
+     */
+    public void clearPreparedValues() {
+        thePrepared.values().forEach(PrometheusEncryptor::clearBytes);
+        thePrepared.clear();
+    }
+
+    /**
+     * Clear out decrypted bytes.
+     *
+     * @param pBytes the bytes (or null)
+     */
+    private static void clearBytes(final byte[] pBytes) {
+        if (pBytes != null) {
+            Arrays.fill(pBytes, (byte) 0);
+        }
+    }
+
+    /**
+     * Process a batch in parallel chunks on the common fork-join pool.
+     * <p>
+     * Each task works through a contiguous chunk of the batch, so that the keySet cipher is reused across the
+     * chunk. Small batches, or those on a single processor, are processed on the calling thread.
+     *
+     * @param pCount the number of elements in the batch
+     * @param pStep  the step to apply to each element
+     * @throws OceanusException on error
+     */
+    private static void processBatch(final int pCount,
+                                     final PrometheusBatchStep pStep) throws OceanusException {
+        /* Process small batches directly */
+        if (pCount <= BATCH_CHUNK
+                || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            for (int i = 0; i < pCount; i++) {
+                pStep.process(i);
+            }
+            return;
+        }
+
+        /* Submit the chunks */
+        final ForkJoinPool myPool = ForkJoinPool.commonPool();
+        final List<ForkJoinTask<Void>> myTasks = new ArrayList<>();
+        for (int myStart = 0; myStart < pCount; myStart += BATCH_CHUNK) {
+            final int myFirst = myStart;
+            final int myLast = Math.min(pCount, myStart + BATCH_CHUNK);
+            myTasks.add(myPool.submit(() -> {
+                for (int i = myFirst; i < myLast; i++) {
+                    pStep.process(i);
+                }
+                return null;
+            }));
+        }
+
+        /* Protect against exceptions */
+        try {
+            /* Wait for the chunks to complete */
+            for (ForkJoinTask<Void> myTask : myTasks) {
+                myTask.get();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PrometheusDataException(ERROR_BATCH, e);
+
+        } catch (ExecutionException e) {
+            /* Rethrow any OceanusException from the chunk */
+            if (e.getCause() instanceof OceanusException myCause) {
+                throw myCause;
+            }
+            throw new PrometheusDataException(ERROR_BATCH, e.getCause());
+
+        } finally {
+            /* Cancel any outstanding chunks */
+            for (ForkJoinTask<Void> myTask : myTasks) {
+                myTask.cancel(false);
+            }
+        }
+    }
+
     /**
      * Determine dataType.
      *
@@ -370,6 +558,20 @@ public class PrometheusEncryptor
         pTarget.adoptEncryption(this, pSource);
     }
 
+    /**
+     * Batch step.
+     */
+    @FunctionalInterface
+    private interface PrometheusBatchStep {
+        /**
+         * Process an element of the batch.
+         *
+         * @param pIndex the index of the element
+         * @throws OceanusException on error
+         */
+        void process(int pIndex) throws OceanusException;
+    }
+
     /**
      * Encryptor Base.
      */
@@ -78,6 +78,11 @@ public class PrometheusDBConfig {
      */
     private int theBatch;
 
+    /**
+     * Number of load connections.
+     */
+    private int theLoadConnections;
+
     /**
      * Default constructor.
      */
@@ -211,6 +216,24 @@ public class PrometheusDBConfig {
         return theBatch;
     }
 
+    /**
+     * Set the number of load connections.
+     *
+     * @param pNumConns the number of connections
+     */
+    public void setLoadConnections(final int pNumConns) {
+        theLoadConnections = pNumConns;
+    }
+
+    /**
+     * Get the number of load connections.
+     *
+     * @return the number of connections
+     */
+    public int getLoadConnections() {
+        return theLoadConnections;
+    }
+
     /**
      * Construct config from prefs.
      *
@@ -224,6 +247,7 @@ public class PrometheusDBConfig {
         myConfig.setPassword(pPreferences.getCharArrayValue(PrometheusDatabasePreferenceKey.DBPASS));
         myConfig.setServer(pPreferences.getStringValue(PrometheusDatabasePreferenceKey.DBSERVER));
         myConfig.setBatchSize(pPreferences.getIntegerValue(PrometheusDatabasePreferenceKey.DBBATCH));
+        myConfig.setLoadConnections(pPreferences.getIntegerValue(PrometheusDatabasePreferenceKey.DBLOADCONNS));
         if (myConfig.getDriver().usePort()) {
             myConfig.setPort(pPreferences.getIntegerValue(PrometheusDatabasePreferenceKey.DBPORT));
         }
@@ -86,6 +86,11 @@ public enum PrometheusDBResource implements OceanusBundleId {
      */
     DBPREF_BATCH("dbpref.batch"),
 
+    /**
+     * DatabasePreference Load Connections.
+     */
+    DBPREF_LOADCONNS("dbpref.loadconns"),
+
     /**
      * DatabasePreference User.
      */
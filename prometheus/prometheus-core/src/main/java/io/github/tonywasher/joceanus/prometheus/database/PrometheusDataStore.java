@@ -22,6 +22,7 @@ import io.github.tonywasher.joceanus.oceanus.logger.OceanusLogger;
 import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusCryptographyDataType;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataSet;
+import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataValues;
 import io.github.tonywasher.joceanus.prometheus.exc.PrometheusIOException;
 import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadStatusReport;
 
@@ -29,10 +30,19 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Class that encapsulates a database connection.
@@ -84,6 +94,21 @@ public abstract class PrometheusDataStore
      */
     private final Integer theBatchSize;
 
+    /**
+     * Number of load connections.
+     */
+    private final int theLoadConnections;
+
+    /**
+     * Connection string.
+     */
+    private final String theConnString;
+
+    /**
+     * Connection properties.
+     */
+    private final Properties theProperties;
+
     /**
      * Database Driver.
      */
@@ -105,8 +130,9 @@ public abstract class PrometheusDataStore
                                   final PrometheusDBConfig pConfig) throws OceanusException {
         /* Create the connection */
         try {
-            /* Access the batch size */
+            /* Access the batch size and load connections */
             theBatchSize = pConfig.getBatchSize();
+            theLoadConnections = pConfig.getLoadConnections();
 
             /* Access the JDBC Driver */
             theDriver = pConfig.getDriver();
@@ -115,24 +141,24 @@ public abstract class PrometheusDataStore
             theDatabase = pDatabase;
 
             /* Obtain the connection */
-            final String myConnString = theDriver.getConnectionString(pDatabase, pConfig.getServer(), pConfig.getPort());
+            theConnString = theDriver.getConnectionString(pDatabase, pConfig.getServer(), pConfig.getPort());
 
             /* Create the properties and record user */
-            final Properties myProperties = new Properties();
+            theProperties = new Properties();
             final String myUser = pConfig.getUser();
             final char[] myPass = pConfig.getPassword();
-            myProperties.setProperty(PROPERTY_USER, myUser);
-            myProperties.setProperty(PROPERTY_PASS, new String(myPass));
+            theProperties.setProperty(PROPERTY_USER, myUser);
+            theProperties.setProperty(PROPERTY_PASS, new String(myPass));
 
             /* If we are using instance */
             if (theDriver.useInstance()) {
                 final String myInstance = pConfig.getInstance();
-                myProperties.setProperty(PROPERTY_INSTANCE, myInstance);
-                myProperties.setProperty(PROPERTY_ENCRYPT, "false");
+                theProperties.setProperty(PROPERTY_INSTANCE, myInstance);
+                theProperties.setProperty(PROPERTY_ENCRYPT, "false");
             }
 
             /* Connect using properties */
-            theConn = DriverManager.getConnection(myConnString, myProperties);
+            theConn = DriverManager.getConnection(theConnString, theProperties);
 
             /* Connect to the correct database */
             theConn.setCatalog(pDatabase);
@@ -164,31 +190,32 @@ public abstract class PrometheusDataStore
     protected PrometheusDataStore(final PrometheusDBConfig pConfig) throws OceanusException {
         /* Create the connection */
         try {
-            /* Access the batch size */
+            /* Access the batch size and load connections */
             theBatchSize = pConfig.getBatchSize();
+            theLoadConnections = pConfig.getLoadConnections();
 
             /* Access the JDBC Driver */
             theDriver = pConfig.getDriver();
 
             /* Obtain the connection */
-            final String myConnString = theDriver.getConnectionString(pConfig.getServer(), pConfig.getPort());
+            theConnString = theDriver.getConnectionString(pConfig.getServer(), pConfig.getPort());
 
             /* Create the properties and record user */
-            final Properties myProperties = new Properties();
+            theProperties = new Properties();
             final String myUser = pConfig.getUser();
             final char[] myPass = pConfig.getPassword();
-            myProperties.setProperty(PROPERTY_USER, myUser);
-            myProperties.setProperty(PROPERTY_PASS, new String(myPass));
+            theProperties.setProperty(PROPERTY_USER, myUser);
+            theProperties.setProperty(PROPERTY_PASS, new String(myPass));
 
             /* If we are using instance */
             if (theDriver.useInstance()) {
                 final String myInstance = pConfig.getInstance();
-                myProperties.setProperty(PROPERTY_INSTANCE, myInstance);
-                myProperties.setProperty(PROPERTY_ENCRYPT, "false");
+                theProperties.setProperty(PROPERTY_INSTANCE, myInstance);
+                theProperties.setProperty(PROPERTY_ENCRYPT, "false");
             }
 
             /* Connect using properties */
-            theConn = DriverManager.getConnection(myConnString, myProperties);
+            theConn = DriverManager.getConnection(theConnString, theProperties);
 
             /* Switch off autoCommit */
             theConn.setAutoCommit(false);
@@ -324,21 +351,179 @@ public abstract class PrometheusDataStore
         OceanusProfile myTask = pReport.getActiveTask();
         myTask = myTask.startTask("loadDatabase");
 
-        /* Loop through the tables */
-        for (PrometheusTableInstance<?> myInstance : theTables) {
-            final PrometheusTableDataItem<?> myTable = (PrometheusTableDataItem<?>) myInstance;
+        /* If we are loading over multiple connections */
+        if (theLoadConnections > 1) {
+            /* Load the tables in parallel */
+            loadTablesInParallel(pReport, pData, myTask);
 
-            /* Note the new step */
-            myTask.startTask(myTable.getTableName());
+        } else {
+            /* Loop through the tables */
+            for (PrometheusTableInstance<?> myInstance : theTables) {
+                final PrometheusTableDataItem<?> myTable = (PrometheusTableDataItem<?>) myInstance;
 
-            /* Load the items */
-            myTable.loadItems(pReport, pData);
+                /* Note the new step */
+                myTask.startTask(myTable.getTableName());
+
+                /* Load the items */
+                myTable.loadItems(pReport, pData);
+            }
         }
 
         /* Complete the task */
         myTask.end();
     }
 
+    /**
+     * Load the tables in parallel.
+     * <p>
+     * The tables are fetched and decoded concurrently over a pool of connections, but are applied to the dataSet
+     * on the calling thread in table order, so that references are resolved as for a serial load. Fetches are
+     * submitted only as earlier tables are applied, so at most one fetched table per connection is held waiting.
+     *
+     * @param pReport the report
+     * @param pData   the new DataSet
+     * @param pTask   the active profile
+     * @throws OceanusException on error
+     */
+    private void loadTablesInParallel(final TethysUIThreadStatusReport pReport,
+                                      final PrometheusDataSet pData,
+                                      final OceanusProfile pTask) throws OceanusException {
+        /* Create the connection pool and executor */
+        final int myNumConns = Math.min(theLoadConnections, theTables.size());
+        final List<Connection> myConns = new ArrayList<>();
+        final BlockingQueue<Connection> myPool = new ArrayBlockingQueue<>(myNumConns);
+        final ExecutorService myExecutor = Executors.newFixedThreadPool(myNumConns);
+
+        /* Protect against exceptions */
+        try {
+            /* Open the connections */
+            for (int i = 0; i < myNumConns; i++) {
+                final Connection myConn = newLoadConnection();
+                myConns.add(myConn);
+                myPool.add(myConn);
+            }
+
+            /* Declare the data for each table */
+            final List<PrometheusTableDataItem<?>> myTables = new ArrayList<>();
+            for (PrometheusTableInstance<?> myInstance : theTables) {
+                final PrometheusTableDataItem<?> myTable = (PrometheusTableDataItem<?>) myInstance;
+                myTable.declareData(pData);
+                myTables.add(myTable);
+            }
+
+            /* Apply the tables in order as their fetches complete */
+            final Deque<Future<List<PrometheusDataValues>>> myFetches = new ArrayDeque<>();
+            final Iterator<PrometheusTableDataItem<?>> myNext = myTables.iterator();
+            for (PrometheusTableDataItem<?> myTable : myTables) {
+                /* Keep no more than one fetch per connection outstanding */
+                while (myNext.hasNext() && myFetches.size() < myNumConns) {
+                    final PrometheusTableDataItem<?> myFetch = myNext.next();
+                    myFetches.add(myExecutor.submit(() -> fetchTable(myPool, myFetch)));
+                }
+
+                /* Check for cancellation and note the new step */
+                pReport.checkForCancellation();
+                pTask.startTask(myTable.getTableName());
+
+                /* Apply the items */
+                myTable.applyValues(pReport, awaitFetch(myFetches.poll()));
+            }
+
+        } finally {
+            /* Stop any outstanding fetches and close the connections */
+            myExecutor.shutdownNow();
+            closeLoadConnections(myConns);
+        }
+    }
+
+    /**
+     * Create a new read-only connection for loading.
+     *
+     * @return the connection
+     * @throws OceanusException on error
+     */
+    private Connection newLoadConnection() throws OceanusException {
+        /* Protect against exceptions */
+        try {
+            /* Connect using properties */
+            final Connection myConn = DriverManager.getConnection(theConnString, theProperties);
+
+            /* Connect to the correct database */
+            if (theDatabase != null) {
+                myConn.setCatalog(theDatabase);
+            }
+
+            /* Mark as read-only and return the connection */
+            myConn.setReadOnly(true);
+            return myConn;
+
+        } catch (SQLException e) {
+            throw new PrometheusIOException("Failed to open load connection", e);
+        }
+    }
+
+    /**
+     * Close the load connections.
+     *
+     * @param pConns the connections
+     */
+    private static void closeLoadConnections(final List<Connection> pConns) {
+        /* Loop through the connections */
+        for (Connection myConn : pConns) {
+            /* Close the connection, logging any failure */
+            try {
+                myConn.close();
+            } catch (SQLException e) {
+                LOGGER.error("Failed to close load connection", e);
+            }
+        }
+    }
+
+    /**
+     * Fetch a table over a pooled connection.
+     *
+     * @param pPool  the connection pool
+     * @param pTable the table
+     * @return the fetched values
+     * @throws OceanusException     on error
+     * @throws InterruptedException on interrupt
+     */
+    private static List<PrometheusDataValues> fetchTable(final BlockingQueue<Connection> pPool,
+                                                         final PrometheusTableDataItem<?> pTable) throws OceanusException, InterruptedException {
+        /* Borrow a connection for the duration of the fetch */
+        final Connection myConn = pPool.take();
+        try {
+            return pTable.fetchValues(myConn);
+        } finally {
+            pPool.add(myConn);
+        }
+    }
+
+    /**
+     * Wait for a table fetch to complete.
+     *
+     * @param pFetch the fetch
+     * @return the fetched values
+     * @throws OceanusException on error
+     */
+    private static List<PrometheusDataValues> awaitFetch(final Future<List<PrometheusDataValues>> pFetch) throws OceanusException {
+        /* Protect against exceptions */
+        try {
+            return pFetch.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PrometheusIOException("Interrupted while loading database", e);
+
+        } catch (ExecutionException e) {
+            /* Rethrow any OceanusException from the fetch */
+            if (e.getCause() instanceof OceanusException myCause) {
+                throw myCause;
+            }
+            throw new PrometheusIOException("Failed to load database", e.getCause());
+        }
+    }
+
     /**
      * Update data into database.
      *
@@ -362,10 +547,10 @@ public abstract class PrometheusDataStore
             final PrometheusTableDataItem<?> myTable = (PrometheusTableDataItem<?>) myInstance;
 
             /* Note the new step */
-            myStage.startTask(myTable.getTableName());
+            final OceanusProfile myStep = myStage.startTask(myTable.getTableName());
 
             /* insert the items */
-            myTable.insertItems(pReport, pData, myBatch);
+            myTable.insertItems(pReport, pData, myBatch, myStep);
         }
 
         /* Loop through the tables */
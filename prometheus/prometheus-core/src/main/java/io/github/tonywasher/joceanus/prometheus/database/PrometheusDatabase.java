@@ -62,6 +62,11 @@ public interface PrometheusDatabase {
          */
         DBBATCH("DBBatchSize", PrometheusDBResource.DBPREF_BATCH),
 
+        /**
+         * Database Load Connections.
+         */
+        DBLOADCONNS("DBLoadConnections", PrometheusDBResource.DBPREF_LOADCONNS),
+
         /**
          * Database User.
          */
@@ -115,6 +120,16 @@ public interface PrometheusDatabase {
          */
         private static final Integer DEFAULT_DBBATCH = 50;
 
+        /**
+         * Default Database load connections.
+         */
+        private static final Integer DEFAULT_DBLOADCONNS = 1;
+
+        /**
+         * Maximum Database load connections.
+         */
+        private static final Integer MAX_DBLOADCONNS = 8;
+
         /**
          * Valid lengths.
          */
@@ -139,6 +154,7 @@ public interface PrometheusDatabase {
             defineIntegerPreference(PrometheusDatabasePreferenceKey.DBPORT);
             defineStringPreference(PrometheusDatabasePreferenceKey.DBNAME);
             defineIntegerPreference(PrometheusDatabasePreferenceKey.DBBATCH);
+            defineIntegerPreference(PrometheusDatabasePreferenceKey.DBLOADCONNS);
             defineStringPreference(PrometheusDatabasePreferenceKey.DBUSER);
             defineCharArrayPreference(PrometheusDatabasePreferenceKey.DBPASS);
         }
@@ -206,6 +222,16 @@ public interface PrometheusDatabase {
             if (!myBatchPref.validate()) {
                 myBatchPref.setValue(DEFAULT_DBBATCH);
             }
+
+            /* Make sure that the load connections are specified and in range */
+            final MetisIntegerPreference myConnsPref = getIntegerPreference(PrometheusDatabasePreferenceKey.DBLOADCONNS);
+            if (!myConnsPref.isAvailable()) {
+                myConnsPref.setValue(DEFAULT_DBLOADCONNS);
+            }
+            myConnsPref.setRange(DEFAULT_DBLOADCONNS, MAX_DBLOADCONNS);
+            if (!myConnsPref.validate()) {
+                myConnsPref.setValue(DEFAULT_DBLOADCONNS);
+            }
         }
     }
 }
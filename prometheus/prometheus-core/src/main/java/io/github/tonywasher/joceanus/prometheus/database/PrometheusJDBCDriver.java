@@ -73,6 +73,26 @@ public enum PrometheusJDBCDriver {
      */
     static final String INSTANCE_SQLEXPRESS = "SQLEXPRESS";
 
+    /**
+     * Maximum rows in a multi-row insert.
+     */
+    private static final int MAX_INSERT_ROWS = 100;
+
+    /**
+     * Maximum parameters in a statement for SQLServer.
+     */
+    private static final int MAX_PARAMS_SQLSERVER = 2000;
+
+    /**
+     * Maximum parameters in a statement for PostgreSQL.
+     */
+    private static final int MAX_PARAMS_POSTGRESQL = 32767;
+
+    /**
+     * Maximum parameters in a statement for other databases.
+     */
+    private static final int MAX_PARAMS_DEFAULT = 65535;
+
     /**
      * The String name.
      */
@@ -276,6 +296,21 @@ public enum PrometheusJDBCDriver {
         };
     }
 
+    /**
+     * Obtain the number of rows to insert with a single multi-row insert statement.
+     *
+     * @param pNumColumns the number of columns in the table
+     * @return the number of rows
+     */
+    public int getInsertRows(final int pNumColumns) {
+        final int myMaxParams = switch (this) {
+            case SQLSERVER -> MAX_PARAMS_SQLSERVER;
+            case POSTGRESQL -> MAX_PARAMS_POSTGRESQL;
+            default -> MAX_PARAMS_DEFAULT;
+        };
+        return Math.max(1, Math.min(MAX_INSERT_ROWS, myMaxParams / Math.max(1, pNumColumns)));
+    }
+
     /**
      * Obtain the resource bundleId for the driver.
      *
@@ -21,18 +21,23 @@ import io.github.tonywasher.joceanus.metis.data.MetisDataResource;
 import io.github.tonywasher.joceanus.metis.data.MetisDataState;
 import io.github.tonywasher.joceanus.metis.field.MetisFieldVersionValues;
 import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataItem;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataList;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataSet;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataValues;
+import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncryptedDataItem.PrometheusEncryptedList;
 import io.github.tonywasher.joceanus.prometheus.exc.PrometheusDataException;
 import io.github.tonywasher.joceanus.prometheus.exc.PrometheusIOException;
 import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadStatusReport;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -44,6 +49,11 @@ import java.util.ListIterator;
  */
 public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
         implements PrometheusTableInstance<T> {
+    /**
+     * The number of fetched items whose values are decrypted together.
+     */
+    private static final int DECRYPT_CHUNK = 1024;
+
     /**
      * The Database control.
      */
@@ -65,9 +75,9 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
     private PreparedStatement theStmt;
 
     /**
-     * Do we have batched updated in the prepared statement?
+     * The leading item of each statement batched in the prepared statement.
      */
-    private boolean hasBatchedUpdates;
+    private final List<T> theBatched;
 
     /**
      * The result set.
@@ -91,6 +101,7 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
         theDatabase = pDatabase;
         theConn = theDatabase.getConn();
         theTable = new PrometheusTableDefinition(theDatabase.getDriver(), pTable);
+        theBatched = new ArrayList<>();
     }
 
     /**
@@ -135,7 +146,7 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
      * @throws SQLException on error
      */
     public void closeStmt() throws SQLException {
-        executeBatch();
+        theBatched.clear();
         theTable.clearValues();
         if (theResults != null) {
             theResults.close();
@@ -178,24 +189,60 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
     /**
      * Add to the batched statement.
      *
+     * @param pItem the (leading) item of the statement
      * @throws SQLException on error
      */
-    private void addToBatch() throws SQLException {
+    private void addToBatch(final T pItem) throws SQLException {
         theStmt.addBatch();
         theTable.clearValues();
-        hasBatchedUpdates = true;
+        theBatched.add(pItem);
     }
 
     /**
      * Execute the batched statement.
      *
-     * @throws SQLException on error
+     * @throws OceanusException on error
      */
-    private void executeBatch() throws SQLException {
-        if (hasBatchedUpdates) {
-            theStmt.executeBatch();
-            hasBatchedUpdates = false;
+    private void executeBatch() throws OceanusException {
+        /* Protect the batch */
+        try {
+            if (!theBatched.isEmpty()) {
+                theStmt.executeBatch();
+            }
+
+            /* Catch a failed statement and report the item that caused it */
+        } catch (BatchUpdateException e) {
+            throw new PrometheusDataException(getFailedItem(e), "Failed to update " + getTableName(), e);
+        } catch (SQLException e) {
+            throw new PrometheusIOException("Failed to update " + getTableName(), e);
+        } finally {
+            theBatched.clear();
+        }
+    }
+
+    /**
+     * Determine the item whose statement failed in a batch.
+     *
+     * @param pError the batch error
+     * @return the failing item (or null if not determined)
+     */
+    private T getFailedItem(final BatchUpdateException pError) {
+        /* Drivers that stop on error report counts only up to the failing statement */
+        final int[] myCounts = pError.getUpdateCounts();
+        int myIndex = myCounts == null ? theBatched.size() : myCounts.length;
+
+        /* Drivers that continue on error flag the failing statement */
+        for (int i = 0; myCounts != null && i < myCounts.length; i++) {
+            if (myCounts[i] == Statement.EXECUTE_FAILED) {
+                myIndex = i;
+                break;
+            }
         }
+
+        /* Return the failing item */
+        return myIndex < theBatched.size()
+                ? theBatched.get(myIndex)
+                : null;
     }
 
     /**
@@ -362,6 +409,88 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
         }
     }
 
+    /**
+     * Fetch the values of the items in the table over a separate connection.
+     * <p>
+     * This may be run concurrently with the fetch of other tables, since it only touches the table definition.
+     * The data must have been declared beforehand.
+     *
+     * @param pConn the connection to fetch over
+     * @return the list of values
+     * @throws OceanusException on error
+     */
+    List<PrometheusDataValues> fetchValues(final Connection pConn) throws OceanusException {
+        /* Protect the fetch */
+        final List<PrometheusDataValues> myList = new ArrayList<>();
+        theTable.clearValues();
+        try (PreparedStatement myStmt = pConn.prepareStatement(theTable.getLoadString());
+             ResultSet myResults = myStmt.executeQuery()) {
+            /* Loop through the results */
+            while (myResults.next()) {
+                /* Read in the results and decode the values */
+                theTable.loadResults(myResults);
+                myList.add(loadValues());
+            }
+
+            /* Return the values */
+            theTable.clearValues();
+            return myList;
+
+        } catch (SQLException e) {
+            throw new PrometheusIOException("Failed to load " + getTableName(), e);
+        }
+    }
+
+    /**
+     * Apply previously fetched values to the list.
+     *
+     * @param pReport the report
+     * @param pValues the fetched values
+     * @throws OceanusException on error
+     */
+    void applyValues(final TethysUIThreadStatusReport pReport,
+                     final List<PrometheusDataValues> pValues) throws OceanusException {
+        /* Declare the new stage */
+        pReport.setNewStage(getTableName());
+        pReport.setNumSteps(pValues.size());
+
+        /* Determine whether this is an encrypted list */
+        final PrometheusEncryptedList<?> myEncrypted = theList instanceof PrometheusEncryptedList<?> myList
+                ? myList
+                : null;
+
+        /* Loop through the values a chunk at a time */
+        final int myCount = pValues.size();
+        for (int myStart = 0; myStart < myCount; myStart += DECRYPT_CHUNK) {
+            final List<PrometheusDataValues> myChunk = pValues.subList(myStart, Math.min(myCount, myStart + DECRYPT_CHUNK));
+
+            /* Protect against exceptions, so that decrypted values never outlive the chunk */
+            try {
+                /* If this is an encrypted list, decrypt the values of the chunk as a batch */
+                if (myEncrypted != null) {
+                    myEncrypted.prepareValues(myChunk);
+                }
+
+                /* Loop through the values */
+                for (PrometheusDataValues myValues : myChunk) {
+                    /* Load the next item */
+                    theList.addValuesItem(myValues);
+
+                    /* Report the progress */
+                    pReport.setNextStep();
+                }
+            } finally {
+                /* Discard and zero any unused decryptions */
+                if (myEncrypted != null) {
+                    myEncrypted.clearPreparedValues();
+                }
+            }
+        }
+
+        /* Perform post process */
+        postProcessOnLoad();
+    }
+
     /**
      * Determine the count of items that are in a particular state.
      *
@@ -396,11 +525,13 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
      * @param pReport the report
      * @param pData   the data
      * @param pBatch  the batch control
+     * @param pTask   the profile task for the table
      * @throws OceanusException on error
      */
     public void insertItems(final TethysUIThreadStatusReport pReport,
                             final PrometheusDataSet pData,
-                            final PrometheusBatchControl pBatch) throws OceanusException {
+                            final PrometheusBatchControl pBatch,
+                            final OceanusProfile pTask) throws OceanusException {
         /* Declare the new stage */
         pReport.setNewStage("Inserting " + getTableName());
 
@@ -420,55 +551,112 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
             /* Declare the table and mode */
             pBatch.setCurrentTable(this, MetisDataState.NEW);
 
-            /* Prepare the insert statement */
-            final String myInsert = theTable.getInsertString();
-            prepareStatement(myInsert);
+            /* Determine the number of rows per insert statement */
+            final int myNumRows = theTable.getDriver().getInsertRows(theTable.getColumns().size());
+            final List<T> myPending = new ArrayList<>(myNumRows);
 
-            /* Loop through the list */
-            final Iterator<T> myIterator = theList.iterator();
-            while (myIterator.hasNext()) {
-                /* Ignore non-new items */
-                myCurr = myIterator.next();
-                if (myCurr.getState() != MetisDataState.NEW) {
-                    continue;
+            /* Prepare the insert statement */
+            OceanusProfile myStep = pTask.startTask("insertRows");
+            try {
+                final String myInsert = theTable.getInsertString(myNumRows);
+                prepareStatement(myInsert);
+
+                /* Loop through the list */
+                final Iterator<T> myIterator = theList.iterator();
+                while (myIterator.hasNext()) {
+                    /* Ignore non-new items */
+                    myCurr = myIterator.next();
+                    if (myCurr.getState() != MetisDataState.NEW) {
+                        continue;
+                    }
+
+                    /* Add to the pending rows */
+                    myPending.add(myCurr);
+                    pBatch.addBatchItem();
+
+                    /* If we have a full set of rows */
+                    if (myPending.size() == myNumRows) {
+                        /* Apply the values and add to the statement batch */
+                        bindRows(theStmt, myPending);
+                        addToBatch(myPending.get(0));
+                        myPending.clear();
+                    }
+                    myCurr = null;
+
+                    /* If we have no further space in the batch */
+                    if (pBatch.isFull()) {
+                        /* Flush the rows and commit the database */
+                        flushRows(myPending);
+                        commit();
+
+                        /* Commit the batch */
+                        pBatch.commitItems();
+                    }
+
+                    /* Report the progress */
+                    pReport.setNextStep();
                 }
+            } finally {
+                myStep.end();
+            }
 
-                /* Loop through the columns */
-                for (PrometheusColumnDefinition myCol : theTable.getColumns()) {
-                    /* Access the column id */
-                    final MetisDataFieldId iField = myCol.getColumnId();
-
-                    /* Set the field value */
-                    setFieldValue(myCurr, iField);
-                }
+            /* Flush any remaining rows and close the Statement */
+            myStep = pTask.startTask("flushRows");
+            try {
+                flushRows(myPending);
+                closeStmt();
+            } finally {
+                myStep.end();
+            }
 
-                /* Apply the values */
-                theTable.insertValues(theStmt);
-                pBatch.addBatchItem();
+        } catch (SQLException e) {
+            throw new PrometheusDataException(myCurr, "Failed to insert " + getTableName(), e);
+        }
+    }
 
-                /* Add to the statement batch */
-                addToBatch();
-                myCurr = null;
+    /**
+     * Bind the values of a set of rows to a multi-row insert statement.
+     *
+     * @param pStmt  the statement
+     * @param pItems the items to bind
+     * @throws SQLException     on error
+     * @throws OceanusException on error
+     */
+    private void bindRows(final PreparedStatement pStmt,
+                          final List<T> pItems) throws SQLException, OceanusException {
+        /* Loop through the items */
+        int myRow = 0;
+        for (T myItem : pItems) {
+            /* Loop through the columns setting the field values */
+            for (PrometheusColumnDefinition myCol : theTable.getColumns()) {
+                setFieldValue(myItem, myCol.getColumnId());
+            }
 
-                /* If we have no further space in the batch */
-                if (pBatch.isFull()) {
-                    /* ExecuteBatch and commit the database */
-                    executeBatch();
-                    commit();
+            /* Apply the values for this row */
+            theTable.insertValues(pStmt, myRow++);
+            theTable.clearValues();
+        }
+    }
 
-                    /* Commit the batch */
-                    pBatch.commitItems();
-                }
+    /**
+     * Execute the batched inserts followed by any pending partial set of rows.
+     *
+     * @param pPending the pending rows
+     * @throws OceanusException on error
+     */
+    private void flushRows(final List<T> pPending) throws OceanusException {
+        /* Execute the batch first to preserve insertion order */
+        executeBatch();
 
-                /* Report the progress */
-                pReport.setNextStep();
+        /* Insert any remaining rows with a statement sized to fit */
+        if (!pPending.isEmpty()) {
+            try (PreparedStatement myStmt = theConn.prepareStatement(theTable.getInsertString(pPending.size()))) {
+                bindRows(myStmt, pPending);
+                myStmt.executeUpdate();
+            } catch (SQLException e) {
+                throw new PrometheusDataException(pPending.get(0), "Failed to insert " + getTableName(), e);
             }
-
-            /* Close the Statement */
-            closeStmt();
-
-        } catch (SQLException e) {
-            throw new PrometheusDataException(myCurr, "Failed to insert " + getTableName(), e);
+            pPending.clear();
         }
     }
 
@@ -629,7 +817,7 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
                     theTable.updateValues(theStmt);
 
                     /* Add to the statement batch */
-                    addToBatch();
+                    addToBatch(myCurr);
                 }
 
                 /* If we have no further space in the batch */
@@ -646,7 +834,8 @@ public abstract class PrometheusTableDataItem<T extends PrometheusDataItem>
                 pReport.setNextStep();
             }
 
-            /* Close the Statement */
+            /* Execute any remaining batch and close the Statement */
+            executeBatch();
             closeStmt();
 
         } catch (SQLException e) {
@@ -535,12 +535,25 @@ public class PrometheusTableDefinition
      * @throws OceanusException on error
      */
     protected void insertValues(final PreparedStatement pStmt) throws SQLException, OceanusException {
+        insertValues(pStmt, 0);
+    }
+
+    /**
+     * Insert values for a row of a multi-row insert.
+     *
+     * @param pStmt the statement
+     * @param pRow  the row within the statement
+     * @throws SQLException     on error
+     * @throws OceanusException on error
+     */
+    protected void insertValues(final PreparedStatement pStmt,
+                                final int pRow) throws SQLException, OceanusException {
         /* Store the Statement */
         theStatement = pStmt;
 
         /* Create the iterator */
         final Iterator<PrometheusColumnDefinition> myIterator = theList.iterator();
-        int myIndex = 1;
+        int myIndex = 1 + pRow * theList.size();
 
         /* Loop through the columns */
         while (myIterator.hasNext()) {
@@ -1301,6 +1314,16 @@ public class PrometheusTableDefinition
      * @return the SQL string
      */
     protected String getInsertString() {
+        return getInsertString(1);
+    }
+
+    /**
+     * Build the multi-row insert string for a list of columns.
+     *
+     * @param pNumRows the number of rows
+     * @return the SQL string
+     */
+    protected String getInsertString(final int pNumRows) {
         final StringBuilder myBuilder = new StringBuilder(BUFFER_LEN);
         final StringBuilder myValues = new StringBuilder(BUFFER_LEN);
 
@@ -1329,10 +1352,18 @@ public class PrometheusTableDefinition
             myFirst = false;
         }
 
-        /* Close the statement and return it */
-        myBuilder.append(") values(");
-        myBuilder.append(myValues);
-        myBuilder.append(')');
+        /* Add a values list for each row */
+        myBuilder.append(") values");
+        for (int i = 0; i < pNumRows; i++) {
+            if (i > 0) {
+                myBuilder.append(", ");
+            }
+            myBuilder.append('(');
+            myBuilder.append(myValues);
+            myBuilder.append(')');
+        }
+
+        /* Return the statement */
         return myBuilder.toString();
     }
 
@@ -18,6 +18,7 @@
 package io.github.tonywasher.joceanus.prometheus.database;
 
 import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.profile.OceanusProfile;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataItem;
 import io.github.tonywasher.joceanus.prometheus.data.PrometheusDataSet;
 import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadStatusReport;
@@ -54,11 +55,13 @@ public interface PrometheusTableInstancePlus<T extends PrometheusDataItem>
      * @param pReport the report
      * @param pData   the data
      * @param pBatch  the batch control
+     * @param pTask   the profile task for the table
      * @throws OceanusException on error
      */
     void insertItems(TethysUIThreadStatusReport pReport,
                      PrometheusDataSet pData,
-                     PrometheusBatchControl pBatch) throws OceanusException;
+                     PrometheusBatchControl pBatch,
+                     OceanusProfile pTask) throws OceanusException;
 
     /**
      * Update items from the list.
@@ -17,6 +17,8 @@
 package io.github.tonywasher.joceanus.prometheus.security;
 
 import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianLength;
+import io.github.tonywasher.joceanus.gordianknot.api.digest.GordianDigest;
 import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
 import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory.GordianFactoryLock;
 import io.github.tonywasher.joceanus.gordianknot.api.keypair.GordianKeyPair;
@@ -28,6 +30,7 @@ import io.github.tonywasher.joceanus.gordianknot.api.lock.GordianKeySetLock;
 import io.github.tonywasher.joceanus.gordianknot.api.lock.GordianLock;
 import io.github.tonywasher.joceanus.gordianknot.api.lock.GordianLockFactory;
 import io.github.tonywasher.joceanus.gordianknot.api.lock.spec.GordianPasswordLockSpec;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianUtilities;
 import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
 import io.github.tonywasher.joceanus.oceanus.convert.OceanusDataConverter;
 import io.github.tonywasher.joceanus.oceanus.logger.OceanusLogManager;
@@ -38,8 +41,19 @@ import io.github.tonywasher.joceanus.prometheus.exc.PrometheusSecurityException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 /**
  * Password Cache.
@@ -65,6 +79,11 @@ public class PrometheusSecurityPasswordCache {
      */
     private final List<ByteBuffer> thePasswords;
 
+    /**
+     * Set of password attempts that are known to fail.
+     */
+    private final Set<PrometheusLockFailure> theFailures;
+
     /**
      * The Factory.
      */
@@ -90,6 +109,11 @@ public class PrometheusSecurityPasswordCache {
      */
     private final GordianKeySet theKeySet;
 
+    /**
+     * Digest used to hash failed attempts.
+     */
+    private final GordianDigest theDigest;
+
     /**
      * Constructor.
      *
@@ -110,9 +134,13 @@ public class PrometheusSecurityPasswordCache {
             /* Create a keySet */
             theKeySet = theKeySetFactory.generateKeySet(pLockSpec.getKeySetSpec());
 
+            /* Create the digest */
+            theDigest = theFactory.getDigestFactory().createDigest(GordianUtilities.newDigestSpecBuilder().sha2(GordianLength.LEN_256));
+
             /* Create the lists */
             theLocks = new ArrayList<>();
             thePasswords = new ArrayList<>();
+            theFailures = ConcurrentHashMap.newKeySet();
 
         } catch (GordianException e) {
             throw new PrometheusSecurityException(e);
@@ -138,6 +166,7 @@ public class PrometheusSecurityPasswordCache {
             final ByteBuffer myBuffer = ByteBuffer.wrap(myEncrypted);
             theLocks.add(new PrometheusLockCache<>(pFactory, myBuffer));
             thePasswords.add(myBuffer);
+            clearFailures(pFactory.getLockBytes());
 
 
         } catch (GordianException e) {
@@ -170,6 +199,7 @@ public class PrometheusSecurityPasswordCache {
             final ByteBuffer myBuffer = ByteBuffer.wrap(myEncrypted);
             theLocks.add(new PrometheusLockCache<>(pKeySet, myBuffer));
             thePasswords.add(myBuffer);
+            clearFailures(pKeySet.getLockBytes());
 
         } catch (GordianException e) {
             throw new PrometheusSecurityException(e);
@@ -201,6 +231,7 @@ public class PrometheusSecurityPasswordCache {
             final ByteBuffer myBuffer = ByteBuffer.wrap(myEncrypted);
             theLocks.add(new PrometheusLockCache<>(pKeyPair, myBuffer));
             thePasswords.add(myBuffer);
+            clearFailures(pKeyPair.getLockBytes());
 
         } catch (GordianException e) {
             throw new PrometheusSecurityException(e);
@@ -307,21 +338,7 @@ public class PrometheusSecurityPasswordCache {
      * @return the new FactoryLock if successful, otherwise null
      */
     GordianFactoryLock attemptKnownPasswordsForFactoryLock(final byte[] pLockBytes) {
-        /* Loop through the passwords */
-        for (ByteBuffer myCurr : thePasswords) {
-            /* Attempt the password */
-            final GordianFactoryLock myFactory = attemptPasswordForFactoryLock(pLockBytes, myCurr.array());
-
-            /* If we succeeded */
-            if (myFactory != null) {
-                /* Add the factory to the list and return it */
-                theLocks.add(new PrometheusLockCache<>(myFactory, myCurr));
-                return myFactory;
-            }
-        }
-
-        /* Return null */
-        return null;
+        return attemptKnownPasswords(pLockBytes, null, p -> attemptPasswordForFactoryLock(pLockBytes, p));
     }
 
     /**
@@ -371,21 +388,7 @@ public class PrometheusSecurityPasswordCache {
      * @return the new keySetLock if successful, otherwise null
      */
     GordianKeySetLock attemptKnownPasswordsForKeySetLock(final byte[] pLockBytes) {
-        /* Loop through the passwords */
-        for (ByteBuffer myCurr : thePasswords) {
-            /* Attempt the password */
-            final GordianKeySetLock myKeySet = attemptPasswordForKeySetLock(pLockBytes, myCurr.array());
-
-            /* If we succeeded */
-            if (myKeySet != null) {
-                /* Add the factory to the list and return it */
-                theLocks.add(new PrometheusLockCache<>(myKeySet, myCurr));
-                return myKeySet;
-            }
-        }
-
-        /* Return null */
-        return null;
+        return attemptKnownPasswords(pLockBytes, null, p -> attemptPasswordForKeySetLock(pLockBytes, p));
     }
 
     /**
@@ -437,23 +440,165 @@ public class PrometheusSecurityPasswordCache {
      */
     GordianKeyPairLock attemptKnownPasswordsForKeyPairLock(final byte[] pLockBytes,
                                                            final GordianKeyPair pKeyPair) {
-        /* Loop through the passwords */
+        return attemptKnownPasswords(pLockBytes, pKeyPair, p -> attemptPasswordForKeyPairLock(pLockBytes, pKeyPair, p));
+    }
+
+    /**
+     * Attempt known passwords for a lock.
+     * <p>Passwords that are already known to fail for the lock are skipped. The remaining passwords are attempted
+     * concurrently on the factory thread pool, each running on the caller when no pool thread is free. An attempt
+     * that ends in an exception is logged and the remaining attempts continue.
+     * <p>Once an attempt succeeds the others are cancelled. Every attempt checks the cancelled flag before it starts,
+     * so no further attempts are made. An attempt that is already running is interrupted, which stops it at the next
+     * pass when the lock iterations run in parallel, and otherwise it completes on its pool thread. Either way its
+     * result is discarded.
+     *
+     * @param <T>        the lock type
+     * @param pLockBytes the lockBytes to attempt passwords for
+     * @param pKeyPair   the keyPair (or null)
+     * @param pAttempt   the attempt function
+     * @return the new lock if successful, otherwise null
+     */
+    private <T extends GordianLock<?>> T attemptKnownPasswords(final byte[] pLockBytes,
+                                                                final GordianKeyPair pKeyPair,
+                                                                final Function<byte[], T> pAttempt) {
+        /* Determine the candidate passwords */
+        final List<PrometheusLockAttempt> myCandidates = new ArrayList<>();
+        final ByteBuffer myLockHash = hashBytes(pLockBytes);
         for (ByteBuffer myCurr : thePasswords) {
-            /* Attempt the password */
-            final GordianKeyPairLock myKeyPair = attemptPasswordForKeyPairLock(pLockBytes, pKeyPair, myCurr.array());
-
-            /* If we succeeded */
-            if (myKeyPair != null) {
-                /* Add the factory to the list and return it */
-                theLocks.add(new PrometheusLockCache<>(myKeyPair, myCurr));
-                return myKeyPair;
+            final PrometheusLockFailure myFailure = new PrometheusLockFailure(myLockHash, pKeyPair, hashBytes(myCurr.array()));
+            if (!theFailures.contains(myFailure)) {
+                myCandidates.add(new PrometheusLockAttempt(myCurr, myFailure));
             }
         }
 
+        /* Handle no or a single candidate directly */
+        if (myCandidates.isEmpty()) {
+            return null;
+        }
+        if (myCandidates.size() == 1) {
+            final PrometheusLockAttempt myAttempt = myCandidates.getFirst();
+            return recordAttempt(myAttempt, pAttempt.apply(myAttempt.password().array()));
+        }
+
+        /* Run the attempts on the factory thread pool */
+        final CompletionService<T> myService = new ExecutorCompletionService<>(r -> theFactory.submitTask(Executors.callable(r)));
+        final Map<Future<T>, PrometheusLockAttempt> myPending = new HashMap<>();
+        final AtomicBoolean myCancelled = new AtomicBoolean();
+
+        /* Protect against exceptions */
+        try {
+            /* Submit the attempts */
+            for (PrometheusLockAttempt myAttempt : myCandidates) {
+                myPending.put(myService.submit(() -> attemptPassword(myAttempt, pAttempt, myCancelled)), myAttempt);
+            }
+
+            /* Loop through the results as they complete, returning the first success */
+            for (int i = 0; i < myCandidates.size(); i++) {
+                final Future<T> myFuture = myService.take();
+                final PrometheusLockAttempt myAttempt = myPending.get(myFuture);
+                try {
+                    /* Ignore attempts that were skipped once another succeeded */
+                    final T myResult = myFuture.get();
+                    if (myResult == null && myCancelled.get()) {
+                        continue;
+                    }
+
+                    /* Record the attempt, returning a success */
+                    final T myLock = recordAttempt(myAttempt, myResult);
+                    if (myLock != null) {
+                        return myLock;
+                    }
+
+                    /* Log a failed attempt and continue with the others */
+                } catch (ExecutionException e) {
+                    LOGGER.error(PASSWORD_FAIL, e);
+                }
+            }
+
+            /* Catch exceptions */
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error(PASSWORD_FAIL, e);
+
+        } finally {
+            /* Cancel any outstanding attempts */
+            myCancelled.set(true);
+            myPending.keySet().forEach(f -> f.cancel(true));
+        }
+
         /* Return null */
         return null;
     }
 
+    /**
+     * Attempt a cached password against a lock.
+     *
+     * @param <T>        the lock type
+     * @param pAttempt   the attempt details
+     * @param pResolve   the resolve function
+     * @param pCancelled the cancelled flag
+     * @return the new lock if successful, otherwise null
+     */
+    private static <T extends GordianLock<?>> T attemptPassword(final PrometheusLockAttempt pAttempt,
+                                                               final Function<byte[], T> pResolve,
+                                                               final AtomicBoolean pCancelled) {
+        /* Skip the attempt if it has been cancelled */
+        if (pCancelled.get()
+                || Thread.currentThread().isInterrupted()) {
+            return null;
+        }
+
+        /* Make the attempt, cancelling the others if it succeeds */
+        final T myLock = pResolve.apply(pAttempt.password().array());
+        if (myLock != null) {
+            pCancelled.set(true);
+        }
+        return myLock;
+    }
+
+    /**
+     * Record the result of a password attempt.
+     *
+     * @param <T>      the lock type
+     * @param pAttempt the attempt details
+     * @param pLock    the resolved lock (or null)
+     * @return the resolved lock (or null)
+     */
+    private <T extends GordianLock<?>> T recordAttempt(final PrometheusLockAttempt pAttempt,
+                                                      final T pLock) {
+        /* Add a successful lock to the list, otherwise note the failure */
+        if (pLock != null) {
+            final GordianLock<?> myLock = pLock;
+            theLocks.add(new PrometheusLockCache<>(myLock, pAttempt.password()));
+            clearFailures(myLock.getLockBytes());
+        } else {
+            theFailures.add(pAttempt.failure());
+        }
+        return pLock;
+    }
+
+    /**
+     * Clear the failures noted for a lock that has now been resolved.
+     *
+     * @param pLockBytes the lockBytes
+     */
+    private void clearFailures(final byte[] pLockBytes) {
+        final ByteBuffer myLockHash = hashBytes(pLockBytes);
+        theFailures.removeIf(f -> f.lockHash().equals(myLockHash));
+    }
+
+    /**
+     * Hash bytes.
+     *
+     * @param pBytes the bytes to hash
+     * @return the hash
+     */
+    private ByteBuffer hashBytes(final byte[] pBytes) {
+        theDigest.update(pBytes);
+        return ByteBuffer.wrap(theDigest.finish());
+    }
+
     /**
      * Attempt the cached password against the passed lock.
      *
@@ -656,4 +801,26 @@ public class PrometheusSecurityPasswordCache {
             return thePassword;
         }
     }
+
+    /**
+     * A password attempt against a lock.
+     *
+     * @param password the encrypted password
+     * @param failure  the failure to note if the attempt fails
+     */
+    private record PrometheusLockAttempt(ByteBuffer password,
+                                         PrometheusLockFailure failure) {
+    }
+
+    /**
+     * A password attempt that is known to fail, held as hashes of the lock and password.
+     *
+     * @param lockHash     the hash of the lock bytes
+     * @param keyPair      the keyPair (or null)
+     * @param passwordHash the hash of the encrypted password
+     */
+    private record PrometheusLockFailure(ByteBuffer lockHash,
+                                         GordianKeyPair keyPair,
+                                         ByteBuffer passwordHash) {
+    }
 }
@@ -36,7 +36,6 @@ import io.github.tonywasher.joceanus.prometheus.service.sheet.PrometheusSheetWor
 import io.github.tonywasher.joceanus.tethys.api.thread.TethysUIThreadStatusReport;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -113,6 +112,7 @@ public abstract class PrometheusSheetReader
 
     /**
      * Load a Backup Workbook.
+     * <p>The file is accessed by random access, so that only the workbook entry is read.
      *
      * @param pData DataSet to load into
      * @param pFile the file to load
@@ -120,10 +120,23 @@ public abstract class PrometheusSheetReader
      */
     public void loadBackup(final File pFile,
                            final PrometheusDataSet pData) throws OceanusException {
+        /* Protect against exceptions */
         try {
-            loadBackup(new FileInputStream(pFile), pData, pFile.getName());
-        } catch (IOException e) {
-            throw new PrometheusIOException("Failed to access Backup", e);
+            /* Start the task */
+            OceanusProfile myTask = theReport.getActiveTask();
+            myTask = myTask.startTask("Loading");
+            theData = pData;
+
+            /* Access the zip file */
+            final GordianZipFactory myZips = thePasswordMgr.getSecurityFactory().getZipFactory();
+            final GordianZipReadFile myFile = myZips.openZipFile(pFile);
+
+            /* Load the backup and complete the task */
+            loadBackup(myFile, pFile.getName());
+            myTask.end();
+
+        } catch (GordianException e) {
+            throw new PrometheusSecurityException(e);
         }
     }
 
@@ -149,37 +162,8 @@ public abstract class PrometheusSheetReader
             final GordianZipFactory myZips = thePasswordMgr.getSecurityFactory().getZipFactory();
             final GordianZipReadFile myFile = myZips.openZipFile(pInStream);
 
-            /* Obtain the lock from the file */
-            final GordianZipLock myLock = myFile.getLock();
-
-            /* Resolve the lock */
-            thePasswordMgr.resolveZipLock(myLock, pName);
-
-            /* Access ZipFile contents */
-            final GordianZipFileContents myContents = myFile.getContents();
-
-            /* Loop through the file entries */
-            final Iterator<GordianZipFileEntry> myIterator = myContents.iterator();
-            GordianZipFileEntry myEntry = null;
-            while (myIterator.hasNext()) {
-                /* Access the entry */
-                myEntry = myIterator.next();
-
-                /* Break loop if we have the right entry */
-                if (myEntry.getFileName().startsWith(PrometheusSheetConstants.FILE_NAME)) {
-                    break;
-                }
-            }
-
-            /* If we did not find the entry */
-            if (myEntry == null) {
-                throw new PrometheusDataException("Invalid input file");
-            }
-
-            /* Load the workBook */
-            loadEntry(myFile, myEntry);
-
-            /* Complete the task */
+            /* Load the backup and complete the task */
+            loadBackup(myFile, pName);
             myTask.end();
 
         } catch (GordianException e) {
@@ -187,6 +171,46 @@ public abstract class PrometheusSheetReader
         }
     }
 
+    /**
+     * Load a Backup Workbook from an opened zip file.
+     *
+     * @param pFile the zip file
+     * @param pName the filename
+     * @throws OceanusException on error
+     */
+    private void loadBackup(final GordianZipReadFile pFile,
+                            final String pName) throws OceanusException {
+        /* Obtain the lock from the file */
+        final GordianZipLock myLock = pFile.getLock();
+
+        /* Resolve the lock */
+        thePasswordMgr.resolveZipLock(myLock, pName);
+
+        /* Access ZipFile contents */
+        final GordianZipFileContents myContents = pFile.getContents();
+
+        /* Loop through the file entries */
+        final Iterator<GordianZipFileEntry> myIterator = myContents.iterator();
+        GordianZipFileEntry myEntry = null;
+        while (myIterator.hasNext()) {
+            /* Access the entry */
+            myEntry = myIterator.next();
+
+            /* Break loop if we have the right entry */
+            if (myEntry.getFileName().startsWith(PrometheusSheetConstants.FILE_NAME)) {
+                break;
+            }
+        }
+
+        /* If we did not find the entry */
+        if (myEntry == null) {
+            throw new PrometheusDataException("Invalid input file");
+        }
+
+        /* Load the workBook */
+        loadEntry(pFile, myEntry);
+    }
+
     /**
      * Load a Backup Workbook.
      *
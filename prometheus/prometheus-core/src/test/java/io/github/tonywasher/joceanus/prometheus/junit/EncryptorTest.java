@@ -0,0 +1,204 @@
+/*
+ * Prometheus: Application Framework
+ * Copyright 2012-2026. Tony Washer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.tonywasher.joceanus.prometheus.junit;
+
+import io.github.tonywasher.joceanus.gordianknot.api.base.GordianException;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactory;
+import io.github.tonywasher.joceanus.gordianknot.api.factory.GordianFactoryType;
+import io.github.tonywasher.joceanus.gordianknot.api.keyset.GordianKeySet;
+import io.github.tonywasher.joceanus.gordianknot.api.keyset.GordianKeySetFactory;
+import io.github.tonywasher.joceanus.gordianknot.util.GordianGenerator;
+import io.github.tonywasher.joceanus.metis.data.MetisDataItem.MetisDataFieldId;
+import io.github.tonywasher.joceanus.metis.data.MetisDataType;
+import io.github.tonywasher.joceanus.metis.field.MetisFieldItem.MetisFieldDef;
+import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
+import io.github.tonywasher.joceanus.oceanus.date.OceanusDate;
+import io.github.tonywasher.joceanus.oceanus.decimal.OceanusUnits;
+import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
+import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncryptedPair;
+import io.github.tonywasher.joceanus.prometheus.data.PrometheusEncryptor;
+import io.github.tonywasher.joceanus.prometheus.exc.PrometheusSecurityException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encryptor Test suite - Test batch encryption and prepared decryption.
+ */
+class EncryptorTest {
+    /**
+     * The number of values, chosen to span several batch chunks.
+     */
+    private static final int NUM_VALUES = 1000;
+
+    /**
+     * The interval between null entries.
+     */
+    private static final int NULL_INTERVAL = 97;
+
+    /**
+     * The number of value types.
+     */
+    private static final int NUM_TYPES = 4;
+
+    /**
+     * The units scale.
+     */
+    private static final int UNITS_SCALE = 4;
+
+    /**
+     * Encrypt a batch of values, then prepare and decrypt them.
+     *
+     * @throws OceanusException on error
+     */
+    @Test
+    void batchRoundTrip() throws OceanusException {
+        /* Create the encryptor */
+        try {
+            final GordianFactory myFactory = GordianGenerator.createFactory(GordianFactoryType.BC);
+            final GordianKeySetFactory myKeySets = myFactory.getKeySetFactory();
+            final GordianKeySet myKeySet = myKeySets.generateKeySet(myKeySets.newKeySetSpecBuilder().keySet());
+            final PrometheusEncryptor myEncryptor = new PrometheusEncryptor(new OceanusDataFormatter(), myKeySet);
+
+            /* Build the pending pairs and their fields, including some null entries */
+            final List<PrometheusEncryptedPair> myPending = new ArrayList<>();
+            final List<MetisFieldDef> myFields = new ArrayList<>();
+            for (int i = 0; i < NUM_VALUES; i++) {
+                myPending.add(i % NULL_INTERVAL == 0
+                        ? null
+                        : myEncryptor.encryptValue(null, buildValue(i)));
+                myFields.add(new EncryptorTestField(getDataType(i)));
+            }
+
+            /* Encrypt the batch and check that order and nulls are preserved */
+            final List<PrometheusEncryptedPair> myEncrypted = myEncryptor.encryptValues(myPending, myFields);
+            Assertions.assertEquals(NUM_VALUES, myEncrypted.size(), "Incorrect batch size");
+            final List<byte[]> myBytes = new ArrayList<>();
+            for (int i = 0; i < NUM_VALUES; i++) {
+                final PrometheusEncryptedPair myExpected = myPending.get(i);
+                final PrometheusEncryptedPair myActual = myEncrypted.get(i);
+                if (myExpected == null) {
+                    Assertions.assertNull(myActual, "Null entry not preserved");
+                } else {
+                    Assertions.assertEquals(myExpected.getValue(), myActual.getValue(), "Incorrect value");
+                    myBytes.add(myActual.getBytes());
+                }
+            }
+
+            /* Prepare the bytes and decrypt them */
+            myEncryptor.prepareValues(myBytes);
+            checkDecrypt(myEncryptor, myEncrypted);
+
+            /* Prepare the bytes again, but discard them before decryption */
+            myEncryptor.prepareValues(myBytes);
+            myEncryptor.clearPreparedValues();
+            checkDecrypt(myEncryptor, myEncrypted);
+
+        } catch (GordianException e) {
+            throw new PrometheusSecurityException(e);
+        }
+    }
+
+    /**
+     * Build a value.
+     *
+     * @param pIndex the index of the value
+     * @return the value
+     */
+    private static Object buildValue(final int pIndex) {
+        return switch (pIndex % NUM_TYPES) {
+            case 0 -> "Value" + pIndex;
+            case 1 -> pIndex;
+            case 2 -> new OceanusDate(LocalDate.ofEpochDay(pIndex));
+            default -> new OceanusUnits(pIndex, UNITS_SCALE);
+        };
+    }
+
+    /**
+     * Obtain the field dataType of a value, using a context field for units.
+     *
+     * @param pIndex the index of the value
+     * @return the dataType
+     */
+    private static MetisDataType getDataType(final int pIndex) {
+        return switch (pIndex % NUM_TYPES) {
+            case 0 -> MetisDataType.STRING;
+            case 1 -> MetisDataType.INTEGER;
+            case 2 -> MetisDataType.DATE;
+            default -> MetisDataType.CONTEXT;
+        };
+    }
+
+    /**
+     * Decrypt the encrypted pairs and check the values.
+     *
+     * @param pEncryptor the encryptor
+     * @param pEncrypted the encrypted pairs
+     * @throws OceanusException on error
+     */
+    private static void checkDecrypt(final PrometheusEncryptor pEncryptor,
+                                     final List<PrometheusEncryptedPair> pEncrypted) throws OceanusException {
+        for (PrometheusEncryptedPair myPair : pEncrypted) {
+            if (myPair != null) {
+                final Object myValue = myPair.getValue();
+                final PrometheusEncryptedPair myDecrypted = pEncryptor.decryptValue(myPair.getBytes(), myValue.getClass());
+                Assertions.assertEquals(myValue, myDecrypted.getValue(), "Incorrect decrypted value");
+            }
+        }
+    }
+
+    /**
+     * Field definition with a dataType.
+     *
+     * @param dataType the dataType
+     */
+    private record EncryptorTestField(MetisDataType dataType) implements MetisFieldDef {
+        @Override
+        public MetisDataFieldId getFieldId() {
+            return null;
+        }
+
+        @Override
+        public MetisDataType getDataType() {
+            return dataType;
+        }
+
+        @Override
+        public Integer getMaxLength() {
+            return null;
+        }
+
+        @Override
+        public boolean isCalculated() {
+            return false;
+        }
+
+        @Override
+        public Object getFieldValue(final Object pObject) {
+            return null;
+        }
+
+        @Override
+        public <X> X getFieldValue(final Object pObject,
+                                   final Class<X> pClazz) {
+            return null;
+        }
+    }
+}
@@ -424,4 +424,55 @@ class PasswordManagerTest {
             throw new PrometheusSecurityException(e);
         }
     }
+
+    /**
+     * Resolve locks against a cache holding both matching and non-matching passwords.
+     *
+     * @throws OceanusException on error
+     */
+    @Test
+    void cachedPasswordTests() throws OceanusException {
+        /* Create the security managers */
+        try {
+            final GordianFactory myFactory = GordianGenerator.createFactory(GordianFactoryType.BC);
+            final GordianPasswordLockSpecBuilder myBuilder = myFactory.getLockFactory().newPasswordLockSpecBuilder();
+            final GordianPasswordLockSpec mySpec = myBuilder.passwordLock(GordianPasswordLockSpec.MINIMUM_POWER_ITERATIONS);
+            final PrometheusSecurityPasswordManager myCreator = new PrometheusSecurityPasswordManager(myFactory, mySpec, new DialogController());
+            final PrometheusSecurityPasswordManager myManager = new PrometheusSecurityPasswordManager(myFactory, mySpec, new DialogController());
+
+            /* Create a pair of factory and keySet locks for each password */
+            final GordianFactoryLock[] myFactories = new GordianFactoryLock[NAMES.length];
+            final GordianFactoryLock[] mySimilarFactories = new GordianFactoryLock[NAMES.length];
+            final GordianKeySetLock[] myKeySets = new GordianKeySetLock[NAMES.length];
+            final GordianKeySetLock[] mySimilarKeySets = new GordianKeySetLock[NAMES.length];
+            for (int i = 0; i < NAMES.length; i++) {
+                myFactories[i] = myCreator.newFactoryLock(NAMES[i]);
+                mySimilarFactories[i] = myCreator.similarFactoryLock(myFactories[i]);
+                myKeySets[i] = myCreator.newKeySetLock(NAMES[i]);
+                mySimilarKeySets[i] = myCreator.similarKeySetLock(myKeySets[i]);
+            }
+
+            /* Resolve the first lock of each known password via the dialog, so that the cache holds them all */
+            for (int i = 0; i < UNKNOWN; i++) {
+                Assertions.assertEquals(myFactories[i], myManager.resolveFactoryLock(myFactories[i].getLockBytes(), NAMES[i]), "Incorrect lock");
+            }
+
+            /* The similar locks must be resolved from the cache, which also holds the wrong passwords */
+            for (int i = 0; i < UNKNOWN; i++) {
+                Assertions.assertEquals(mySimilarFactories[i], myManager.resolveFactoryLock(mySimilarFactories[i].getLockBytes(), ""), "Incorrect cached lock");
+                Assertions.assertEquals(myKeySets[i], myManager.resolveKeySetLock(myKeySets[i].getLockBytes(), ""), "Incorrect cached lock");
+                Assertions.assertEquals(mySimilarKeySets[i], myManager.resolveKeySetLock(mySimilarKeySets[i].getLockBytes(), ""), "Incorrect cached lock");
+            }
+
+            /* Locks for the unknown password fail against every cached password, both initially and when retried */
+            for (int i = 0; i < 2; i++) {
+                Assertions.assertThrows(PrometheusDataException.class,
+                        () -> myManager.resolveFactoryLock(myFactories[UNKNOWN].getLockBytes(), ""), "Resolution failure");
+                Assertions.assertThrows(PrometheusDataException.class,
+                        () -> myManager.resolveKeySetLock(myKeySets[UNKNOWN].getLockBytes(), ""), "Resolution failure");
+            }
+        } catch (GordianException e) {
+            throw new PrometheusSecurityException(e);
+        }
+    }
 }
@@ -22,6 +22,7 @@ open module io.github.tonywasher.joceanus.prometheus.core.test {
     /* Exports */
     requires io.github.tonywasher.joceanus.prometheus.core;
     requires io.github.tonywasher.joceanus.gordianknot;
+    requires io.github.tonywasher.joceanus.metis;
     requires io.github.tonywasher.joceanus.oceanus;
     requires org.junit.jupiter.api;
 }
@@ -33,8 +33,10 @@ import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfRowStoreCtl;
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfSheetCoreCtl;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -97,10 +99,27 @@ public class PrometheusOdfCellStore
     private Object[] theValues;
 
     /**
-     * Array of Cell Element values.
+     * Array of starting cell indices for each run of valued cells (readOnly only).
+     * <p>
+     * Repeated cells are held once per run and are only expanded when they are accessed.
+     */
+    private int[] theRunStarts;
+
+    /**
+     * Array of ending cell indices (exclusive) for each run of valued cells (readOnly only).
+     */
+    private int[] theRunEnds;
+
+    /**
+     * Array of Cell Element values for each run (readOnly only).
      */
     private PrometheusCellElement[] theElements;
 
+    /**
+     * Number of runs.
+     */
+    private int theNumRuns;
+
     /**
      * The row index.
      */
@@ -121,12 +140,13 @@ public class PrometheusOdfCellStore
      *
      * @param pRow      the owning row.
      * @param pRowIndex the row index
-     * @param pElement  the row element
-     * @throws OceanusException on error
+     * @param pReader   the reader positioned at the row element
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
     PrometheusOdfCellStore(final PrometheusOdfRowStoreCtl pRow,
                            final int pRowIndex,
-                           final Element pElement) throws OceanusException {
+                           final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
         /* Store details */
         theOasisRow = pRow;
         theSheet = theOasisRow.getSheet();
@@ -134,11 +154,18 @@ public class PrometheusOdfCellStore
         theRowIndex = pRowIndex;
         isReadOnly = true;
 
-        /* Allocate the element array */
+        /* Allocate the run arrays */
+        theRunStarts = new int[CELL_EXPAND];
+        theRunEnds = new int[CELL_EXPAND];
         theElements = new PrometheusCellElement[CELL_EXPAND];
 
         /* Process the children of the row */
-        processRowChildren(pElement);
+        processRowChildren(pReader);
+
+        /* Trim the run arrays */
+        theRunStarts = Arrays.copyOf(theRunStarts, theNumRuns);
+        theRunEnds = Arrays.copyOf(theRunEnds, theNumRuns);
+        theElements = Arrays.copyOf(theElements, theNumRuns);
     }
 
     /**
@@ -276,9 +303,16 @@ public class PrometheusOdfCellStore
      * @return the value
      */
     private PrometheusCellElement getElementAtIndex(final int pIndex) {
-        return pIndex < 0 || pIndex >= theElements.length
-                ? null
-                : theElements[pIndex];
+        /* Locate the run that starts at or before the index */
+        int myRun = Arrays.binarySearch(theRunStarts, pIndex);
+        if (myRun < 0) {
+            myRun = -myRun - 2;
+        }
+
+        /* Return the element if the run covers the index */
+        return myRun >= 0 && pIndex < theRunEnds[myRun]
+                ? theElements[myRun]
+                : null;
     }
 
     /**
@@ -523,79 +557,76 @@ public class PrometheusOdfCellStore
     }
 
     /**
-     * Set element at index.
+     * Add a run of elements.
      *
      * @param pElement the element
-     * @param pIndex   the index
+     * @param pStart   the first index of the run
+     * @param pEnd     the end index (exclusive) of the run
      */
-    private void setElementAtIndex(final PrometheusCellElement pElement,
-                                   final int pIndex) {
-        /* Check the index */
-        if (pIndex < 0 || pIndex >= theNumCells) {
-            throw new IllegalArgumentException();
-        }
-
-        /* Expand the elements array if required */
-        if (pIndex >= theElements.length) {
-            /* Determine the expansion length */
-            final int myLen = (((pIndex + 1) / CELL_EXPAND) + 1) * CELL_EXPAND;
+    private void addElementRun(final PrometheusCellElement pElement,
+                               final int pStart,
+                               final int pEnd) {
+        /* Expand the run arrays if required */
+        if (theNumRuns == theElements.length) {
+            final int myLen = theNumRuns + CELL_EXPAND;
+            theRunStarts = Arrays.copyOf(theRunStarts, myLen);
+            theRunEnds = Arrays.copyOf(theRunEnds, myLen);
             theElements = Arrays.copyOf(theElements, myLen);
         }
 
-        /* Adjust maximum cell */
-        if (pIndex > theMaxValuedCell
-                && pElement != null) {
-            theMaxValuedCell = pIndex;
-        }
+        /* Record the run */
+        theRunStarts[theNumRuns] = pStart;
+        theRunEnds[theNumRuns] = pEnd;
+        theElements[theNumRuns++] = pElement;
 
-        /* Set the element */
-        theElements[pIndex] = pElement;
+        /* Adjust maximum cell */
+        theMaxValuedCell = pEnd - 1;
     }
 
     /**
-     * Process Row children.
+     * Process Row children, leaving the reader positioned at the end of the row.
      *
-     * @param pRow the row element
-     * @throws OceanusException on error
+     * @param pReader the reader positioned at the row element
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private void processRowChildren(final Element pRow) throws OceanusException {
+    private void processRowChildren(final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
         /* Loop through the children of the row */
-        for (Node myNode = pRow.getFirstChild(); myNode != null; myNode = myNode.getNextSibling()) {
+        while (pReader.nextTag() == XMLStreamConstants.START_ELEMENT) {
             /* If this is a cell element */
-            if (theParser.isElementOfType(myNode, PrometheusOdfTableItem.CELL)) {
+            if (theParser.isElementOfType(pReader, PrometheusOdfTableItem.CELL)) {
                 /* Add cell to list */
-                processCell((Element) myNode);
+                processCell(pReader);
+            } else {
+                PrometheusOdfParser.skipElement(pReader);
             }
         }
     }
 
     /**
-     * Process a cell Element.
+     * Process a cell Element, leaving the reader positioned at its end.
      *
-     * @param pCell the cell to process
-     * @throws OceanusException on error
+     * @param pReader the reader positioned at the cell to process
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private void processCell(final Element pCell) throws OceanusException {
+    private void processCell(final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
         /* Determine the number of repeated cells */
-        final String myRepeatStr = theParser.getAttribute(pCell, PrometheusOdfTableItem.COLUMNREPEAT);
-        int myRepeat = myRepeatStr == null
+        final String myRepeatStr = theParser.getAttribute(pReader, PrometheusOdfTableItem.COLUMNREPEAT);
+        final int myRepeat = myRepeatStr == null
                 ? 1
                 : Integer.parseInt(myRepeatStr);
 
         /* Parse the value */
-        final PrometheusCellElement myValue = parseCellElement(pCell, theNumCells);
+        final int myStart = theNumCells;
+        final PrometheusCellElement myValue = parseCellElement(pReader, myStart);
 
         /* Add the additional cells */
         addAdditionalCells(myRepeat);
 
-        /* If we have a value */
+        /* If we have a value, record the run without expanding it */
         if (!myValue.isNull()) {
-            /* Loop through the cells in reverse order */
-            for (int iIndex = theNumCells - 1;
-                 myRepeat > 0; iIndex--, myRepeat--) {
-                /* Set the element */
-                setElementAtIndex(myValue, iIndex);
-            }
+            addElementRun(myValue, myStart, theNumCells);
         }
     }
 
@@ -818,45 +849,51 @@ public class PrometheusOdfCellStore
     }
 
     /**
-     * parse Cell element.
+     * parse Cell element, leaving the reader positioned at its end.
      *
-     * @param pElement the element
-     * @param pIndex   the index
+     * @param pReader the reader positioned at the element
+     * @param pIndex  the index
      * @return the Cell
-     * @throws OceanusException on error
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private PrometheusCellElement parseCellElement(final Element pElement,
-                                                   final int pIndex) throws OceanusException {
+    private PrometheusCellElement parseCellElement(final XMLStreamReader pReader,
+                                                   final int pIndex) throws OceanusException, XMLStreamException {
         /* Access the value-type */
-        final PrometheusOdfValue myType = PrometheusOdfValue.findValueType(theParser.getAttribute(pElement, PrometheusOdfOfficeItem.VALUETYPE));
+        final PrometheusOdfValue myType = PrometheusOdfValue.findValueType(theParser.getAttribute(pReader, PrometheusOdfOfficeItem.VALUETYPE));
         if (myType == null) {
+            PrometheusOdfParser.skipElement(pReader);
             return NULL_CELL;
         }
 
         /* Switch on the valueType */
         switch (myType) {
             case BOOLEAN:
-                return new PrometheusCellElement(this, pIndex, myType, theParser.getBooleanAttribute(pElement, PrometheusOdfOfficeItem.BOOLEANVALUE));
+                final Boolean myBoolean = theParser.getBooleanAttribute(pReader, PrometheusOdfOfficeItem.BOOLEANVALUE);
+                PrometheusOdfParser.skipElement(pReader);
+                return new PrometheusCellElement(this, pIndex, myType, myBoolean);
             case PERCENTAGE:
-                String myValue = theParser.getAttribute(pElement, PrometheusOdfOfficeItem.VALUE);
-                String myText = pElement.getTextContent();
+                String myValue = theParser.getAttribute(pReader, PrometheusOdfOfficeItem.VALUE);
+                String myText = PrometheusOdfParser.getTextContent(pReader);
                 return new PrometheusCellElement(this, pIndex, myType, parseValue(pIndex, myValue, OceanusRate.class), myText);
             case DATE:
-                myValue = theParser.getAttribute(pElement, PrometheusOdfOfficeItem.DATEVALUE);
+                myValue = theParser.getAttribute(pReader, PrometheusOdfOfficeItem.DATEVALUE);
+                PrometheusOdfParser.skipElement(pReader);
                 return new PrometheusCellElement(this, pIndex, myType, parseValue(pIndex, myValue, OceanusDate.class));
             case FLOAT:
-                myValue = theParser.getAttribute(pElement, PrometheusOdfOfficeItem.VALUE);
-                myText = pElement.getTextContent();
+                myValue = theParser.getAttribute(pReader, PrometheusOdfOfficeItem.VALUE);
+                myText = PrometheusOdfParser.getTextContent(pReader);
                 return new PrometheusCellElement(this, pIndex, myType, myValue, myText);
             case CURRENCY:
-                final Double myDouble = theParser.getDoubleAttribute(pElement, PrometheusOdfOfficeItem.VALUE);
-                final String myCurr = theParser.getAttribute(pElement, PrometheusOdfOfficeItem.CURRENCY);
-                myText = pElement.getTextContent();
+                final Double myDouble = theParser.getDoubleAttribute(pReader, PrometheusOdfOfficeItem.VALUE);
+                final String myCurr = theParser.getAttribute(pReader, PrometheusOdfOfficeItem.CURRENCY);
+                myText = PrometheusOdfParser.getTextContent(pReader);
                 return new PrometheusCellElement(this, pIndex, myType, myDouble, myText, myCurr);
             case STRING:
-                myText = pElement.getTextContent();
+                myText = PrometheusOdfParser.getTextContent(pReader);
                 return new PrometheusCellElement(this, pIndex, myType, myText, myText);
             default:
+                PrometheusOdfParser.skipElement(pReader);
                 return NULL_CELL;
         }
     }
@@ -932,14 +969,16 @@ public class PrometheusOdfCellStore
 
         /* Check the arrays */
         return isReadOnly
-                ? Arrays.equals(theElements, myThat.theElements)
+                ? Arrays.equals(theRunStarts, myThat.theRunStarts)
+                  && Arrays.equals(theRunEnds, myThat.theRunEnds)
+                  && Arrays.equals(theElements, myThat.theElements)
                 : Arrays.equals(theValues, myThat.theValues)
                   && Arrays.equals(theAlternates, myThat.theAlternates);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isReadOnly, theNumCells,
+        return Objects.hash(isReadOnly, theNumCells, Arrays.hashCode(theRunStarts),
                 Arrays.hashCode(theElements), Arrays.hashCode(theAlternates), Arrays.hashCode(theValues));
     }
 
@@ -22,6 +22,8 @@ import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfSheetCtl;
 import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -108,19 +110,21 @@ public class PrometheusOdfColumnStore
     }
 
     /**
-     * Process a column Element.
+     * Process a column Element, leaving the reader positioned at its end.
      *
-     * @param pColumn the column to process
+     * @param pReader the reader positioned at the column to process
+     * @throws XMLStreamException on error
      */
-    void processColumn(final Element pColumn) {
+    void processColumn(final XMLStreamReader pReader) throws XMLStreamException {
         /* Determine the number of repeated columns */
-        final String myRepeatStr = theParser.getAttribute(pColumn, PrometheusOdfTableItem.COLUMNREPEAT);
+        final String myRepeatStr = theParser.getAttribute(pReader, PrometheusOdfTableItem.COLUMNREPEAT);
         int myRepeat = myRepeatStr == null
                 ? 1
                 : Integer.parseInt(myRepeatStr);
 
-        /* Parse the value */
-        final Boolean myValue = parseColumnElement(pColumn);
+        /* Parse the value and skip the rest of the element */
+        final Boolean myValue = parseColumnElement(pReader);
+        PrometheusOdfParser.skipElement(pReader);
 
         /* Add the additional columns */
         addAdditionalCols(myRepeat);
@@ -285,12 +289,12 @@ public class PrometheusOdfColumnStore
     /**
      * parse Column element.
      *
-     * @param pElement the element
+     * @param pReader the reader positioned at the element
      * @return the Cell
      */
-    private Boolean parseColumnElement(final Element pElement) {
+    private Boolean parseColumnElement(final XMLStreamReader pReader) {
         /* Determine whether the column is hidden */
-        final String myHidden = theParser.getAttribute(pElement, PrometheusOdfTableItem.VISIBILITY);
+        final String myHidden = theParser.getAttribute(pReader, PrometheusOdfTableItem.VISIBILITY);
         return PrometheusOdfValue.COLLAPSE.getValue().equals(myHidden)
                 ? Boolean.TRUE
                 : null;
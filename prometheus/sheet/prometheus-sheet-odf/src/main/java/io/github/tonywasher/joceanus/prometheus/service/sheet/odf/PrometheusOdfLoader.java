@@ -25,6 +25,9 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -85,17 +88,18 @@ public final class PrometheusOdfLoader {
     }
 
     /**
-     * load spreadSheet from stream.
+     * stream readOnly spreadSheet contents from stream.
      *
-     * @param pInput the input stream
-     * @return the contents
+     * @param pInput   the input stream
+     * @param pHandler the contents handler
      * @throws OceanusException on error
      */
-    static Document loadNewSpreadSheet(final InputStream pInput) throws OceanusException {
-        /* Create a spreadSheet from scratch */
+    static void streamReadOnlySpreadSheet(final InputStream pInput,
+                                          final PrometheusOdfContentsHandler pHandler) throws OceanusException {
+        /* Stream the contents of the spreadSheet */
         try (BufferedInputStream myBufferedIn = new BufferedInputStream(pInput)) {
-            /* Load document */
-            return loadSpreadSheet(myBufferedIn);
+            /* Stream the contents */
+            streamSpreadSheet(myBufferedIn, pHandler);
 
         } catch (IOException e) {
             throw new PrometheusSheetException(ERROR_READ, e);
@@ -204,6 +208,53 @@ public final class PrometheusOdfLoader {
         return null;
     }
 
+    /**
+     * Stream the contents of an ODF spreadSheet.
+     *
+     * @param pInput   the input stream
+     * @param pHandler the contents handler
+     * @throws OceanusException on error
+     */
+    private static void streamSpreadSheet(final InputStream pInput,
+                                          final PrometheusOdfContentsHandler pHandler) throws OceanusException {
+        /* Protect against exceptions */
+        try (ZipInputStream myZipStream = new ZipInputStream(pInput)) {
+            /* Create the input factory */
+            final XMLInputFactory myFactory = XMLInputFactory.newFactory();
+            myFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            myFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            myFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+
+            /* Loop through the Zip file entries */
+            while (true) {
+                /* Read next entry */
+                final ZipEntry myEntry = myZipStream.getNextEntry();
+
+                /* If this is EOF break the loop */
+                if (myEntry == null) {
+                    break;
+                }
+
+                /* If we have found the contents */
+                if (FILE_CONTENT.equals(myEntry.getName())) {
+                    /* Stream the contents to the handler */
+                    final XMLStreamReader myReader = myFactory.createXMLStreamReader(new WrapInputStream(myZipStream));
+                    try {
+                        pHandler.processContents(myReader);
+                    } finally {
+                        myReader.close();
+                    }
+                    return;
+                }
+            }
+
+        } catch (IllegalArgumentException
+                 | XMLStreamException
+                 | IOException e) {
+            throw new PrometheusSheetException(ERROR_READ, e);
+        }
+    }
+
     /**
      * create an ODF spreadSheet.
      *
@@ -537,4 +588,19 @@ public final class PrometheusOdfLoader {
             isClosed = true;
         }
     }
+
+    /**
+     * Handler for streamed contents.
+     */
+    @FunctionalInterface
+    interface PrometheusOdfContentsHandler {
+        /**
+         * Process the contents.
+         *
+         * @param pReader the reader positioned at the start of the contents
+         * @throws OceanusException   on error
+         * @throws XMLStreamException on error
+         */
+        void processContents(XMLStreamReader pReader) throws OceanusException, XMLStreamException;
+    }
 }
@@ -21,6 +21,9 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +46,14 @@ public class PrometheusOdfParser {
         theDocument = pDocument;
     }
 
+    /**
+     * Constructor for a streamed readOnly workBook.
+     */
+    PrometheusOdfParser() {
+        /* There is no document */
+        theDocument = null;
+    }
+
     /**
      * Obtain the document.
      *
@@ -370,4 +381,150 @@ public class PrometheusOdfParser {
         /* Not valid element type */
         return false;
     }
+
+    /**
+     * Obtain attribute value from the current element of a stream.
+     *
+     * @param pReader the reader
+     * @param pItem   the attribute
+     * @return the value or null
+     */
+    String getAttribute(final XMLStreamReader pReader,
+                        final PrometheusOdfItem pItem) {
+        /* Access the details */
+        final String mySpace = pItem.getNameSpace().getNameSpace();
+        final String myName = pItem.getName();
+
+        /* Return the attribute */
+        final String myAttr = pReader.getAttributeValue(mySpace, myName);
+        return myAttr == null || myAttr.isEmpty()
+                ? null
+                : myAttr;
+    }
+
+    /**
+     * Obtain attribute value from the current element of a stream as an integer.
+     *
+     * @param pReader the reader
+     * @param pItem   the attribute
+     * @return the value or null
+     */
+    Integer getIntegerAttribute(final XMLStreamReader pReader,
+                                final PrometheusOdfItem pItem) {
+        /* Handle null element */
+        final String myValue = getAttribute(pReader, pItem);
+        return myValue == null
+                ? null
+                : Integer.parseInt(myValue);
+    }
+
+    /**
+     * Obtain attribute value from the current element of a stream as a boolean.
+     *
+     * @param pReader the reader
+     * @param pItem   the attribute
+     * @return the value or null
+     */
+    Boolean getBooleanAttribute(final XMLStreamReader pReader,
+                                final PrometheusOdfItem pItem) {
+        /* Handle null element */
+        final String myValue = getAttribute(pReader, pItem);
+        return myValue == null
+                ? null
+                : Boolean.parseBoolean(myValue);
+    }
+
+    /**
+     * Obtain attribute value from the current element of a stream as a double.
+     *
+     * @param pReader the reader
+     * @param pItem   the attribute
+     * @return the value or null
+     */
+    Double getDoubleAttribute(final XMLStreamReader pReader,
+                              final PrometheusOdfItem pItem) {
+        /* Handle null element */
+        final String myValue = getAttribute(pReader, pItem);
+        return myValue == null
+                ? null
+                : Double.parseDouble(myValue);
+    }
+
+    /**
+     * Is the current element of a stream one of the specified types?
+     *
+     * @param pReader the reader
+     * @param pItems  the element types
+     * @return true/false
+     */
+    boolean isElementOfType(final XMLStreamReader pReader,
+                            final PrometheusOdfItem... pItems) {
+        /* Loop through the items */
+        for (PrometheusOdfItem myItem : pItems) {
+            /* Check the element */
+            if (myItem.getName().equals(pReader.getLocalName())
+                    && myItem.getNameSpace().getNameSpace().equals(pReader.getNamespaceURI())) {
+                return true;
+            }
+        }
+
+        /* Not valid element type */
+        return false;
+    }
+
+    /**
+     * Skip the current element of a stream, leaving the stream positioned at its end.
+     *
+     * @param pReader the reader
+     * @throws XMLStreamException on error
+     */
+    static void skipElement(final XMLStreamReader pReader) throws XMLStreamException {
+        /* Loop until we reach the end of the element */
+        int myDepth = 1;
+        while (myDepth > 0) {
+            switch (pReader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    myDepth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    myDepth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Obtain the text content of the current element of a stream, leaving the stream positioned at its end.
+     *
+     * @param pReader the reader
+     * @return the text content
+     * @throws XMLStreamException on error
+     */
+    static String getTextContent(final XMLStreamReader pReader) throws XMLStreamException {
+        /* Loop until we reach the end of the element */
+        final StringBuilder myBuilder = new StringBuilder();
+        int myDepth = 1;
+        while (myDepth > 0) {
+            switch (pReader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    myDepth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    myDepth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS,
+                     XMLStreamConstants.CDATA,
+                     XMLStreamConstants.SPACE:
+                    myBuilder.append(pReader.getTextCharacters(), pReader.getTextStart(), pReader.getTextLength());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /* Return the text */
+        return myBuilder.toString();
+    }
 }
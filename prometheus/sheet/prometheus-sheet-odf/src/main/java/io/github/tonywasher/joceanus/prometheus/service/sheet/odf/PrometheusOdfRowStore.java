@@ -27,6 +27,8 @@ import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfSheetCtl;
 import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -68,6 +70,19 @@ public class PrometheusOdfRowStore
      */
     private PrometheusOdfCellStore[] theRows;
 
+    /**
+     * Array of starting row indices for each run of repeated rows (readOnly only).
+     * <p>
+     * When present, the hiddens and cellStores are indexed by run rather than by row, so that repeated rows are
+     * only expanded when they are accessed.
+     */
+    private int[] theRunStarts;
+
+    /**
+     * Number of runs.
+     */
+    private int theNumRuns;
+
     /**
      * Number of Rows.
      */
@@ -91,6 +106,7 @@ public class PrometheusOdfRowStore
         theFormatter = theSheet.getFormatter();
         theHiddens = new Boolean[ROW_EXPAND];
         theRows = new PrometheusOdfCellStore[ROW_EXPAND];
+        theRunStarts = new int[ROW_EXPAND];
     }
 
     /**
@@ -133,32 +149,67 @@ public class PrometheusOdfRowStore
     }
 
     /**
-     * Process a row Element.
+     * Process a row Element, leaving the reader positioned at its end.
      *
-     * @param pRow the row to process
-     * @throws OceanusException on error
+     * @param pReader the reader positioned at the row to process
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    void processRow(final Element pRow) throws OceanusException {
-        /* Determine the number of repeated columns */
-        final String myRepeatStr = theParser.getAttribute(pRow, PrometheusOdfTableItem.ROWREPEAT);
-        int myRepeat = myRepeatStr == null
+    void processRow(final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
+        /* Determine the number of repeated rows */
+        final String myRepeatStr = theParser.getAttribute(pReader, PrometheusOdfTableItem.ROWREPEAT);
+        final int myRepeat = myRepeatStr == null
                 ? 1
                 : Integer.parseInt(myRepeatStr);
 
         /* Parse the values */
-        final Boolean myHidden = parseRowHidden(pRow);
-        final PrometheusOdfCellStore myCells = parseRowCells(pRow, theNumRows);
+        final Boolean myHidden = parseRowHidden(pReader);
+        final PrometheusOdfCellStore myCells = parseRowCells(pReader, theNumRows);
+
+        /* Expand the run arrays if required */
+        if (theNumRuns == theRunStarts.length) {
+            final int myLen = theNumRuns << 1;
+            theRunStarts = Arrays.copyOf(theRunStarts, myLen);
+            theHiddens = Arrays.copyOf(theHiddens, myLen);
+            theRows = Arrays.copyOf(theRows, myLen);
+        }
 
-        /* Add the additional rows */
-        addAdditionalRows(myRepeat);
+        /* Record the run, leaving the repeated rows unexpanded */
+        theRunStarts[theNumRuns] = theNumRows;
+        theHiddens[theNumRuns] = myHidden;
+        theRows[theNumRuns++] = myCells;
+        theNumRows += myRepeat;
+    }
 
-        /* Loop through the cells in reverse order */
-        for (int iIndex = theNumRows - 1;
-             myRepeat > 0; iIndex--, myRepeat--) {
-            /* Set the values */
-            theHiddens[iIndex] = myHidden;
-            theRows[iIndex] = myCells;
+    /**
+     * Obtain the index into the hiddens and cellStores for a row.
+     *
+     * @param pRowIndex the row index
+     * @return the store index
+     */
+    private int getStoreIndex(final int pRowIndex) {
+        /* Mutable stores are indexed by row */
+        if (theRunStarts == null) {
+            return pRowIndex;
         }
+
+        /* Locate the run that contains the row */
+        final int myRun = Arrays.binarySearch(theRunStarts, 0, theNumRuns, pRowIndex);
+        return myRun >= 0
+                ? myRun
+                : -myRun - 2;
+    }
+
+    /**
+     * Obtain the cellStore for a row.
+     *
+     * @param pRowIndex the row index
+     * @return the cellStore
+     */
+    private PrometheusOdfCellStore getCellsAtIndex(final int pRowIndex) {
+        return pRowIndex < 0 || pRowIndex >= theNumRows
+                ? null
+                : theRows[getStoreIndex(pRowIndex)];
     }
 
     /**
@@ -199,7 +250,7 @@ public class PrometheusOdfRowStore
         }
 
         /* If we have no cells, just return null */
-        final PrometheusOdfCellStore myCells = theRows[pRowIndex];
+        final PrometheusOdfCellStore myCells = getCellsAtIndex(pRowIndex);
         if (myCells == null) {
             return null;
         }
@@ -220,13 +271,13 @@ public class PrometheusOdfRowStore
                                                       final int pFirstRow,
                                                       final int pLastRow) {
         /* Determine upper bound for search */
-        final int myBound = Math.min(pLastRow, theNumRows);
+        final int myBound = Math.min(pLastRow, theNumRows - 1);
 
         /* Create a list of cells */
         final List<PrometheusSheetRow> myList = new ArrayList<>();
         for (int iIndex = pFirstRow; iIndex <= myBound; iIndex++) {
             /* Only return a row if a value is present */
-            final PrometheusOdfCellStore myCells = theRows[iIndex];
+            final PrometheusOdfCellStore myCells = getCellsAtIndex(iIndex);
             if (myCells != null) {
                 myList.add(new PrometheusOdfRow(this, pSheet, iIndex, true));
             }
@@ -241,7 +292,7 @@ public class PrometheusOdfRowStore
                                                               final int pFirstIndex,
                                                               final int pLastIndex) {
         /* Access cells */
-        final PrometheusOdfCellStore myCells = theRows[pRow.getRowIndex()];
+        final PrometheusOdfCellStore myCells = getCellsAtIndex(pRow.getRowIndex());
         return myCells.iteratorForRange(pRow, pFirstIndex, pLastIndex);
     }
 
@@ -284,7 +335,7 @@ public class PrometheusOdfRowStore
     public PrometheusOdfCell getReadOnlyCellByIndex(final PrometheusOdfRowCtl pRow,
                                                     final int pCellIndex) {
         /* Handle index out of range */
-        final PrometheusOdfCellStore myCells = theRows[pRow.getRowIndex()];
+        final PrometheusOdfCellStore myCells = getCellsAtIndex(pRow.getRowIndex());
 
         /* Just return the cell */
         return myCells.getReadOnlyCellByIndex(pRow, pCellIndex);
@@ -294,7 +345,7 @@ public class PrometheusOdfRowStore
     public PrometheusOdfCell getMutableCellByIndex(final PrometheusOdfRowCtl pRow,
                                                    final int pCellIndex) {
         /* Access cells */
-        final PrometheusOdfCellStore myCells = theRows[pRow.getRowIndex()];
+        final PrometheusOdfCellStore myCells = getCellsAtIndex(pRow.getRowIndex());
 
         /* Just return the cell */
         return myCells.getMutableCellByIndex(pRow, pCellIndex);
@@ -303,7 +354,7 @@ public class PrometheusOdfRowStore
     @Override
     public int getMaxValuedCellForRow(final PrometheusOdfRowCtl pRow) {
         /* Access cells */
-        final PrometheusOdfCellStore myCells = theRows[pRow.getRowIndex()];
+        final PrometheusOdfCellStore myCells = getCellsAtIndex(pRow.getRowIndex());
 
         /* Just return the cell */
         return myCells.getMaxValuedIndex();
@@ -342,7 +393,7 @@ public class PrometheusOdfRowStore
 
     @Override
     public boolean getHiddenAtIndex(final int pIndex) {
-        return theHiddens[pIndex] != null;
+        return theHiddens[getStoreIndex(pIndex)] != null;
     }
 
     @Override
@@ -460,12 +511,12 @@ public class PrometheusOdfRowStore
     /**
      * parse Row hidden value.
      *
-     * @param pElement the element
+     * @param pReader the reader positioned at the element
      * @return the hidden indication
      */
-    private Boolean parseRowHidden(final Element pElement) {
+    private Boolean parseRowHidden(final XMLStreamReader pReader) {
         /* Determine whether the column is hidden */
-        final String myHidden = theParser.getAttribute(pElement, PrometheusOdfTableItem.VISIBILITY);
+        final String myHidden = theParser.getAttribute(pReader, PrometheusOdfTableItem.VISIBILITY);
         return PrometheusOdfValue.COLLAPSE.getValue().equals(myHidden)
                 ? Boolean.TRUE
                 : null;
@@ -474,13 +525,14 @@ public class PrometheusOdfRowStore
     /**
      * parse Row cells.
      *
-     * @param pElement the element
-     * @param pIndex   the index
+     * @param pReader the reader positioned at the element
+     * @param pIndex  the index
      * @return the Cells
-     * @throws OceanusException on error
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private PrometheusOdfCellStore parseRowCells(final Element pElement,
-                                                 final int pIndex) throws OceanusException {
-        return new PrometheusOdfCellStore(this, pIndex, pElement);
+    private PrometheusOdfCellStore parseRowCells(final XMLStreamReader pReader,
+                                                 final int pIndex) throws OceanusException, XMLStreamException {
+        return new PrometheusOdfCellStore(this, pIndex, pReader);
     }
 }
@@ -27,8 +27,10 @@ import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfTableStoreCtl;
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfWorkBookCtl;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.util.ListIterator;
 
 /**
@@ -94,19 +96,20 @@ public class PrometheusOdfSheetCore
     /**
      * ReadOnly Constructor.
      *
-     * @param pStore   the table store
-     * @param pIndex   the index
-     * @param pElement the Sheet element.
-     * @throws OceanusException on error
+     * @param pStore  the table store
+     * @param pIndex  the index
+     * @param pReader the reader positioned at the Sheet element.
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
     PrometheusOdfSheetCore(final PrometheusOdfTableStoreCtl pStore,
                            final int pIndex,
-                           final Element pElement) throws OceanusException {
+                           final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
         /* Store parameters */
         theStore = pStore;
         theBook = pStore.getWorkBook();
         theIndex = pIndex;
-        theElement = pElement;
+        theElement = null;
 
         /* Access the formatter, styler and parser */
         theParser = theBook.getParser();
@@ -114,14 +117,14 @@ public class PrometheusOdfSheetCore
         theFormatter = theBook.getFormatter();
 
         /* Access the name of the sheet */
-        theName = theParser.getAttribute(pElement, PrometheusOdfTableItem.NAME);
+        theName = theParser.getAttribute(pReader, PrometheusOdfTableItem.NAME);
 
         /* Create the rows and the columns */
         theColumns = new PrometheusOdfColumnStore(this);
         theRows = new PrometheusOdfRowStore(this);
 
-        /* Process the Sheet Node */
-        processSheetNode(pElement);
+        /* Process the Sheet Element */
+        processSheetElement(pReader);
     }
 
     /**
@@ -178,30 +181,45 @@ public class PrometheusOdfSheetCore
     }
 
     /**
-     * Process Sheet Node.
+     * Process Sheet Element, leaving the reader positioned at its end.
      *
-     * @param pNode the node
-     * @throws OceanusException on error
+     * @param pReader the reader
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    private void processSheetNode(final Node pNode) throws OceanusException {
-        /* Loop through the children of the node */
-        for (Node myNode = pNode.getFirstChild(); myNode != null; myNode = myNode.getNextSibling()) {
-            /* If this is a row element */
-            if (theParser.isElementOfType(myNode, PrometheusOdfTableItem.ROW)) {
+    private void processSheetElement(final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
+        /* Loop through the children of the element */
+        int myDepth = 1;
+        while (myDepth > 0) {
+            /* Access the next event and handle end of element */
+            final int myEvent = pReader.next();
+            if (myEvent == XMLStreamConstants.END_ELEMENT) {
+                myDepth--;
+
+                /* Ignore other non-element events */
+            } else if (myEvent != XMLStreamConstants.START_ELEMENT) {
+                continue;
+
+                /* If this is a row element */
+            } else if (theParser.isElementOfType(pReader, PrometheusOdfTableItem.ROW)) {
                 /* Add row to list */
-                theRows.processRow((Element) myNode);
+                theRows.processRow(pReader);
 
                 /* else if this is a column element */
-            } else if (theParser.isElementOfType(myNode, PrometheusOdfTableItem.COLUMN)) {
+            } else if (theParser.isElementOfType(pReader, PrometheusOdfTableItem.COLUMN)) {
                 /* Add column to list */
-                theColumns.processColumn((Element) myNode);
+                theColumns.processColumn(pReader);
 
-                /* If this is a node that contains groups */
-            } else if (theParser.isElementOfType(myNode, PrometheusOdfTableItem.ROWGROUP, PrometheusOdfTableItem.COLUMNGROUP,
+                /* If this is an element that contains groups */
+            } else if (theParser.isElementOfType(pReader, PrometheusOdfTableItem.ROWGROUP, PrometheusOdfTableItem.COLUMNGROUP,
                     PrometheusOdfTableItem.HDRROWS, PrometheusOdfTableItem.HDRCOLUMNS,
                     PrometheusOdfTableItem.ROWS, PrometheusOdfTableItem.COLUMNS)) {
-                /* Process node */
-                processSheetNode(myNode);
+                /* Process its children */
+                myDepth++;
+
+                /* else skip the element */
+            } else {
+                PrometheusOdfParser.skipElement(pReader);
             }
         }
     }
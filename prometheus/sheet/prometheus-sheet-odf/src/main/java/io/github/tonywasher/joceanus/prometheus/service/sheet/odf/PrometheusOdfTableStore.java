@@ -28,8 +28,10 @@ import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfWorkBookCtl;
 import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,12 +42,12 @@ public class PrometheusOdfTableStore
     /**
      * The map of sheets.
      */
-    private final Map<String, Object> theSheets;
+    private final Map<String, PrometheusOdfSheetCore> theSheets;
 
     /**
-     * The map of ranges.
+     * The map of range addresses.
      */
-    private final Map<String, Element> theRanges;
+    private final Map<String, String> theRanges;
 
     /**
      * The map of constraints.
@@ -111,30 +113,38 @@ public class PrometheusOdfTableStore
      */
     void buildSheetXML() {
         /* Loop through the sheets */
-        for (Object mySheet : theSheets.values()) {
-            ((PrometheusOdfSheetCore) mySheet).populateSheet();
+        for (PrometheusOdfSheetCore mySheet : theSheets.values()) {
+            mySheet.populateSheet();
         }
     }
 
     /**
-     * Build maps.
+     * Load the sheets and ranges from a streamed readOnly spreadSheet.
+     *
+     * @param pReader the reader
+     * @throws OceanusException   on error
+     * @throws XMLStreamException on error
      */
-    void loadMaps() {
-        buildSheetMap();
-        buildRangeMap();
-    }
+    void loadContents(final XMLStreamReader pReader) throws OceanusException, XMLStreamException {
+        /* Loop through the stream */
+        while (pReader.hasNext()) {
+            /* Only interested in elements */
+            if (pReader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
 
-    /**
-     * Build sheet map.
-     */
-    private void buildSheetMap() {
-        /* Access the list of tables */
-        final List<Element> mySheets = theParser.getAllNamedChildren(theSpreadSheet, PrometheusOdfTableItem.TABLE);
-
-        /* Loop through the list */
-        for (Element mySheet : mySheets) {
-            /* Store the sheet in the map */
-            theSheets.put(theParser.getAttribute(mySheet, PrometheusOdfTableItem.NAME), mySheet);
+            /* If this is a table */
+            if (theParser.isElementOfType(pReader, PrometheusOdfTableItem.TABLE)) {
+                /* Load the sheet (which consumes the table) and store in the map */
+                final PrometheusOdfSheetCore myCore = new PrometheusOdfSheetCore(this, theNumTables++, pReader);
+                theSheets.put(myCore.getName(), myCore);
+
+                /* else if this is a named range */
+            } else if (theParser.isElementOfType(pReader, PrometheusOdfTableItem.RANGE)) {
+                /* Add range address to map */
+                theRanges.put(theParser.getAttribute(pReader, PrometheusOdfTableItem.NAME),
+                        theParser.getAttribute(pReader, PrometheusOdfTableItem.CELLRANGEADDRESS));
+            }
         }
     }
 
@@ -147,13 +157,10 @@ public class PrometheusOdfTableStore
      */
     PrometheusOdfSheet getSheet(final String pName) throws OceanusException {
         /* Obtain the existing sheet */
-        Object myCore = theSheets.get(pName);
-        if (myCore instanceof Element myElement) {
-            myCore = new PrometheusOdfSheetCore(this, theNumTables++, myElement);
-        }
+        final PrometheusOdfSheetCore myCore = theSheets.get(pName);
         return myCore == null
                 ? null
-                : ((PrometheusOdfSheetCore) myCore).getReadOnlySheet();
+                : myCore.getReadOnlySheet();
     }
 
     /**
@@ -191,21 +198,6 @@ public class PrometheusOdfTableStore
         return myCore.getMutableSheet();
     }
 
-    /**
-     * Build range map.
-     */
-    private void buildRangeMap() {
-        /* Access the list of ranges */
-        final Element myExpressions = theParser.getFirstNamedChild(theSpreadSheet, PrometheusOdfTableItem.EXPRESSIONS);
-        final List<Element> myRanges = theParser.getAllNamedChildren(myExpressions, PrometheusOdfTableItem.RANGE);
-
-        /* Loop through the named ranges */
-        for (Element myRange : myRanges) {
-            /* Add range to map */
-            theRanges.put(theParser.getAttribute(myRange, PrometheusOdfTableItem.NAME), myRange);
-        }
-    }
-
     /**
      * Obtain the range view.
      *
@@ -215,13 +207,12 @@ public class PrometheusOdfTableStore
      */
     PrometheusSheetView getRangeView(final String pName) throws OceanusException {
         /* Locate the named range in the map */
-        final Element myNamedRange = theRanges.get(pName);
-        if (myNamedRange == null) {
+        final String myRange = theRanges.get(pName);
+        if (myRange == null) {
             return null;
         }
 
-        /* Obtain the address */
-        final String myRange = theParser.getAttribute(myNamedRange, PrometheusOdfTableItem.CELLRANGEADDRESS);
+        /* Parse the address */
         final PrometheusSheetCellRange myCellRange = new PrometheusSheetCellRange(myRange);
         final PrometheusSheetCellPosition myFirstCell = myCellRange.getFirstCell().getPosition();
         final PrometheusSheetCellPosition myLastCell = myCellRange.getLastCell().getPosition();
@@ -259,7 +250,7 @@ public class PrometheusOdfTableStore
             theParser.setAttribute(myRange, PrometheusOdfTableItem.CELLRANGEADDRESS, pRange.toString());
             theParser.setAttribute(myRange, PrometheusOdfTableItem.BASECELLADDRESS, pRange.getFirstCell().toString());
             myExpressions.appendChild(myRange);
-            theRanges.put(pName, myRange);
+            theRanges.put(pName, pRange.toString());
         } catch (Exception e) {
             throw new PrometheusSheetException("Failed to declare range", e);
         }
@@ -18,6 +18,7 @@ package io.github.tonywasher.joceanus.prometheus.service.sheet.odf;
 
 import io.github.tonywasher.joceanus.oceanus.base.OceanusException;
 import io.github.tonywasher.joceanus.oceanus.format.OceanusDataFormatter;
+import io.github.tonywasher.joceanus.prometheus.service.sheet.PrometheusSheetException;
 import io.github.tonywasher.joceanus.prometheus.service.sheet.PrometheusSheetSheet;
 import io.github.tonywasher.joceanus.prometheus.service.sheet.PrometheusSheetView;
 import io.github.tonywasher.joceanus.prometheus.service.sheet.odf.PrometheusOdf.PrometheusOdfWorkBookCtl;
@@ -74,9 +75,10 @@ public class PrometheusOdfWorkBook
      * @throws OceanusException on error
      */
     PrometheusOdfWorkBook(final InputStream pInput) throws OceanusException {
-        /* Load the contents of the spreadSheet */
-        theContents = PrometheusOdfLoader.loadNewSpreadSheet(pInput);
-        theParser = new PrometheusOdfParser(theContents);
+        /* The readOnly workBook is streamed, so there is no contents document */
+        theContents = null;
+        theSpreadSheet = null;
+        theParser = new PrometheusOdfParser();
         theStyler = null;
 
         /* Allocate the formatter */
@@ -85,14 +87,9 @@ public class PrometheusOdfWorkBook
         /* Note readOnly */
         isReadOnly = true;
 
-        /* Access the list of tables */
-        final Element myMain = theContents.getDocumentElement();
-        final Element myBody = theParser.getFirstNamedChild(myMain, PrometheusOdfOfficeItem.BODY);
-        theSpreadSheet = theParser.getFirstNamedChild(myBody, PrometheusOdfOfficeItem.SPREADSHEET);
-
-        /* Build tableStore */
+        /* Stream the tables and ranges into the tableStore */
         theTableStore = new PrometheusOdfTableStore(this, theSpreadSheet);
-        theTableStore.loadMaps();
+        PrometheusOdfLoader.streamReadOnlySpreadSheet(pInput, theTableStore::loadContents);
     }
 
     /**
@@ -146,6 +143,11 @@ public class PrometheusOdfWorkBook
 
     @Override
     public void saveToStream(final OutputStream pOutput) throws OceanusException {
+        /* Reject if readOnly */
+        if (isReadOnly) {
+            throw new PrometheusSheetException("Cannot save readOnly workBook");
+        }
+
         /* build the elements */
         theTableStore.buildSheetXML();
 